@@ -0,0 +1,26 @@
+package com.oneforlogis.benchmarks;
+
+import java.lang.reflect.Field;
+
+/** @Value 설정 필드나 감사(auditing) 필드처럼 스프링이 채우는 값을 직접 채운다. */
+final class Fields {
+
+    private Fields() {
+    }
+
+    static <T> T set(T target, String name, Object value) {
+        for (Class<?> type = target.getClass(); type != null; type = type.getSuperclass()) {
+            try {
+                Field field = type.getDeclaredField(name);
+                field.setAccessible(true);
+                field.set(target, value);
+                return target;
+            } catch (NoSuchFieldException e) {
+                // 상위 클래스에서 계속 찾는다.
+            } catch (IllegalAccessException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+        throw new IllegalArgumentException(name);
+    }
+}
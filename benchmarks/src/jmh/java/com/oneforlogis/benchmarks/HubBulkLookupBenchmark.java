@@ -0,0 +1,132 @@
+package com.oneforlogis.benchmarks;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.oneforlogis.hub.application.service.HubService;
+import com.oneforlogis.hub.domain.model.Hub;
+import com.oneforlogis.hub.domain.repository.HubRepository;
+import com.oneforlogis.hub.infrastructure.cache.HubCacheEventPublisher;
+import com.oneforlogis.hub.infrastructure.cache.HubCacheService;
+import com.oneforlogis.hub.presentation.response.HubResponse;
+import java.lang.reflect.Proxy;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+/**
+ * HubService.getHubsBulk 의 결과 조립 비용. Redis/DB 는 메모리 Map 으로 대신한다.
+ * tier 로 값을 어디서 찾는지 고른다: L1(Caffeine), L2(Redis multiGet), DB(저장소 조회 후 캐시 기록).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class HubBulkLookupBenchmark {
+
+    @Param({"17", "200"})
+    int hubCount;
+
+    @Param({"L1", "L2", "DB"})
+    String tier;
+
+    private HubService hubService;
+    private List<UUID> hubIds;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SyntheticHubNetwork network = SyntheticHubNetwork.generate(hubCount, 2, 1L);
+        Map<UUID, Hub> hubs = new HashMap<>();
+        Map<String, Object> redis = new HashMap<>();
+        hubIds = new ArrayList<>();
+        LocalDateTime now = LocalDateTime.now();
+        for (Hub hub : network.hubs) {
+            Fields.set(hub, "createdAt", now);
+            Fields.set(hub, "updatedAt", now);
+            hubs.put(hub.getId(), hub);
+            hubIds.add(hub.getId());
+            if (!tier.equals("DB")) redis.put("hub:id:" + hub.getId(), toResponse(hub));
+        }
+
+        // L1 이외 tier 는 L1 에 남지 않도록 크기 0 캐시를 쓴다.
+        Caffeine<Object, Object> builder = Caffeine.newBuilder().executor(Runnable::run);
+        if (!tier.equals("L1")) builder.maximumSize(0);
+        Cache<UUID, HubResponse> localHubCache = builder.build();
+        Cache<String, UUID> localHubNameCache = Caffeine.newBuilder().build();
+
+        HubCacheService hubCacheService = new HubCacheService(inMemoryRedis(redis, tier.equals("DB")),
+                localHubCache, localHubNameCache, new HubCacheEventPublisher(noOpPublisher()));
+        hubService = new HubService(inMemoryRepository(hubs), hubCacheService, null, null);
+        hubService.getHubsBulk(hubIds);
+    }
+
+    @Benchmark
+    public Map<UUID, HubResponse> getHubsBulk() {
+        return hubService.getHubsBulk(hubIds);
+    }
+
+    private static HubResponse toResponse(Hub hub) {
+        return new HubResponse(hub.getId(), hub.getName(), hub.getAddress(), hub.getLat(), hub.getLon(),
+                "bench", "2025-11-05T15:00:00", "bench", "2025-11-05T15:00:00");
+    }
+
+    @SuppressWarnings("unchecked")
+    private static RedisTemplate<String, Object> inMemoryRedis(Map<String, Object> store, boolean readOnly) {
+        ValueOperations<String, Object> operations = (ValueOperations<String, Object>) Proxy.newProxyInstance(
+                ValueOperations.class.getClassLoader(), new Class<?>[]{ValueOperations.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "get" -> store.get(args[0]);
+                    case "multiGet" -> ((Collection<String>) args[0]).stream().map(store::get).toList();
+                    case "set" -> {
+                        if (!readOnly) store.put((String) args[0], args[1]);
+                        yield null;
+                    }
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+        return new RedisTemplate<>() {
+            @Override
+            public ValueOperations<String, Object> opsForValue() {
+                return operations;
+            }
+        };
+    }
+
+    private static RedisTemplate<String, String> noOpPublisher() {
+        return new RedisTemplate<>() {
+            @Override
+            public Long convertAndSend(String channel, Object message) {
+                return 0L;
+            }
+        };
+    }
+
+    private static HubRepository inMemoryRepository(Map<UUID, Hub> hubs) {
+        return (HubRepository) Proxy.newProxyInstance(HubRepository.class.getClassLoader(),
+                new Class<?>[]{HubRepository.class},
+                (proxy, method, args) -> {
+                    if (!method.getName().equals("findAllByIdInAndDeletedFalse")) {
+                        throw new UnsupportedOperationException(method.getName());
+                    }
+                    List<Hub> found = new ArrayList<>();
+                    for (Object id : (List<?>) args[0]) {
+                        Hub hub = hubs.get(id);
+                        if (hub != null) found.add(hub);
+                    }
+                    return found;
+                });
+    }
+}
@@ -0,0 +1,119 @@
+package com.oneforlogis.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.oneforlogis.hub.domain.model.HubRoute;
+import com.oneforlogis.hub.domain.model.RouteType;
+import com.oneforlogis.hub.infrastructure.cache.codec.BinaryRouteCacheCodec;
+import com.oneforlogis.hub.infrastructure.cache.codec.GraphEdgeValue;
+import com.oneforlogis.hub.infrastructure.cache.codec.JsonRouteCacheCodec;
+import com.oneforlogis.hub.infrastructure.cache.codec.RouteCacheCodec;
+import com.oneforlogis.hub.presentation.response.HubSimpleResponse;
+import com.oneforlogis.hub.presentation.response.RouteEdgeResponse;
+import com.oneforlogis.hub.presentation.response.ShortestRouteResponse;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * HubRouteCacheService 가 Redis 에 쓰고 읽는 값의 직렬화 비용. JSON 과 바이너리 코덱을 같은 값으로 비교한다.
+ * ObjectMapper 는 스프링 부트 기본 설정과 같은 Jackson2ObjectMapperBuilder 로 만든다.
+ * 값 크기(바이트)는 셋업 때 한 번 출력한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class RouteCacheCodecBenchmark {
+
+    @Param({"JSON", "BINARY"})
+    String codec;
+
+    @Param({"2", "8"})
+    int pathLength;
+
+    private RouteCacheCodec routeCacheCodec;
+    private HubRoute directRoute;
+    private ShortestRouteResponse shortestRoute;
+    private GraphEdgeValue edge;
+    private byte[] directRouteBytes;
+    private byte[] shortestRouteBytes;
+    private byte[] edgeBytes;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        routeCacheCodec = codec.equals("JSON")
+                ? new JsonRouteCacheCodec(objectMapper)
+                : new BinaryRouteCacheCodec(objectMapper);
+
+        UUID from = UUID.randomUUID();
+        UUID to = UUID.randomUUID();
+        LocalDateTime now = LocalDateTime.now();
+        directRoute = HubRoute.restore(1L, from, to, new BigDecimal("130.25"), 92, RouteType.DIRECT, "[]",
+                "master", now, "master", now);
+
+        List<HubSimpleResponse> pathNodes = new ArrayList<>();
+        List<RouteEdgeResponse> routeEdges = new ArrayList<>();
+        UUID previous = from;
+        for (int i = 0; i < pathLength; i++) {
+            UUID next = i == pathLength - 1 ? to : UUID.randomUUID();
+            pathNodes.add(new HubSimpleResponse(next, "허브 " + i, "서울특별시 송파구 송파대로 " + i));
+            routeEdges.add(new RouteEdgeResponse(previous.toString(), next.toString(), new BigDecimal("43.70"), 31));
+            previous = next;
+        }
+        shortestRoute = new ShortestRouteResponse(null,
+                new HubSimpleResponse(from, "서울 센터", "서울특별시 송파구 송파대로 55"),
+                new HubSimpleResponse(to, "대전광역시 센터", "대전 서구 둔산로 100"),
+                new BigDecimal("349.60"), 248, RouteType.RELAY, pathNodes, routeEdges);
+
+        edge = new GraphEdgeValue(directRoute.getRouteDistance(), directRoute.getRouteTime());
+
+        directRouteBytes = routeCacheCodec.encodeRoute(directRoute);
+        shortestRouteBytes = routeCacheCodec.encodeShortestRoute(shortestRoute);
+        edgeBytes = routeCacheCodec.encodeEdge(edge);
+        System.out.printf("%n[%s, pathLength=%d] directRoute=%dB, shortestRoute=%dB, edge=%dB%n",
+                codec, pathLength, directRouteBytes.length, shortestRouteBytes.length, edgeBytes.length);
+    }
+
+    @Benchmark
+    public byte[] encodeDirectRoute() {
+        return routeCacheCodec.encodeRoute(directRoute);
+    }
+
+    @Benchmark
+    public HubRoute decodeDirectRoute() {
+        return routeCacheCodec.decodeRoute(directRouteBytes);
+    }
+
+    @Benchmark
+    public byte[] encodeShortestRoute() {
+        return routeCacheCodec.encodeShortestRoute(shortestRoute);
+    }
+
+    @Benchmark
+    public ShortestRouteResponse decodeShortestRoute() {
+        return routeCacheCodec.decodeShortestRoute(shortestRouteBytes);
+    }
+
+    @Benchmark
+    public byte[] encodeGraphEdge() {
+        return routeCacheCodec.encodeEdge(edge);
+    }
+
+    @Benchmark
+    public GraphEdgeValue decodeGraphEdge() {
+        return routeCacheCodec.decodeEdge(edgeBytes);
+    }
+}
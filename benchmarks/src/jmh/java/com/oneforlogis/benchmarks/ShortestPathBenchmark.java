@@ -0,0 +1,75 @@
+package com.oneforlogis.benchmarks;
+
+import com.oneforlogis.common.exception.CustomException;
+import com.oneforlogis.hub.application.dto.DijkstraResult;
+import com.oneforlogis.hub.application.graph.HubGraph;
+import com.oneforlogis.hub.application.graph.RouteHeuristic;
+import com.oneforlogis.hub.application.graph.RoutingAlgorithm;
+import com.oneforlogis.hub.application.service.DijkstraService;
+import com.oneforlogis.hub.application.service.RouteHeuristicService;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/** 그래프 크기/밀도/탐색 방식별 단일 쌍 최단 경로 탐색 비용 */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ShortestPathBenchmark {
+
+    private static final int QUERY_COUNT = 1024;
+
+    @Param({"1000", "10000", "100000"})
+    int nodes;
+
+    @Param({"4", "8"})
+    int degree;
+
+    @Param({"DIJKSTRA", "ASTAR", "ALT"})
+    RoutingAlgorithm algorithm;
+
+    private final DijkstraService dijkstraService = new DijkstraService();
+    private HubGraph graph;
+    private RouteHeuristic heuristic;
+    private UUID[] sources;
+    private UUID[] targets;
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SyntheticHubNetwork network = SyntheticHubNetwork.generate(nodes, degree, 42L);
+        graph = HubGraph.build(1L, network.routes, network.hubs, null);
+
+        RouteHeuristicService heuristicService = new RouteHeuristicService(dijkstraService);
+        Fields.set(heuristicService, "algorithm", algorithm);
+        Fields.set(heuristicService, "landmarkCount", 8);
+        heuristic = heuristicService.prepare(graph);
+
+        Random random = new Random(7L);
+        sources = new UUID[QUERY_COUNT];
+        targets = new UUID[QUERY_COUNT];
+        for (int i = 0; i < QUERY_COUNT; i++) {
+            sources[i] = graph.hubId(random.nextInt(graph.nodeCount()));
+            targets[i] = graph.hubId(random.nextInt(graph.nodeCount()));
+        }
+    }
+
+    @Benchmark
+    public DijkstraResult findShortestPath() {
+        int query = cursor++ & (QUERY_COUNT - 1);
+        try {
+            return dijkstraService.findShortestPath(graph, sources[query], targets[query], heuristic);
+        } catch (CustomException e) {
+            return null;
+        }
+    }
+}
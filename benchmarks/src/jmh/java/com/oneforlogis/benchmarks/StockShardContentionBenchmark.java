@@ -0,0 +1,89 @@
+package com.oneforlogis.benchmarks;
+
+import com.oneforlogis.product.application.ShardedStockCounter;
+import com.oneforlogis.product.infrastructure.persistence.ProductStockShardJdbcRepository;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 한 상품에 동시 차감이 몰릴 때 분할 수(shardCount)에 따른 처리량. shardCount=1 이 단일 행(p_product) 차감과 같은 경합이다.
+ * 인메모리 H2 의 행 잠금으로 경합을 재현하며, 차감 뒤 예약 INSERT 까지 한 트랜잭션으로 묶는다.
+ * 인프로세스 H2 는 문장/커밋이 마이크로초 단위라 잠금이 거의 겹치지 않으므로, 원격 DB 의 왕복과 커밋 시간을
+ * holdMicros 만큼 잠금을 쥔 채 기다리는 것으로 대신한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(16)
+public class StockShardContentionBenchmark {
+
+    private static final int INITIAL_STOCK = 1_000_000_000;
+
+    @Param({"1", "4", "16"})
+    int shardCount;
+
+    @Param({"200"})
+    long holdMicros;
+
+    private HikariDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate transactionTemplate;
+    private ShardedStockCounter counter;
+    private UUID productId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        HikariConfig config = new HikariConfig();
+        config.setJdbcUrl("jdbc:h2:mem:stock_shard_" + shardCount + ";DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=60000");
+        config.setMaximumPoolSize(16);
+        dataSource = new HikariDataSource(config);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE p_product_stock_shard (product_id UUID NOT NULL, shard_no INT NOT NULL, "
+                + "quantity INT NOT NULL, PRIMARY KEY (product_id, shard_no))");
+        jdbcTemplate.execute("CREATE TABLE bench_reservation (id BIGINT AUTO_INCREMENT PRIMARY KEY, product_id UUID NOT NULL)");
+
+        ProductStockShardJdbcRepository repository = new ProductStockShardJdbcRepository(jdbcTemplate);
+        productId = UUID.randomUUID();
+        int[] quantities = new int[shardCount];
+        for (int shardNo = 0; shardNo < shardCount; shardNo++) {
+            quantities[shardNo] = INITIAL_STOCK / shardCount;
+        }
+        repository.createShards(productId, quantities);
+
+        counter = new ShardedStockCounter(repository);
+        transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        jdbcTemplate.execute("SHUTDOWN");
+        dataSource.close();
+    }
+
+    @Benchmark
+    public Boolean reserveOne() {
+        return transactionTemplate.execute(status -> {
+            boolean decreased = counter.tryDecrease(productId, shardCount, 1);
+            jdbcTemplate.update("INSERT INTO bench_reservation (product_id) VALUES (?)", productId);
+            LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(holdMicros));
+            return decreased;
+        });
+    }
+}
@@ -0,0 +1,89 @@
+package com.oneforlogis.benchmarks;
+
+import com.oneforlogis.hub.domain.model.Hub;
+import com.oneforlogis.hub.domain.model.HubRoute;
+import com.oneforlogis.hub.domain.model.RouteType;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+/**
+ * 벤치마크용 가상 허브망. 국내 범위 좌표의 격자에 허브를 흩뿌리고,
+ * 격자상 가까운 허브끼리 직선 거리의 1.0~1.4배 거리로 양방향 연결한다.
+ * 같은 seed 면 항상 같은 그래프가 만들어진다.
+ */
+final class SyntheticHubNetwork {
+
+    private static final double MIN_LAT = 34.5;
+    private static final double MIN_LON = 126.0;
+    private static final double SPAN = 3.5;
+    private static final double EARTH_RADIUS_KM = 6371.0088;
+
+    final List<Hub> hubs;
+    final List<HubRoute> routes;
+
+    private SyntheticHubNetwork(List<Hub> hubs, List<HubRoute> routes) {
+        this.hubs = hubs;
+        this.routes = routes;
+    }
+
+    static SyntheticHubNetwork generate(int nodeCount, int degree, long seed) {
+        Random random = new Random(seed);
+        int side = (int) Math.ceil(Math.sqrt(nodeCount));
+        double cell = SPAN / side;
+
+        List<Hub> hubs = new ArrayList<>(nodeCount);
+        for (int i = 0; i < nodeCount; i++) {
+            int row = i / side;
+            int col = i % side;
+            double lat = MIN_LAT + (row + random.nextDouble()) * cell;
+            double lon = MIN_LON + (col + random.nextDouble()) * cell;
+            hubs.add(new Hub(new UUID(seed, i), "hub-" + i, "address-" + i,
+                    BigDecimal.valueOf(lat).setScale(6, RoundingMode.HALF_UP),
+                    BigDecimal.valueOf(lon).setScale(6, RoundingMode.HALF_UP)));
+        }
+
+        // 양방향으로 추가하므로 노드당 진출 차수는 평균 degree 가 된다.
+        List<HubRoute> routes = new ArrayList<>(nodeCount * degree);
+        for (int i = 0; i < nodeCount; i++) {
+            int row = i / side;
+            int col = i % side;
+            for (int k = 0; k < degree / 2; k++) {
+                int neighborRow = row + random.nextInt(5) - 2;
+                int neighborCol = col + random.nextInt(5) - 2;
+                int neighbor = neighborRow * side + neighborCol;
+                if (neighborRow < 0 || neighborCol < 0 || neighborCol >= side || neighbor >= nodeCount || neighbor == i) {
+                    neighbor = (i + 1) % nodeCount;
+                }
+                double km = haversineKm(hubs.get(i), hubs.get(neighbor)) * (1.0 + random.nextDouble() * 0.4) + 0.01;
+                int minutes = 1 + (int) Math.round(km / (40 + random.nextInt(60)) * 60);
+                routes.add(route(hubs.get(i), hubs.get(neighbor), km, minutes));
+                routes.add(route(hubs.get(neighbor), hubs.get(i), km, minutes));
+            }
+        }
+        return new SyntheticHubNetwork(hubs, routes);
+    }
+
+    private static HubRoute route(Hub from, Hub to, double km, int minutes) {
+        return HubRoute.builder()
+                .fromHubId(from.getId())
+                .toHubId(to.getId())
+                .routeDistance(BigDecimal.valueOf(km).setScale(2, RoundingMode.HALF_UP))
+                .routeTime(minutes)
+                .routeType(RouteType.DIRECT)
+                .build();
+    }
+
+    private static double haversineKm(Hub from, Hub to) {
+        double lat1 = Math.toRadians(from.getLat().doubleValue());
+        double lat2 = Math.toRadians(to.getLat().doubleValue());
+        double dLat = lat2 - lat1;
+        double dLon = Math.toRadians(to.getLon().doubleValue() - from.getLon().doubleValue());
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(lat1) * Math.cos(lat2) * Math.sin(dLon / 2) * Math.sin(dLon / 2);
+        return 2 * EARTH_RADIUS_KM * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
+    }
+}
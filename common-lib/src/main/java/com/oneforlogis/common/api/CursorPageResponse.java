@@ -0,0 +1,43 @@
+package com.oneforlogis.common.api;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import java.util.Collections;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 커서(seek) 방식 목록 응답. 다음 페이지는 nextCursor 를 그대로 넘겨 조회한다.
+ * totalElements 는 요청한 경우에만 채워진다.
+ */
+@Getter
+@Builder
+@NoArgsConstructor(force = true)
+@AllArgsConstructor
+public class CursorPageResponse<T> {
+
+    private final List<T> content;
+
+    private final int size;
+    private final boolean hasNext;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private final String nextCursor;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private final Long totalElements;
+
+    public static <T> CursorPageResponse<T> of(List<T> content, int size, String nextCursor,
+            Long totalElements) {
+        return CursorPageResponse.<T>builder()
+                .content(content == null ? Collections.emptyList() : content)
+                .size(size)
+                .hasNext(nextCursor != null)
+                .nextCursor(nextCursor)
+                .totalElements(totalElements)
+                .build();
+    }
+}
@@ -0,0 +1,16 @@
+package com.oneforlogis.common.event;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/** {@link HubEventTopics#HUB_CHANGED} 값. 허브 생성/수정 시점의 전체 상태 */
+public record HubChangedEvent(
+        UUID hubId,
+        String name,
+        String address,
+        BigDecimal lat,
+        BigDecimal lon,
+        LocalDateTime updatedAt
+) {
+}
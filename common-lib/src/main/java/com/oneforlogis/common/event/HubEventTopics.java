@@ -0,0 +1,20 @@
+package com.oneforlogis.common.event;
+
+/**
+ * hub-service 가 발행하는 변경 이벤트 토픽. 둘 다 compact 토픽이며 키는 허브 ID / 경로 ID 이다.
+ * 삭제는 값이 null 인 톰스톤으로 발행한다.
+ */
+public final class HubEventTopics {
+
+    public static final String HUB_CHANGED = "hub.changed";
+    public static final String HUB_ROUTE_CHANGED = "hub.route.changed";
+
+    /**
+     * 두 토픽의 파티션 수. hub-service 가 이 값으로 토픽을 만들고(늘리면 기동 시 파티션을 추가한다),
+     * 복제본은 토픽을 조회할 수 없을 때 이 값만큼 파티션을 할당한다.
+     */
+    public static final int PARTITIONS = 3;
+
+    private HubEventTopics() {
+    }
+}
@@ -0,0 +1,16 @@
+package com.oneforlogis.common.event;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/** {@link HubEventTopics#HUB_ROUTE_CHANGED} 값. 직통 경로 생성/수정 시점의 전체 상태 */
+public record HubRouteChangedEvent(
+        Long routeId,
+        UUID fromHubId,
+        UUID toHubId,
+        BigDecimal routeDistance,
+        Integer routeTime,
+        LocalDateTime updatedAt
+) {
+}
@@ -33,7 +33,9 @@ public enum ErrorCode {
     HUB_ROUTE_NOT_DIRECT(HttpStatus.BAD_REQUEST, "직통 경로가 아닙니다."),
     HUB_INVALID_REQUEST(HttpStatus.BAD_REQUEST, "조회할 허브 정보가 없습니다."),
     HUB_ROUTE_PATH_NOT_FOUND(HttpStatus.NOT_FOUND, "허브 간 최단 경로를 찾을 수 없습니다."),
+    HUB_ROUTE_BATCH_TOO_LARGE(HttpStatus.BAD_REQUEST, "한 번에 조회할 수 있는 경로 수를 초과했습니다."),
     HUB_GRAPH_NOT_FOUND(HttpStatus.INTERNAL_SERVER_ERROR, "허브 그래프 데이터를 불러올 수 없습니다."),
+    HUB_ROUTE_SEARCH_LIMIT_EXCEEDED(HttpStatus.INTERNAL_SERVER_ERROR, "탐색 한도를 넘어 파레토 경로를 모두 구하지 못했습니다."),
 
     // Company
     COMPANY_INVALID_TYPE(HttpStatus.BAD_REQUEST,"유효하지 않은 업체 타입입니다."),
@@ -44,14 +46,18 @@ public enum ErrorCode {
     STOCK_NOT_ENOUGH(HttpStatus.BAD_REQUEST, "재고가 충분하지 않습니다."),
     INVALID_RESTOCK_AMOUNT(HttpStatus.BAD_REQUEST, "복원할 수량은 0보다 커야 합니다."),
     INVALID_STOCK_AMOUNT(HttpStatus.BAD_REQUEST, "차감할 수량은 0보다 커야 합니다"),
+    INVALID_STOCK_SHARD_COUNT(HttpStatus.BAD_REQUEST, "재고 분할 수는 0 이상 64 이하여야 합니다."),
 
     // Order
     ORDER_NOT_FOUND(HttpStatus.NOT_FOUND, "주문을 찾을 수 없습니다."),
     ORDER_STATUS_CHANGE_INVALID(HttpStatus.BAD_REQUEST, "잘못된 주문 상태 전이입니다."),
     ORDER_ALREADY_FINAL(HttpStatus.CONFLICT, "이미 완료되거나 취소된 주문은 상태를 변경할 수 없습니다."),
+    ORDER_INVALID_CURSOR(HttpStatus.BAD_REQUEST, "유효하지 않은 주문 목록 커서입니다."),
+    ORDER_CONCURRENT_MODIFICATION(HttpStatus.CONFLICT, "다른 요청이 먼저 주문을 변경했습니다. 다시 조회한 뒤 시도해 주세요."),
 
     // Delivery
     DELIVERY_NOT_FOUND(HttpStatus.NOT_FOUND, "배송을 찾을 수 없습니다."),
+    DELIVERY_CONCURRENT_MODIFICATION(HttpStatus.CONFLICT, "다른 요청이 먼저 배송을 변경했습니다. 다시 조회한 뒤 시도해 주세요."),
     INVALID_STATUS_TRANSITION(HttpStatus.BAD_REQUEST, "잘못된 상태 전이 요청입니다."),
     INVALID_DELIVERY_ASSIGNMENT(HttpStatus.BAD_REQUEST, "배송 담당자는 허브 대기 상태에서만 배정할 수 있습니다."),
     DUPLICATE_DELIVERY_STAFF(HttpStatus.CONFLICT, "이미 배송 담당자가 지정되어 있습니다."),
@@ -0,0 +1,82 @@
+package com.oneforlogis.common.replica;
+
+import com.oneforlogis.common.event.HubChangedEvent;
+import com.oneforlogis.common.event.HubRouteChangedEvent;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.stereotype.Component;
+
+/**
+ * hub-service 변경 이벤트로 채우는 프로세스 내 허브/직통 경로 복제본.
+ *
+ * <p>hub.replica.enabled=true 일 때만 {@link HubReplicaListener} 가 채우며, 꺼져 있으면 항상 비어 있다.
+ * 조회 결과가 없으면 아직 이벤트를 받지 못한 것이므로 호출하는 쪽은 hub-service API 로 확인해야 한다.
+ * 삭제 이벤트(톰스톤)를 받은 허브는 {@link #isDeleted(UUID)} 로 원격 호출 없이 판단할 수 있다.
+ */
+@Component
+public class HubReplica {
+
+    private final Map<UUID, HubChangedEvent> hubs = new ConcurrentHashMap<>();
+    private final Set<UUID> deletedHubs = ConcurrentHashMap.newKeySet();
+    private final Map<Long, HubRouteChangedEvent> routes = new ConcurrentHashMap<>();
+    private final Map<RouteKey, Long> routeIds = new ConcurrentHashMap<>();
+
+    public Optional<HubChangedEvent> findHub(UUID hubId) {
+        return Optional.ofNullable(hubs.get(hubId));
+    }
+
+    public boolean isDeleted(UUID hubId) {
+        return deletedHubs.contains(hubId);
+    }
+
+    public Optional<HubRouteChangedEvent> findDirectRoute(UUID fromHubId, UUID toHubId) {
+        Long routeId = routeIds.get(new RouteKey(fromHubId, toHubId));
+        return routeId == null ? Optional.empty() : Optional.ofNullable(routes.get(routeId));
+    }
+
+    public Collection<HubRouteChangedEvent> getRoutes() {
+        return Collections.unmodifiableCollection(routes.values());
+    }
+
+    public int hubCount() {
+        return hubs.size();
+    }
+
+    // event 가 null 이면 삭제(톰스톤). 이미 가진 상태보다 오래된 이벤트는 무시한다.
+    public void applyHub(UUID hubId, HubChangedEvent event) {
+        if (event == null) {
+            hubs.remove(hubId);
+            deletedHubs.add(hubId);
+            return;
+        }
+        hubs.compute(hubId, (id, current) -> current != null && isOlder(event.updatedAt(), current.updatedAt()) ? current : event);
+        deletedHubs.remove(hubId);
+    }
+
+    public synchronized void applyRoute(Long routeId, HubRouteChangedEvent event) {
+        HubRouteChangedEvent current = routes.get(routeId);
+        if (event != null && current != null && isOlder(event.updatedAt(), current.updatedAt())) return;
+
+        // 수정으로 출발/도착 허브가 바뀔 수 있어 이전 쌍의 색인을 먼저 지운다.
+        if (current != null) routeIds.remove(new RouteKey(current.fromHubId(), current.toHubId()), routeId);
+        if (event == null) {
+            routes.remove(routeId);
+            return;
+        }
+        routes.put(routeId, event);
+        routeIds.put(new RouteKey(event.fromHubId(), event.toHubId()), routeId);
+    }
+
+    private static boolean isOlder(LocalDateTime incoming, LocalDateTime current) {
+        return incoming != null && current != null && incoming.isBefore(current);
+    }
+
+    private record RouteKey(UUID fromHubId, UUID toHubId) {
+    }
+}
@@ -0,0 +1,64 @@
+package com.oneforlogis.common.replica;
+
+import java.util.HashMap;
+import java.util.Map;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.annotation.EnableKafka;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.listener.ContainerProperties.AckMode;
+
+/**
+ * 허브 복제본용 컨슈머. 인스턴스마다 전체 상태를 가져야 하므로 컨슈머 그룹 없이 모든 파티션을 직접 할당받아
+ * 기동할 때마다 처음부터 읽는다. 그룹이 없으니 브로커에 오프셋을 커밋하지 않고 재기동해도 그룹이 쌓이지 않는다.
+ * 사용하는 서비스는 spring-kafka 의존성을 추가하고 hub.replica.enabled=true 로 켠다.
+ */
+@EnableKafka
+@Configuration
+@ConditionalOnClass(KafkaTemplate.class)
+@ConditionalOnProperty(name = "hub.replica.enabled", havingValue = "true")
+public class HubReplicaConfig {
+
+    static final String CONTAINER_FACTORY = "hubReplicaListenerContainerFactory";
+
+    @Value("${spring.kafka.bootstrap-servers:localhost:9092}")
+    private String bootstrapServers;
+
+    @Value("${spring.application.name:app}")
+    private String applicationName;
+
+    @Bean
+    public HubReplicaPartitionFinder hubReplicaPartitionFinder() {
+        return new HubReplicaPartitionFinder(consumerFactory());
+    }
+
+    @Bean(CONTAINER_FACTORY)
+    public ConcurrentKafkaListenerContainerFactory<String, String> hubReplicaListenerContainerFactory() {
+        ConcurrentKafkaListenerContainerFactory<String, String> factory = new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(consumerFactory());
+        // 그룹이 없는 컨슈머라 컨테이너가 오프셋을 커밋하지 않도록 한다.
+        factory.getContainerProperties().setAckMode(AckMode.MANUAL);
+        return factory;
+    }
+
+    // 빈으로 등록하면 서비스 기본 ConsumerFactory 자동 구성이 꺼지므로 직접 만들어 쓴다.
+    private ConsumerFactory<String, String> consumerFactory() {
+        Map<String, Object> props = new HashMap<>();
+        props.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+        props.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
+        props.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+        // 토픽이 아직 없을 때 조회/할당이 브로커 기본 설정(compact 아님)으로 토픽을 만들지 않도록 한다.
+        props.put(ConsumerConfig.ALLOW_AUTO_CREATE_TOPICS_CONFIG, false);
+        props.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
+        props.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
+        return new DefaultKafkaConsumerFactory<>(props);
+    }
+}
@@ -0,0 +1,60 @@
+package com.oneforlogis.common.replica;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.oneforlogis.common.event.HubChangedEvent;
+import com.oneforlogis.common.event.HubEventTopics;
+import com.oneforlogis.common.event.HubRouteChangedEvent;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.annotation.PartitionOffset;
+import org.springframework.kafka.annotation.TopicPartition;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnClass(KafkaTemplate.class)
+@ConditionalOnProperty(name = "hub.replica.enabled", havingValue = "true")
+public class HubReplicaListener {
+
+    private final HubReplica hubReplica;
+    private final ObjectMapper objectMapper;
+
+    @KafkaListener(containerFactory = HubReplicaConfig.CONTAINER_FACTORY, topicPartitions = @TopicPartition(
+            topic = HubEventTopics.HUB_CHANGED,
+            partitions = "#{@hubReplicaPartitionFinder.partitions('" + HubEventTopics.HUB_CHANGED + "')}",
+            partitionOffsets = @PartitionOffset(partition = "*", initialOffset = "0")))
+    public void onHubChanged(ConsumerRecord<String, String> record) {
+        HubChangedEvent event = parse(record, HubChangedEvent.class);
+        if (event == null && record.value() != null) return;
+        hubReplica.applyHub(UUID.fromString(record.key()), event);
+    }
+
+    @KafkaListener(containerFactory = HubReplicaConfig.CONTAINER_FACTORY, topicPartitions = @TopicPartition(
+            topic = HubEventTopics.HUB_ROUTE_CHANGED,
+            partitions = "#{@hubReplicaPartitionFinder.partitions('" + HubEventTopics.HUB_ROUTE_CHANGED + "')}",
+            partitionOffsets = @PartitionOffset(partition = "*", initialOffset = "0")))
+    public void onRouteChanged(ConsumerRecord<String, String> record) {
+        HubRouteChangedEvent event = parse(record, HubRouteChangedEvent.class);
+        if (event == null && record.value() != null) return;
+        hubReplica.applyRoute(Long.valueOf(record.key()), event);
+    }
+
+    // 값이 null 이면 톰스톤. 읽을 수 없는 값은 건너뛴다.
+    private <T> T parse(ConsumerRecord<String, String> record, Class<T> type) {
+        if (record.value() == null) return null;
+        try {
+            return objectMapper.readValue(record.value(), type);
+        } catch (JsonProcessingException e) {
+            log.warn("허브 변경 이벤트 역직렬화 실패 topic={}, key={}", record.topic(), record.key());
+            return null;
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.oneforlogis.common.replica;
+
+import com.oneforlogis.common.event.HubEventTopics;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.IntStream;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.common.KafkaException;
+import org.apache.kafka.common.PartitionInfo;
+import org.springframework.kafka.core.ConsumerFactory;
+
+/**
+ * {@link HubReplicaListener} 가 직접 할당받을 파티션 번호 목록. 기동 시 SpEL 로 한 번 조회한다.
+ *
+ * <p>hub-service 보다 먼저 떠서 토픽이 아직 없거나 조회에 실패하면 {@link HubEventTopics#PARTITIONS} 만큼 할당한다.
+ * 없는 파티션을 할당받은 컨슈머는 토픽이 만들어질 때까지 기다렸다가 처음부터 읽는다.
+ * 할당은 기동 시 한 번 정해지므로 파티션을 늘리면 복제본 서비스도 다시 띄워야 한다.
+ */
+@Slf4j
+public class HubReplicaPartitionFinder {
+
+    private static final Duration METADATA_TIMEOUT = Duration.ofSeconds(10);
+
+    private final ConsumerFactory<String, String> consumerFactory;
+
+    public HubReplicaPartitionFinder(ConsumerFactory<String, String> consumerFactory) {
+        this.consumerFactory = consumerFactory;
+    }
+
+    public String[] partitions(String topic) {
+        try (Consumer<String, String> consumer = consumerFactory.createConsumer()) {
+            List<PartitionInfo> partitions = consumer.partitionsFor(topic, METADATA_TIMEOUT);
+            if (partitions != null && !partitions.isEmpty()) {
+                return partitions.stream()
+                        .map(partition -> String.valueOf(partition.partition()))
+                        .toArray(String[]::new);
+            }
+            log.warn("허브 복제본 토픽이 아직 없어 기본 파티션 {}개를 할당합니다: {}", HubEventTopics.PARTITIONS, topic);
+        } catch (KafkaException e) {
+            log.warn("허브 복제본 토픽 파티션 조회 실패, 기본 파티션 {}개를 할당합니다 topic={}: {}",
+                    HubEventTopics.PARTITIONS, topic, e.getMessage());
+        }
+        return IntStream.range(0, HubEventTopics.PARTITIONS)
+                .mapToObj(String::valueOf)
+                .toArray(String[]::new);
+    }
+}
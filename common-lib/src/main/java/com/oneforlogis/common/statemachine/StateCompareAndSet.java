@@ -0,0 +1,12 @@
+package com.oneforlogis.common.statemachine;
+
+/**
+ * 현재 상태와 버전이 기대값과 같을 때만 상태를 바꾼다.
+ * 보통 {@code UPDATE ... SET status = :to, version = version + 1 WHERE id = :id AND status = :from AND version = :version}
+ * 한 문장으로 구현하고, 갱신된 행이 있으면 true 를 반환한다.
+ */
+@FunctionalInterface
+public interface StateCompareAndSet<S extends Enum<S>, T> {
+
+    boolean compareAndSet(T subject, S expected, S next, long expectedVersion);
+}
@@ -0,0 +1,47 @@
+package com.oneforlogis.common.statemachine;
+
+import java.util.List;
+
+/**
+ * 전이표 검사 → 버전 비교 UPDATE → 훅 호출 순서로 상태를 바꾼다.
+ *
+ * <p>애그리거트를 읽어 들이지 않고 (상태, 버전) 만 알면 전이할 수 있고, 그 사이 다른 요청이 먼저 바꿨다면
+ * UPDATE 가 0건이 되어 {@link Result#CONFLICT} 를 돌려준다. 잠금을 잡지 않으므로 덮어쓰기 없이 동시 요청 중 하나만 성공한다.
+ * 훅은 호출한 쪽 트랜잭션에서 실행되므로, 훅이 실패하면 상태 변경도 함께 롤백된다.
+ */
+public final class StateMachine<S extends Enum<S>, T> {
+
+    public enum Result {
+        APPLIED,
+        NOT_ALLOWED,
+        CONFLICT
+    }
+
+    private final StateTransitionTable<S> table;
+    private final StateCompareAndSet<S, T> compareAndSet;
+    private final List<StateTransitionHook<S, T>> hooks;
+
+    public StateMachine(StateTransitionTable<S> table, StateCompareAndSet<S, T> compareAndSet,
+                        List<StateTransitionHook<S, T>> hooks) {
+        this.table = table;
+        this.compareAndSet = compareAndSet;
+        this.hooks = List.copyOf(hooks);
+    }
+
+    public StateTransitionTable<S> table() {
+        return table;
+    }
+
+    public Result transition(T subject, S from, S to, long expectedVersion) {
+        if (!table.canTransition(from, to)) {
+            return Result.NOT_ALLOWED;
+        }
+        if (!compareAndSet.compareAndSet(subject, from, to, expectedVersion)) {
+            return Result.CONFLICT;
+        }
+        for (StateTransitionHook<S, T> hook : hooks) {
+            hook.afterTransition(subject, from, to);
+        }
+        return Result.APPLIED;
+    }
+}
@@ -0,0 +1,10 @@
+package com.oneforlogis.common.statemachine;
+
+/**
+ * 상태 전이가 저장된 직후, 같은 트랜잭션 안에서 호출된다. 이벤트 기록 등에 쓴다.
+ */
+@FunctionalInterface
+public interface StateTransitionHook<S extends Enum<S>, T> {
+
+    void afterTransition(T subject, S from, S to);
+}
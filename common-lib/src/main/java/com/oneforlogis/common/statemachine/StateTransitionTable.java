@@ -0,0 +1,75 @@
+package com.oneforlogis.common.statemachine;
+
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * enum 상태 간 허용 전이표. 상태마다 갈 수 있는 상태를 ordinal 비트로 미리 계산해 두어,
+ * 전이 검사는 배열 조회 한 번과 비트 연산으로 끝난다. 만든 뒤에는 바뀌지 않으므로 static 으로 공유해도 된다.
+ */
+public final class StateTransitionTable<S extends Enum<S>> {
+
+    private final S[] states;
+    private final long[] allowed;
+
+    private StateTransitionTable(S[] states, long[] allowed) {
+        this.states = states;
+        this.allowed = allowed;
+    }
+
+    public static <S extends Enum<S>> Builder<S> builder(Class<S> type) {
+        return new Builder<>(type);
+    }
+
+    public boolean canTransition(S from, S to) {
+        return (allowed[from.ordinal()] & bit(to)) != 0;
+    }
+
+    /**
+     * 더 이상 갈 수 있는 상태가 없는 최종 상태인지 여부
+     */
+    public boolean isFinal(S state) {
+        return allowed[state.ordinal()] == 0;
+    }
+
+    public Set<S> nextStates(S from) {
+        EnumSet<S> next = EnumSet.noneOf(states[0].getDeclaringClass());
+        long bits = allowed[from.ordinal()];
+        while (bits != 0) {
+            next.add(states[Long.numberOfTrailingZeros(bits)]);
+            bits &= bits - 1;
+        }
+        return next;
+    }
+
+    private static long bit(Enum<?> state) {
+        return 1L << state.ordinal();
+    }
+
+    public static final class Builder<S extends Enum<S>> {
+
+        private final S[] states;
+        private final long[] allowed;
+
+        private Builder(Class<S> type) {
+            this.states = type.getEnumConstants();
+            if (states.length == 0 || states.length > Long.SIZE) {
+                throw new IllegalArgumentException("상태 수는 1 이상 64 이하여야 합니다: " + type.getSimpleName());
+            }
+            this.allowed = new long[states.length];
+        }
+
+        @SafeVarargs
+        public final Builder<S> allow(S from, S... to) {
+            for (S target : to) {
+                allowed[from.ordinal()] |= bit(target);
+            }
+            return this;
+        }
+
+        public StateTransitionTable<S> build() {
+            return new StateTransitionTable<>(states, Arrays.copyOf(allowed, allowed.length));
+        }
+    }
+}
@@ -1,7 +1,9 @@
 package com.oneforlogis.company.application;
 
+import com.oneforlogis.common.event.HubChangedEvent;
 import com.oneforlogis.common.exception.CustomException;
 import com.oneforlogis.common.exception.ErrorCode;
+import com.oneforlogis.common.replica.HubReplica;
 import com.oneforlogis.company.application.dto.request.CompanyCreateRequest;
 import com.oneforlogis.company.application.dto.request.CompanyUpdateRequest;
 import com.oneforlogis.company.application.dto.response.CompanyCreateResponse;
@@ -13,7 +15,9 @@ import com.oneforlogis.company.domain.repository.CompanyRepository;
 import com.oneforlogis.company.infrastructure.client.HubClient;
 import com.oneforlogis.company.infrastructure.client.dto.HubResponse;
 import feign.FeignException;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -31,6 +35,7 @@ import org.springframework.transaction.annotation.Transactional;
 public class CompanyService {
 
     private final HubClient hubClient;
+    private final HubReplica hubReplica;
     private final CompanyRepository companyRepository;
 
     // todo: hub 연결 후 검증 로직 추가
@@ -100,6 +105,11 @@ public class CompanyService {
      * 코드 헬퍼 메서드
      */
 
+    // 여러 업체 일괄 조회 (삭제됐거나 없는 ID 는 결과에서 빠진다)
+    public List<Company> getCompaniesByIds(Collection<UUID> companyIds) {
+        return companyRepository.findAllByIdInAndDeletedFalse(companyIds);
+    }
+
     // 업체 엔티티 조회
     public Company getCompanyById(UUID companyId){
         return companyRepository.findByIdAndDeletedFalse(companyId)
@@ -118,6 +128,11 @@ public class CompanyService {
      * hub get
      */
     public HubResponse fetchHub(UUID hubId) {
+        // 복제본에 있으면 hub-service 를 호출하지 않는다.
+        if (hubReplica.isDeleted(hubId)) throw new CustomException(ErrorCode.HUB_NOT_FOUND);
+        Optional<HubChangedEvent> replicated = hubReplica.findHub(hubId);
+        if (replicated.isPresent()) return HubResponse.from(replicated.get());
+
         try {
             return hubClient.getHub(hubId).data();
         } catch (FeignException.NotFound e) {
@@ -1,6 +1,8 @@
 package com.oneforlogis.company.domain.repository;
 
 import com.oneforlogis.company.domain.model.Company;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import org.springframework.data.domain.Page;
@@ -10,6 +12,7 @@ public interface CompanyRepository {
 
     Company save(Company company);
     Optional<Company> findByIdAndDeletedFalse(UUID id);
+    List<Company> findAllByIdInAndDeletedFalse(Collection<UUID> ids);
     Page<Company> findByDeletedFalse(Pageable pageable);
     Page<Company> findByNameContainingAndDeletedFalse(String keyword, Pageable pageable);
 }
@@ -1,5 +1,6 @@
 package com.oneforlogis.company.infrastructure.client.dto;
 
+import com.oneforlogis.common.event.HubChangedEvent;
 import java.math.BigDecimal;
 import java.util.UUID;
 
@@ -12,4 +13,8 @@ public record HubResponse(
         String address,
         BigDecimal lat,
         BigDecimal lon
-) {}
\ No newline at end of file
+) {
+    public static HubResponse from(HubChangedEvent event) {
+        return new HubResponse(event.hubId(), event.name(), event.address(), event.lat(), event.lon());
+    }
+}
\ No newline at end of file
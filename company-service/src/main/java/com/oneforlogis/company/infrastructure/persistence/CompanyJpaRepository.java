@@ -1,6 +1,8 @@
 package com.oneforlogis.company.infrastructure.persistence;
 
 import com.oneforlogis.company.domain.model.Company;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import org.springframework.data.domain.Page;
@@ -10,6 +12,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 public interface CompanyJpaRepository extends JpaRepository<Company, UUID> {
 
     Optional<Company> findByIdAndDeletedFalse(UUID id);
+    List<Company> findAllByIdInAndDeletedFalse(Collection<UUID> ids);
     Page<Company> findByDeletedFalse(Pageable pageable);
     Page<Company> findByNameContainingAndDeletedFalse(String name, Pageable pageable);
 }
@@ -2,6 +2,8 @@ package com.oneforlogis.company.infrastructure.persistence;
 
 import com.oneforlogis.company.domain.model.Company;
 import com.oneforlogis.company.domain.repository.CompanyRepository;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
@@ -25,6 +27,11 @@ public class CompanyRepositoryImpl implements CompanyRepository {
         return companyJpaRepository.findByIdAndDeletedFalse(id);
     }
 
+    @Override
+    public List<Company> findAllByIdInAndDeletedFalse(Collection<UUID> ids) {
+        return companyJpaRepository.findAllByIdInAndDeletedFalse(ids);
+    }
+
     @Override
     public Page<Company> findByDeletedFalse(Pageable pageable) {
         return companyJpaRepository.findByDeletedFalse(pageable);
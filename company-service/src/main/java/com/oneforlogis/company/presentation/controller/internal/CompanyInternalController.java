@@ -2,13 +2,18 @@ package com.oneforlogis.company.presentation.controller.internal;
 
 import com.oneforlogis.company.application.CompanyService;
 import com.oneforlogis.company.domain.model.Company;
+import com.oneforlogis.company.presentation.controller.internal.dto.CompanyBulkRequest;
 import com.oneforlogis.company.presentation.controller.internal.dto.CompanyDto;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import java.util.List;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -26,4 +31,12 @@ public class CompanyInternalController {
         Company company = companyService.getCompanyById(companyId);
         return CompanyDto.fromEntity(company);
     }
+
+    @Operation(summary = "업체 일괄 조회", description = "업체 ID 목록으로 여러 업체를 한 번에 조회합니다. 없거나 삭제된 업체는 결과에서 제외됩니다.")
+    @PostMapping("/bulk")
+    public List<CompanyDto> getCompaniesInternal(@Valid @RequestBody CompanyBulkRequest request) {
+        return companyService.getCompaniesByIds(request.companyIds()).stream()
+                .map(CompanyDto::fromEntity)
+                .toList();
+    }
 }
@@ -0,0 +1,14 @@
+package com.oneforlogis.company.presentation.controller.internal.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+import java.util.UUID;
+
+public record CompanyBulkRequest(
+        @NotEmpty
+        @Size(max = 1000)
+        List<@NotNull UUID> companyIds
+) {
+}
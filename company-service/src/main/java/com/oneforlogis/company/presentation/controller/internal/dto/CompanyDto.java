@@ -8,6 +8,7 @@ public record CompanyDto(
         UUID id,
         CompanyType type,
         String name,
+        UUID hubId,
         String address
 ) {
     public static CompanyDto fromEntity(Company company) {
@@ -15,6 +16,7 @@ public record CompanyDto(
                 company.getId(),
                 company.getType(),
                 company.getName(),
+                company.getHubId(),
                 company.getAddress()
         );
     }
@@ -66,7 +66,9 @@ public class DeliveryService {
                 .orElseThrow(() -> new CustomException(ErrorCode.DELIVERY_NOT_FOUND));
 
         DeliveryStatus newStatus = DeliveryStatus.valueOf(request.status());
-        delivery.updateStatus(newStatus); // 엔티티가 전이 규칙 위반 시 예외 던짐
+        // 엔티티가 전이 규칙 위반 시 사유를 담아 IllegalStateException 을 던지고, 핸들러가 400 으로 응답한다.
+        // 커밋 시 version 조건 UPDATE 로 반영되어, 동시에 바꾼 요청이 있으면 OptimisticLockingFailureException
+        delivery.updateStatus(newStatus);
 
         return DeliveryResponse.from(delivery);
     }
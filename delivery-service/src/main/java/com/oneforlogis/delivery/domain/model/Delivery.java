@@ -7,7 +7,10 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
 import jakarta.persistence.UniqueConstraint;
+import jakarta.persistence.Version;
 import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.Map;
 import java.util.UUID;
 import lombok.AccessLevel;
 import lombok.Getter;
@@ -21,6 +24,20 @@ import lombok.NoArgsConstructor;
 })
 public class Delivery {
 
+    // 경로 이벤트별 (현재 상태 -> 다음 상태). 표에 없는 조합이면 상태를 바꾸지 않는다.
+    private static final Map<DeliveryRouteStatus, Map<DeliveryStatus, DeliveryStatus>> ROUTE_TRANSITIONS =
+            new EnumMap<>(Map.of(
+                    DeliveryRouteStatus.ARRIVED_AT_HUB, new EnumMap<>(Map.of(
+                            DeliveryStatus.WAITING_AT_HUB, DeliveryStatus.MOVING_BETWEEN_HUBS,
+                            DeliveryStatus.MOVING_BETWEEN_HUBS, DeliveryStatus.ARRIVED_DEST_HUB)),
+                    DeliveryRouteStatus.DEPARTED_FROM_HUB, new EnumMap<>(Map.of(
+                            DeliveryStatus.ARRIVED_DEST_HUB, DeliveryStatus.OUT_FOR_DELIVERY)),
+                    DeliveryRouteStatus.PICKED_UP, new EnumMap<>(Map.of(
+                            DeliveryStatus.OUT_FOR_DELIVERY, DeliveryStatus.MOVING_TO_COMPANY)),
+                    DeliveryRouteStatus.DROPPED_OFF, new EnumMap<>(Map.of(
+                            DeliveryStatus.MOVING_TO_COMPANY, DeliveryStatus.COMPLETED))
+            ));
+
     @Id
     @Column(name = "delivery_id", nullable = false, updatable = false)
     private UUID deliveryId;
@@ -62,6 +79,11 @@ public class Delivery {
     @Column(name = "delivery_staff_id", length = 64)
     private Long deliveryStaffId;
 
+    // 동시 상태 변경 시 나중 요청이 덮어쓰지 않도록 낙관적 잠금 (UPDATE ... WHERE version = ?)
+    @Version
+    @Column(name = "version", nullable = false, columnDefinition = "bigint default 0")
+    private Long version;
+
     private Delivery(
             UUID deliveryId,
             UUID orderId,
@@ -114,39 +136,12 @@ public class Delivery {
         if (this.status == newStatus) {
             throw new IllegalStateException("이미 동일한 상태입니다.");
         }
-
-        switch (this.status) {
-            case WAITING_AT_HUB -> {
-                if (newStatus != DeliveryStatus.MOVING_BETWEEN_HUBS
-                        && newStatus != DeliveryStatus.OUT_FOR_DELIVERY) {
-                    throw new IllegalStateException(
-                            "허브 대기 중 상태에서는 '허브 이동 중' 또는 '배송 중'으로만 변경할 수 있습니다.");
-                }
-            }
-            case MOVING_BETWEEN_HUBS -> {
-                if (newStatus != DeliveryStatus.ARRIVED_DEST_HUB
-                        && newStatus != DeliveryStatus.CANCELED) {
-                    throw new IllegalStateException(
-                            "허브 이동 중 상태에서는 '목적지 허브 도착' 또는 '취소'로만 변경할 수 있습니다.");
-                }
-            }
-            case ARRIVED_DEST_HUB -> {
-                if (newStatus != DeliveryStatus.OUT_FOR_DELIVERY
-                        && newStatus != DeliveryStatus.MOVING_TO_COMPANY
-                        && newStatus != DeliveryStatus.CANCELED) {
-                    throw new IllegalStateException(
-                            "목적지 허브 도착 상태에서는 '배송 중', '업체 이동 중' 또는 '취소'로만 변경할 수 있습니다.");
-                }
-            }
-            case OUT_FOR_DELIVERY, MOVING_TO_COMPANY -> {
-                if (newStatus != DeliveryStatus.COMPLETED
-                        && newStatus != DeliveryStatus.CANCELED) {
-                    throw new IllegalStateException(
-                            "배송/업체 이동 중 상태에서는 '배송 완료' 또는 '취소'로만 변경할 수 있습니다.");
-                }
-            }
-            case COMPLETED, CANCELED ->
-                    throw new IllegalStateException("이미 완료되었거나 취소된 배송은 상태를 변경할 수 없습니다.");
+        if (DeliveryStatus.TRANSITIONS.isFinal(this.status)) {
+            throw new IllegalStateException("이미 완료되었거나 취소된 배송은 상태를 변경할 수 없습니다.");
+        }
+        if (!DeliveryStatus.TRANSITIONS.canTransition(this.status, newStatus)) {
+            throw new IllegalStateException(this.status + " 상태에서는 "
+                    + DeliveryStatus.TRANSITIONS.nextStates(this.status) + " 로만 변경할 수 있습니다.");
         }
 
         this.status = newStatus;
@@ -167,32 +162,9 @@ public class Delivery {
     }
 
     public void applyRouteEvent(DeliveryRouteStatus routeStatus) {
-        switch (routeStatus) {
-            case ARRIVED_AT_HUB -> {
-                if (this.status == DeliveryStatus.WAITING_AT_HUB) {
-                    this.status = DeliveryStatus.MOVING_BETWEEN_HUBS;
-                } else if (this.status == DeliveryStatus.MOVING_BETWEEN_HUBS) {
-                    this.status = DeliveryStatus.ARRIVED_DEST_HUB;
-                }
-            }
-            case DEPARTED_FROM_HUB -> {
-                if (this.status == DeliveryStatus.ARRIVED_DEST_HUB) {
-                    this.status = DeliveryStatus.OUT_FOR_DELIVERY;
-                }
-            }
-            case PICKED_UP -> {
-                if (this.status == DeliveryStatus.OUT_FOR_DELIVERY) {
-                    this.status = DeliveryStatus.MOVING_TO_COMPANY;
-                }
-            }
-            case DROPPED_OFF -> {
-                if (this.status == DeliveryStatus.MOVING_TO_COMPANY) {
-                    this.status = DeliveryStatus.COMPLETED;
-                }
-            }
-            case IN_TRANSIT -> {
-                // 상태 전이 없음
-            }
+        DeliveryStatus next = ROUTE_TRANSITIONS.getOrDefault(routeStatus, Map.of()).get(this.status);
+        if (next != null) {
+            this.status = next;
         }
     }
 
@@ -1,5 +1,7 @@
 package com.oneforlogis.delivery.domain.model;
 
+import com.oneforlogis.common.statemachine.StateTransitionTable;
+
 public enum DeliveryStatus {
     WAITING_AT_HUB,          // 허브 대기 중
     MOVING_BETWEEN_HUBS,     // 허브 이동 중
@@ -7,5 +9,16 @@ public enum DeliveryStatus {
     OUT_FOR_DELIVERY,        // 배송 중
     MOVING_TO_COMPANY,       // 업체 이동 중
     COMPLETED,               // 배송 완료
-    CANCELED                 // 취소
-}
\ No newline at end of file
+    CANCELED;                // 취소
+
+    /**
+     * 상태 변경 API 로 허용되는 전이. COMPLETED, CANCELED 는 나가는 전이가 없는 최종 상태다.
+     */
+    public static final StateTransitionTable<DeliveryStatus> TRANSITIONS = StateTransitionTable.builder(DeliveryStatus.class)
+            .allow(WAITING_AT_HUB, MOVING_BETWEEN_HUBS, OUT_FOR_DELIVERY)
+            .allow(MOVING_BETWEEN_HUBS, ARRIVED_DEST_HUB, CANCELED)
+            .allow(ARRIVED_DEST_HUB, OUT_FOR_DELIVERY, MOVING_TO_COMPANY, CANCELED)
+            .allow(OUT_FOR_DELIVERY, COMPLETED, CANCELED)
+            .allow(MOVING_TO_COMPANY, COMPLETED, CANCELED)
+            .build();
+}
@@ -20,6 +20,12 @@ public class OrderCreatedConsumer {
     )
     public void onMessage(OrderCreatedMessage message) {
         log.info("📦 Received order.created event for orderId={}", message.order().orderId());
+        // 경로/수령인 없이 발행된 이벤트는 배송을 만들 수 없으므로 재시도하지 않고 건너뛴다.
+        if (message.order().route() == null || message.order().receiver() == null) {
+            log.warn("배송 경로 또는 수령인 정보가 없어 배송 생성을 건너뜀 orderId={}, eventId={}",
+                    message.order().orderId(), message.eventId());
+            return;
+        }
         var deliveryId = deliveryService.createIfAbsentFromOrder(message);
         log.info("🚚 Delivery created/exists for orderId={}, deliveryId={}",
                 message.order().orderId(), deliveryId);
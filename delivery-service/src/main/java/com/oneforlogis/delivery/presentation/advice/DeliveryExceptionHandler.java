@@ -7,6 +7,7 @@ import java.util.Map;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.core.Ordered;
 import org.springframework.core.annotation.Order;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -26,6 +27,30 @@ public class DeliveryExceptionHandler {
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(body);
     }
 
+    // 엔티티의 상태 규칙 위반 (예: 이미 동일한 상태, 허용되지 않는 전이) - 엔티티가 남긴 사유를 그대로 전달
+    @ExceptionHandler(IllegalStateException.class)
+    public ResponseEntity<Map<String, Object>> handleIllegalState(IllegalStateException e) {
+        log.warn("[{}] {}", ErrorCode.INVALID_STATUS_TRANSITION.name(), e.getMessage());
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .body(Map.of(
+                        "isSuccess", false,
+                        "code", HttpStatus.BAD_REQUEST.value(),
+                        "message", e.getMessage()
+                ));
+    }
+
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<Map<String, Object>> handleOptimisticLockingFailure(OptimisticLockingFailureException e) {
+        ErrorCode code = ErrorCode.DELIVERY_CONCURRENT_MODIFICATION;
+        log.warn("[{}] {}", code.name(), e.getMessage());
+        return ResponseEntity.status(code.getHttpStatus())
+                .body(Map.of(
+                        "isSuccess", false,
+                        "code", code.getHttpStatus().value(),
+                        "message", code.getMessage()
+                ));
+    }
+
     @ExceptionHandler(CustomException.class)
     public ResponseEntity<Map<String, Object>> handleCustomException(CustomException e) {
         ErrorCode code = e.getErrorCode();
@@ -235,6 +235,26 @@ class DeliveryControllerTest {
                 .andExpect(status().is4xxClientError());
     }
 
+    @Test
+    @DisplayName("배송 상태 변경 실패 - 이미 동일한 상태면 엔티티의 사유로 400 응답")
+    void updateStatus_sameStatus() throws Exception {
+        UUID deliveryId = UUID.randomUUID();
+        var req = new DeliveryStatusUpdateRequest("WAITING_AT_HUB", LocalDateTime.now());
+
+        when(deliveryService.updateStatus(eq(deliveryId),
+                        any(DeliveryStatusUpdateRequest.class)))
+                .thenThrow(new IllegalStateException("이미 동일한 상태입니다."));
+
+        mockMvc.perform(
+                        patch("/api/v1/deliveries/{deliveryId}/status", deliveryId)
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(req))
+                                .accept(MediaType.APPLICATION_JSON)
+                )
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("이미 동일한 상태입니다."));
+    }
+
     @Test
     @DisplayName("배송 담당자 배정 성공")
     void assignStaff_success() throws Exception {
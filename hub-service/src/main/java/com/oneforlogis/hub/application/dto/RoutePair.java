@@ -0,0 +1,8 @@
+package com.oneforlogis.hub.application.dto;
+
+import java.util.UUID;
+
+public record RoutePair(
+        UUID fromHubId,
+        UUID toHubId
+) {}
@@ -0,0 +1,70 @@
+package com.oneforlogis.hub.application.graph;
+
+/**
+ * 허브 좌표 간 대권(haversine) 거리 기반 휴리스틱.
+ * 도로 거리가 직선 거리보다 짧게 등록된 간선이 있어도 하한이 유지되도록,
+ * 모든 간선의 (간선 거리 / 대권 거리) 최솟값(최대 1)을 배율로 곱한다.
+ * 배율이 간선마다 성립하므로 삼각 부등식에 의해 일관성도 유지된다.
+ */
+public final class GeoHeuristic implements RouteHeuristic {
+
+    private static final double EARTH_RADIUS_KM = 6371.0088;
+    private static final double FIXED_PER_KM = Math.pow(10, HubGraph.DISTANCE_SCALE);
+    // 부동소수점 오차로 간선 거리를 넘지 않도록 약간 줄인다.
+    private static final double SAFETY_FACTOR = 1 - 1e-9;
+
+    private final double[] latitudes;
+    private final double[] cosLatitudes;
+    private final double[] longitudes;
+    private final double scale;
+
+    private GeoHeuristic(double[] latitudes, double[] cosLatitudes, double[] longitudes, double scale) {
+        this.latitudes = latitudes;
+        this.cosLatitudes = cosLatitudes;
+        this.longitudes = longitudes;
+        this.scale = scale;
+    }
+
+    /** 좌표가 없는 허브가 하나라도 있으면 일관성을 보장할 수 없으므로 null */
+    public static GeoHeuristic of(HubGraph graph) {
+        int nodeCount = graph.nodeCount();
+        double[] latitudes = new double[nodeCount];
+        double[] cosLatitudes = new double[nodeCount];
+        double[] longitudes = new double[nodeCount];
+        for (int node = 0; node < nodeCount; node++) {
+            if (!graph.hasCoordinates(node)) return null;
+            latitudes[node] = Math.toRadians(graph.latitude(node));
+            cosLatitudes[node] = Math.cos(latitudes[node]);
+            longitudes[node] = Math.toRadians(graph.longitude(node));
+        }
+
+        GeoHeuristic unscaled = new GeoHeuristic(latitudes, cosLatitudes, longitudes, 1.0);
+        double ratio = 1.0;
+        for (int edge = 0; edge < graph.edgeCount(); edge++) {
+            double greatCircle = unscaled.greatCircleFixed(graph.source(edge), graph.target(edge));
+            if (greatCircle > 0) ratio = Math.min(ratio, graph.distance(edge) / greatCircle);
+        }
+        return new GeoHeuristic(latitudes, cosLatitudes, longitudes, ratio * SAFETY_FACTOR);
+    }
+
+    public double scale() {
+        return scale;
+    }
+
+    @Override
+    public long estimate(int node, int target) {
+        if (node == target) return 0L;
+        return (long) (scale * greatCircleFixed(node, target));
+    }
+
+    // 두 허브 사이 대권 거리 (고정소수점 km, 실수)
+    private double greatCircleFixed(int from, int to) {
+        double halfLatitude = (latitudes[to] - latitudes[from]) / 2;
+        double halfLongitude = (longitudes[to] - longitudes[from]) / 2;
+        double sinHalfLatitude = Math.sin(halfLatitude);
+        double sinHalfLongitude = Math.sin(halfLongitude);
+        double a = sinHalfLatitude * sinHalfLatitude
+                + cosLatitudes[from] * cosLatitudes[to] * sinHalfLongitude * sinHalfLongitude;
+        return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1.0, Math.sqrt(a))) * FIXED_PER_KM;
+    }
+}
@@ -0,0 +1,264 @@
+package com.oneforlogis.hub.application.graph;
+
+import com.oneforlogis.hub.application.dto.HubEdge;
+import com.oneforlogis.hub.domain.model.Hub;
+import com.oneforlogis.hub.domain.model.HubRoute;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 직통 경로(DIRECT)로 구성된 허브 그래프의 불변 스냅샷.
+ * 허브 UUID 를 0..n-1 의 int 인덱스로 매핑하고, 간선은 CSR(offsets/targets) 형태의 원시 배열로 보관한다.
+ * 거리는 km 단위 소수점 2자리 고정소수점(long)으로 저장한다.
+ * 허브 좌표(위도/경도)는 A* 휴리스틱용으로 함께 보관하며, 좌표가 없는 허브는 NaN 이다.
+ */
+public final class HubGraph {
+
+    public static final int DISTANCE_SCALE = 2;
+
+    private static final HubGraph EMPTY = new HubGraph(0L, 0L, new UUID[0], Map.of(),
+            new int[]{0}, new int[0], new int[0], new long[0], new int[0], new double[0], new double[0]);
+
+    private final long version;
+    private final long fingerprint;
+    private final UUID[] hubIds;
+    private final Map<UUID, Integer> indexByHubId;
+    private final int[] offsets;
+    private final int[] sources;
+    private final int[] targets;
+    private final long[] distances;
+    private final int[] minutes;
+    private final double[] latitudes;
+    private final double[] longitudes;
+
+    private HubGraph(long version, long fingerprint, UUID[] hubIds, Map<UUID, Integer> indexByHubId, int[] offsets,
+            int[] sources, int[] targets, long[] distances, int[] minutes, double[] latitudes, double[] longitudes) {
+        this.version = version;
+        this.fingerprint = fingerprint;
+        this.hubIds = hubIds;
+        this.indexByHubId = indexByHubId;
+        this.offsets = offsets;
+        this.sources = sources;
+        this.targets = targets;
+        this.distances = distances;
+        this.minutes = minutes;
+        this.latitudes = latitudes;
+        this.longitudes = longitudes;
+    }
+
+    public static HubGraph empty() {
+        return EMPTY;
+    }
+
+    /**
+     * 직통 경로 목록으로 새 스냅샷을 만든다.
+     * 이전 스냅샷의 허브 인덱스는 그대로 유지하고, 새로 등장한 허브만 뒤에 추가한다.
+     */
+    public static HubGraph build(long version, List<HubRoute> routes, HubGraph previous) {
+        return build(version, routes, List.of(), previous);
+    }
+
+    /** hubs 의 위도/경도를 노드 좌표로 함께 기록한다. 경로에 등장하지 않는 허브는 노드로 추가하지 않는다. */
+    public static HubGraph build(long version, List<HubRoute> routes, List<Hub> hubs, HubGraph previous) {
+        List<UUID> hubIdList = new ArrayList<>();
+        Map<UUID, Integer> indexByHubId = new HashMap<>();
+        if (previous != null) {
+            for (UUID hubId : previous.hubIds) {
+                indexByHubId.put(hubId, hubIdList.size());
+                hubIdList.add(hubId);
+            }
+        }
+
+        List<HubRoute> edges = new ArrayList<>(routes.size());
+        for (HubRoute route : routes) {
+            if (route.getRouteDistance() == null || route.getRouteTime() == null) continue;
+            edges.add(route);
+            for (UUID hubId : new UUID[]{route.getFromHubId(), route.getToHubId()}) {
+                if (!indexByHubId.containsKey(hubId)) {
+                    indexByHubId.put(hubId, hubIdList.size());
+                    hubIdList.add(hubId);
+                }
+            }
+        }
+
+        int nodeCount = hubIdList.size();
+        int edgeCount = edges.size();
+        int[] offsets = new int[nodeCount + 1];
+        for (HubRoute route : edges) {
+            offsets[indexByHubId.get(route.getFromHubId()) + 1]++;
+        }
+        for (int i = 0; i < nodeCount; i++) {
+            offsets[i + 1] += offsets[i];
+        }
+
+        int[] cursor = new int[nodeCount];
+        System.arraycopy(offsets, 0, cursor, 0, nodeCount);
+        int[] sources = new int[edgeCount];
+        int[] targets = new int[edgeCount];
+        long[] distances = new long[edgeCount];
+        int[] minutes = new int[edgeCount];
+        long fingerprint = edgeCount;
+        for (HubRoute route : edges) {
+            int from = indexByHubId.get(route.getFromHubId());
+            int slot = cursor[from]++;
+            sources[slot] = from;
+            targets[slot] = indexByHubId.get(route.getToHubId());
+            distances[slot] = toFixedDistance(route.getRouteDistance());
+            minutes[slot] = route.getRouteTime();
+            fingerprint += edgeFingerprint(route.getFromHubId(), route.getToHubId(), distances[slot], minutes[slot]);
+        }
+
+        double[] latitudes = new double[nodeCount];
+        double[] longitudes = new double[nodeCount];
+        Arrays.fill(latitudes, Double.NaN);
+        Arrays.fill(longitudes, Double.NaN);
+        for (Hub hub : hubs) {
+            Integer node = indexByHubId.get(hub.getId());
+            if (node == null || hub.getLat() == null || hub.getLon() == null) continue;
+            latitudes[node] = hub.getLat().doubleValue();
+            longitudes[node] = hub.getLon().doubleValue();
+        }
+
+        return new HubGraph(version, mix(fingerprint), hubIdList.toArray(new UUID[0]), Map.copyOf(indexByHubId),
+                offsets, sources, targets, distances, minutes, latitudes, longitudes);
+    }
+
+    /** 허브 인덱스와 좌표는 그대로 두고 모든 간선의 방향을 뒤집은 그래프. 역방향 거리 계산용이다. */
+    public HubGraph reversed() {
+        int nodeCount = nodeCount();
+        int edgeCount = edgeCount();
+        int[] reversedOffsets = new int[nodeCount + 1];
+        for (int edge = 0; edge < edgeCount; edge++) {
+            reversedOffsets[targets[edge] + 1]++;
+        }
+        for (int i = 0; i < nodeCount; i++) {
+            reversedOffsets[i + 1] += reversedOffsets[i];
+        }
+
+        int[] cursor = Arrays.copyOf(reversedOffsets, nodeCount);
+        int[] reversedSources = new int[edgeCount];
+        int[] reversedTargets = new int[edgeCount];
+        long[] reversedDistances = new long[edgeCount];
+        int[] reversedMinutes = new int[edgeCount];
+        for (int edge = 0; edge < edgeCount; edge++) {
+            int slot = cursor[targets[edge]]++;
+            reversedSources[slot] = targets[edge];
+            reversedTargets[slot] = sources[edge];
+            reversedDistances[slot] = distances[edge];
+            reversedMinutes[slot] = minutes[edge];
+        }
+
+        return new HubGraph(version, fingerprint, hubIds, indexByHubId, reversedOffsets, reversedSources, reversedTargets,
+                reversedDistances, reversedMinutes, latitudes, longitudes);
+    }
+
+    // 간선 순서와 무관하도록 간선마다 섞은 값을 더한다.
+    private static long edgeFingerprint(UUID from, UUID to, long distance, int minutes) {
+        long hash = mix(from.getMostSignificantBits());
+        hash = mix(hash ^ from.getLeastSignificantBits());
+        hash = mix(hash ^ to.getMostSignificantBits());
+        hash = mix(hash ^ to.getLeastSignificantBits());
+        hash = mix(hash ^ distance);
+        return mix(hash ^ minutes);
+    }
+
+    // SplitMix64 finalizer
+    private static long mix(long value) {
+        value = (value ^ (value >>> 30)) * 0xBF58476D1CE4E5B9L;
+        value = (value ^ (value >>> 27)) * 0x94D049BB133111EBL;
+        return value ^ (value >>> 31);
+    }
+
+    public static long toFixedDistance(BigDecimal distance) {
+        return distance.setScale(DISTANCE_SCALE, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+
+    public static BigDecimal toDistance(long fixedDistance) {
+        return BigDecimal.valueOf(fixedDistance, DISTANCE_SCALE);
+    }
+
+    public long version() {
+        return version;
+    }
+
+    /**
+     * 간선 집합(출발, 도착, 거리, 시간)으로 계산한 값. 허브 인덱스나 버전과 무관해서
+     * 다른 인스턴스나 재기동 뒤에도 같은 직통 경로 구성이면 같은 값이 나온다.
+     */
+    public long fingerprint() {
+        return fingerprint;
+    }
+
+    public int nodeCount() {
+        return hubIds.length;
+    }
+
+    public int edgeCount() {
+        return targets.length;
+    }
+
+    /** 그래프에 없는 허브면 -1 */
+    public int indexOf(UUID hubId) {
+        Integer index = indexByHubId.get(hubId);
+        return index != null ? index : -1;
+    }
+
+    public UUID hubId(int node) {
+        return hubIds[node];
+    }
+
+    public int edgeStart(int node) {
+        return offsets[node];
+    }
+
+    public int edgeEnd(int node) {
+        return offsets[node + 1];
+    }
+
+    public int source(int edge) {
+        return sources[edge];
+    }
+
+    public int target(int edge) {
+        return targets[edge];
+    }
+
+    public long distance(int edge) {
+        return distances[edge];
+    }
+
+    public int minutes(int edge) {
+        return minutes[edge];
+    }
+
+    public boolean hasCoordinates(int node) {
+        return !Double.isNaN(latitudes[node]) && !Double.isNaN(longitudes[node]);
+    }
+
+    public double latitude(int node) {
+        return latitudes[node];
+    }
+
+    public double longitude(int node) {
+        return longitudes[node];
+    }
+
+    /** from→to 간선 중 거리가 가장 짧은 간선, 없으면 -1 */
+    public int findEdge(int from, int to) {
+        int found = -1;
+        for (int edge = offsets[from]; edge < offsets[from + 1]; edge++) {
+            if (targets[edge] == to && (found < 0 || distances[edge] < distances[found])) found = edge;
+        }
+        return found;
+    }
+
+    public HubEdge toHubEdge(int edge) {
+        return new HubEdge(hubIds[sources[edge]], hubIds[targets[edge]], toDistance(distances[edge]), minutes[edge]);
+    }
+}
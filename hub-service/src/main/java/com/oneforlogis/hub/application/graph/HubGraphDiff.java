@@ -0,0 +1,83 @@
+package com.oneforlogis.hub.application.graph;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 같은 허브 인덱스를 공유하는 두 스냅샷 사이의 간선 변경분.
+ * (출발, 도착, 거리, 시간)이 같은 간선은 동일한 간선으로 보고 새 스냅샷의 간선 인덱스로 변환한다.
+ */
+public final class HubGraphDiff {
+
+    private final int[] edgeTranslation;
+    private final int[] removedEdges;
+    private final int[] addedEdges;
+
+    private HubGraphDiff(int[] edgeTranslation, int[] removedEdges, int[] addedEdges) {
+        this.edgeTranslation = edgeTranslation;
+        this.removedEdges = removedEdges;
+        this.addedEdges = addedEdges;
+    }
+
+    public static boolean sharesIndexing(HubGraph previous, HubGraph current) {
+        if (previous.nodeCount() > current.nodeCount()) return false;
+        for (int node = 0; node < previous.nodeCount(); node++) {
+            if (!previous.hubId(node).equals(current.hubId(node))) return false;
+        }
+        return true;
+    }
+
+    public static HubGraphDiff between(HubGraph previous, HubGraph current) {
+        Map<EdgeKey, ArrayDeque<Integer>> unmatched = new HashMap<>();
+        for (int edge = 0; edge < current.edgeCount(); edge++) {
+            unmatched.computeIfAbsent(EdgeKey.of(current, edge), key -> new ArrayDeque<>()).add(edge);
+        }
+
+        int[] edgeTranslation = new int[previous.edgeCount()];
+        List<Integer> removed = new ArrayList<>();
+        for (int edge = 0; edge < previous.edgeCount(); edge++) {
+            ArrayDeque<Integer> candidates = unmatched.get(EdgeKey.of(previous, edge));
+            if (candidates == null || candidates.isEmpty()) {
+                edgeTranslation[edge] = -1;
+                removed.add(edge);
+            } else {
+                edgeTranslation[edge] = candidates.poll();
+            }
+        }
+
+        int[] added = unmatched.values().stream()
+                .flatMap(ArrayDeque::stream)
+                .mapToInt(Integer::intValue)
+                .sorted()
+                .toArray();
+
+        return new HubGraphDiff(edgeTranslation, removed.stream().mapToInt(Integer::intValue).toArray(), added);
+    }
+
+    public boolean isEmpty() {
+        return removedEdges.length == 0 && addedEdges.length == 0;
+    }
+
+    /** 이전 스냅샷 간선 인덱스 → 새 스냅샷 간선 인덱스. 삭제되었으면 -1 */
+    public int translate(int previousEdge) {
+        return previousEdge < 0 ? -1 : edgeTranslation[previousEdge];
+    }
+
+    public int[] removedEdges() {
+        return Arrays.copyOf(removedEdges, removedEdges.length);
+    }
+
+    public int[] addedEdges() {
+        return Arrays.copyOf(addedEdges, addedEdges.length);
+    }
+
+    private record EdgeKey(int source, int target, long distance, int minutes) {
+        static EdgeKey of(HubGraph graph, int edge) {
+            return new EdgeKey(graph.source(edge), graph.target(edge), graph.distance(edge), graph.minutes(edge));
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.oneforlogis.hub.application.graph;
+
+import com.oneforlogis.hub.application.dto.DijkstraResult;
+import com.oneforlogis.hub.application.dto.HubEdge;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 스냅샷의 모든 (출발, 도착) 쌍에 대한 최단 거리/시간/직전 간선 표.
+ * n x n 원시 배열에 행(출발 허브) 단위로 채우며, 채우기가 끝나 공개된 뒤에는 변경하지 않는다.
+ */
+public final class HubRouteTable {
+
+    private final HubGraph graph;
+    private final int nodeCount;
+    private final long[] distances;
+    private final int[] times;
+    private final int[] previousEdges;
+
+    public HubRouteTable(HubGraph graph) {
+        this.graph = graph;
+        this.nodeCount = graph.nodeCount();
+        int cells = nodeCount * nodeCount;
+        this.distances = new long[cells];
+        this.times = new int[cells];
+        this.previousEdges = new int[cells];
+        Arrays.fill(distances, SearchScratch.UNREACHED);
+        Arrays.fill(previousEdges, -1);
+    }
+
+    public HubGraph graph() {
+        return graph;
+    }
+
+    public long distance(int source, int target) {
+        return distances[source * nodeCount + target];
+    }
+
+    public int time(int source, int target) {
+        return times[source * nodeCount + target];
+    }
+
+    public int previousEdge(int source, int target) {
+        return previousEdges[source * nodeCount + target];
+    }
+
+    /** source 에서 전체 탐색을 끝낸 scratch 로 한 행을 채운다. */
+    public void fillRow(int source, SearchScratch scratch) {
+        int base = source * nodeCount;
+        for (int target = 0; target < nodeCount; target++) {
+            if (!scratch.isReached(target)) continue;
+            distances[base + target] = scratch.distance(target);
+            times[base + target] = scratch.time(target);
+            previousEdges[base + target] = scratch.previousEdge(target);
+        }
+    }
+
+    /** 변경 영향이 없는 행을 이전 표에서 그대로 옮긴다. 직전 간선은 새 스냅샷 인덱스로 변환한다. */
+    public void copyRow(HubRouteTable previous, int source, HubGraphDiff diff) {
+        int base = source * nodeCount;
+        int previousBase = source * previous.nodeCount;
+        for (int target = 0; target < previous.nodeCount; target++) {
+            distances[base + target] = previous.distances[previousBase + target];
+            times[base + target] = previous.times[previousBase + target];
+            previousEdges[base + target] = diff.translate(previous.previousEdges[previousBase + target]);
+        }
+    }
+
+    /** 이 표의 source 행 최단 경로 트리가 edge 를 사용하는지 */
+    public boolean usesEdge(int source, int edge) {
+        return previousEdge(source, graph.target(edge)) == edge;
+    }
+
+    /** from→to 간선(distance)이 추가되면 source 행의 최단 거리가 줄어들거나 같아질 수 있는지 */
+    public boolean couldImprove(int source, int from, int to, long distance) {
+        if (from >= nodeCount) return false;
+        long fromDistance = distance(source, from);
+        if (fromDistance == SearchScratch.UNREACHED) return false;
+        if (to >= nodeCount) return true;
+        return fromDistance + distance <= distance(source, to);
+    }
+
+    /** 경로가 없거나 출발지와 도착지가 같으면 null */
+    public DijkstraResult route(int source, int target) {
+        if (previousEdge(source, target) < 0) return null;
+
+        List<UUID> path = new ArrayList<>();
+        List<HubEdge> edges = new ArrayList<>();
+        for (int edge = previousEdge(source, target); edge >= 0; edge = previousEdge(source, graph.source(edge))) {
+            path.add(graph.hubId(graph.target(edge)));
+            edges.add(graph.toHubEdge(edge));
+        }
+
+        Collections.reverse(path);
+        Collections.reverse(edges);
+
+        return new DijkstraResult(HubGraph.toDistance(distance(source, target)), time(source, target), path, edges);
+    }
+}
@@ -0,0 +1,117 @@
+package com.oneforlogis.hub.application.graph;
+
+import java.util.Arrays;
+
+/**
+ * 노드 인덱스(0..capacity-1)를 키로 하는 4-ary 최소 힙.
+ * 노드별 힙 위치를 기억하므로 중복 삽입 없이 decrease-key 를 지원한다.
+ */
+public final class IndexedMinHeap {
+
+    private static final int ARITY = 4;
+    private static final int ABSENT = -1;
+
+    private int[] heap = new int[0];
+    private long[] priorities = new long[0];
+    private int[] positions = new int[0];
+    private int size;
+
+    public void ensureCapacity(int capacity) {
+        if (positions.length >= capacity) return;
+        heap = Arrays.copyOf(heap, capacity);
+        priorities = Arrays.copyOf(priorities, capacity);
+        int oldLength = positions.length;
+        positions = Arrays.copyOf(positions, capacity);
+        Arrays.fill(positions, oldLength, capacity, ABSENT);
+    }
+
+    public void clear() {
+        for (int i = 0; i < size; i++) {
+            positions[heap[i]] = ABSENT;
+        }
+        size = 0;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean contains(int node) {
+        return positions[node] != ABSENT;
+    }
+
+    public long peekPriority() {
+        return priorities[heap[0]];
+    }
+
+    /** 없으면 삽입하고, 있으면 우선순위가 더 작을 때만 낮춘다. */
+    public void insertOrDecrease(int node, long priority) {
+        int position = positions[node];
+        if (position == ABSENT) {
+            priorities[node] = priority;
+            heap[size] = node;
+            positions[node] = size;
+            siftUp(size++);
+        } else if (priority < priorities[node]) {
+            priorities[node] = priority;
+            siftUp(position);
+        }
+    }
+
+    public int poll() {
+        int min = heap[0];
+        positions[min] = ABSENT;
+        int last = heap[--size];
+        if (size > 0) {
+            heap[0] = last;
+            positions[last] = 0;
+            siftDown(0);
+        }
+        return min;
+    }
+
+    private void siftUp(int position) {
+        int node = heap[position];
+        long priority = priorities[node];
+        while (position > 0) {
+            int parentPosition = (position - 1) / ARITY;
+            int parent = heap[parentPosition];
+            if (priorities[parent] <= priority) break;
+            heap[position] = parent;
+            positions[parent] = position;
+            position = parentPosition;
+        }
+        heap[position] = node;
+        positions[node] = position;
+    }
+
+    private void siftDown(int position) {
+        int node = heap[position];
+        long priority = priorities[node];
+        while (true) {
+            int firstChild = position * ARITY + 1;
+            if (firstChild >= size) break;
+            int lastChild = Math.min(firstChild + ARITY, size);
+            int minChildPosition = firstChild;
+            long minChildPriority = priorities[heap[firstChild]];
+            for (int child = firstChild + 1; child < lastChild; child++) {
+                long childPriority = priorities[heap[child]];
+                if (childPriority < minChildPriority) {
+                    minChildPosition = child;
+                    minChildPriority = childPriority;
+                }
+            }
+            if (minChildPriority >= priority) break;
+            int minChild = heap[minChildPosition];
+            heap[position] = minChild;
+            positions[minChild] = position;
+            position = minChildPosition;
+        }
+        heap[position] = node;
+        positions[node] = position;
+    }
+}
@@ -0,0 +1,45 @@
+package com.oneforlogis.hub.application.graph;
+
+/**
+ * ALT 휴리스틱. 랜드마크 L 마다 d(L, v), d(v, L) 을 미리 구해 두고
+ * max(d(L, t) - d(L, v), d(v, L) - d(t, L)) 를 하한으로 쓴다.
+ */
+public final class LandmarkHeuristic implements RouteHeuristic {
+
+    private final int nodeCount;
+    private final int[] landmarks;
+    private final long[] fromLandmark; // [l * n + v] = d(L, v)
+    private final long[] toLandmark;   // [l * n + v] = d(v, L)
+
+    public LandmarkHeuristic(int nodeCount, int[] landmarks, long[] fromLandmark, long[] toLandmark) {
+        this.nodeCount = nodeCount;
+        this.landmarks = landmarks;
+        this.fromLandmark = fromLandmark;
+        this.toLandmark = toLandmark;
+    }
+
+    public int[] landmarks() {
+        return landmarks.clone();
+    }
+
+    @Override
+    public long estimate(int node, int target) {
+        long best = 0L;
+        for (int base = 0; base < fromLandmark.length; base += nodeCount) {
+            // L 에서 v 로 갈 수 없으면 이 항은 건너뛴다 (0 으로 봐도 일관성이 유지된다).
+            long landmarkToTarget = fromLandmark[base + target];
+            long landmarkToNode = fromLandmark[base + node];
+            if (landmarkToTarget != SearchScratch.UNREACHED && landmarkToNode != SearchScratch.UNREACHED) {
+                best = Math.max(best, landmarkToTarget - landmarkToNode);
+            }
+
+            // t 는 L 에 갈 수 있는데 v 는 못 가면 v 에서 t 로도 갈 수 없다.
+            long targetToLandmark = toLandmark[base + target];
+            if (targetToLandmark == SearchScratch.UNREACHED) continue;
+            long nodeToLandmark = toLandmark[base + node];
+            if (nodeToLandmark == SearchScratch.UNREACHED) return SearchScratch.UNREACHED;
+            best = Math.max(best, nodeToLandmark - targetToLandmark);
+        }
+        return best;
+    }
+}
@@ -0,0 +1,15 @@
+package com.oneforlogis.hub.application.graph;
+
+/**
+ * A* 탐색에 쓰는 남은 거리의 하한 추정치 (고정소수점 km).
+ * 모든 간선 (u, v) 에 대해 estimate(u, t) <= w(u, v) + estimate(v, t) 를 만족해야 한다 (일관성).
+ * 그래야 한 번 확정한 노드를 다시 열지 않아도 결과가 Dijkstra 와 같다.
+ */
+@FunctionalInterface
+public interface RouteHeuristic {
+
+    RouteHeuristic NONE = (node, target) -> 0L;
+
+    /** target 에 도달할 수 없다고 확실하면 {@link SearchScratch#UNREACHED} */
+    long estimate(int node, int target);
+}
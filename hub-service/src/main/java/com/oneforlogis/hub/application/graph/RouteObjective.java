@@ -0,0 +1,7 @@
+package com.oneforlogis.hub.application.graph;
+
+/** 최단 경로 탐색에서 최소화할 기준 */
+public enum RouteObjective {
+    DISTANCE,
+    TIME
+}
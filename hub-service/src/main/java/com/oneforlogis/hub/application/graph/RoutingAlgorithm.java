@@ -0,0 +1,10 @@
+package com.oneforlogis.hub.application.graph;
+
+/** 경로표를 쓰지 않을 때 단일 쌍 최단 경로 탐색 방식 (hub.routing.algorithm) */
+public enum RoutingAlgorithm {
+    DIJKSTRA,
+    // 허브 좌표 간 대권 거리를 하한으로 쓰는 A*
+    ASTAR,
+    // 랜드마크까지의 거리와 삼각 부등식을 하한으로 쓰는 A* (A*, Landmarks, Triangle inequality)
+    ALT
+}
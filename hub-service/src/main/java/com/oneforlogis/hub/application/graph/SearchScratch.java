@@ -0,0 +1,63 @@
+package com.oneforlogis.hub.application.graph;
+
+import java.util.Arrays;
+
+/**
+ * 최단 경로 탐색용 재사용 버퍼. 스레드마다 하나씩 두고 탐색마다 epoch 만 올려서
+ * 배열을 매번 비우지 않고도 이전 탐색 값을 무효화한다.
+ */
+public final class SearchScratch {
+
+    public static final long UNREACHED = Long.MAX_VALUE;
+
+    private final IndexedMinHeap heap = new IndexedMinHeap();
+    private long[] distances = new long[0];
+    private int[] times = new int[0];
+    private int[] previousEdges = new int[0];
+    private int[] stamps = new int[0];
+    private int epoch;
+
+    public void prepare(int nodeCount) {
+        if (stamps.length < nodeCount) {
+            int capacity = Math.max(nodeCount, stamps.length * 2);
+            distances = new long[capacity];
+            times = new int[capacity];
+            previousEdges = new int[capacity];
+            stamps = new int[capacity];
+            epoch = 0;
+        }
+        heap.ensureCapacity(stamps.length);
+        heap.clear();
+        if (++epoch == Integer.MAX_VALUE) {
+            Arrays.fill(stamps, 0);
+            epoch = 1;
+        }
+    }
+
+    public IndexedMinHeap heap() {
+        return heap;
+    }
+
+    public boolean isReached(int node) {
+        return stamps[node] == epoch;
+    }
+
+    public long distance(int node) {
+        return stamps[node] == epoch ? distances[node] : UNREACHED;
+    }
+
+    public int time(int node) {
+        return times[node];
+    }
+
+    public int previousEdge(int node) {
+        return stamps[node] == epoch ? previousEdges[node] : -1;
+    }
+
+    public void reach(int node, long distance, int time, int previousEdge) {
+        stamps[node] = epoch;
+        distances[node] = distance;
+        times[node] = time;
+        previousEdges[node] = previousEdge;
+    }
+}
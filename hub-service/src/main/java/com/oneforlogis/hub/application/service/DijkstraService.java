@@ -4,75 +4,175 @@ import com.oneforlogis.common.exception.CustomException;
 import com.oneforlogis.common.exception.ErrorCode;
 import com.oneforlogis.hub.application.dto.HubEdge;
 import com.oneforlogis.hub.application.dto.DijkstraResult;
+import com.oneforlogis.hub.application.graph.HubGraph;
+import com.oneforlogis.hub.application.graph.IndexedMinHeap;
+import com.oneforlogis.hub.application.graph.RouteHeuristic;
+import com.oneforlogis.hub.application.graph.RouteObjective;
+import com.oneforlogis.hub.application.graph.SearchScratch;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
-import java.math.BigDecimal;
 import java.util.*;
 
 @Slf4j
 @Service
 public class DijkstraService {
 
-    public DijkstraResult findShortestPath(Map<UUID, List<HubEdge>> graph,
-            UUID startHub,
-            UUID targetHub) {
+    // 탐색 버퍼는 스레드마다 재사용해서 쿼리당 노드 단위 객체 할당이 없도록 한다.
+    private static final ThreadLocal<SearchScratch> SCRATCH = ThreadLocal.withInitial(SearchScratch::new);
 
-        Map<UUID, BigDecimal> distances = new HashMap<>();
-        Map<UUID, Integer> times = new HashMap<>();
-        Map<UUID, UUID> previous = new HashMap<>();
+    public DijkstraResult findShortestPath(HubGraph graph, UUID startHub, UUID targetHub) {
+        return findShortestPath(graph, startHub, targetHub, RouteHeuristic.NONE);
+    }
 
-        PriorityQueue<UUID> pq = new PriorityQueue<>(Comparator.comparing(distances::get));
+    /** objective 가 TIME 이면 소요 시간을 최소화하고, 거리는 그 경로를 따라 합산한다. */
+    public DijkstraResult findShortestPath(HubGraph graph, UUID startHub, UUID targetHub, RouteObjective objective) {
+        if (objective == RouteObjective.DISTANCE) return findShortestPath(graph, startHub, targetHub);
 
-        for (UUID hubId : graph.keySet()) {
-            distances.put(hubId, BigDecimal.valueOf(Double.MAX_VALUE));
-            times.put(hubId, Integer.MAX_VALUE);
-        }
+        int start = graph.indexOf(startHub);
+        int target = graph.indexOf(targetHub);
+        if (start < 0 || target < 0) throw new CustomException(ErrorCode.HUB_ROUTE_PATH_NOT_FOUND);
 
-        distances.put(startHub, BigDecimal.ZERO);
-        times.put(startHub, 0);
-        pq.add(startHub);
+        SearchScratch scratch = SCRATCH.get();
+        searchByTime(graph, start, target, scratch);
 
-        while (!pq.isEmpty()) {
-            UUID current = pq.poll();
-            if (!graph.containsKey(current)) continue;
+        if (scratch.previousEdge(target) < 0) throw new CustomException(ErrorCode.HUB_ROUTE_PATH_NOT_FOUND);
+        return toResult(graph, target, scratch);
+    }
+
+    /** heuristic 이 NONE 이 아니면 A* 로 탐색한다. heuristic 은 일관성을 만족해야 한다. */
+    public DijkstraResult findShortestPath(HubGraph graph, UUID startHub, UUID targetHub, RouteHeuristic heuristic) {
+        int start = graph.indexOf(startHub);
+        int target = graph.indexOf(targetHub);
+        if (start < 0 || target < 0) throw new CustomException(ErrorCode.HUB_ROUTE_PATH_NOT_FOUND);
+
+        SearchScratch scratch = SCRATCH.get();
+        if (heuristic == RouteHeuristic.NONE) {
+            search(graph, start, target, scratch);
+        } else {
+            searchTowards(graph, start, target, scratch, heuristic);
+        }
 
-            for (HubEdge edge : graph.get(current)) {
-                HubEdge currentEdge = new HubEdge(current, edge.toHubId(), edge.routeDistance(), edge.routeTime());
+        if (scratch.previousEdge(target) < 0) throw new CustomException(ErrorCode.HUB_ROUTE_PATH_NOT_FOUND);
+        return toResult(graph, target, scratch);
+    }
+
+    /** startHub 에서 한 번만 탐색해 여러 도착지의 경로를 만든다. 도달할 수 없는 도착지는 결과에서 빠진다. */
+    public Map<UUID, DijkstraResult> findShortestPaths(HubGraph graph, UUID startHub, Collection<UUID> targetHubs) {
+        int start = graph.indexOf(startHub);
+        if (start < 0) return Map.of();
+
+        SearchScratch scratch = searchAll(graph, start);
+        Map<UUID, DijkstraResult> results = new HashMap<>();
+        for (UUID targetHub : targetHubs) {
+            int target = graph.indexOf(targetHub);
+            if (target < 0 || scratch.previousEdge(target) < 0) continue;
+            results.put(targetHub, toResult(graph, target, scratch));
+        }
+        return results;
+    }
 
-                UUID neighbor = currentEdge.toHubId();
-                BigDecimal newDist = distances.get(current).add(currentEdge.routeDistance());
-                int newTime = times.get(current) + currentEdge.routeTime();
+    /** start 에서 도달 가능한 모든 노드를 확정한 현재 스레드의 scratch 를 반환한다. */
+    public SearchScratch searchAll(HubGraph graph, int start) {
+        SearchScratch scratch = SCRATCH.get();
+        search(graph, start, -1, scratch);
+        return scratch;
+    }
 
-                if (newDist.compareTo(distances.get(neighbor)) < 0) {
-                    distances.put(neighbor, newDist);
-                    times.put(neighbor, newTime);
-                    previous.put(neighbor, current);
-                    pq.add(neighbor);
+    /**
+     * start 에서 출발하는 Dijkstra 탐색. target 이 확정되면 바로 종료하고,
+     * target 이 -1 이면 도달 가능한 모든 노드를 확정한다. 결과는 scratch 에 남는다.
+     */
+    public void search(HubGraph graph, int start, int target, SearchScratch scratch) {
+        scratch.prepare(graph.nodeCount());
+        IndexedMinHeap heap = scratch.heap();
+        scratch.reach(start, 0L, 0, -1);
+        heap.insertOrDecrease(start, 0L);
+
+        while (!heap.isEmpty()) {
+            int current = heap.poll();
+            if (current == target) return;
+
+            long currentDistance = scratch.distance(current);
+            int currentTime = scratch.time(current);
+            for (int edge = graph.edgeStart(current); edge < graph.edgeEnd(current); edge++) {
+                int neighbor = graph.target(edge);
+                long newDistance = currentDistance + graph.distance(edge);
+
+                if (newDistance < scratch.distance(neighbor)) {
+                    scratch.reach(neighbor, newDistance, currentTime + graph.minutes(edge), edge);
+                    heap.insertOrDecrease(neighbor, newDistance);
                 }
             }
         }
+    }
 
-        if (!previous.containsKey(targetHub)) throw new CustomException(ErrorCode.HUB_ROUTE_PATH_NOT_FOUND);
+    /** 소요 시간(분)을 우선순위로 쓰는 탐색. 시간이 같으면 먼저 확정된 경로를 유지한다. */
+    public void searchByTime(HubGraph graph, int start, int target, SearchScratch scratch) {
+        scratch.prepare(graph.nodeCount());
+        IndexedMinHeap heap = scratch.heap();
+        scratch.reach(start, 0L, 0, -1);
+        heap.insertOrDecrease(start, 0L);
+
+        while (!heap.isEmpty()) {
+            int current = heap.poll();
+            if (current == target) return;
+
+            long currentDistance = scratch.distance(current);
+            int currentTime = scratch.time(current);
+            for (int edge = graph.edgeStart(current); edge < graph.edgeEnd(current); edge++) {
+                int neighbor = graph.target(edge);
+                int newTime = currentTime + graph.minutes(edge);
+                if (scratch.isReached(neighbor) && newTime >= scratch.time(neighbor)) continue;
+
+                scratch.reach(neighbor, currentDistance + graph.distance(edge), newTime, edge);
+                heap.insertOrDecrease(neighbor, newTime);
+            }
+        }
+    }
+
+    /**
+     * 우선순위를 (출발지부터 거리 + 도착지까지 추정치)로 두는 A* 탐색. target 이 확정되면 종료한다.
+     * 추정치가 UNREACHED 인 노드는 도착지로 이어지지 않으므로 큐에 넣지 않는다.
+     */
+    public void searchTowards(HubGraph graph, int start, int target, SearchScratch scratch, RouteHeuristic heuristic) {
+        scratch.prepare(graph.nodeCount());
+        IndexedMinHeap heap = scratch.heap();
+        long startEstimate = heuristic.estimate(start, target);
+        if (startEstimate == SearchScratch.UNREACHED) return;
+        scratch.reach(start, 0L, 0, -1);
+        heap.insertOrDecrease(start, startEstimate);
+
+        while (!heap.isEmpty()) {
+            int current = heap.poll();
+            if (current == target) return;
+
+            long currentDistance = scratch.distance(current);
+            int currentTime = scratch.time(current);
+            for (int edge = graph.edgeStart(current); edge < graph.edgeEnd(current); edge++) {
+                int neighbor = graph.target(edge);
+                long newDistance = currentDistance + graph.distance(edge);
+                if (newDistance >= scratch.distance(neighbor)) continue;
+
+                long estimate = heuristic.estimate(neighbor, target);
+                if (estimate == SearchScratch.UNREACHED) continue;
+                scratch.reach(neighbor, newDistance, currentTime + graph.minutes(edge), edge);
+                heap.insertOrDecrease(neighbor, newDistance + estimate);
+            }
+        }
+    }
 
+    private DijkstraResult toResult(HubGraph graph, int target, SearchScratch scratch) {
         List<UUID> path = new ArrayList<>();
         List<HubEdge> edges = new ArrayList<>();
-        UUID current = targetHub;
-
-        while (previous.containsKey(current)) {
-            UUID prev = previous.get(current);
-            path.add(current);
-            UUID curr = current;
-            graph.get(prev).stream()
-                    .filter(e -> e.toHubId().equals(curr))
-                    .findFirst()
-                    .ifPresent(edges::add);
-            current = prev;
+        for (int edge = scratch.previousEdge(target); edge >= 0; edge = scratch.previousEdge(graph.source(edge))) {
+            path.add(graph.hubId(graph.target(edge)));
+            edges.add(graph.toHubEdge(edge));
         }
 
         Collections.reverse(path);
         Collections.reverse(edges);
 
-        return new DijkstraResult(distances.get(targetHub), times.get(targetHub), path, edges);
+        return new DijkstraResult(HubGraph.toDistance(scratch.distance(target)), scratch.time(target), path, edges);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,51 @@
+package com.oneforlogis.hub.application.service;
+
+import com.oneforlogis.hub.domain.model.Hub;
+import com.oneforlogis.hub.domain.model.HubRoute;
+import com.oneforlogis.hub.domain.model.RouteType;
+import com.oneforlogis.hub.domain.repository.HubRepository;
+import com.oneforlogis.hub.domain.repository.HubRouteRepository;
+import com.oneforlogis.hub.infrastructure.messaging.HubEventPublisher;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+
+/**
+ * 기동 시 현재 허브와 직통 경로 전체를 변경 이벤트로 다시 발행한다.
+ * 이벤트 발행 전에 만들어진 데이터나 발행에 실패한 변경도 compact 토픽에 최신 상태로 남게 하기 위함이다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class HubEventReplayService {
+
+    private final HubRepository hubRepository;
+    private final HubRouteRepository hubRouteRepository;
+    private final HubEventPublisher hubEventPublisher;
+
+    @Value("${hub.events.enabled:true}")
+    private boolean enabled;
+
+    @Value("${hub.events.republish-on-startup:true}")
+    private boolean republishOnStartup;
+
+    @Order(20)
+    @EventListener(ApplicationReadyEvent.class)
+    public void republishOnStartup() {
+        if (!enabled || !republishOnStartup) return;
+        try {
+            List<Hub> hubs = hubRepository.findByDeletedFalse();
+            List<HubRoute> routes = hubRouteRepository.findByDeletedFalseAndRouteType(RouteType.DIRECT);
+            hubs.forEach(hubEventPublisher::publishHubChanged);
+            routes.forEach(hubEventPublisher::publishRouteChanged);
+            log.info("허브 변경 이벤트 재발행 hubs={}, routes={}", hubs.size(), routes.size());
+        } catch (RuntimeException e) {
+            log.warn("허브 변경 이벤트 재발행 실패: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.oneforlogis.hub.application.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.oneforlogis.hub.domain.model.RouteType;
+import com.oneforlogis.hub.infrastructure.persistence.HubExportJdbcReader;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 허브 네트워크 전체를 NDJSON(한 줄에 JSON 하나)으로 내보낸다. 허브 행을 먼저 쓰고 경로 행을 쓴다.
+ * 행은 커서에서 읽는 대로 출력 스트림에 쓰므로 메모리에는 허브 이름 맵만 남는다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class HubExportService {
+
+    private final HubExportJdbcReader hubExportJdbcReader;
+    private final ObjectMapper objectMapper;
+
+    @Transactional(readOnly = true)
+    public void exportNetwork(RouteType routeType, OutputStream outputStream) throws IOException {
+        Map<UUID, String> hubNames = new HashMap<>();
+        long[] counts = new long[2];
+
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.setRootValueSeparator(null);
+            hubExportJdbcReader.streamHubs(hub -> {
+                hubNames.put(hub.id(), hub.name());
+                writeLine(generator, hub);
+                counts[0]++;
+            });
+            hubExportJdbcReader.streamRoutes(routeType, hubNames, route -> {
+                writeLine(generator, route);
+                counts[1]++;
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        log.info("허브 네트워크 내보내기 완료 hubs={}, routes={}", counts[0], counts[1]);
+    }
+
+    private static void writeLine(JsonGenerator generator, Object row) {
+        try {
+            generator.writeObject(row);
+            generator.writeRaw('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package com.oneforlogis.hub.application.service;
+
+import com.oneforlogis.hub.application.dto.RoutePair;
+import com.oneforlogis.hub.application.graph.HubGraph;
+import com.oneforlogis.hub.domain.model.HubRoute;
+import com.oneforlogis.hub.domain.model.RouteType;
+import com.oneforlogis.hub.domain.repository.HubRepository;
+import com.oneforlogis.hub.domain.repository.HubRouteRepository;
+import com.oneforlogis.hub.infrastructure.cache.HubCacheEventPublisher;
+import com.oneforlogis.hub.infrastructure.cache.HubRouteCacheService;
+import com.oneforlogis.hub.presentation.response.ShortestRouteResponse;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class HubGraphService {
+
+    private final HubRouteRepository hubRouteRepository;
+    private final HubRepository hubRepository;
+    private final HubRouteTableService hubRouteTableService;
+    private final HubRouteCacheService hubRouteCacheService;
+    private final HubCacheEventPublisher hubCacheEventPublisher;
+
+    private final AtomicReference<HubGraph> snapshot = new AtomicReference<>(HubGraph.empty());
+    private final AtomicLong versionSequence = new AtomicLong();
+
+    public HubGraph current() {
+        return snapshot.get();
+    }
+
+    @Order(0)
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        rebuild();
+    }
+
+    // 허브 인덱스를 새로 매기고 경로표도 처음부터 다시 계산한다.
+    public synchronized HubGraph rebuild() {
+        HubGraph graph = HubGraph.build(versionSequence.incrementAndGet(), loadDirectRoutes(), hubRepository.findByDeletedFalse(), null);
+        swap(graph);
+        hubRouteTableService.rebuild(graph);
+        return graph;
+    }
+
+    // 이전 스냅샷의 허브 인덱스를 유지한 채 재구성하고, 경로표는 영향받은 행만 다시 계산한다.
+    public synchronized HubGraph applyRouteChanges() {
+        HubGraph previous = snapshot.get();
+        HubGraph graph = HubGraph.build(versionSequence.incrementAndGet(), loadDirectRoutes(), hubRepository.findByDeletedFalse(), previous);
+        swap(graph);
+
+        List<RoutePair> changedPairs = hubRouteTableService.repair(previous, graph);
+        hubRouteCacheService.invalidateCriteriaRoutes();
+        if (changedPairs == null) {
+            hubRouteCacheService.invalidateRelayCacheOnly();
+        } else {
+            hubRouteCacheService.evictShortestRoutes(changedPairs);
+        }
+        return graph;
+    }
+
+    // 다른 인스턴스에서 경로가 바뀐 경우. Redis 캐시는 발행한 쪽에서 이미 정리했으므로 로컬 스냅샷만 갱신한다.
+    public synchronized HubGraph applyRemoteRouteChanges() {
+        HubGraph previous = snapshot.get();
+        HubGraph graph = HubGraph.build(versionSequence.incrementAndGet(), loadDirectRoutes(), hubRepository.findByDeletedFalse(), previous);
+        swap(graph);
+        hubRouteTableService.repair(previous, graph);
+        return graph;
+    }
+
+    // 커밋되지 않은 경로 변경이 다른 요청의 라우팅에 노출되지 않도록 커밋 이후에 교체한다.
+    public void applyRouteChangesAfterCommit() {
+        afterCommit(() -> publishGraphChanged(applyRouteChanges()));
+    }
+
+    public void rebuildAfterCommit() {
+        afterCommit(() -> {
+            HubGraph graph = rebuild();
+            // 스냅샷을 바꾼 뒤에 세대를 올려야 이전 스냅샷으로 계산한 경로가 새 세대에 저장되지 않는다.
+            hubRouteCacheService.invalidateRelayCacheOnly();
+            hubRouteCacheService.invalidateCriteriaRoutes();
+            publishGraphChanged(graph);
+        });
+    }
+
+    /**
+     * graph 로 계산한 최단 경로를 graph 를 읽기 전에 받아 둔 세대에 저장한다.
+     * 저장하는 사이 스냅샷이 바뀌었으면 변경된 쌍 삭제보다 늦게 썼을 수 있으므로 방금 쓴 값을 지운다.
+     */
+    public void saveShortestRouteCaches(long generation, HubGraph graph, List<ShortestRouteResponse> responses) {
+        hubRouteCacheService.saveShortestRouteCaches(generation, responses);
+        if (snapshot.get() == graph) return;
+        hubRouteCacheService.evictShortestRoutes(generation, responses.stream()
+                .map(response -> new RoutePair(response.fromHub().id(), response.toHub().id()))
+                .toList());
+    }
+
+    private void publishGraphChanged(HubGraph graph) {
+        hubCacheEventPublisher.publishGraphChanged(graph.version());
+    }
+
+    private List<HubRoute> loadDirectRoutes() {
+        return hubRouteRepository.findByDeletedFalseAndRouteType(RouteType.DIRECT);
+    }
+
+    private void swap(HubGraph graph) {
+        snapshot.set(graph);
+        log.info("허브 그래프 스냅샷 교체 version={}, nodes={}, edges={}",
+                graph.version(), graph.nodeCount(), graph.edgeCount());
+    }
+
+    private void afterCommit(Runnable task) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            task.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                task.run();
+            }
+        });
+    }
+}
@@ -4,22 +4,32 @@ import com.oneforlogis.common.api.PageResponse;
 import com.oneforlogis.common.exception.CustomException;
 import com.oneforlogis.common.exception.ErrorCode;
 import com.oneforlogis.hub.application.dto.DijkstraResult;
+import com.oneforlogis.hub.application.dto.RoutePair;
+import com.oneforlogis.hub.application.graph.HubGraph;
+import com.oneforlogis.hub.application.graph.RouteObjective;
 import com.oneforlogis.hub.domain.model.HubRoute;
 import com.oneforlogis.hub.domain.model.RouteType;
 import com.oneforlogis.hub.domain.repository.HubRouteRepository;
-import com.oneforlogis.hub.application.dto.HubEdge;
 import com.oneforlogis.hub.infrastructure.cache.HubRouteCacheService;
+import com.oneforlogis.hub.infrastructure.cache.RouteSingleFlight;
+import com.oneforlogis.hub.infrastructure.messaging.HubEventPublisher;
 import com.oneforlogis.hub.presentation.request.HubRouteRequest;
 import com.oneforlogis.hub.presentation.response.HubResponse;
 import com.oneforlogis.hub.presentation.response.HubRouteResponse;
 import com.oneforlogis.hub.presentation.response.ShortestRouteResponse;
 import com.oneforlogis.hub.presentation.response.HubSimpleResponse;
 import com.oneforlogis.hub.presentation.response.RouteEdgeResponse;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.UUID;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -34,7 +44,16 @@ public class HubRouteService {
     private final HubRouteRepository hubRouteRepository;
     private final HubService hubService;
     private final HubRouteCacheService hubRouteCacheService;
+    private final HubGraphService hubGraphService;
+    private final HubRouteTableService hubRouteTableService;
     private final DijkstraService dijkstraService;
+    private final ParetoRouteService paretoRouteService;
+    private final RelayRouteService relayRouteService;
+    private final RouteSingleFlight routeSingleFlight;
+    private final HubEventPublisher hubEventPublisher;
+
+    @Value("${hub.routing.batch.max-pairs:1000}")
+    private int maxBatchPairs;
 
     @Transactional
     public HubRouteResponse createHubRoute(HubRouteRequest request) {
@@ -44,13 +63,16 @@ public class HubRouteService {
         HubRoute hubRoute = HubRoute.create(request);
         hubRouteRepository.save(hubRoute);
         hubRouteCacheService.syncOnCreate(hubRoute);
+        hubEventPublisher.publishRouteChanged(hubRoute);
+        relayRouteService.invalidateAll();
+        hubGraphService.applyRouteChangesAfterCommit();
 
         return HubRouteResponse.from(hubRoute, fromHub, toHub);
     }
 
     @Transactional
     public HubRouteResponse updateHubRoute(Long routeId, HubRouteRequest request) {
-        HubRoute hubRoute = hubRouteRepository.findById(routeId)
+        HubRoute hubRoute = hubRouteRepository.findDirectRouteById(routeId)
                 .orElseThrow(() -> new CustomException(ErrorCode.HUB_ROUTE_NOT_FOUND));
         if (hubRoute.isDeleted()) throw new CustomException(ErrorCode.HUB_ROUTE_DELETED);
 
@@ -60,28 +82,36 @@ public class HubRouteService {
         hubRoute.update(request);
         hubRouteRepository.flush();
         hubRouteCacheService.syncOnUpdate(hubRoute);
+        hubEventPublisher.publishRouteChanged(hubRoute);
+        relayRouteService.invalidateAll();
+        hubGraphService.applyRouteChangesAfterCommit();
 
         return HubRouteResponse.from(hubRoute, fromHub, toHub);
     }
 
     @Transactional
     public void deleteHubRoute(String userName, Long routeId) {
-        HubRoute hubRoute = hubRouteRepository.findById(routeId)
+        HubRoute hubRoute = hubRouteRepository.findDirectRouteById(routeId)
                 .orElseThrow(() -> new CustomException(ErrorCode.HUB_ROUTE_NOT_FOUND));
         if (hubRoute.isDeleted()) throw new CustomException(ErrorCode.HUB_ROUTE_DELETED);
 
         hubRoute.markAsDeleted(userName);
         hubRouteCacheService.syncOnDelete(hubRoute);
+        hubEventPublisher.publishRouteDeleted(routeId);
+        relayRouteService.invalidateAll();
+        hubGraphService.applyRouteChangesAfterCommit();
     }
 
     @Transactional
     public void refreshRouteCache() {
         List<HubRoute> directRoutes = hubRouteRepository.findByDeletedFalseAndRouteType(RouteType.DIRECT);
         hubRouteCacheService.refreshRouteCaches(directRoutes);
+        relayRouteService.invalidateAll();
+        hubGraphService.rebuildAfterCommit();
     }
 
     public HubRouteResponse getHubRouteById(Long routeId) {
-        HubRoute route = hubRouteRepository.findById(routeId)
+        HubRoute route = hubRouteRepository.findDirectRouteById(routeId)
                 .orElseThrow(() -> new CustomException(ErrorCode.HUB_ROUTE_NOT_FOUND));
         if (route.isDeleted()) throw new CustomException(ErrorCode.HUB_ROUTE_DELETED);
 
@@ -99,7 +129,7 @@ public class HubRouteService {
             return HubRouteResponse.from(cached, fromHub, toHub);
         }
 
-        HubRoute route = hubRouteRepository.findByFromHubIdAndToHubId(fromHubId, toHubId)
+        HubRoute route = hubRouteRepository.findDirectRoute(fromHubId, toHubId)
                 .orElseThrow(() -> new CustomException(ErrorCode.HUB_ROUTE_NOT_FOUND));
         if (route.getRouteType() != RouteType.DIRECT) throw new CustomException(ErrorCode.HUB_ROUTE_NOT_DIRECT);
 
@@ -112,7 +142,7 @@ public class HubRouteService {
 
     public PageResponse<HubRouteResponse> getAllHubRoutes(int page, int size) {
         Pageable pageable = PageRequest.of(page, size);
-        Page<HubRoute> routes = hubRouteRepository.findByDeletedFalse(pageable);
+        Page<HubRoute> routes = hubRouteRepository.findDirectRoutes(pageable);
 
         List<UUID> hubIds = routes.stream()
                 .flatMap(route -> Stream.of(route.getFromHubId(), route.getToHubId()))
@@ -130,6 +160,61 @@ public class HubRouteService {
         return PageResponse.fromPage(responsePage);
     }
 
+    /** 소요 시간 기준 경로는 경로표 없이 매번 시간 기준으로 탐색한다. */
+    public ShortestRouteResponse getShortestRoute(UUID fromHubId, UUID toHubId, RouteObjective objective) {
+        if (objective == RouteObjective.DISTANCE) return getShortestRoute(fromHubId, toHubId);
+
+        ShortestRouteResponse cached = hubRouteCacheService.getShortestRoute(fromHubId, toHubId, objective);
+        if (cached != null) return cached;
+
+        return routeSingleFlight.execute(singleFlightKey(objective.name(), fromHubId, toHubId),
+                () -> hubRouteCacheService.getShortestRoute(fromHubId, toHubId, objective),
+                () -> computeShortestRoute(fromHubId, toHubId, objective));
+    }
+
+    private ShortestRouteResponse computeShortestRoute(UUID fromHubId, UUID toHubId, RouteObjective objective) {
+        long generation = hubRouteCacheService.currentGeneration(objective);
+        DijkstraResult result = dijkstraService.findShortestPath(hubGraphService.current(), fromHubId, toHubId, objective);
+        ShortestRouteResponse response = toShortestRouteResponse(fromHubId, toHubId, result,
+                hubService.getHubsBulk(hubIdsOf(fromHubId, toHubId, List.of(result))));
+
+        hubRouteCacheService.saveShortestRouteCache(generation, response, objective);
+        return response;
+    }
+
+    /** 거리와 소요 시간 중 어느 쪽으로도 다른 경로보다 나쁘지 않은 경로 전체 (거리 오름차순) */
+    public List<ShortestRouteResponse> getParetoRoutes(UUID fromHubId, UUID toHubId) {
+        List<ShortestRouteResponse> cached = hubRouteCacheService.getParetoRoutes(fromHubId, toHubId);
+        if (cached != null) return cached;
+
+        return routeSingleFlight.execute(singleFlightKey("pareto", fromHubId, toHubId),
+                () -> hubRouteCacheService.getParetoRoutes(fromHubId, toHubId),
+                () -> computeParetoRoutes(fromHubId, toHubId));
+    }
+
+    private List<ShortestRouteResponse> computeParetoRoutes(UUID fromHubId, UUID toHubId) {
+        long generation = hubRouteCacheService.currentParetoGeneration();
+        List<DijkstraResult> results = paretoRouteService.findParetoPaths(hubGraphService.current(), fromHubId, toHubId);
+        Map<UUID, HubResponse> hubMap = hubService.getHubsBulk(hubIdsOf(fromHubId, toHubId, results));
+        List<ShortestRouteResponse> responses = results.stream()
+                .map(result -> toShortestRouteResponse(fromHubId, toHubId, result, hubMap))
+                .toList();
+
+        hubRouteCacheService.saveParetoRoutesCache(generation, fromHubId, toHubId, responses);
+        return responses;
+    }
+
+    private static String singleFlightKey(String criteria, UUID fromHubId, UUID toHubId) {
+        return criteria.toLowerCase() + ":" + fromHubId + ":" + toHubId;
+    }
+
+    private List<UUID> hubIdsOf(UUID fromHubId, UUID toHubId, List<DijkstraResult> results) {
+        return Stream.concat(
+                Stream.of(fromHubId, toHubId),
+                results.stream().flatMap(result -> result.pathNodes().stream())
+        ).distinct().toList();
+    }
+
     public ShortestRouteResponse getShortestRoute(UUID fromHubId, UUID toHubId) {
         ShortestRouteResponse cached = hubRouteCacheService.getShortestRoute(fromHubId, toHubId);
         if (cached != null) return cached;
@@ -141,16 +226,93 @@ public class HubRouteService {
             return ShortestRouteResponse.fromDirect(direct, fromHub, toHub);
         }
 
-        Map<UUID, List<HubEdge>> graph = hubRouteCacheService.getGraph();
-        DijkstraResult result = dijkstraService.findShortestPath(graph, fromHubId, toHubId);
+        // 중계 캐시가 막 무효화됐을 때 같은 쌍의 요청이 몰려도 탐색은 한 번만 한다.
+        return routeSingleFlight.execute(singleFlightKey(RouteObjective.DISTANCE.name(), fromHubId, toHubId),
+                () -> hubRouteCacheService.getShortestRoute(fromHubId, toHubId),
+                () -> computeShortestRoute(fromHubId, toHubId));
+    }
+
+    private ShortestRouteResponse computeShortestRoute(UUID fromHubId, UUID toHubId) {
+        long generation = hubRouteCacheService.currentGeneration(RouteObjective.DISTANCE);
+        HubGraph graph = hubGraphService.current();
+        DijkstraResult result = hubRouteTableService.findShortestPath(graph, fromHubId, toHubId);
+        Map<UUID, HubResponse> hubMap = hubService.getHubsBulk(hubIdsOf(fromHubId, toHubId, List.of(result)));
+        ShortestRouteResponse response = toShortestRouteResponse(fromHubId, toHubId, result, hubMap);
+
+        hubGraphService.saveShortestRouteCaches(generation, graph, List.of(response));
+        relayRouteService.saveAfterCommit(graph, Map.of(new RoutePair(fromHubId, toHubId), result));
+
+        return response;
+    }
+
+    /**
+     * 여러 (출발, 도착) 쌍의 최단 경로를 한 번에 조회한다.
+     * 캐시에 없는 쌍은 출발 허브별로 묶어 한 번씩만 탐색하고, 경로를 찾을 수 없는 쌍은 결과에서 제외한다.
+     * 출발 또는 도착 허브가 빠진 쌍이 하나라도 있으면 요청 전체를 거절한다.
+     */
+    public List<ShortestRouteResponse> getShortestRoutes(List<RoutePair> pairs) {
+        if (pairs == null || pairs.isEmpty()) throw new CustomException(ErrorCode.HUB_INVALID_REQUEST);
+        if (pairs.size() > maxBatchPairs) throw new CustomException(ErrorCode.HUB_ROUTE_BATCH_TOO_LARGE);
+        if (pairs.stream().anyMatch(pair -> pair == null || pair.fromHubId() == null || pair.toHubId() == null)) {
+            throw new CustomException(ErrorCode.HUB_INVALID_REQUEST);
+        }
+
+        List<RoutePair> requested = pairs.stream()
+                .filter(pair -> !pair.fromHubId().equals(pair.toHubId()))
+                .distinct()
+                .toList();
+
+        Map<RoutePair, ShortestRouteResponse> responses = new HashMap<>(hubRouteCacheService.getShortestRoutes(requested));
+        List<RoutePair> misses = requested.stream()
+                .filter(pair -> !responses.containsKey(pair))
+                .toList();
+        Map<RoutePair, HubRoute> directs = hubRouteCacheService.getDirectRoutes(misses);
+
+        long generation = hubRouteCacheService.currentGeneration(RouteObjective.DISTANCE);
+        HubGraph graph = hubGraphService.current();
+        Map<RoutePair, DijkstraResult> results = new HashMap<>();
+        misses.stream()
+                .filter(pair -> !directs.containsKey(pair))
+                .collect(Collectors.groupingBy(RoutePair::fromHubId, LinkedHashMap::new,
+                        Collectors.mapping(RoutePair::toHubId, Collectors.toList())))
+                .forEach((fromHubId, toHubIds) ->
+                        hubRouteTableService.findShortestPaths(graph, fromHubId, toHubIds)
+                                .forEach((toHubId, result) -> results.put(new RoutePair(fromHubId, toHubId), result)));
 
         List<UUID> allHubIds = Stream.concat(
-                Stream.of(fromHubId, toHubId),
-                result.pathNodes().stream()
+                Stream.concat(directs.keySet().stream(), results.keySet().stream())
+                        .flatMap(pair -> Stream.of(pair.fromHubId(), pair.toHubId())),
+                results.values().stream().flatMap(result -> result.pathNodes().stream())
         ).distinct().toList();
+        if (allHubIds.isEmpty()) return collectInOrder(requested, responses);
 
         Map<UUID, HubResponse> hubMap = hubService.getHubsBulk(allHubIds);
 
+        directs.forEach((pair, direct) -> responses.put(pair, ShortestRouteResponse.fromDirect(
+                direct, hubMap.get(pair.fromHubId()), hubMap.get(pair.toHubId()))));
+
+        List<ShortestRouteResponse> computed = new ArrayList<>(results.size());
+        results.forEach((pair, result) -> {
+            ShortestRouteResponse response = toShortestRouteResponse(pair.fromHubId(), pair.toHubId(), result, hubMap);
+            responses.put(pair, response);
+            computed.add(response);
+        });
+        hubGraphService.saveShortestRouteCaches(generation, graph, computed);
+        relayRouteService.saveAfterCommit(graph, results);
+
+        return collectInOrder(requested, responses);
+    }
+
+    private List<ShortestRouteResponse> collectInOrder(List<RoutePair> pairs,
+            Map<RoutePair, ShortestRouteResponse> responses) {
+        return pairs.stream()
+                .map(responses::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    private ShortestRouteResponse toShortestRouteResponse(UUID fromHubId, UUID toHubId, DijkstraResult result,
+            Map<UUID, HubResponse> hubMap) {
         HubResponse fromHub = hubMap.get(fromHubId);
         HubResponse toHub = hubMap.get(toHubId);
 
@@ -163,10 +325,6 @@ public class HubRouteService {
                 .map(RouteEdgeResponse::from)
                 .toList();
 
-        ShortestRouteResponse response = ShortestRouteResponse.fromResult(result, fromHub, toHub, pathNodes, routeEdges);
-
-        hubRouteCacheService.saveShortestRouteCache(response);
-
-        return response;
+        return ShortestRouteResponse.fromResult(result, fromHub, toHub, pathNodes, routeEdges);
     }
 }
@@ -0,0 +1,203 @@
+package com.oneforlogis.hub.application.service;
+
+import com.oneforlogis.common.exception.CustomException;
+import com.oneforlogis.common.exception.ErrorCode;
+import com.oneforlogis.hub.application.dto.DijkstraResult;
+import com.oneforlogis.hub.application.dto.RoutePair;
+import com.oneforlogis.hub.application.graph.HubGraph;
+import com.oneforlogis.hub.application.graph.HubGraphDiff;
+import com.oneforlogis.hub.application.graph.HubRouteTable;
+import com.oneforlogis.hub.application.graph.SearchScratch;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * 허브 전체 쌍 최단 경로표를 관리한다.
+ * 허브 수가 max-nodes 를 넘으면 표를 만들지 않고 요청마다 hub.routing.algorithm 방식으로 계산한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class HubRouteTableService {
+
+    private final DijkstraService dijkstraService;
+    private final RouteHeuristicService routeHeuristicService;
+
+    @Value("${hub.routing.table.max-nodes:1024}")
+    private int maxNodes;
+
+    private volatile HubRouteTable table;
+
+    public DijkstraResult findShortestPath(HubGraph graph, UUID fromHubId, UUID toHubId) {
+        HubRouteTable current = table;
+        if (current == null || current.graph() != graph) {
+            return dijkstraService.findShortestPath(graph, fromHubId, toHubId, routeHeuristicService.heuristicFor(graph));
+        }
+
+        int source = graph.indexOf(fromHubId);
+        int target = graph.indexOf(toHubId);
+        DijkstraResult result = source < 0 || target < 0 ? null : current.route(source, target);
+        if (result == null) throw new CustomException(ErrorCode.HUB_ROUTE_PATH_NOT_FOUND);
+        return result;
+    }
+
+    /** fromHubId 에서 여러 도착지까지의 경로. 도달할 수 없는 도착지는 결과에서 빠진다. */
+    public Map<UUID, DijkstraResult> findShortestPaths(HubGraph graph, UUID fromHubId, Collection<UUID> toHubIds) {
+        HubRouteTable current = table;
+        if (current == null || current.graph() != graph) {
+            return dijkstraService.findShortestPaths(graph, fromHubId, toHubIds);
+        }
+
+        int source = graph.indexOf(fromHubId);
+        if (source < 0) return Map.of();
+        Map<UUID, DijkstraResult> results = new HashMap<>();
+        for (UUID toHubId : toHubIds) {
+            int target = graph.indexOf(toHubId);
+            DijkstraResult result = target < 0 ? null : current.route(source, target);
+            if (result != null) results.put(toHubId, result);
+        }
+        return results;
+    }
+
+    public void rebuild(HubGraph graph) {
+        if (graph.nodeCount() > maxNodes) {
+            table = null;
+            log.info("허브 수({})가 경로표 한도({})를 넘어 경로표를 사용하지 않습니다.", graph.nodeCount(), maxNodes);
+            routeHeuristicService.prepare(graph);
+            return;
+        }
+
+        HubRouteTable rebuilt = new HubRouteTable(graph);
+        IntStream.range(0, graph.nodeCount()).parallel()
+                .forEach(source -> rebuilt.fillRow(source, dijkstraService.searchAll(graph, source)));
+        table = rebuilt;
+        log.info("허브 경로표 전체 계산 완료 version={}, nodes={}", graph.version(), graph.nodeCount());
+    }
+
+    /**
+     * 새 스냅샷에 맞춰 영향받은 행만 다시 계산한다.
+     * 최단 거리/시간/경로가 바뀐 (출발, 도착) 쌍을 반환하며, 바뀐 범위를 알 수 없으면 null 을 반환한다.
+     */
+    public List<RoutePair> repair(HubGraph previousGraph, HubGraph graph) {
+        HubRouteTable previous = table;
+        if (previous == null || previous.graph() != previousGraph
+                || !HubGraphDiff.sharesIndexing(previousGraph, graph)) {
+            rebuild(graph);
+            return null;
+        }
+        if (graph.nodeCount() > maxNodes) {
+            rebuild(graph);
+            return null;
+        }
+
+        HubGraphDiff diff = HubGraphDiff.between(previousGraph, graph);
+        HubRouteTable repaired = new HubRouteTable(graph);
+        boolean[] affected = findAffectedRows(previous, graph, diff);
+
+        IntStream.range(0, graph.nodeCount()).parallel().forEach(source -> {
+            if (affected[source]) {
+                repaired.fillRow(source, dijkstraService.searchAll(graph, source));
+            } else {
+                repaired.copyRow(previous, source, diff);
+            }
+        });
+
+        List<RoutePair> changedPairs = new ArrayList<>();
+        int previousNodeCount = previousGraph.nodeCount();
+        int affectedRows = 0;
+        for (int source = 0; source < previousNodeCount; source++) {
+            if (!affected[source]) continue;
+            affectedRows++;
+            collectChangedPairs(previous, repaired, diff, source, changedPairs);
+        }
+
+        table = repaired;
+        log.info("허브 경로표 부분 갱신 version={}, 재계산 행={}/{}, 변경 경로={}",
+                graph.version(), affectedRows + (graph.nodeCount() - previousNodeCount), graph.nodeCount(),
+                changedPairs.size());
+        return changedPairs;
+    }
+
+    private boolean[] findAffectedRows(HubRouteTable previous, HubGraph graph, HubGraphDiff diff) {
+        HubGraph previousGraph = previous.graph();
+        int[] removedEdges = diff.removedEdges();
+        int[] addedEdges = diff.addedEdges();
+        boolean[] affected = new boolean[graph.nodeCount()];
+
+        for (int source = 0; source < graph.nodeCount(); source++) {
+            if (source >= previousGraph.nodeCount()) {
+                affected[source] = true;
+                continue;
+            }
+            for (int edge : removedEdges) {
+                if (previous.usesEdge(source, edge)) {
+                    affected[source] = true;
+                    break;
+                }
+            }
+            if (affected[source]) continue;
+            for (int edge : addedEdges) {
+                if (previous.couldImprove(source, graph.source(edge), graph.target(edge), graph.distance(edge))) {
+                    affected[source] = true;
+                    break;
+                }
+            }
+        }
+        return affected;
+    }
+
+    // 도착지의 거리/시간/직전 간선이 바뀌었거나, 새 경로 트리에서 조상 중 하나가 바뀌었으면 변경된 경로로 본다.
+    private void collectChangedPairs(HubRouteTable previous, HubRouteTable repaired, HubGraphDiff diff,
+            int source, List<RoutePair> changedPairs) {
+        HubGraph graph = repaired.graph();
+        int nodeCount = graph.nodeCount();
+        int previousNodeCount = previous.graph().nodeCount();
+        byte[] state = new byte[nodeCount]; // 0: 미확인, 1: 변경, 2: 동일
+
+        for (int target = 0; target < nodeCount; target++) {
+            if (target == source) continue;
+            if (!isPathChanged(previous, repaired, diff, source, target, previousNodeCount, state)) continue;
+            if (repaired.distance(source, target) == SearchScratch.UNREACHED
+                    && (target >= previousNodeCount || previous.distance(source, target) == SearchScratch.UNREACHED)) continue;
+            changedPairs.add(new RoutePair(graph.hubId(source), graph.hubId(target)));
+        }
+    }
+
+    private boolean isPathChanged(HubRouteTable previous, HubRouteTable repaired, HubGraphDiff diff,
+            int source, int target, int previousNodeCount, byte[] state) {
+        HubGraph graph = repaired.graph();
+        List<Integer> chain = new ArrayList<>();
+        int node = target;
+        boolean changed = false;
+        while (node != source) {
+            if (state[node] != 0) {
+                changed = state[node] == 1;
+                break;
+            }
+            chain.add(node);
+            if (node >= previousNodeCount
+                    || previous.distance(source, node) != repaired.distance(source, node)
+                    || previous.time(source, node) != repaired.time(source, node)
+                    || diff.translate(previous.previousEdge(source, node)) != repaired.previousEdge(source, node)) {
+                changed = true;
+                break;
+            }
+            int edge = repaired.previousEdge(source, node);
+            if (edge < 0) break;
+            node = graph.source(edge);
+        }
+        for (int visited : chain) {
+            state[visited] = (byte) (changed ? 1 : 2);
+        }
+        return changed;
+    }
+}
@@ -6,6 +6,7 @@ import com.oneforlogis.common.exception.ErrorCode;
 import com.oneforlogis.hub.domain.model.Hub;
 import com.oneforlogis.hub.domain.repository.HubRepository;
 import com.oneforlogis.hub.infrastructure.cache.HubCacheService;
+import com.oneforlogis.hub.infrastructure.messaging.HubEventPublisher;
 import com.oneforlogis.hub.presentation.request.HubRequest;
 import com.oneforlogis.hub.presentation.response.HubResponse;
 import java.util.List;
@@ -25,6 +26,8 @@ public class HubService {
 
     private final HubRepository hubRepository;
     private final HubCacheService hubCacheService;
+    private final HubGraphService hubGraphService;
+    private final HubEventPublisher hubEventPublisher;
 
     @Transactional
     public HubResponse createHub(HubRequest request) {
@@ -32,6 +35,7 @@ public class HubService {
         hubRepository.save(hub);
         HubResponse response = HubResponse.from(hub);
         hubCacheService.saveHubCache(response);
+        hubEventPublisher.publishHubChanged(hub);
         return response;
     }
 
@@ -45,6 +49,9 @@ public class HubService {
         hubRepository.flush();
         HubResponse response = HubResponse.from(hub);
         hubCacheService.saveHubCache(response);
+        hubEventPublisher.publishHubChanged(hub);
+        // 좌표가 바뀌면 A* 휴리스틱도 다시 만들어야 한다.
+        hubGraphService.applyRouteChangesAfterCommit();
         return response;
     }
 
@@ -55,6 +62,7 @@ public class HubService {
         if (hub.isDeleted()) throw new CustomException(ErrorCode.HUB_DELETED);
         hub.markAsDeleted(userName);
         hubCacheService.deleteHubCache(hubId);
+        hubEventPublisher.publishHubDeleted(hubId);
     }
 
     @Transactional
@@ -0,0 +1,120 @@
+package com.oneforlogis.hub.application.service;
+
+import com.oneforlogis.common.exception.CustomException;
+import com.oneforlogis.common.exception.ErrorCode;
+import com.oneforlogis.hub.application.dto.DijkstraResult;
+import com.oneforlogis.hub.application.dto.HubEdge;
+import com.oneforlogis.hub.application.graph.HubGraph;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * (거리, 시간) 두 기준에 대한 파레토 최적 경로 탐색 (label-setting).
+ * 라벨을 (거리, 시간) 사전순으로 꺼내므로 노드별로 이미 확정된 라벨의 최소 시간보다
+ * 시간이 작아야만 지배되지 않는다. 도착지의 최소 시간으로 나머지 라벨도 함께 가지친다.
+ */
+@Slf4j
+@Service
+public class ParetoRouteService {
+
+    @Value("${hub.routing.pareto.max-labels:200000}")
+    private int maxLabels;
+
+    /** 거리 오름차순(시간 내림차순)으로 정렬된 파레토 최적 경로 목록. 라벨 한도를 넘으면 일부 결과 대신 예외를 던진다. */
+    public List<DijkstraResult> findParetoPaths(HubGraph graph, UUID startHub, UUID targetHub) {
+        int start = graph.indexOf(startHub);
+        int target = graph.indexOf(targetHub);
+        if (start < 0 || target < 0 || start == target) throw new CustomException(ErrorCode.HUB_ROUTE_PATH_NOT_FOUND);
+
+        Labels labels = new Labels();
+        int[] bestTime = new int[graph.nodeCount()];
+        Arrays.fill(bestTime, Integer.MAX_VALUE);
+        List<Integer> targetLabels = new ArrayList<>();
+
+        PriorityQueue<Integer> queue = new PriorityQueue<>((a, b) -> {
+            int byDistance = Long.compare(labels.distance[a], labels.distance[b]);
+            return byDistance != 0 ? byDistance : Integer.compare(labels.time[a], labels.time[b]);
+        });
+        queue.add(labels.add(start, 0L, 0, -1, -1));
+
+        while (!queue.isEmpty()) {
+            int label = queue.poll();
+            int node = labels.node[label];
+            int time = labels.time[label];
+            if (time >= bestTime[node] || time >= bestTime[target]) continue;
+            bestTime[node] = time;
+
+            if (node == target) {
+                targetLabels.add(label);
+                continue;
+            }
+
+            for (int edge = graph.edgeStart(node); edge < graph.edgeEnd(node); edge++) {
+                int neighbor = graph.target(edge);
+                int newTime = time + graph.minutes(edge);
+                if (newTime >= bestTime[neighbor] || newTime >= bestTime[target]) continue;
+                if (labels.size >= maxLabels) {
+                    // 일부만 찾은 목록은 지배되는 경로가 섞이거나 빠진 경로가 있을 수 있어 반환, 캐시하지 않는다.
+                    log.warn("파레토 탐색 라벨 한도({}) 도달, 탐색 중단 start={}, target={}, found={}",
+                            maxLabels, startHub, targetHub, targetLabels.size());
+                    throw new CustomException(ErrorCode.HUB_ROUTE_SEARCH_LIMIT_EXCEEDED);
+                }
+                queue.add(labels.add(neighbor, labels.distance[label] + graph.distance(edge), newTime, edge, label));
+            }
+        }
+
+        if (targetLabels.isEmpty()) throw new CustomException(ErrorCode.HUB_ROUTE_PATH_NOT_FOUND);
+        return toResults(graph, labels, targetLabels);
+    }
+
+    private List<DijkstraResult> toResults(HubGraph graph, Labels labels, List<Integer> targetLabels) {
+        List<DijkstraResult> results = new ArrayList<>(targetLabels.size());
+        for (int targetLabel : targetLabels) {
+            List<UUID> path = new ArrayList<>();
+            List<HubEdge> edges = new ArrayList<>();
+            for (int label = targetLabel; labels.edge[label] >= 0; label = labels.parent[label]) {
+                path.add(graph.hubId(labels.node[label]));
+                edges.add(graph.toHubEdge(labels.edge[label]));
+            }
+            Collections.reverse(path);
+            Collections.reverse(edges);
+            results.add(new DijkstraResult(HubGraph.toDistance(labels.distance[targetLabel]), labels.time[targetLabel],
+                    path, edges));
+        }
+        return results;
+    }
+
+    // 라벨 풀. 라벨마다 객체를 만들지 않고 병렬 배열에 쌓는다.
+    private static final class Labels {
+        int size;
+        int[] node = new int[64];
+        long[] distance = new long[64];
+        int[] time = new int[64];
+        int[] edge = new int[64];
+        int[] parent = new int[64];
+
+        int add(int node, long distance, int time, int edge, int parent) {
+            if (size == this.node.length) {
+                int capacity = size * 2;
+                this.node = Arrays.copyOf(this.node, capacity);
+                this.distance = Arrays.copyOf(this.distance, capacity);
+                this.time = Arrays.copyOf(this.time, capacity);
+                this.edge = Arrays.copyOf(this.edge, capacity);
+                this.parent = Arrays.copyOf(this.parent, capacity);
+            }
+            this.node[size] = node;
+            this.distance[size] = distance;
+            this.time[size] = time;
+            this.edge[size] = edge;
+            this.parent[size] = parent;
+            return size++;
+        }
+    }
+}
@@ -0,0 +1,182 @@
+package com.oneforlogis.hub.application.service;
+
+import com.oneforlogis.hub.application.dto.DijkstraResult;
+import com.oneforlogis.hub.application.dto.HubEdge;
+import com.oneforlogis.hub.application.dto.RoutePair;
+import com.oneforlogis.hub.application.graph.HubGraph;
+import com.oneforlogis.hub.application.graph.RouteObjective;
+import com.oneforlogis.hub.domain.model.HubRoute;
+import com.oneforlogis.hub.domain.model.RouteType;
+import com.oneforlogis.hub.domain.repository.HubRouteRepository;
+import com.oneforlogis.hub.infrastructure.cache.HubRouteCacheService;
+import com.oneforlogis.hub.presentation.response.HubResponse;
+import com.oneforlogis.hub.presentation.response.HubSimpleResponse;
+import com.oneforlogis.hub.presentation.response.RouteEdgeResponse;
+import com.oneforlogis.hub.presentation.response.ShortestRouteResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Stream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 계산한 중계 경로(RELAY)를 p_hub_route 에 저장하고, 기동 시 Redis 최단 경로 캐시를 미리 채운다.
+ * RELAY 행은 직통 경로가 바뀌는 트랜잭션 안에서 함께 삭제된다. 다만 이전 그래프로 계산한 저장이 삭제 뒤에 커밋될 수 있어서,
+ * 행마다 계산에 쓴 그래프 지문을 남기고 예열은 현재 그래프 지문과 같은 행만 읽는다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RelayRouteService {
+
+    private static final int WARM_UP_CHUNK_SIZE = 1000;
+
+    private final HubRouteRepository hubRouteRepository;
+    private final HubRouteCacheService hubRouteCacheService;
+    private final HubGraphService hubGraphService;
+    private final HubService hubService;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${hub.routing.relay.persist:true}")
+    private boolean persist;
+
+    /** 직통 경로 변경과 같은 트랜잭션에서 호출해야 한다. */
+    @Transactional
+    public void invalidateAll() {
+        hubRouteRepository.deleteAllByRouteType(RouteType.RELAY);
+    }
+
+    /**
+     * 조회 트랜잭션이 끝난 뒤 별도 트랜잭션으로 저장한다.
+     * 그 사이 그래프가 바뀌었으면 저장하지 않는다. 검사 뒤에 바뀌어 낡은 행이 남더라도 그래프 지문이 달라 예열에서 걸러진다.
+     */
+    public void saveAfterCommit(HubGraph graph, Map<RoutePair, DijkstraResult> results) {
+        if (!persist || results.isEmpty()) return;
+        Runnable task = () -> {
+            if (hubGraphService.current() != graph) return;
+            try {
+                // 커밋 이후 콜백에서는 원래 트랜잭션 자원이 남아 있을 수 있어 반드시 새 트랜잭션으로 실행한다.
+                TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+                transaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+                transaction.executeWithoutResult(status -> saveRelayRoutes(graph, results));
+            } catch (RuntimeException e) {
+                log.warn("중계 경로 저장 실패 count={}: {}", results.size(), e.getMessage());
+            }
+        };
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            task.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) task.run();
+            }
+        });
+    }
+
+    private void saveRelayRoutes(HubGraph graph, Map<RoutePair, DijkstraResult> results) {
+        List<HubRoute> routes = new ArrayList<>(results.size());
+        results.forEach((pair, result) -> {
+            hubRouteRepository.deleteRelayRoute(pair.fromHubId(), pair.toHubId());
+            routes.add(HubRoute.createRelayRoute(pair.fromHubId(), pair.toHubId(), result, graph.fingerprint()));
+        });
+        hubRouteRepository.saveAll(routes);
+    }
+
+    // 그래프 스냅샷을 먼저 올린 뒤(HubGraphService, order 0) 실행한다.
+    @Order(10)
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUpOnStartup() {
+        if (!persist) return;
+        try {
+            warmUp();
+        } catch (RuntimeException e) {
+            log.warn("중계 경로 캐시 예열 실패: {}", e.getMessage());
+        }
+    }
+
+    public int warmUp() {
+        long generation = hubRouteCacheService.currentGeneration(RouteObjective.DISTANCE);
+        HubGraph graph = hubGraphService.current();
+        List<HubRoute> relayRoutes = hubRouteRepository.findRelayRoutes(graph.fingerprint());
+
+        int warmed = 0;
+        for (int from = 0; from < relayRoutes.size(); from += WARM_UP_CHUNK_SIZE) {
+            List<HubRoute> chunk = relayRoutes.subList(from, Math.min(from + WARM_UP_CHUNK_SIZE, relayRoutes.size()));
+            warmed += warmUpChunk(generation, graph, chunk);
+        }
+        log.info("중계 경로 캐시 예열 완료 rows={}, warmed={}", relayRoutes.size(), warmed);
+        return warmed;
+    }
+
+    private int warmUpChunk(long generation, HubGraph graph, List<HubRoute> relayRoutes) {
+        List<HubRoute> valid = new ArrayList<>(relayRoutes.size());
+        List<List<HubEdge>> edgesByRoute = new ArrayList<>(relayRoutes.size());
+        for (HubRoute route : relayRoutes) {
+            List<HubEdge> edges = toEdges(graph, route);
+            if (edges == null) continue;
+            valid.add(route);
+            edgesByRoute.add(edges);
+        }
+        if (valid.isEmpty()) return 0;
+
+        List<UUID> hubIds = valid.stream()
+                .flatMap(route -> Stream.concat(Stream.of(route.getFromHubId()), route.decodePathNodes().stream()))
+                .distinct()
+                .toList();
+        Map<UUID, HubResponse> hubMap = hubService.getHubsBulk(hubIds);
+
+        List<ShortestRouteResponse> responses = new ArrayList<>(valid.size());
+        for (int i = 0; i < valid.size(); i++) {
+            HubRoute route = valid.get(i);
+            List<UUID> pathNodes = route.decodePathNodes();
+            DijkstraResult result = new DijkstraResult(route.getRouteDistance(), route.getRouteTime(), pathNodes,
+                    edgesByRoute.get(i));
+            responses.add(ShortestRouteResponse.fromResult(result,
+                    hubMap.get(route.getFromHubId()), hubMap.get(route.getToHubId()),
+                    pathNodes.stream().map(hubMap::get).map(HubSimpleResponse::of).toList(),
+                    result.edges().stream().map(RouteEdgeResponse::from).toList()));
+        }
+        hubGraphService.saveShortestRouteCaches(generation, graph, responses);
+        return responses.size();
+    }
+
+    // 저장된 경로를 현재 스냅샷의 간선으로 다시 이어 본다. 간선이 없거나 거리 합이 다르면 버린다.
+    private List<HubEdge> toEdges(HubGraph graph, HubRoute route) {
+        List<UUID> pathNodes;
+        try {
+            pathNodes = route.decodePathNodes();
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+        if (pathNodes.isEmpty() || !pathNodes.get(pathNodes.size() - 1).equals(route.getToHubId())) return null;
+
+        List<HubEdge> edges = new ArrayList<>(pathNodes.size());
+        int node = graph.indexOf(route.getFromHubId());
+        long total = 0L;
+        for (UUID hubId : pathNodes) {
+            int next = graph.indexOf(hubId);
+            int edge = node < 0 || next < 0 ? -1 : graph.findEdge(node, next);
+            if (edge < 0) return null;
+            total += graph.distance(edge);
+            edges.add(graph.toHubEdge(edge));
+            node = next;
+        }
+        return total == HubGraph.toFixedDistance(route.getRouteDistance()) ? edges : null;
+    }
+}
@@ -0,0 +1,111 @@
+package com.oneforlogis.hub.application.service;
+
+import com.oneforlogis.hub.application.graph.GeoHeuristic;
+import com.oneforlogis.hub.application.graph.HubGraph;
+import com.oneforlogis.hub.application.graph.LandmarkHeuristic;
+import com.oneforlogis.hub.application.graph.RouteHeuristic;
+import com.oneforlogis.hub.application.graph.RoutingAlgorithm;
+import com.oneforlogis.hub.application.graph.SearchScratch;
+import java.util.Arrays;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * hub.routing.algorithm 에 따라 스냅샷별 A* 휴리스틱을 준비한다.
+ * 준비할 수 없는 경우(좌표 누락, 빈 그래프)에는 NONE 을 돌려주어 일반 Dijkstra 로 동작한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RouteHeuristicService {
+
+    private final DijkstraService dijkstraService;
+
+    @Value("${hub.routing.algorithm:DIJKSTRA}")
+    private RoutingAlgorithm algorithm;
+
+    @Value("${hub.routing.landmarks:8}")
+    private int landmarkCount;
+
+    private volatile PreparedHeuristic prepared;
+
+    public RouteHeuristic heuristicFor(HubGraph graph) {
+        PreparedHeuristic current = prepared;
+        if (current != null && current.graph() == graph) return current.heuristic();
+        return prepare(graph);
+    }
+
+    public synchronized RouteHeuristic prepare(HubGraph graph) {
+        PreparedHeuristic current = prepared;
+        if (current != null && current.graph() == graph) return current.heuristic();
+
+        RouteHeuristic heuristic = switch (algorithm) {
+            case DIJKSTRA -> RouteHeuristic.NONE;
+            case ASTAR -> buildGeoHeuristic(graph);
+            case ALT -> buildLandmarkHeuristic(graph);
+        };
+        prepared = new PreparedHeuristic(graph, heuristic);
+        return heuristic;
+    }
+
+    private RouteHeuristic buildGeoHeuristic(HubGraph graph) {
+        GeoHeuristic heuristic = GeoHeuristic.of(graph);
+        if (heuristic == null) {
+            log.warn("좌표가 없는 허브가 있어 A* 대신 Dijkstra 로 탐색합니다. version={}", graph.version());
+            return RouteHeuristic.NONE;
+        }
+        log.info("A* 휴리스틱 준비 완료 version={}, scale={}", graph.version(), heuristic.scale());
+        return heuristic;
+    }
+
+    /** 이미 고른 랜드마크들로부터 가장 먼 노드를 다음 랜드마크로 고른다 (farthest selection). */
+    private RouteHeuristic buildLandmarkHeuristic(HubGraph graph) {
+        int nodeCount = graph.nodeCount();
+        int count = Math.min(landmarkCount, nodeCount);
+        if (count == 0) return RouteHeuristic.NONE;
+
+        HubGraph reversed = graph.reversed();
+        int[] landmarks = new int[count];
+        long[] fromLandmark = new long[count * nodeCount];
+        long[] toLandmark = new long[count * nodeCount];
+        long[] nearestLandmark = new long[nodeCount];
+        Arrays.fill(nearestLandmark, SearchScratch.UNREACHED);
+
+        int landmark = farthestFrom(graph, 0);
+        for (int l = 0; l < count; l++) {
+            landmarks[l] = landmark;
+            copyDistances(dijkstraService.searchAll(graph, landmark), fromLandmark, l * nodeCount, nodeCount);
+            copyDistances(dijkstraService.searchAll(reversed, landmark), toLandmark, l * nodeCount, nodeCount);
+
+            int next = -1;
+            for (int node = 0; node < nodeCount; node++) {
+                long distance = Math.min(fromLandmark[l * nodeCount + node], toLandmark[l * nodeCount + node]);
+                nearestLandmark[node] = Math.min(nearestLandmark[node], distance);
+                if (next < 0 || nearestLandmark[node] > nearestLandmark[next]) next = node;
+            }
+            landmark = next;
+        }
+
+        log.info("ALT 랜드마크 준비 완료 version={}, landmarks={}", graph.version(), count);
+        return new LandmarkHeuristic(nodeCount, landmarks, fromLandmark, toLandmark);
+    }
+
+    private int farthestFrom(HubGraph graph, int start) {
+        SearchScratch scratch = dijkstraService.searchAll(graph, start);
+        int farthest = start;
+        for (int node = 0; node < graph.nodeCount(); node++) {
+            if (scratch.isReached(node) && scratch.distance(node) > scratch.distance(farthest)) farthest = node;
+        }
+        return farthest;
+    }
+
+    private static void copyDistances(SearchScratch scratch, long[] into, int base, int nodeCount) {
+        for (int node = 0; node < nodeCount; node++) {
+            into[base + node] = scratch.distance(node);
+        }
+    }
+
+    private record PreparedHeuristic(HubGraph graph, RouteHeuristic heuristic) {}
+}
@@ -18,6 +18,8 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.UUID;
 
 @Entity
@@ -49,6 +51,8 @@ public class HubRoute extends BaseEntity {
     @Column(columnDefinition = "text")
     private String pathNodes;
 
+    private Long graphFingerprint; // RELAY 전용: 계산에 쓴 그래프의 HubGraph.fingerprint()
+
     @Builder
     public HubRoute(UUID fromHubId, UUID toHubId, Integer routeTime, BigDecimal routeDistance, RouteType routeType, String pathNodes) {
         this.fromHubId = fromHubId;
@@ -69,15 +73,33 @@ public class HubRoute extends BaseEntity {
                 .build();
     }
 
-    public static HubRoute createRelayRoute(UUID fromHubId, UUID toHubId, DijkstraResult result, String pathJson) {
-        return HubRoute.builder()
+    public static HubRoute createRelayRoute(UUID fromHubId, UUID toHubId, DijkstraResult result, long graphFingerprint) {
+        HubRoute route = HubRoute.builder()
                 .fromHubId(fromHubId)
                 .toHubId(toHubId)
                 .routeDistance(result.distance())
                 .routeTime(result.time())
                 .routeType(RouteType.RELAY)
-                .pathNodes(pathJson)
+                .pathNodes(PathNodesCodec.encode(result.pathNodes()))
                 .build();
+        route.graphFingerprint = graphFingerprint;
+        return route;
+    }
+
+    // 캐시 값에서 복원한다. 감사 필드까지 채워야 응답 변환이 DB 조회 결과와 같아진다.
+    public static HubRoute restore(Long id, UUID fromHubId, UUID toHubId, BigDecimal routeDistance, Integer routeTime,
+            RouteType routeType, String pathNodes, String createdBy, LocalDateTime createdAt, String updatedBy,
+            LocalDateTime updatedAt) {
+        HubRoute route = new HubRoute(id, fromHubId, toHubId, routeDistance, routeTime, routeType, pathNodes, null);
+        route.createdBy = createdBy;
+        route.createdAt = createdAt;
+        route.updatedBy = updatedBy;
+        route.updatedAt = updatedAt;
+        return route;
+    }
+
+    public List<UUID> decodePathNodes() {
+        return PathNodesCodec.decode(pathNodes);
     }
 
     public void update(HubRouteRequest request) {
@@ -0,0 +1,53 @@
+package com.oneforlogis.hub.domain.model;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * HubRoute.pathNodes 인코딩. UUID 16바이트를 이어 붙여 패딩 없는 Base64URL 로 저장한다 (허브당 약 22자).
+ * 이전에 저장된 JSON 배열 형식("[\"uuid\", ...]")도 읽을 수 있다.
+ */
+public final class PathNodesCodec {
+
+    private static final int UUID_BYTES = 16;
+
+    private PathNodesCodec() {
+    }
+
+    public static String encode(List<UUID> hubIds) {
+        if (hubIds == null || hubIds.isEmpty()) return "[]";
+        ByteBuffer buffer = ByteBuffer.allocate(hubIds.size() * UUID_BYTES);
+        for (UUID hubId : hubIds) {
+            buffer.putLong(hubId.getMostSignificantBits());
+            buffer.putLong(hubId.getLeastSignificantBits());
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(buffer.array());
+    }
+
+    public static List<UUID> decode(String raw) {
+        if (raw == null || raw.isBlank()) return List.of();
+        String value = raw.strip();
+        if (value.startsWith("[")) return decodeJson(value);
+
+        ByteBuffer buffer = ByteBuffer.wrap(Base64.getUrlDecoder().decode(value));
+        if (buffer.remaining() % UUID_BYTES != 0) throw new IllegalArgumentException("잘못된 경로 인코딩입니다.");
+        List<UUID> hubIds = new ArrayList<>(buffer.remaining() / UUID_BYTES);
+        while (buffer.hasRemaining()) {
+            hubIds.add(new UUID(buffer.getLong(), buffer.getLong()));
+        }
+        return hubIds;
+    }
+
+    private static List<UUID> decodeJson(String json) {
+        String body = json.substring(1, json.length() - 1).strip();
+        if (body.isEmpty()) return List.of();
+        List<UUID> hubIds = new ArrayList<>();
+        for (String token : body.split(",")) {
+            hubIds.add(UUID.fromString(token.strip().replace("\"", "")));
+        }
+        return hubIds;
+    }
+}
@@ -11,9 +11,13 @@ import org.springframework.data.domain.Pageable;
 public interface HubRouteRepository {
     void save(HubRoute hubRoute);
     void flush();
-    Optional<HubRoute> findById(Long id);
+    // 중계(RELAY) 행은 경로 캐시라 id 로 조회, 수정, 삭제하지 않는다
+    Optional<HubRoute> findDirectRouteById(Long id);
+    void saveAll(List<HubRoute> hubRoutes);
     void deleteAllByRouteType(RouteType routeType);
-    Optional<HubRoute> findByFromHubIdAndToHubId(UUID fromHubId, UUID toHubId);
-    Page<HubRoute> findByDeletedFalse(Pageable pageable);
+    void deleteRelayRoute(UUID fromHubId, UUID toHubId);
+    Optional<HubRoute> findDirectRoute(UUID fromHubId, UUID toHubId);
+    Page<HubRoute> findDirectRoutes(Pageable pageable);
     List<HubRoute> findByDeletedFalseAndRouteType(RouteType routeType);
+    List<HubRoute> findRelayRoutes(long graphFingerprint);
 }
@@ -0,0 +1,38 @@
+package com.oneforlogis.hub.infrastructure.cache;
+
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * hub-service 인스턴스 간 캐시 무효화 메시지 발행. 메시지는 "발행 인스턴스 id|내용" 형식이다.
+ */
+@Component
+@RequiredArgsConstructor
+public class HubCacheEventPublisher {
+
+    public static final String HUB_EVICT_CHANNEL = "hub:cache:evict";
+    public static final String GRAPH_CHANGED_CHANNEL = "hub:graph:changed";
+    public static final String ALL_HUBS = "*";
+    public static final String SEPARATOR = "|";
+
+    private final String instanceId = UUID.randomUUID().toString();
+    private final RedisTemplate<String, String> redisTemplate;
+
+    public String instanceId() {
+        return instanceId;
+    }
+
+    public void publishHubEvicted(UUID hubId) {
+        redisTemplate.convertAndSend(HUB_EVICT_CHANNEL, instanceId + SEPARATOR + hubId);
+    }
+
+    public void publishAllHubsEvicted() {
+        redisTemplate.convertAndSend(HUB_EVICT_CHANNEL, instanceId + SEPARATOR + ALL_HUBS);
+    }
+
+    public void publishGraphChanged(long version) {
+        redisTemplate.convertAndSend(GRAPH_CHANGED_CHANNEL, instanceId + SEPARATOR + version);
+    }
+}
@@ -0,0 +1,45 @@
+package com.oneforlogis.hub.infrastructure.cache;
+
+import com.oneforlogis.hub.application.service.HubGraphService;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class HubCacheEventSubscriber implements MessageListener {
+
+    private final HubCacheService hubCacheService;
+    private final HubGraphService hubGraphService;
+    private final HubCacheEventPublisher hubCacheEventPublisher;
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String channel = new String(message.getChannel(), StandardCharsets.UTF_8);
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separator = body.indexOf(HubCacheEventPublisher.SEPARATOR);
+        if (separator < 0) return;
+
+        // 자기 자신이 발행한 메시지는 이미 반영되어 있다.
+        if (body.substring(0, separator).equals(hubCacheEventPublisher.instanceId())) return;
+        String payload = body.substring(separator + 1);
+
+        try {
+            switch (channel) {
+                case HubCacheEventPublisher.HUB_EVICT_CHANNEL -> {
+                    if (HubCacheEventPublisher.ALL_HUBS.equals(payload)) hubCacheService.evictAllLocal();
+                    else hubCacheService.evictLocal(UUID.fromString(payload));
+                }
+                case HubCacheEventPublisher.GRAPH_CHANGED_CHANNEL -> hubGraphService.applyRemoteRouteChanges();
+                default -> log.debug("알 수 없는 허브 캐시 채널: {}", channel);
+            }
+        } catch (RuntimeException e) {
+            log.warn("허브 캐시 무효화 메시지 처리 실패 channel={}, payload={}: {}", channel, payload, e.getMessage());
+        }
+    }
+}
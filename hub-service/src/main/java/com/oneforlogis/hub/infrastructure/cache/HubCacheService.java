@@ -1,7 +1,9 @@
 package com.oneforlogis.hub.infrastructure.cache;
 
+import com.github.benmanes.caffeine.cache.Cache;
 import com.oneforlogis.hub.domain.model.Hub;
 import com.oneforlogis.hub.presentation.response.HubResponse;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Map;
 import lombok.RequiredArgsConstructor;
@@ -21,6 +23,9 @@ import java.time.Duration;
 public class HubCacheService {
 
     private final RedisTemplate<String, Object> redisTemplate;
+    private final Cache<UUID, HubResponse> localHubCache;
+    private final Cache<String, UUID> localHubNameCache;
+    private final HubCacheEventPublisher hubCacheEventPublisher;
     private static final String HUB_ID_KEY_PREFIX = "hub:id:";
     private static final String HUB_NAME_KEY_PREFIX = "hub:name:";
     private static final Duration HUB_CACHE_TTL = Duration.ofDays(7);
@@ -32,6 +37,11 @@ public class HubCacheService {
 
         redisTemplate.opsForValue().set(idKey, hubResponse, HUB_CACHE_TTL);
         redisTemplate.opsForValue().set(nameKey, hubResponse.id().toString(), HUB_CACHE_TTL);
+
+        evictLocal(hubResponse.id());
+        localHubCache.put(hubResponse.id(), hubResponse);
+        localHubNameCache.put(hubResponse.name(), hubResponse.id());
+        hubCacheEventPublisher.publishHubEvicted(hubResponse.id());
     }
 
     public void deleteHubCache(UUID hubId) {
@@ -41,6 +51,9 @@ public class HubCacheService {
             redisTemplate.delete(HUB_NAME_KEY_PREFIX + encodedName);
         }
         redisTemplate.delete(HUB_ID_KEY_PREFIX + hubId);
+
+        evictLocal(hubId);
+        hubCacheEventPublisher.publishHubEvicted(hubId);
     }
 
     public void refreshHubListCache(List<Hub> hubs) {
@@ -50,41 +63,77 @@ public class HubCacheService {
                 String nameKey = HUB_NAME_KEY_PREFIX + URLEncoder.encode(hub.getName(), StandardCharsets.UTF_8);
                 byte[] idKeyBytes = redisTemplate.getStringSerializer().serialize(idKey);
                 byte[] nameKeyBytes = redisTemplate.getStringSerializer().serialize(nameKey);
-                byte[] valueBytes = ((RedisSerializer<Object>) redisTemplate.getValueSerializer())
-                        .serialize(HubResponse.from(hub));
+                RedisSerializer<Object> valueSerializer = (RedisSerializer<Object>) redisTemplate.getValueSerializer();
+                byte[] valueBytes = valueSerializer.serialize(HubResponse.from(hub));
+                byte[] hubIdBytes = valueSerializer.serialize(hub.getId().toString());
 
                 connection.stringCommands().setEx(idKeyBytes, HUB_CACHE_TTL.getSeconds(), valueBytes);
-                connection.stringCommands().setEx(nameKeyBytes, HUB_CACHE_TTL.getSeconds(), valueBytes);
+                connection.stringCommands().setEx(nameKeyBytes, HUB_CACHE_TTL.getSeconds(), hubIdBytes);
             }
             return null;
         });
+
+        evictAllLocal();
+        hubCacheEventPublisher.publishAllHubsEvicted();
     }
 
     public HubResponse getHubCache(UUID hubId) {
-        return (HubResponse) redisTemplate.opsForValue().get(HUB_ID_KEY_PREFIX + hubId);
+        HubResponse local = localHubCache.getIfPresent(hubId);
+        if (local != null) return local;
+
+        HubResponse cached = (HubResponse) redisTemplate.opsForValue().get(HUB_ID_KEY_PREFIX + hubId);
+        if (cached != null) localHubCache.put(hubId, cached);
+        return cached;
     }
 
     public HubResponse getHubCacheByName(String name) {
+        UUID localId = localHubNameCache.getIfPresent(name);
+        if (localId != null) {
+            HubResponse local = getHubCache(localId);
+            if (local != null) return local;
+        }
+
         String encodedName = URLEncoder.encode(name, StandardCharsets.UTF_8);
         String hubId = (String) redisTemplate.opsForValue().get(HUB_NAME_KEY_PREFIX + encodedName);
         if (hubId == null) return null;
-        return getHubCache(UUID.fromString(hubId));
+
+        HubResponse cached = getHubCache(UUID.fromString(hubId));
+        if (cached != null) localHubNameCache.put(name, cached.id());
+        return cached;
     }
 
     public Map<UUID, HubResponse> getHubsBulk(List<UUID> hubIds) {
-        List<String> keys = hubIds.stream()
+        Map<UUID, HubResponse> result = new HashMap<>(localHubCache.getAllPresent(hubIds));
+        List<UUID> missingIds = new ArrayList<>();
+        for (UUID hubId : hubIds) {
+            if (!result.containsKey(hubId)) missingIds.add(hubId);
+        }
+        if (missingIds.isEmpty()) return result;
+
+        List<String> keys = missingIds.stream()
                 .map(id -> HUB_ID_KEY_PREFIX + id)
                 .toList();
 
         List<Object> values = redisTemplate.opsForValue().multiGet(keys);
-        Map<UUID, HubResponse> result = new HashMap<>();
 
-        for (int i = 0; i < hubIds.size(); i++) {
+        for (int i = 0; i < missingIds.size(); i++) {
             Object value = values != null ? values.get(i) : null;
             if (value instanceof HubResponse hubResponse) {
-                result.put(hubIds.get(i), hubResponse);
+                result.put(missingIds.get(i), hubResponse);
+                localHubCache.put(missingIds.get(i), hubResponse);
             }
         }
         return result;
     }
-}
\ No newline at end of file
+
+    // 다른 인스턴스에서 변경된 허브를 로컬 캐시에서만 제거한다.
+    public void evictLocal(UUID hubId) {
+        localHubCache.invalidate(hubId);
+        localHubNameCache.asMap().values().removeIf(hubId::equals);
+    }
+
+    public void evictAllLocal() {
+        localHubCache.invalidateAll();
+        localHubNameCache.invalidateAll();
+    }
+}
@@ -1,23 +1,32 @@
 package com.oneforlogis.hub.infrastructure.cache;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.oneforlogis.common.exception.CustomException;
-import com.oneforlogis.common.exception.ErrorCode;
-import com.oneforlogis.hub.application.dto.HubEdge;
+import com.oneforlogis.hub.application.dto.RoutePair;
+import com.oneforlogis.hub.application.graph.RouteObjective;
 import com.oneforlogis.hub.domain.model.HubRoute;
+import com.oneforlogis.hub.infrastructure.cache.codec.GraphEdgeValue;
+import com.oneforlogis.hub.infrastructure.cache.codec.RouteCacheCodec;
 import com.oneforlogis.hub.presentation.response.ShortestRouteResponse;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.Cursor;
 import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
 import org.springframework.stereotype.Service;
 
+/**
+ * 허브 경로 캐시. 키 앞부분에 세대 번호(v{n})를 넣어서 전체 무효화는 세대 카운터 INCR 한 번으로 처리한다.
+ * 이전 세대 키는 TTL 로 만료되거나 {@link HubRouteCacheSweeper} 가 SCAN 으로 정리한다.
+ * 값은 {@link RouteCacheCodec} 으로 직렬화한 바이트이고, 세대 카운터와 키 탐색은 문자열 템플릿을 쓴다.
+ * 계산한 경로는 그래프 스냅샷을 읽기 전에 받아 둔 세대로 저장한다. 저장 시점에 세대를 다시 읽으면
+ * 이전 스냅샷으로 계산한 값이 무효화 이후의 새 세대에 들어갈 수 있다.
+ */
 @Service
 @RequiredArgsConstructor
 public class HubRouteCacheService {
@@ -25,189 +34,279 @@ public class HubRouteCacheService {
     private static final String GRAPH_KEY = "hub:graph:";
     private static final String DIRECT_ROUTE_KEY = "hub:route:";
     private static final String RELAY_ROUTE_KEY = "hub:path:";
+    private static final String CRITERIA_ROUTE_KEY = "hub:criteria:"; // 시간 기준, 파레토 경로
+    private static final String GENERATION_KEY = "hub:generation:";
+    private static final String RELAY_NAMESPACE = "path";
+    private static final String ROUTE_NAMESPACE = "route"; // 직통 경로 + 그래프
+    private static final String CRITERIA_NAMESPACE = "criteria";
+    private static final String PARETO = "pareto";
+    private static final String VERSION_FORMAT = "v%d:";
     private static final String KEY_FORMAT = "from:%s:to:%s";
+    private static final Duration ROUTE_CACHE_TTL = Duration.ofDays(7);
 
     private final RedisTemplate<String, String> redisTemplate;
-    private final ObjectMapper objectMapper;
+    private final RedisTemplate<String, byte[]> routeCacheRedisTemplate;
+    private final RouteCacheCodec routeCacheCodec;
 
     public void syncOnCreate(HubRoute route) {
-        invalidateRelayCacheOnly();
         updateGraphCache(route);
         updateDirectRouteCache(route);
     }
 
     public void syncOnUpdate(HubRoute route) {
-        invalidateRelayCacheOnly();
         updateGraphCache(route);
         updateDirectRouteCache(route);
     }
 
     public void syncOnDelete(HubRoute route) {
-        invalidateRelayCacheOnly();
         removeGraphCache(route);
         removeDirectRouteCache(route);
     }
 
-    public void invalidateRelayCacheOnly() {
-        Set<String> keys = redisTemplate.keys(RELAY_ROUTE_KEY + "*");
-        if (keys != null && !keys.isEmpty())
-            redisTemplate.delete(keys);
+    public long invalidateRelayCacheOnly() {
+        return redisTemplate.opsForValue().increment(GENERATION_KEY + RELAY_NAMESPACE);
     }
 
-    public void invalidateDirectAndGraphCache() {
-        Set<String> routeKeys = redisTemplate.keys(DIRECT_ROUTE_KEY + "*");
-        Set<String> graphKeys = redisTemplate.keys(GRAPH_KEY + "*");
-        if (routeKeys != null && !routeKeys.isEmpty()) redisTemplate.delete(routeKeys);
-        if (graphKeys != null && !graphKeys.isEmpty()) redisTemplate.delete(graphKeys);
+    public void evictShortestRoutes(List<RoutePair> pairs) {
+        evictShortestRoutes(currentGeneration(RELAY_NAMESPACE), pairs);
     }
 
-    private void updateGraphCache(HubRoute route) {
-        String key = GRAPH_KEY + route.getFromHubId();
-        Map<String, Object> edgeData = new HashMap<>();
-        edgeData.put("routeDistance", route.getRouteDistance());
-        edgeData.put("routeTime", route.getRouteTime());
+    public void evictShortestRoutes(long generation, List<RoutePair> pairs) {
+        if (pairs.isEmpty()) return;
+        List<String> keys = pairs.stream()
+                .map(pair -> relayRouteKey(generation, pair.fromHubId(), pair.toHubId()))
+                .toList();
+        redisTemplate.delete(keys);
+    }
+
+    // 경로표는 거리 기준이라 시간/파레토 경로의 변경 범위를 알 수 없으므로 경로가 바뀌면 통째로 무효화한다.
+    public long invalidateCriteriaRoutes() {
+        return redisTemplate.opsForValue().increment(GENERATION_KEY + CRITERIA_NAMESPACE);
+    }
+
+    public long invalidateDirectAndGraphCache() {
+        return redisTemplate.opsForValue().increment(GENERATION_KEY + ROUTE_NAMESPACE);
+    }
+
+    /** 현재 세대가 아닌 키를 SCAN 으로 찾아 batchSize 단위로 UNLINK 한다. 삭제한 키 수를 반환한다. */
+    public long sweepStaleGenerations(int batchSize) {
+        long routeGeneration = currentGeneration(ROUTE_NAMESPACE);
+        return sweep(RELAY_ROUTE_KEY, currentGeneration(RELAY_NAMESPACE), batchSize)
+                + sweep(DIRECT_ROUTE_KEY, routeGeneration, batchSize)
+                + sweep(GRAPH_KEY, routeGeneration, batchSize)
+                + sweep(CRITERIA_ROUTE_KEY, currentGeneration(CRITERIA_NAMESPACE), batchSize);
+    }
+
+    private long sweep(String prefix, long currentGeneration, int batchSize) {
+        ScanOptions options = ScanOptions.scanOptions().match(prefix + "*").count(batchSize).build();
+        List<String> staleKeys = new ArrayList<>(batchSize);
+        long deleted = 0;
+        try (Cursor<String> cursor = redisTemplate.scan(options)) {
+            while (cursor.hasNext()) {
+                String key = cursor.next();
+                if (generationOf(prefix, key) >= currentGeneration) continue;
+                staleKeys.add(key);
+                if (staleKeys.size() >= batchSize) deleted += unlink(staleKeys);
+            }
+        }
+        return deleted + unlink(staleKeys);
+    }
+
+    private long unlink(List<String> keys) {
+        if (keys.isEmpty()) return 0;
+        Long deleted = redisTemplate.unlink(keys);
+        keys.clear();
+        return deleted != null ? deleted : 0;
+    }
 
+    // "hub:path:v12:from:..." → 12, 세대 번호가 없는 이전 형식 키는 -1
+    private long generationOf(String prefix, String key) {
+        int start = prefix.length() + 1;
+        int end = key.indexOf(':', start);
+        if (!key.startsWith(prefix + "v") || end < 0) return -1;
         try {
-            String jsonValue = objectMapper.writeValueAsString(edgeData);
-            redisTemplate.opsForHash().put(key, route.getToHubId().toString(), jsonValue);
-        } catch (JsonProcessingException e) {
-            throw new CustomException(ErrorCode.REDIS_SERIALIZATION_FAILED);
+            return Long.parseLong(key.substring(start, end));
+        } catch (NumberFormatException e) {
+            return -1;
         }
     }
 
+    private long currentGeneration(String namespace) {
+        String value = redisTemplate.opsForValue().get(GENERATION_KEY + namespace);
+        return value != null ? Long.parseLong(value) : 0L;
+    }
+
+    private String graphKey(long generation, UUID fromHubId) {
+        return String.format(GRAPH_KEY + VERSION_FORMAT, generation) + fromHubId;
+    }
+
+    private String directRouteKey(long generation, UUID fromHubId, UUID toHubId) {
+        return String.format(DIRECT_ROUTE_KEY + VERSION_FORMAT + KEY_FORMAT, generation, fromHubId, toHubId);
+    }
+
+    private String relayRouteKey(long generation, UUID fromHubId, UUID toHubId) {
+        return String.format(RELAY_ROUTE_KEY + VERSION_FORMAT + KEY_FORMAT, generation, fromHubId, toHubId);
+    }
+
+    // "hub:criteria:v3:time:from:..:to:.." / "hub:criteria:v3:pareto:from:..:to:.."
+    private String criteriaRouteKey(long generation, String criteria, UUID fromHubId, UUID toHubId) {
+        return String.format(CRITERIA_ROUTE_KEY + VERSION_FORMAT + "%s:" + KEY_FORMAT,
+                generation, criteria.toLowerCase(), fromHubId, toHubId);
+    }
+
+    private void updateGraphCache(HubRoute route) {
+        String key = graphKey(currentGeneration(ROUTE_NAMESPACE), route.getFromHubId());
+        byte[] value = routeCacheCodec.encodeEdge(new GraphEdgeValue(route.getRouteDistance(), route.getRouteTime()));
+        routeCacheRedisTemplate.opsForHash().put(key, route.getToHubId().toString(), value);
+        routeCacheRedisTemplate.expire(key, ROUTE_CACHE_TTL);
+    }
+
     private void removeGraphCache(HubRoute route) {
-        String key = GRAPH_KEY + route.getFromHubId();
+        String key = graphKey(currentGeneration(ROUTE_NAMESPACE), route.getFromHubId());
         redisTemplate.opsForHash().delete(key, route.getToHubId().toString());
     }
 
     private void updateDirectRouteCache(HubRoute route) {
-        String key = String.format(DIRECT_ROUTE_KEY + KEY_FORMAT, route.getFromHubId(), route.getToHubId());
-        try {
-            String json = objectMapper.writeValueAsString(route);
-            redisTemplate.opsForValue().set(key, json);
-        } catch (JsonProcessingException e) {
-            throw new CustomException(ErrorCode.REDIS_SERIALIZATION_FAILED);
-        }
+        String key = directRouteKey(currentGeneration(ROUTE_NAMESPACE), route.getFromHubId(), route.getToHubId());
+        routeCacheRedisTemplate.opsForValue().set(key, routeCacheCodec.encodeRoute(route), ROUTE_CACHE_TTL);
     }
 
     private void removeDirectRouteCache(HubRoute route) {
-        String key = String.format(DIRECT_ROUTE_KEY + KEY_FORMAT, route.getFromHubId(), route.getToHubId());
+        String key = directRouteKey(currentGeneration(ROUTE_NAMESPACE), route.getFromHubId(), route.getToHubId());
         redisTemplate.delete(key);
     }
 
     public HubRoute getDirectRoute(UUID fromHubId, UUID toHubId) {
-        String key = String.format(DIRECT_ROUTE_KEY + KEY_FORMAT, fromHubId, toHubId);
-        String json = redisTemplate.opsForValue().get(key);
+        String key = directRouteKey(currentGeneration(ROUTE_NAMESPACE), fromHubId, toHubId);
+        return routeCacheCodec.decodeRoute(routeCacheRedisTemplate.opsForValue().get(key));
+    }
 
-        if (json == null) return null;
+    public ShortestRouteResponse getShortestRoute(UUID fromHubId, UUID toHubId) {
+        String key = relayRouteKey(currentGeneration(RELAY_NAMESPACE), fromHubId, toHubId);
+        return routeCacheCodec.decodeShortestRoute(routeCacheRedisTemplate.opsForValue().get(key));
+    }
 
-        try {
-            return objectMapper.readValue(json, HubRoute.class);
-        } catch (JsonProcessingException e) {
-            throw new CustomException(ErrorCode.REDIS_DESERIALIZATION_FAILED);
-        }
+    public ShortestRouteResponse getShortestRoute(UUID fromHubId, UUID toHubId, RouteObjective objective) {
+        if (objective == RouteObjective.DISTANCE) return getShortestRoute(fromHubId, toHubId);
+        String key = criteriaRouteKey(currentGeneration(CRITERIA_NAMESPACE), objective.name(), fromHubId, toHubId);
+        return routeCacheCodec.decodeShortestRoute(routeCacheRedisTemplate.opsForValue().get(key));
     }
 
-    public ShortestRouteResponse getShortestRoute(UUID fromHubId, UUID toHubId) {
-        String key = String.format(RELAY_ROUTE_KEY + KEY_FORMAT, fromHubId, toHubId);
-        String json = redisTemplate.opsForValue().get(key);
+    /** 거리 기준은 중계 경로 세대, 그 외 기준과 파레토 경로는 기준별 경로 세대 */
+    public long currentGeneration(RouteObjective objective) {
+        return currentGeneration(objective == RouteObjective.DISTANCE ? RELAY_NAMESPACE : CRITERIA_NAMESPACE);
+    }
 
-        if (json == null) return null;
+    public long currentParetoGeneration() {
+        return currentGeneration(CRITERIA_NAMESPACE);
+    }
 
-        try {
-            return objectMapper.readValue(json, ShortestRouteResponse.class);
-        } catch (JsonProcessingException e) {
-            throw new CustomException(ErrorCode.REDIS_DESERIALIZATION_FAILED);
+    public void saveShortestRouteCache(long generation, ShortestRouteResponse response, RouteObjective objective) {
+        if (objective == RouteObjective.DISTANCE) {
+            saveShortestRouteCaches(generation, List.of(response));
+            return;
         }
+        String key = criteriaRouteKey(generation, objective.name(), response.fromHub().id(), response.toHub().id());
+        routeCacheRedisTemplate.opsForValue().set(key, routeCacheCodec.encodeShortestRoute(response), ROUTE_CACHE_TTL);
+    }
+
+    public List<ShortestRouteResponse> getParetoRoutes(UUID fromHubId, UUID toHubId) {
+        String key = criteriaRouteKey(currentGeneration(CRITERIA_NAMESPACE), PARETO, fromHubId, toHubId);
+        return routeCacheCodec.decodeShortestRoutes(routeCacheRedisTemplate.opsForValue().get(key));
+    }
+
+    public void saveParetoRoutesCache(long generation, UUID fromHubId, UUID toHubId,
+            List<ShortestRouteResponse> responses) {
+        String key = criteriaRouteKey(generation, PARETO, fromHubId, toHubId);
+        routeCacheRedisTemplate.opsForValue().set(key, routeCacheCodec.encodeShortestRoutes(responses), ROUTE_CACHE_TTL);
     }
 
-    public Map<UUID, List<HubEdge>> getGraph() {
-        Map<UUID, List<HubEdge>> graph = new HashMap<>();
-        Set<String> keys = redisTemplate.keys(GRAPH_KEY + "*");
-        if (keys == null || keys.isEmpty()) return graph;
-
-        for (String key : keys) {
-            String fromHubId = key.replace(GRAPH_KEY, "");
-            Map<Object, Object> entries = redisTemplate.opsForHash().entries(key);
-
-            List<HubEdge> edges = entries.entrySet().stream()
-                .map(entry -> {
-                    UUID toHubId = UUID.fromString(entry.getKey().toString());
-                    try {
-                        HubEdge edge = objectMapper.readValue(entry.getValue().toString(), HubEdge.class);
-                        return new HubEdge(UUID.fromString(fromHubId), toHubId, edge.routeDistance(), edge.routeTime());
-                    } catch (JsonProcessingException e) {
-                        throw new CustomException(ErrorCode.REDIS_DESERIALIZATION_FAILED);
-                    }
-                })
+    public Map<RoutePair, HubRoute> getDirectRoutes(List<RoutePair> pairs) {
+        if (pairs.isEmpty()) return Map.of();
+        long generation = currentGeneration(ROUTE_NAMESPACE);
+        List<String> keys = pairs.stream()
+                .map(pair -> directRouteKey(generation, pair.fromHubId(), pair.toHubId()))
                 .toList();
+        return readAll(pairs, routeCacheRedisTemplate.opsForValue().multiGet(keys), routeCacheCodec::decodeRoute);
+    }
+
+    public Map<RoutePair, ShortestRouteResponse> getShortestRoutes(List<RoutePair> pairs) {
+        if (pairs.isEmpty()) return Map.of();
+        long generation = currentGeneration(RELAY_NAMESPACE);
+        List<String> keys = pairs.stream()
+                .map(pair -> relayRouteKey(generation, pair.fromHubId(), pair.toHubId()))
+                .toList();
+        return readAll(pairs, routeCacheRedisTemplate.opsForValue().multiGet(keys), routeCacheCodec::decodeShortestRoute);
+    }
 
-            graph.put(UUID.fromString(fromHubId), edges);
+    public void saveShortestRouteCaches(long generation, List<ShortestRouteResponse> responses) {
+        if (responses.isEmpty()) return;
+        Map<String, byte[]> batch = new HashMap<>();
+        for (ShortestRouteResponse response : responses) {
+            String key = relayRouteKey(generation, response.fromHub().id(), response.toHub().id());
+            batch.put(key, routeCacheCodec.encodeShortestRoute(response));
         }
 
-        return graph;
+        routeCacheRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            var serializer = routeCacheRedisTemplate.getStringSerializer();
+            long ttlSeconds = ROUTE_CACHE_TTL.getSeconds();
+            batch.forEach((key, value) ->
+                    connection.stringCommands().setEx(serializer.serialize(key), ttlSeconds, value)
+            );
+            return null;
+        });
     }
 
-    public void saveShortestRouteCache(ShortestRouteResponse response) {
-        String key = String.format(RELAY_ROUTE_KEY + KEY_FORMAT, response.fromHub().id(), response.toHub().id());
-        try {
-            String json = objectMapper.writeValueAsString(response);
-            redisTemplate.opsForValue().set(key, json, Duration.ofDays(7));
-        } catch (JsonProcessingException e) {
-            throw new CustomException(ErrorCode.REDIS_SERIALIZATION_FAILED);
+    private <T> Map<RoutePair, T> readAll(List<RoutePair> pairs, List<byte[]> values, Function<byte[], T> decoder) {
+        Map<RoutePair, T> result = new HashMap<>();
+        if (values == null) return result;
+        for (int i = 0; i < pairs.size(); i++) {
+            T value = decoder.apply(values.get(i));
+            if (value != null) result.put(pairs.get(i), value);
         }
+        return result;
     }
 
+    // 중계, 기준별 경로 세대는 스냅샷을 새로 만든 뒤 HubGraphService 가 올린다.
     public void refreshRouteCaches(List<HubRoute> directRoutes) {
-        invalidateRelayCacheOnly();
-        invalidateDirectAndGraphCache();
+        long generation = invalidateDirectAndGraphCache();
 
-        Map<String, String> directBatch = buildDirectRouteBatch(directRoutes);
-        Map<String, Map<String, String>> graphBatch = buildGraphBatch(directRoutes);
+        Map<String, byte[]> directBatch = buildDirectRouteBatch(generation, directRoutes);
+        Map<String, Map<String, byte[]>> graphBatch = buildGraphBatch(generation, directRoutes);
 
-        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
-            var serializer = redisTemplate.getStringSerializer();
+        routeCacheRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            var serializer = routeCacheRedisTemplate.getStringSerializer();
+            long ttlSeconds = ROUTE_CACHE_TTL.getSeconds();
             directBatch.forEach((key, value) ->
-                    connection.stringCommands().set(serializer.serialize(key), serializer.serialize(value))
-            );
-            graphBatch.forEach((key, edges) ->
-                    edges.forEach((field, value) ->
-                            connection.hashCommands().hSet(serializer.serialize(key), serializer.serialize(field), serializer.serialize(value))
-                    )
+                    connection.stringCommands().setEx(serializer.serialize(key), ttlSeconds, value)
             );
+            graphBatch.forEach((key, edges) -> {
+                edges.forEach((field, value) ->
+                        connection.hashCommands().hSet(serializer.serialize(key), serializer.serialize(field), value)
+                );
+                connection.keyCommands().expire(serializer.serialize(key), ttlSeconds);
+            });
             return null;
         });
     }
 
-    private Map<String, String> buildDirectRouteBatch(List<HubRoute> directRoutes) {
-        Map<String, String> batch = new HashMap<>();
+    private Map<String, byte[]> buildDirectRouteBatch(long generation, List<HubRoute> directRoutes) {
+        Map<String, byte[]> batch = new HashMap<>();
         for (HubRoute route : directRoutes) {
-            try {
-                String key = String.format(DIRECT_ROUTE_KEY + KEY_FORMAT, route.getFromHubId(), route.getToHubId());
-                batch.put(key, objectMapper.writeValueAsString(route));
-            } catch (JsonProcessingException e) {
-                throw new CustomException(ErrorCode.REDIS_SERIALIZATION_FAILED);
-            }
+            String key = directRouteKey(generation, route.getFromHubId(), route.getToHubId());
+            batch.put(key, routeCacheCodec.encodeRoute(route));
         }
         return batch;
     }
 
-    private Map<String, Map<String, String>> buildGraphBatch(List<HubRoute> directRoutes) {
-        Map<String, Map<String, String>> batch = new HashMap<>();
+    private Map<String, Map<String, byte[]>> buildGraphBatch(long generation, List<HubRoute> directRoutes) {
+        Map<String, Map<String, byte[]>> batch = new HashMap<>();
         for (HubRoute route : directRoutes) {
-            String graphKey = GRAPH_KEY + route.getFromHubId();
-            batch.computeIfAbsent(graphKey, k -> new HashMap<>());
-            try {
-                batch.get(graphKey).put(
-                        route.getToHubId().toString(),
-                        objectMapper.writeValueAsString(Map.of(
-                                "routeDistance", route.getRouteDistance(),
-                                "routeTime", route.getRouteTime()
-                        ))
-                );
-            } catch (JsonProcessingException e) {
-                throw new CustomException(ErrorCode.REDIS_SERIALIZATION_FAILED);
-            }
+            String graphKey = graphKey(generation, route.getFromHubId());
+            batch.computeIfAbsent(graphKey, k -> new HashMap<>()).put(
+                    route.getToHubId().toString(),
+                    routeCacheCodec.encodeEdge(new GraphEdgeValue(route.getRouteDistance(), route.getRouteTime()))
+            );
         }
         return batch;
     }
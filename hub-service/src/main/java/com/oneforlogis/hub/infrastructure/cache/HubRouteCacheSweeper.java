@@ -0,0 +1,31 @@
+package com.oneforlogis.hub.infrastructure.cache;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "hub.cache.sweeper.enabled", havingValue = "true", matchIfMissing = true)
+public class HubRouteCacheSweeper {
+
+    private final HubRouteCacheService hubRouteCacheService;
+
+    @Value("${hub.cache.sweeper.batch-size:500}")
+    private int batchSize;
+
+    @Scheduled(initialDelayString = "${hub.cache.sweeper.interval:PT10M}",
+            fixedDelayString = "${hub.cache.sweeper.interval:PT10M}")
+    public void sweepStaleGenerations() {
+        try {
+            long deleted = hubRouteCacheService.sweepStaleGenerations(batchSize);
+            if (deleted > 0) log.info("이전 세대 허브 경로 캐시 {}건 정리", deleted);
+        } catch (RuntimeException e) {
+            log.warn("허브 경로 캐시 정리 실패: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package com.oneforlogis.hub.infrastructure.cache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+/**
+ * 캐시 미스가 몰릴 때 같은 키의 경로 계산을 한 번만 실행하고 결과를 나눠 쓴다.
+ *
+ * <p>같은 인스턴스 안에서는 진행 중인 계산의 future 를 공유한다. hub.routing.single-flight.distributed-lock 을 켜면
+ * 인스턴스 간에도 짧은 Redis 락(SET NX PX)을 잡고, 락을 못 잡은 쪽은 락 TTL 동안 캐시를 확인하며 기다린다.
+ * 락은 잡은 쪽이 토큰을 확인해 캐시를 채운 뒤에 지우므로, 캐시가 비어 있는데 락이 사라졌으면 앞선 계산이 결과 없이 끝난 것으로 보고
+ * TTL 을 기다리지 않고 바로 직접 계산한다. 결과 수는 hub.route.single-flight 카운터(result 태그)로 남긴다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RouteSingleFlight {
+
+    private static final String LOCK_KEY = "hub:lock:";
+    private static final String METRIC_NAME = "hub.route.single-flight";
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+            Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final MeterRegistry meterRegistry;
+    private final ConcurrentMap<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+
+    @Value("${hub.routing.single-flight.distributed-lock:false}")
+    private boolean distributedLock;
+
+    @Value("${hub.routing.single-flight.lock-ttl:PT5S}")
+    private Duration lockTtl;
+
+    @Value("${hub.routing.single-flight.poll-interval:PT0.05S}")
+    private Duration pollInterval;
+
+    /**
+     * key 에 대해 진행 중인 계산이 있으면 그 결과를, 없으면 cacheLookup 을 한 번 더 확인한 뒤 compute 결과를 반환한다.
+     * compute 가 던진 예외는 기다리던 호출에도 그대로 전달된다.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T execute(String key, Supplier<T> cacheLookup, Supplier<T> compute) {
+        CompletableFuture<Object> future = new CompletableFuture<>();
+        CompletableFuture<Object> running = inFlight.putIfAbsent(key, future);
+        if (running != null) {
+            record("coalesced");
+            return (T) join(running);
+        }
+
+        try {
+            T result = load(key, cacheLookup, compute);
+            future.complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, future);
+        }
+    }
+
+    private <T> T load(String key, Supplier<T> cacheLookup, Supplier<T> compute) {
+        // 앞선 계산이 방금 끝나 캐시가 채워졌을 수 있다.
+        T cached = cacheLookup.get();
+        if (cached != null) {
+            record("cached");
+            return cached;
+        }
+        if (!distributedLock) return computeAndRecord(compute);
+
+        String lockKey = LOCK_KEY + key;
+        String token = UUID.randomUUID().toString();
+        if (Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(lockKey, token, lockTtl))) {
+            try {
+                return computeAndRecord(compute);
+            } finally {
+                redisTemplate.execute(RELEASE_SCRIPT, List.of(lockKey), token);
+            }
+        }
+
+        T remote = awaitRemote(key, lockKey, cacheLookup);
+        if (remote != null) {
+            record("remote");
+            return remote;
+        }
+        return compute.get();
+    }
+
+    /**
+     * 다른 인스턴스가 캐시를 채울 때까지 기다린다. 캐시를 채우지 못하고 락이 풀렸거나 TTL 이 지나면 null 을 반환한다.
+     */
+    private <T> T awaitRemote(String key, String lockKey, Supplier<T> cacheLookup) {
+        long deadline = System.nanoTime() + lockTtl.toNanos();
+        while (System.nanoTime() < deadline) {
+            try {
+                Thread.sleep(pollInterval.toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return null;
+            }
+            // 락 확인을 먼저 해야 그 사이 캐시를 채우고 락을 푼 경우를 실패로 오인하지 않는다.
+            boolean locked = Boolean.TRUE.equals(redisTemplate.hasKey(lockKey));
+            T cached = cacheLookup.get();
+            if (cached != null) return cached;
+            if (!locked) {
+                log.debug("다른 인스턴스의 경로 계산이 결과 없이 끝나 직접 계산 key={}", key);
+                record("lock-released");
+                return null;
+            }
+        }
+        log.warn("다른 인스턴스의 경로 계산을 기다리다 시간 초과 key={}", key);
+        record("lock-timeout");
+        return null;
+    }
+
+    private <T> T computeAndRecord(Supplier<T> compute) {
+        T result = compute.get();
+        record("computed");
+        return result;
+    }
+
+    private static Object join(CompletableFuture<Object> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) throw cause;
+            if (e.getCause() instanceof Error cause) throw cause;
+            throw e;
+        }
+    }
+
+    private void record(String result) {
+        meterRegistry.counter(METRIC_NAME, "result", result).increment();
+    }
+}
@@ -0,0 +1,95 @@
+package com.oneforlogis.hub.infrastructure.cache.codec;
+
+import com.oneforlogis.common.exception.CustomException;
+import com.oneforlogis.common.exception.ErrorCode;
+import com.oneforlogis.hub.application.graph.HubGraph;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.UUID;
+
+/** {@link BinaryWriter} 로 쓴 값을 읽는다. 잘린 값이면 역직렬화 예외를 던지고, 코덱이 받아서 캐시 미스로 바꾼다. */
+final class BinaryReader {
+
+    private final byte[] buffer;
+    private int position;
+
+    BinaryReader(byte[] buffer) {
+        this.buffer = buffer;
+    }
+
+    int readByte() {
+        require(1);
+        return buffer[position++] & 0xFF;
+    }
+
+    long readVarLong() {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = readByte();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) return value;
+        }
+        throw new CustomException(ErrorCode.REDIS_DESERIALIZATION_FAILED);
+    }
+
+    Long readNullableVarLong() {
+        long value = readVarLong();
+        return value == 0 ? null : value - 1;
+    }
+
+    Integer readNullableVarInt() {
+        Long value = readNullableVarLong();
+        return value == null ? null : Math.toIntExact(value);
+    }
+
+    BigDecimal readDistance() {
+        Long fixed = readNullableVarLong();
+        return fixed == null ? null : HubGraph.toDistance(fixed);
+    }
+
+    UUID readUuid() {
+        require(16);
+        return new UUID(getLong(), getLong());
+    }
+
+    String readString() {
+        long length = readVarLong();
+        if (length == 0) return null;
+        int byteCount = Math.toIntExact(length - 1);
+        require(byteCount);
+        String value = new String(buffer, position, byteCount, StandardCharsets.UTF_8);
+        position += byteCount;
+        return value;
+    }
+
+    LocalDateTime readDateTime() {
+        long seconds = readVarLong();
+        if (seconds == 0) return null;
+        return LocalDateTime.ofEpochSecond(seconds - 1, (int) readVarLong(), ZoneOffset.UTC);
+    }
+
+    // null 목록이면 -1
+    int readCount() {
+        int count = Math.toIntExact(readVarLong() - 1);
+        if (count > buffer.length - position) {
+            throw new CustomException(ErrorCode.REDIS_DESERIALIZATION_FAILED);
+        }
+        return count;
+    }
+
+    private long getLong() {
+        long value = 0;
+        for (int i = 0; i < 8; i++) {
+            value = (value << 8) | (buffer[position++] & 0xFF);
+        }
+        return value;
+    }
+
+    private void require(int count) {
+        if (count < 0 || position + count > buffer.length) {
+            throw new CustomException(ErrorCode.REDIS_DESERIALIZATION_FAILED);
+        }
+    }
+}
@@ -0,0 +1,235 @@
+package com.oneforlogis.hub.infrastructure.cache.codec;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.oneforlogis.common.exception.CustomException;
+import com.oneforlogis.common.exception.ErrorCode;
+import com.oneforlogis.hub.domain.model.HubRoute;
+import com.oneforlogis.hub.domain.model.RouteType;
+import com.oneforlogis.hub.presentation.response.HubSimpleResponse;
+import com.oneforlogis.hub.presentation.response.RouteEdgeResponse;
+import com.oneforlogis.hub.presentation.response.ShortestRouteResponse;
+import java.time.DateTimeException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 경로 캐시 바이너리 형식. 모든 값은 [형식 버전 1바이트][값 종류 1바이트] 헤더로 시작한다.
+ *
+ * <p>필드를 뒤에 덧붙이는 변경은 버전을 올리지 않는다. 읽는 쪽은 아는 필드까지만 읽고 남은 바이트는 무시한다.
+ * 기존 필드의 의미나 순서가 바뀔 때만 {@link #FORMAT_VERSION} 을 올리고 이전 버전 읽기 분기를 남겨 둔다.
+ * 첫 바이트가 '{' 또는 '[' 이면 전환 전에 저장된 JSON 값으로 보고 Jackson 으로 읽는다.
+ * 모르는 버전, 다른 종류, 잘린 값은 예외 없이 null 을 반환해 캐시 미스로 처리한다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "hub.cache.codec", havingValue = "binary", matchIfMissing = true)
+public class BinaryRouteCacheCodec implements RouteCacheCodec {
+
+    static final int FORMAT_VERSION = 1;
+
+    private static final int KIND_ROUTE = 1;
+    private static final int KIND_EDGE = 2;
+    private static final int KIND_SHORTEST_ROUTE = 3;
+    private static final int KIND_SHORTEST_ROUTES = 4;
+
+    private final JsonRouteCacheCodec legacyCodec;
+
+    public BinaryRouteCacheCodec(ObjectMapper objectMapper) {
+        this.legacyCodec = new JsonRouteCacheCodec(objectMapper);
+    }
+
+    @Override
+    public byte[] encodeRoute(HubRoute route) {
+        BinaryWriter writer = header(64, KIND_ROUTE);
+        writer.writeNullableVarLong(route.getId());
+        writer.writeUuid(route.getFromHubId());
+        writer.writeUuid(route.getToHubId());
+        writer.writeDistance(route.getRouteDistance());
+        writer.writeNullableVarInt(route.getRouteTime());
+        writeRouteType(writer, route.getRouteType());
+        writer.writeString(route.getPathNodes());
+        writer.writeString(route.getCreatedBy());
+        writer.writeDateTime(route.getCreatedAt());
+        writer.writeString(route.getUpdatedBy());
+        writer.writeDateTime(route.getUpdatedAt());
+        return writer.toByteArray();
+    }
+
+    @Override
+    public HubRoute decodeRoute(byte[] bytes) {
+        if (bytes == null) return null;
+        if (JsonRouteCacheCodec.isJson(bytes)) return legacyCodec.decodeRoute(bytes);
+        return read(bytes, KIND_ROUTE, reader -> HubRoute.restore(
+                reader.readNullableVarLong(),
+                reader.readUuid(),
+                reader.readUuid(),
+                reader.readDistance(),
+                reader.readNullableVarInt(),
+                readRouteType(reader),
+                reader.readString(),
+                reader.readString(),
+                reader.readDateTime(),
+                reader.readString(),
+                reader.readDateTime()
+        ));
+    }
+
+    @Override
+    public byte[] encodeEdge(GraphEdgeValue edge) {
+        BinaryWriter writer = header(8, KIND_EDGE);
+        writer.writeDistance(edge.routeDistance());
+        writer.writeNullableVarInt(edge.routeTime());
+        return writer.toByteArray();
+    }
+
+    @Override
+    public GraphEdgeValue decodeEdge(byte[] bytes) {
+        if (bytes == null) return null;
+        if (JsonRouteCacheCodec.isJson(bytes)) return legacyCodec.decodeEdge(bytes);
+        return read(bytes, KIND_EDGE, reader -> new GraphEdgeValue(reader.readDistance(), reader.readNullableVarInt()));
+    }
+
+    @Override
+    public byte[] encodeShortestRoute(ShortestRouteResponse response) {
+        BinaryWriter writer = header(estimateSize(response), KIND_SHORTEST_ROUTE);
+        writeShortestRoute(writer, response);
+        return writer.toByteArray();
+    }
+
+    @Override
+    public ShortestRouteResponse decodeShortestRoute(byte[] bytes) {
+        if (bytes == null) return null;
+        if (JsonRouteCacheCodec.isJson(bytes)) return legacyCodec.decodeShortestRoute(bytes);
+        return read(bytes, KIND_SHORTEST_ROUTE, BinaryRouteCacheCodec::readShortestRoute);
+    }
+
+    @Override
+    public byte[] encodeShortestRoutes(List<ShortestRouteResponse> responses) {
+        int capacity = 8;
+        for (ShortestRouteResponse response : responses) capacity += estimateSize(response);
+        BinaryWriter writer = header(capacity, KIND_SHORTEST_ROUTES);
+        writer.writeCount(responses, responses.size());
+        for (ShortestRouteResponse response : responses) writeShortestRoute(writer, response);
+        return writer.toByteArray();
+    }
+
+    @Override
+    public List<ShortestRouteResponse> decodeShortestRoutes(byte[] bytes) {
+        if (bytes == null) return null;
+        if (JsonRouteCacheCodec.isJson(bytes)) return legacyCodec.decodeShortestRoutes(bytes);
+        return read(bytes, KIND_SHORTEST_ROUTES, reader -> readList(reader, BinaryRouteCacheCodec::readShortestRoute));
+    }
+
+    private static BinaryWriter header(int capacity, int kind) {
+        BinaryWriter writer = new BinaryWriter(capacity);
+        writer.writeByte(FORMAT_VERSION);
+        writer.writeByte(kind);
+        return writer;
+    }
+
+    // 새 버전이 쓴 값, 다른 종류의 값, 잘린 값은 캐시 미스로 보고 다시 계산해서 덮어쓰게 한다.
+    private static <T> T read(byte[] bytes, int kind, Function<BinaryReader, T> body) {
+        try {
+            BinaryReader reader = new BinaryReader(bytes);
+            int version = reader.readByte();
+            int actualKind = reader.readByte();
+            if (version < 1 || version > FORMAT_VERSION || actualKind != kind) {
+                log.warn("경로 캐시 값 형식 불일치로 캐시 미스 처리: version={}, kind={}, expectedKind={}",
+                        version, actualKind, kind);
+                return null;
+            }
+            return body.apply(reader);
+        } catch (CustomException | ArithmeticException | IllegalArgumentException | DateTimeException e) {
+            log.warn("경로 캐시 값을 읽지 못해 캐시 미스 처리: kind={}, size={}", kind, bytes.length, e);
+            return null;
+        }
+    }
+
+    // 허브 이름, 주소가 대부분이라 경유 허브 수에 비례해 잡는다.
+    private static int estimateSize(ShortestRouteResponse response) {
+        int pathSize = response.pathNodes() != null ? response.pathNodes().size() : 0;
+        return 192 + pathSize * 128;
+    }
+
+    private static void writeShortestRoute(BinaryWriter writer, ShortestRouteResponse response) {
+        writer.writeNullableVarLong(response.id());
+        writeHub(writer, response.fromHub());
+        writeHub(writer, response.toHub());
+        writer.writeDistance(response.totalDistance());
+        writer.writeNullableVarInt(response.totalTime());
+        writeRouteType(writer, response.routeType());
+
+        List<HubSimpleResponse> pathNodes = response.pathNodes();
+        writer.writeCount(pathNodes, pathNodes != null ? pathNodes.size() : 0);
+        if (pathNodes != null) pathNodes.forEach(node -> writeHub(writer, node));
+
+        List<RouteEdgeResponse> routeEdges = response.routeEdges();
+        writer.writeCount(routeEdges, routeEdges != null ? routeEdges.size() : 0);
+        if (routeEdges != null) {
+            for (RouteEdgeResponse edge : routeEdges) {
+                writer.writeUuid(UUID.fromString(edge.fromHubId()));
+                writer.writeUuid(UUID.fromString(edge.toHubId()));
+                writer.writeDistance(edge.distance());
+                writer.writeNullableVarInt(edge.time());
+            }
+        }
+    }
+
+    private static ShortestRouteResponse readShortestRoute(BinaryReader reader) {
+        return new ShortestRouteResponse(
+                reader.readNullableVarLong(),
+                readHub(reader),
+                readHub(reader),
+                reader.readDistance(),
+                reader.readNullableVarInt(),
+                readRouteType(reader),
+                readList(reader, BinaryRouteCacheCodec::readHub),
+                readList(reader, edgeReader -> new RouteEdgeResponse(
+                        edgeReader.readUuid().toString(),
+                        edgeReader.readUuid().toString(),
+                        edgeReader.readDistance(),
+                        edgeReader.readNullableVarInt()
+                ))
+        );
+    }
+
+    private static void writeHub(BinaryWriter writer, HubSimpleResponse hub) {
+        writer.writeUuid(hub.id());
+        writer.writeString(hub.name());
+        writer.writeString(hub.address());
+    }
+
+    private static HubSimpleResponse readHub(BinaryReader reader) {
+        return new HubSimpleResponse(reader.readUuid(), reader.readString(), reader.readString());
+    }
+
+    private static <T> List<T> readList(BinaryReader reader, Function<BinaryReader, T> element) {
+        int count = reader.readCount();
+        if (count < 0) return null;
+        List<T> list = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) list.add(element.apply(reader));
+        return list;
+    }
+
+    // enum 순서가 바뀌어도 저장된 값이 달라지지 않도록 코드를 직접 매긴다.
+    private static void writeRouteType(BinaryWriter writer, RouteType routeType) {
+        writer.writeByte(routeType == null ? 0 : switch (routeType) {
+            case DIRECT -> 1;
+            case RELAY -> 2;
+        });
+    }
+
+    private static RouteType readRouteType(BinaryReader reader) {
+        return switch (reader.readByte()) {
+            case 0 -> null;
+            case 1 -> RouteType.DIRECT;
+            case 2 -> RouteType.RELAY;
+            default -> throw new CustomException(ErrorCode.REDIS_DESERIALIZATION_FAILED);
+        };
+    }
+}
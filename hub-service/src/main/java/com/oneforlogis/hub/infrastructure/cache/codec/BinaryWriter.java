@@ -0,0 +1,98 @@
+package com.oneforlogis.hub.infrastructure.cache.codec;
+
+import com.oneforlogis.hub.application.graph.HubGraph;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.UUID;
+
+/**
+ * 바이너리 캐시 값 작성기. 정수는 LEB128 varint, UUID 는 16바이트 고정 길이로 쓴다.
+ * null 이 올 수 있는 값은 0 을 null 로 두고 실제 값에 1 을 더해 기록한다.
+ */
+final class BinaryWriter {
+
+    private byte[] buffer;
+    private int size;
+
+    BinaryWriter(int initialCapacity) {
+        this.buffer = new byte[initialCapacity];
+    }
+
+    void writeByte(int value) {
+        ensureCapacity(1);
+        buffer[size++] = (byte) value;
+    }
+
+    void writeVarLong(long value) {
+        ensureCapacity(10);
+        while ((value & ~0x7FL) != 0) {
+            buffer[size++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        buffer[size++] = (byte) value;
+    }
+
+    void writeNullableVarLong(Long value) {
+        writeVarLong(value == null ? 0 : value + 1);
+    }
+
+    void writeNullableVarInt(Integer value) {
+        writeVarLong(value == null ? 0 : value.longValue() + 1);
+    }
+
+    // 소수 둘째 자리 고정소수점. 경로 테이블과 같은 스케일을 쓴다.
+    void writeDistance(BigDecimal distance) {
+        writeNullableVarLong(distance == null ? null : HubGraph.toFixedDistance(distance));
+    }
+
+    void writeUuid(UUID value) {
+        ensureCapacity(16);
+        putLong(value.getMostSignificantBits());
+        putLong(value.getLeastSignificantBits());
+    }
+
+    void writeString(String value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarLong(bytes.length + 1L);
+        ensureCapacity(bytes.length);
+        System.arraycopy(bytes, 0, buffer, size, bytes.length);
+        size += bytes.length;
+    }
+
+    void writeDateTime(LocalDateTime value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        writeVarLong(value.toEpochSecond(ZoneOffset.UTC) + 1);
+        writeVarLong(value.getNano());
+    }
+
+    // 목록 길이. null 목록은 0, 빈 목록은 1
+    void writeCount(Object list, int count) {
+        writeVarLong(list == null ? 0 : count + 1L);
+    }
+
+    byte[] toByteArray() {
+        return Arrays.copyOf(buffer, size);
+    }
+
+    private void putLong(long value) {
+        for (int shift = 56; shift >= 0; shift -= 8) {
+            buffer[size++] = (byte) (value >>> shift);
+        }
+    }
+
+    private void ensureCapacity(int extra) {
+        if (size + extra > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, size + extra));
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package com.oneforlogis.hub.infrastructure.cache.codec;
+
+import java.math.BigDecimal;
+
+/** 그래프 캐시(hub:graph:) 해시 필드 값. */
+public record GraphEdgeValue(
+        BigDecimal routeDistance,
+        Integer routeTime
+) {
+}
@@ -0,0 +1,90 @@
+package com.oneforlogis.hub.infrastructure.cache.codec;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.oneforlogis.common.exception.CustomException;
+import com.oneforlogis.common.exception.ErrorCode;
+import com.oneforlogis.hub.domain.model.HubRoute;
+import com.oneforlogis.hub.presentation.response.ShortestRouteResponse;
+import java.io.IOException;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/** 이전 방식의 JSON 문자열 캐시 값. 바이너리 형식 값이나 깨진 JSON 은 캐시 미스로 처리한다. */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "hub.cache.codec", havingValue = "json")
+@RequiredArgsConstructor
+public class JsonRouteCacheCodec implements RouteCacheCodec {
+
+    private static final TypeReference<List<ShortestRouteResponse>> SHORTEST_ROUTES = new TypeReference<>() {};
+
+    private final ObjectMapper objectMapper;
+
+    static boolean isJson(byte[] bytes) {
+        return bytes.length > 0 && (bytes[0] == '{' || bytes[0] == '[');
+    }
+
+    @Override
+    public byte[] encodeRoute(HubRoute route) {
+        return write(route);
+    }
+
+    @Override
+    public HubRoute decodeRoute(byte[] bytes) {
+        return read(bytes, objectMapper.constructType(HubRoute.class));
+    }
+
+    @Override
+    public byte[] encodeEdge(GraphEdgeValue edge) {
+        return write(edge);
+    }
+
+    @Override
+    public GraphEdgeValue decodeEdge(byte[] bytes) {
+        return read(bytes, objectMapper.constructType(GraphEdgeValue.class));
+    }
+
+    @Override
+    public byte[] encodeShortestRoute(ShortestRouteResponse response) {
+        return write(response);
+    }
+
+    @Override
+    public ShortestRouteResponse decodeShortestRoute(byte[] bytes) {
+        return read(bytes, objectMapper.constructType(ShortestRouteResponse.class));
+    }
+
+    @Override
+    public byte[] encodeShortestRoutes(List<ShortestRouteResponse> responses) {
+        return write(responses);
+    }
+
+    @Override
+    public List<ShortestRouteResponse> decodeShortestRoutes(byte[] bytes) {
+        return read(bytes, objectMapper.constructType(SHORTEST_ROUTES));
+    }
+
+    private byte[] write(Object value) {
+        try {
+            return objectMapper.writeValueAsBytes(value);
+        } catch (JsonProcessingException e) {
+            throw new CustomException(ErrorCode.REDIS_SERIALIZATION_FAILED);
+        }
+    }
+
+    private <T> T read(byte[] bytes, JavaType type) {
+        if (bytes == null || !isJson(bytes)) return null;
+        try {
+            return objectMapper.readValue(bytes, type);
+        } catch (IOException e) {
+            log.warn("경로 캐시 JSON 값을 읽지 못해 캐시 미스 처리: type={}", type, e);
+            return null;
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.oneforlogis.hub.infrastructure.cache.codec;
+
+import com.oneforlogis.hub.domain.model.HubRoute;
+import com.oneforlogis.hub.presentation.response.ShortestRouteResponse;
+import java.util.List;
+
+/**
+ * 경로 캐시 값 직렬화 방식. hub.cache.codec 설정(binary, json)으로 고른다.
+ * decode 는 읽을 수 없는 형식이면 null 을 반환해 캐시 미스로 처리되게 한다.
+ */
+public interface RouteCacheCodec {
+
+    byte[] encodeRoute(HubRoute route);
+
+    HubRoute decodeRoute(byte[] bytes);
+
+    byte[] encodeEdge(GraphEdgeValue edge);
+
+    GraphEdgeValue decodeEdge(byte[] bytes);
+
+    byte[] encodeShortestRoute(ShortestRouteResponse response);
+
+    ShortestRouteResponse decodeShortestRoute(byte[] bytes);
+
+    byte[] encodeShortestRoutes(List<ShortestRouteResponse> responses);
+
+    List<ShortestRouteResponse> decodeShortestRoutes(byte[] bytes);
+}
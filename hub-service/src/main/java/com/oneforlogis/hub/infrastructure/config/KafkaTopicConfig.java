@@ -0,0 +1,22 @@
+package com.oneforlogis.hub.infrastructure.config;
+
+import com.oneforlogis.common.event.HubEventTopics;
+import org.apache.kafka.clients.admin.NewTopic;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.TopicBuilder;
+
+// 키별 최신 상태만 남도록 compact 토픽으로 만든다. 컨슈머는 처음부터 읽어 전체 상태를 복원한다.
+@Configuration
+public class KafkaTopicConfig {
+
+    @Bean
+    public NewTopic hubChangedTopic() {
+        return TopicBuilder.name(HubEventTopics.HUB_CHANGED).partitions(HubEventTopics.PARTITIONS).replicas(1).compact().build();
+    }
+
+    @Bean
+    public NewTopic hubRouteChangedTopic() {
+        return TopicBuilder.name(HubEventTopics.HUB_ROUTE_CHANGED).partitions(HubEventTopics.PARTITIONS).replicas(1).compact().build();
+    }
+}
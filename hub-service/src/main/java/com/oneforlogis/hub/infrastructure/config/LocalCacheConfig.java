@@ -0,0 +1,45 @@
+package com.oneforlogis.hub.infrastructure.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.oneforlogis.hub.presentation.response.HubResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.UUID;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+// Redis(L2) 앞단의 프로세스 내 허브 캐시(L1). 다른 인스턴스의 변경은 pub/sub 으로 무효화되며, TTL 은 메시지 유실 대비용이다.
+@Configuration
+public class LocalCacheConfig {
+
+    @Value("${hub.cache.local.maximum-size:10000}")
+    private long maximumSize;
+
+    @Value("${hub.cache.local.ttl:PT5M}")
+    private Duration ttl;
+
+    @Bean
+    public Cache<UUID, HubResponse> localHubCache(MeterRegistry meterRegistry) {
+        Cache<UUID, HubResponse> cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "hub.local.id");
+        return cache;
+    }
+
+    @Bean
+    public Cache<String, UUID> localHubNameCache(MeterRegistry meterRegistry) {
+        Cache<String, UUID> cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "hub.local.name");
+        return cache;
+    }
+}
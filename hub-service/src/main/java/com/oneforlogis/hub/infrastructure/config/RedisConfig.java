@@ -1,11 +1,17 @@
 package com.oneforlogis.hub.infrastructure.config;
 
+import com.oneforlogis.hub.infrastructure.cache.HubCacheEventPublisher;
+import com.oneforlogis.hub.infrastructure.cache.HubCacheEventSubscriber;
+import java.util.List;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 
@@ -29,4 +35,31 @@ public class RedisConfig {
 
         return template;
     }
-}
\ No newline at end of file
+
+    // 경로 캐시 값은 RouteCacheCodec 이 만든 바이트를 그대로 저장한다.
+    @Bean
+    public RedisTemplate<String, byte[]> routeCacheRedisTemplate(RedisConnectionFactory connectionFactory) {
+        RedisTemplate<String, byte[]> template = new RedisTemplate<>();
+
+        template.setConnectionFactory(connectionFactory);
+        template.setKeySerializer(new StringRedisSerializer());
+        template.setValueSerializer(RedisSerializer.byteArray());
+        template.setHashKeySerializer(new StringRedisSerializer());
+        template.setHashValueSerializer(RedisSerializer.byteArray());
+        template.afterPropertiesSet();
+
+        return template;
+    }
+
+    @Bean
+    public RedisMessageListenerContainer hubCacheListenerContainer(RedisConnectionFactory connectionFactory,
+            HubCacheEventSubscriber hubCacheEventSubscriber) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(hubCacheEventSubscriber, List.of(
+                new ChannelTopic(HubCacheEventPublisher.HUB_EVICT_CHANNEL),
+                new ChannelTopic(HubCacheEventPublisher.GRAPH_CHANGED_CHANNEL)
+        ));
+        return container;
+    }
+}
@@ -0,0 +1,70 @@
+package com.oneforlogis.hub.infrastructure.messaging;
+
+import com.oneforlogis.common.event.HubChangedEvent;
+import com.oneforlogis.common.event.HubEventTopics;
+import com.oneforlogis.common.event.HubRouteChangedEvent;
+import com.oneforlogis.hub.domain.model.Hub;
+import com.oneforlogis.hub.domain.model.HubRoute;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 허브/직통 경로 변경을 compact 토픽으로 발행한다. 롤백된 변경이 나가지 않도록 커밋 이후에 보낸다.
+ * 삭제는 같은 키에 null 값(톰스톤)을 보내 compaction 때 함께 지워지게 한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class HubEventPublisher {
+
+    private final KafkaTemplate<String, Object> kafkaTemplate;
+
+    @Value("${hub.events.enabled:true}")
+    private boolean enabled;
+
+    public void publishHubChanged(Hub hub) {
+        HubChangedEvent event = new HubChangedEvent(hub.getId(), hub.getName(), hub.getAddress(),
+                hub.getLat(), hub.getLon(), hub.getUpdatedAt());
+        afterCommit(() -> send(HubEventTopics.HUB_CHANGED, hub.getId().toString(), event));
+    }
+
+    public void publishHubDeleted(UUID hubId) {
+        afterCommit(() -> send(HubEventTopics.HUB_CHANGED, hubId.toString(), null));
+    }
+
+    public void publishRouteChanged(HubRoute route) {
+        HubRouteChangedEvent event = new HubRouteChangedEvent(route.getId(), route.getFromHubId(), route.getToHubId(),
+                route.getRouteDistance(), route.getRouteTime(), route.getUpdatedAt());
+        afterCommit(() -> send(HubEventTopics.HUB_ROUTE_CHANGED, route.getId().toString(), event));
+    }
+
+    public void publishRouteDeleted(Long routeId) {
+        afterCommit(() -> send(HubEventTopics.HUB_ROUTE_CHANGED, routeId.toString(), null));
+    }
+
+    private void send(String topic, String key, Object event) {
+        kafkaTemplate.send(topic, key, event).whenComplete((result, e) -> {
+            if (e != null) log.warn("허브 변경 이벤트 발행 실패 topic={}, key={}: {}", topic, key, e.getMessage());
+        });
+    }
+
+    private void afterCommit(Runnable task) {
+        if (!enabled) return;
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            task.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                task.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,82 @@
+package com.oneforlogis.hub.infrastructure.persistence;
+
+import com.oneforlogis.hub.domain.model.RouteType;
+import com.oneforlogis.hub.presentation.response.HubExportResponse;
+import com.oneforlogis.hub.presentation.response.HubRouteExportResponse;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Consumer;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 허브/경로 내보내기용 조회. 엔티티나 페이지를 만들지 않고 전진 전용 커서에서 fetchSize 만큼씩 읽어 한 행씩 넘긴다.
+ * PostgreSQL 은 트랜잭션 안(autocommit 꺼짐)에서만 커서로 읽으므로 호출하는 쪽에서 읽기 전용 트랜잭션을 열어야 한다.
+ */
+@Repository
+public class HubExportJdbcReader {
+
+    private static final String HUB_SQL = """
+            SELECT id, name, address, lat, lon, updated_at
+            FROM p_hub
+            WHERE deleted = false
+            ORDER BY name
+            """;
+    private static final String ROUTE_SQL = """
+            SELECT id, from_hub_id, to_hub_id, route_distance, route_time, route_type, updated_at
+            FROM p_hub_route
+            WHERE deleted = false
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public HubExportJdbcReader(DataSource dataSource, @Value("${hub.export.fetch-size:1000}") int fetchSize) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(fetchSize);
+    }
+
+    public void streamHubs(Consumer<HubExportResponse> consumer) {
+        jdbcTemplate.query(HUB_SQL, rs -> {
+            consumer.accept(HubExportResponse.of(
+                    rs.getObject("id", UUID.class),
+                    rs.getString("name"),
+                    rs.getString("address"),
+                    rs.getBigDecimal("lat"),
+                    rs.getBigDecimal("lon"),
+                    dateTime(rs, "updated_at")
+            ));
+        });
+    }
+
+    // routeType 이 null 이면 전체 유형
+    public void streamRoutes(RouteType routeType, Map<UUID, String> hubNames, Consumer<HubRouteExportResponse> consumer) {
+        String sql = routeType == null ? ROUTE_SQL + "ORDER BY id" : ROUTE_SQL + "AND route_type = ? ORDER BY id";
+        Object[] args = routeType == null ? new Object[0] : new Object[]{routeType.name()};
+        jdbcTemplate.query(sql, rs -> {
+            UUID fromHubId = rs.getObject("from_hub_id", UUID.class);
+            UUID toHubId = rs.getObject("to_hub_id", UUID.class);
+            consumer.accept(new HubRouteExportResponse(
+                    HubRouteExportResponse.TYPE,
+                    rs.getLong("id"),
+                    fromHubId,
+                    hubNames.get(fromHubId),
+                    toHubId,
+                    hubNames.get(toHubId),
+                    rs.getBigDecimal("route_distance"),
+                    rs.getInt("route_time"),
+                    RouteType.valueOf(rs.getString("route_type")),
+                    dateTime(rs, "updated_at")
+            ));
+        }, args);
+    }
+
+    private static String dateTime(ResultSet rs, String column) throws SQLException {
+        LocalDateTime value = rs.getObject(column, LocalDateTime.class);
+        return value != null ? value.toString() : null;
+    }
+}
@@ -8,12 +8,25 @@ import java.util.UUID;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface HubRouteJpaRepository extends JpaRepository<HubRoute, Long> {
-    void deleteAllByRouteType(RouteType routeType);
-    Optional<HubRoute> findByFromHubIdAndToHubId(UUID fromHubId, UUID toHubId);
-    Page<HubRoute> findByDeletedFalse(Pageable pageable);
+    @Modifying
+    @Query("delete from HubRoute r where r.routeType = :routeType")
+    void deleteAllByRouteType(@Param("routeType") RouteType routeType);
+
+    @Modifying
+    @Query("delete from HubRoute r where r.fromHubId = :fromHubId and r.toHubId = :toHubId and r.routeType = :routeType")
+    void deleteByFromHubIdAndToHubIdAndRouteType(@Param("fromHubId") UUID fromHubId, @Param("toHubId") UUID toHubId,
+            @Param("routeType") RouteType routeType);
+
+    Optional<HubRoute> findByFromHubIdAndToHubIdAndRouteType(UUID fromHubId, UUID toHubId, RouteType routeType);
+    Optional<HubRoute> findByIdAndRouteType(Long id, RouteType routeType);
+    Page<HubRoute> findByDeletedFalseAndRouteType(RouteType routeType, Pageable pageable);
     List<HubRoute> findByDeletedFalseAndRouteType(RouteType routeType);
+    List<HubRoute> findByDeletedFalseAndRouteTypeAndGraphFingerprint(RouteType routeType, Long graphFingerprint);
 }
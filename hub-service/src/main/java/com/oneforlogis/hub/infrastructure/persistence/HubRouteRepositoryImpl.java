@@ -22,14 +22,19 @@ public class HubRouteRepositoryImpl implements HubRouteRepository {
         jpaRepository.save(hubRoute);
     }
 
+    @Override
+    public void saveAll(List<HubRoute> hubRoutes) {
+        jpaRepository.saveAll(hubRoutes);
+    }
+
     @Override
     public void flush() {
         jpaRepository.flush();
     }
 
     @Override
-    public Optional<HubRoute> findById(Long id) {
-        return jpaRepository.findById(id);
+    public Optional<HubRoute> findDirectRouteById(Long id) {
+        return jpaRepository.findByIdAndRouteType(id, RouteType.DIRECT);
     }
 
     @Override
@@ -38,17 +43,27 @@ public class HubRouteRepositoryImpl implements HubRouteRepository {
     }
 
     @Override
-    public Optional<HubRoute> findByFromHubIdAndToHubId(UUID fromHubId, UUID toHubId) {
-        return jpaRepository.findByFromHubIdAndToHubId(fromHubId,toHubId);
+    public void deleteRelayRoute(UUID fromHubId, UUID toHubId) {
+        jpaRepository.deleteByFromHubIdAndToHubIdAndRouteType(fromHubId, toHubId, RouteType.RELAY);
     }
 
     @Override
-    public Page<HubRoute> findByDeletedFalse(Pageable pageable) {
-        return jpaRepository.findByDeletedFalse(pageable);
+    public Optional<HubRoute> findDirectRoute(UUID fromHubId, UUID toHubId) {
+        return jpaRepository.findByFromHubIdAndToHubIdAndRouteType(fromHubId, toHubId, RouteType.DIRECT);
+    }
+
+    @Override
+    public Page<HubRoute> findDirectRoutes(Pageable pageable) {
+        return jpaRepository.findByDeletedFalseAndRouteType(RouteType.DIRECT, pageable);
     }
 
     @Override
     public List<HubRoute> findByDeletedFalseAndRouteType(RouteType routeType) {
         return jpaRepository.findByDeletedFalseAndRouteType(routeType);
     }
+
+    @Override
+    public List<HubRoute> findRelayRoutes(long graphFingerprint) {
+        return jpaRepository.findByDeletedFalseAndRouteTypeAndGraphFingerprint(RouteType.RELAY, graphFingerprint);
+    }
 }
@@ -2,10 +2,14 @@ package com.oneforlogis.hub.presentation.controller.internal;
 
 import com.oneforlogis.common.api.ApiResponse;
 import com.oneforlogis.common.api.PageResponse;
+import com.oneforlogis.hub.application.service.HubExportService;
 import com.oneforlogis.hub.application.service.HubService;
+import com.oneforlogis.hub.domain.model.RouteType;
 import com.oneforlogis.hub.presentation.response.HubResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -20,7 +24,10 @@ import org.springframework.web.bind.annotation.RestController;
 @RequiredArgsConstructor
 public class InternalHubController {
 
+    private static final String EXPORT_CONTENT_TYPE = "application/x-ndjson";
+
     private final HubService hubService;
+    private final HubExportService hubExportService;
 
     @Operation(summary = "허브 id로 단일 조회", description = "허브 ID로 단일 허브 정보를 조회합니다.")
     @GetMapping("/{hubId}")
@@ -42,4 +49,12 @@ public class InternalHubController {
     ) {
         return ApiResponse.success(hubService.getAllHubs(page, size));
     }
+
+    @Operation(summary = "허브 네트워크 내보내기", description = "삭제되지 않은 허브와 경로 전체를 NDJSON(application/x-ndjson)으로 스트리밍합니다. 허브 행(type=hub)이 먼저 오고 경로 행(type=route)이 이어집니다. routeType 을 주면 해당 유형의 경로만 내보냅니다.")
+    @GetMapping(value = "/export", produces = EXPORT_CONTENT_TYPE)
+    public void exportNetwork(@RequestParam(required = false) RouteType routeType, HttpServletResponse response) throws IOException {
+        response.setContentType(EXPORT_CONTENT_TYPE);
+        response.setCharacterEncoding("UTF-8");
+        hubExportService.exportNetwork(routeType, response.getOutputStream());
+    }
 }
@@ -2,15 +2,20 @@ package com.oneforlogis.hub.presentation.controller.internal;
 
 import com.oneforlogis.common.api.ApiResponse;
 import com.oneforlogis.common.api.PageResponse;
+import com.oneforlogis.hub.application.graph.RouteObjective;
 import com.oneforlogis.hub.application.service.HubRouteService;
+import com.oneforlogis.hub.presentation.request.ShortestRouteBatchRequest;
 import com.oneforlogis.hub.presentation.response.HubRouteResponse;
 import com.oneforlogis.hub.presentation.response.ShortestRouteResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import java.util.List;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
@@ -45,10 +50,22 @@ public class InternalHubRouteController {
         return ApiResponse.success(hubRouteService.getAllHubRoutes(page, size));
     }
 
-    @Operation(summary = "허브 간 최단 경로 조회", description = "출발지와 도착지를 기준으로 최단 경로를 계산하거나 캐시된 결과를 반환합니다.")
+    @Operation(summary = "허브 간 최단 경로 조회", description = "출발지와 도착지를 기준으로 최단 경로를 계산하거나 캐시된 결과를 반환합니다. objective=TIME 이면 소요 시간 기준으로 계산합니다.")
     @GetMapping("/shortest")
-    public ApiResponse<ShortestRouteResponse> getShortestRoute(@RequestParam UUID fromHubId,
-            @RequestParam UUID toHubId) {
-        return ApiResponse.success(hubRouteService.getShortestRoute(fromHubId, toHubId));
+    public ApiResponse<ShortestRouteResponse> getShortestRoute(@RequestParam UUID fromHubId, @RequestParam UUID toHubId,
+            @RequestParam(defaultValue = "DISTANCE") RouteObjective objective) {
+        return ApiResponse.success(hubRouteService.getShortestRoute(fromHubId, toHubId, objective));
     }
-}
\ No newline at end of file
+
+    @Operation(summary = "허브 간 파레토 최적 경로 조회", description = "거리와 소요 시간 중 어느 쪽으로도 다른 경로보다 나쁘지 않은 경로들을 거리 오름차순으로 반환합니다.")
+    @GetMapping("/shortest/pareto")
+    public ApiResponse<List<ShortestRouteResponse>> getParetoRoutes(@RequestParam UUID fromHubId, @RequestParam UUID toHubId) {
+        return ApiResponse.success(hubRouteService.getParetoRoutes(fromHubId, toHubId));
+    }
+
+    @Operation(summary = "허브 간 최단 경로 일괄 조회", description = "여러 출발/도착 쌍의 최단 경로를 한 번에 조회합니다. 출발 허브별로 한 번씩만 계산하며, 경로가 없는 쌍은 결과에서 제외됩니다.")
+    @PostMapping("/shortest/batch")
+    public ApiResponse<List<ShortestRouteResponse>> getShortestRoutes(@RequestBody ShortestRouteBatchRequest request) {
+        return ApiResponse.success(hubRouteService.getShortestRoutes(request.pairs()));
+    }
+}
@@ -0,0 +1,14 @@
+package com.oneforlogis.hub.presentation.request;
+
+import com.oneforlogis.hub.application.dto.RoutePair;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+
+public record ShortestRouteBatchRequest(
+
+    @Schema(
+            description = "조회할 (출발 허브, 도착 허브) 쌍 목록",
+            example = "[{\"fromHubId\":\"d0c14c9e-08f7-46c2-a4a6-c79abfa58f56\",\"toHubId\":\"845bd770-13d0-4337-a736-642186a6409b\"}]"
+    )
+    List<RoutePair> pairs
+) {}
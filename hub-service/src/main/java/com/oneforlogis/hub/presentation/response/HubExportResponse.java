@@ -0,0 +1,35 @@
+package com.oneforlogis.hub.presentation.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.math.BigDecimal;
+import java.util.UUID;
+
+@Schema(description = "허브 내보내기 NDJSON 의 허브 행")
+public record HubExportResponse(
+        @Schema(description = "행 종류", example = "hub")
+        String type,
+
+        @Schema(description = "허브 ID (UUID)", example = "550e8400-e29b-41d4-a716-446655440000")
+        UUID id,
+
+        @Schema(description = "허브명", example = "서울허브")
+        String name,
+
+        @Schema(description = "허브 주소", example = "서울특별시 강남구 테헤란로 123")
+        String address,
+
+        @Schema(description = "위도", example = "37.5666500")
+        BigDecimal lat,
+
+        @Schema(description = "경도", example = "126.9780000")
+        BigDecimal lon,
+
+        @Schema(description = "수정일시", example = "2025-12-15T20:00:00")
+        String updatedAt
+) {
+    public static final String TYPE = "hub";
+
+    public static HubExportResponse of(UUID id, String name, String address, BigDecimal lat, BigDecimal lon, String updatedAt) {
+        return new HubExportResponse(TYPE, id, name, address, lat, lon, updatedAt);
+    }
+}
@@ -0,0 +1,41 @@
+package com.oneforlogis.hub.presentation.response;
+
+import com.oneforlogis.hub.domain.model.RouteType;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.math.BigDecimal;
+import java.util.UUID;
+
+@Schema(description = "허브 내보내기 NDJSON 의 경로 행")
+public record HubRouteExportResponse(
+        @Schema(description = "행 종류", example = "route")
+        String type,
+
+        @Schema(description = "경로 ID", example = "1")
+        Long id,
+
+        @Schema(description = "출발 허브 ID", example = "d0c14c9e-08f7-46c2-a4a6-c79abfa58f56")
+        UUID fromHubId,
+
+        @Schema(description = "출발 허브명", example = "서울 센터")
+        String fromHubName,
+
+        @Schema(description = "도착 허브 ID", example = "845bd770-13d0-4337-a736-642186a6409b")
+        UUID toHubId,
+
+        @Schema(description = "도착 허브명", example = "대전광역시 센터")
+        String toHubName,
+
+        @Schema(description = "허브 간 거리 (km 단위)", example = "35.27")
+        BigDecimal routeDistance,
+
+        @Schema(description = "예상 소요 시간 (분 단위)", example = "42")
+        Integer routeTime,
+
+        @Schema(description = "경로 유형 (DIRECT, RELAY)", example = "DIRECT")
+        RouteType routeType,
+
+        @Schema(description = "수정일시", example = "2025-12-15T20:00:00")
+        String updatedAt
+) {
+    public static final String TYPE = "route";
+}
@@ -1,7 +1,5 @@
 package com.oneforlogis.hub.presentation.response;
 
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.oneforlogis.hub.domain.model.HubRoute;
 import com.oneforlogis.hub.domain.model.RouteType;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -50,12 +48,9 @@ public record HubRouteResponse(
     public static HubRouteResponse from(HubRoute route, HubResponse fromHub, HubResponse toHub) {
         List<UUID> pathList = null;
         try {
-            String raw = route.getPathNodes();
-            if (raw != null && !raw.isBlank() && !raw.equals("[]")) {
-                ObjectMapper mapper = new ObjectMapper();
-                pathList = mapper.readValue(raw, new TypeReference<List<UUID>>() {});
-            }
-        } catch (Exception e) {
+            List<UUID> decoded = route.decodePathNodes();
+            if (!decoded.isEmpty()) pathList = decoded;
+        } catch (IllegalArgumentException e) {
             pathList = List.of();
         }
 
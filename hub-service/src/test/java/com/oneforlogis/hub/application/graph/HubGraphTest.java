@@ -0,0 +1,55 @@
+package com.oneforlogis.hub.application.graph;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.oneforlogis.hub.domain.model.HubRoute;
+import com.oneforlogis.hub.domain.model.RouteType;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("HubGraph 단위 테스트")
+class HubGraphTest {
+
+    private final UUID a = UUID.randomUUID();
+    private final UUID b = UUID.randomUUID();
+    private final UUID c = UUID.randomUUID();
+
+    @Test
+    @DisplayName("같은 직통 경로 구성이면 버전, 입력 순서, 허브 인덱스가 달라도 지문이 같다")
+    void fingerprint_ignores_version_and_order() {
+        HubGraph first = HubGraph.build(1L, List.of(route(a, b, "10.00", 10), route(b, c, "5.50", 7)), null);
+        HubGraph previous = HubGraph.build(1L, List.of(route(c, a, "1.00", 1)), null);
+        HubGraph second = HubGraph.build(9L, List.of(route(b, c, "5.50", 7), route(a, b, "10.00", 10)), previous);
+
+        assertThat(second.fingerprint()).isEqualTo(first.fingerprint());
+        assertThat(first.reversed().fingerprint()).isEqualTo(first.fingerprint());
+    }
+
+    @Test
+    @DisplayName("간선이 추가, 삭제되거나 거리, 시간이 바뀌면 지문이 달라진다")
+    void fingerprint_changes_with_edges() {
+        HubGraph graph = HubGraph.build(1L, List.of(route(a, b, "10.00", 10), route(b, c, "5.50", 7)), null);
+
+        assertThat(List.of(
+                HubGraph.build(2L, List.of(route(a, b, "10.00", 10)), null),
+                HubGraph.build(2L, List.of(route(a, b, "10.00", 10), route(b, c, "5.50", 7), route(a, c, "20.00", 9)), null),
+                HubGraph.build(2L, List.of(route(a, b, "10.00", 10), route(b, c, "5.40", 7)), null),
+                HubGraph.build(2L, List.of(route(a, b, "10.00", 10), route(b, c, "5.50", 8)), null),
+                HubGraph.build(2L, List.of(route(b, a, "10.00", 10), route(b, c, "5.50", 7)), null)))
+                .extracting(HubGraph::fingerprint)
+                .doesNotContain(graph.fingerprint());
+    }
+
+    private static HubRoute route(UUID from, UUID to, String distance, int minutes) {
+        return HubRoute.builder()
+                .fromHubId(from)
+                .toHubId(to)
+                .routeDistance(new BigDecimal(distance))
+                .routeTime(minutes)
+                .routeType(RouteType.DIRECT)
+                .build();
+    }
+}
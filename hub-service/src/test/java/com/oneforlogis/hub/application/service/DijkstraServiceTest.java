@@ -0,0 +1,140 @@
+package com.oneforlogis.hub.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.oneforlogis.common.exception.CustomException;
+import com.oneforlogis.hub.application.dto.DijkstraResult;
+import com.oneforlogis.hub.application.graph.HubGraph;
+import com.oneforlogis.hub.domain.model.HubRoute;
+import com.oneforlogis.hub.domain.model.RouteType;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("DijkstraService 단위 테스트")
+class DijkstraServiceTest {
+
+    private final DijkstraService dijkstraService = new DijkstraService();
+
+    @Test
+    @DisplayName("중계 허브를 거치는 최단 경로와 구간 정보를 반환한다")
+    void shortest_path_through_relay_hubs() {
+        UUID a = UUID.randomUUID();
+        UUID b = UUID.randomUUID();
+        UUID c = UUID.randomUUID();
+        UUID d = UUID.randomUUID();
+        HubGraph graph = HubGraph.build(1L, List.of(
+                route(a, b, "10.50", 20),
+                route(b, c, "5.25", 10),
+                route(a, c, "20.00", 15),
+                route(c, d, "1.00", 5),
+                route(b, d, "30.00", 30)
+        ), null);
+
+        DijkstraResult result = dijkstraService.findShortestPath(graph, a, d);
+
+        assertThat(result.distance()).isEqualByComparingTo("16.75");
+        assertThat(result.time()).isEqualTo(35);
+        assertThat(result.pathNodes()).containsExactly(b, c, d);
+        assertThat(result.edges()).extracting(edge -> edge.toHubId()).containsExactly(b, c, d);
+        assertThat(result.edges().get(0).fromHubId()).isEqualTo(a);
+    }
+
+    @Test
+    @DisplayName("도달할 수 없는 허브면 예외가 발생한다")
+    void unreachable_target_throws() {
+        UUID a = UUID.randomUUID();
+        UUID b = UUID.randomUUID();
+        UUID c = UUID.randomUUID();
+        HubGraph graph = HubGraph.build(1L, List.of(route(a, b, "1.00", 1), route(c, a, "1.00", 1)), null);
+
+        assertThatThrownBy(() -> dijkstraService.findShortestPath(graph, a, c))
+                .isInstanceOf(CustomException.class);
+        assertThatThrownBy(() -> dijkstraService.findShortestPath(graph, a, UUID.randomUUID()))
+                .isInstanceOf(CustomException.class);
+    }
+
+    @Test
+    @DisplayName("한 번의 탐색으로 여러 도착지 경로를 반환하고, 도달할 수 없는 도착지는 제외한다")
+    void one_to_many_paths_skip_unreachable_targets() {
+        UUID a = UUID.randomUUID();
+        UUID b = UUID.randomUUID();
+        UUID c = UUID.randomUUID();
+        UUID d = UUID.randomUUID();
+        HubGraph graph = HubGraph.build(1L, List.of(
+                route(a, b, "1.00", 1),
+                route(b, c, "2.00", 2),
+                route(d, a, "1.00", 1)
+        ), null);
+
+        Map<UUID, DijkstraResult> results = dijkstraService.findShortestPaths(graph, a, List.of(b, c, d));
+
+        assertThat(results).containsOnlyKeys(b, c);
+        assertThat(results.get(c).pathNodes()).containsExactly(b, c);
+        assertThat(results.get(c).distance()).isEqualByComparingTo("3.00");
+        assertThat(dijkstraService.findShortestPaths(graph, UUID.randomUUID(), List.of(b))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("무작위 그래프에서 Bellman-Ford 결과와 거리가 일치한다")
+    void matches_bellman_ford_on_random_graphs() {
+        Random random = new Random(42);
+        for (int round = 0; round < 20; round++) {
+            int nodeCount = 30 + random.nextInt(50);
+            UUID[] hubs = new UUID[nodeCount];
+            for (int i = 0; i < nodeCount; i++) hubs[i] = UUID.randomUUID();
+
+            List<HubRoute> routes = new ArrayList<>();
+            for (int i = 0; i < nodeCount * 4; i++) {
+                int from = random.nextInt(nodeCount);
+                int to = random.nextInt(nodeCount);
+                if (from == to) continue;
+                routes.add(route(hubs[from], hubs[to], BigDecimal.valueOf(random.nextInt(50_000), 2).toPlainString(), 1 + random.nextInt(300)));
+            }
+            HubGraph graph = HubGraph.build(1L, routes, null);
+
+            int start = random.nextInt(nodeCount);
+            long[] expected = bellmanFord(graph, graph.indexOf(hubs[start]));
+            for (int target = 0; target < nodeCount; target++) {
+                int targetIndex = graph.indexOf(hubs[target]);
+                if (target == start || targetIndex < 0 || expected[targetIndex] == Long.MAX_VALUE) continue;
+
+                DijkstraResult result = dijkstraService.findShortestPath(graph, hubs[start], hubs[target]);
+                assertThat(HubGraph.toFixedDistance(result.distance())).isEqualTo(expected[targetIndex]);
+                assertThat(result.pathNodes().get(result.pathNodes().size() - 1)).isEqualTo(hubs[target]);
+            }
+        }
+    }
+
+    private static long[] bellmanFord(HubGraph graph, int start) {
+        long[] distances = new long[graph.nodeCount()];
+        Arrays.fill(distances, Long.MAX_VALUE);
+        distances[start] = 0;
+        for (int i = 0; i < graph.nodeCount(); i++) {
+            for (int edge = 0; edge < graph.edgeCount(); edge++) {
+                int from = graph.source(edge);
+                if (distances[from] == Long.MAX_VALUE) continue;
+                long candidate = distances[from] + graph.distance(edge);
+                if (candidate < distances[graph.target(edge)]) distances[graph.target(edge)] = candidate;
+            }
+        }
+        return distances;
+    }
+
+    private static HubRoute route(UUID from, UUID to, String distance, int minutes) {
+        return HubRoute.builder()
+                .fromHubId(from)
+                .toHubId(to)
+                .routeDistance(new BigDecimal(distance))
+                .routeTime(minutes)
+                .routeType(RouteType.DIRECT)
+                .build();
+    }
+}
@@ -0,0 +1,82 @@
+package com.oneforlogis.hub.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.oneforlogis.hub.domain.model.RouteType;
+import com.oneforlogis.hub.infrastructure.persistence.HubExportJdbcReader;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+@DisplayName("HubExportService 단위 테스트")
+class HubExportServiceTest {
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    private final UUID seoul = UUID.randomUUID();
+    private final UUID daejeon = UUID.randomUUID();
+    private HubExportService hubExportService;
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE p_hub (id UUID PRIMARY KEY, name VARCHAR(255), address VARCHAR(255), "
+                + "lat DECIMAL(10, 6), lon DECIMAL(10, 6), updated_at TIMESTAMP, deleted BOOLEAN)");
+        jdbcTemplate.execute("CREATE TABLE p_hub_route (id BIGINT PRIMARY KEY, from_hub_id UUID, to_hub_id UUID, "
+                + "route_distance DECIMAL(8, 2), route_time INT, route_type VARCHAR(20), updated_at TIMESTAMP, deleted BOOLEAN)");
+
+        jdbcTemplate.update("INSERT INTO p_hub VALUES (?, '서울 센터', '서울특별시 송파구 송파대로 55', 37.5, 127.1, NULL, false)", seoul);
+        jdbcTemplate.update("INSERT INTO p_hub VALUES (?, '대전광역시 센터', '대전 서구 둔산로 100', 36.3, 127.3, NULL, false)", daejeon);
+        jdbcTemplate.update("INSERT INTO p_hub VALUES (?, '폐쇄 센터', NULL, NULL, NULL, NULL, true)", UUID.randomUUID());
+        jdbcTemplate.update("INSERT INTO p_hub_route VALUES (1, ?, ?, 140.50, 100, 'DIRECT', NULL, false)", seoul, daejeon);
+        jdbcTemplate.update("INSERT INTO p_hub_route VALUES (2, ?, ?, 140.50, 100, 'DIRECT', NULL, true)", daejeon, seoul);
+        jdbcTemplate.update("INSERT INTO p_hub_route VALUES (3, ?, ?, 281.00, 200, 'RELAY', NULL, false)", seoul, seoul);
+
+        hubExportService = new HubExportService(new HubExportJdbcReader(dataSource, 2), objectMapper);
+    }
+
+    @Test
+    @DisplayName("삭제되지 않은 허브와 경로를 한 줄에 하나씩 내보내고 경로에 허브 이름을 채운다")
+    void exports_hubs_then_routes_as_ndjson() throws Exception {
+        List<JsonNode> lines = export(null);
+
+        assertThat(lines).extracting(line -> line.get("type").asText())
+                .containsExactly("hub", "hub", "route", "route");
+        assertThat(lines.get(0).get("name").asText()).isEqualTo("대전광역시 센터");
+        assertThat(lines.get(2).get("fromHubName").asText()).isEqualTo("서울 센터");
+        assertThat(lines.get(2).get("toHubName").asText()).isEqualTo("대전광역시 센터");
+        assertThat(lines.get(2).get("routeDistance").decimalValue()).isEqualByComparingTo("140.50");
+    }
+
+    @Test
+    @DisplayName("경로 유형을 지정하면 해당 유형의 경로만 내보낸다")
+    void filters_routes_by_type() throws Exception {
+        List<JsonNode> lines = export(RouteType.RELAY);
+
+        assertThat(lines).filteredOn(line -> line.get("type").asText().equals("route"))
+                .extracting(line -> line.get("id").asLong())
+                .containsExactly(3L);
+    }
+
+    private List<JsonNode> export(RouteType routeType) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        hubExportService.exportNetwork(routeType, out);
+
+        String body = out.toString(StandardCharsets.UTF_8);
+        assertThat(body).endsWith("\n");
+        List<JsonNode> lines = new ArrayList<>();
+        for (String line : body.split("\n")) lines.add(objectMapper.readTree(line));
+        return lines;
+    }
+}
@@ -0,0 +1,100 @@
+package com.oneforlogis.hub.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.oneforlogis.hub.application.dto.RoutePair;
+import com.oneforlogis.hub.application.graph.HubGraph;
+import com.oneforlogis.hub.domain.model.RouteType;
+import com.oneforlogis.hub.domain.repository.HubRepository;
+import com.oneforlogis.hub.domain.repository.HubRouteRepository;
+import com.oneforlogis.hub.infrastructure.cache.HubCacheEventPublisher;
+import com.oneforlogis.hub.infrastructure.cache.HubRouteCacheService;
+import com.oneforlogis.hub.presentation.response.HubSimpleResponse;
+import com.oneforlogis.hub.presentation.response.ShortestRouteResponse;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("HubGraphService 단위 테스트")
+class HubGraphServiceTest {
+
+    @Mock
+    private HubRouteRepository hubRouteRepository;
+
+    @Mock
+    private HubRepository hubRepository;
+
+    @Mock
+    private HubRouteTableService hubRouteTableService;
+
+    @Mock
+    private HubRouteCacheService hubRouteCacheService;
+
+    @Mock
+    private HubCacheEventPublisher hubCacheEventPublisher;
+
+    @InjectMocks
+    private HubGraphService hubGraphService;
+
+    @Test
+    @DisplayName("스냅샷이 그대로면 받아 둔 세대에 저장만 한다")
+    void saves_under_captured_generation() {
+        HubGraph graph = hubGraphService.current();
+        List<ShortestRouteResponse> responses = List.of(response(UUID.randomUUID(), UUID.randomUUID()));
+
+        hubGraphService.saveShortestRouteCaches(7L, graph, responses);
+
+        verify(hubRouteCacheService).saveShortestRouteCaches(7L, responses);
+        verify(hubRouteCacheService, never()).evictShortestRoutes(anyLong(), anyList());
+    }
+
+    @Test
+    @DisplayName("저장하는 사이 스냅샷이 바뀌면 같은 세대에서 방금 쓴 값을 지운다")
+    void evicts_own_write_when_snapshot_changed_during_save() {
+        HubGraph graph = hubGraphService.current();
+        UUID from = UUID.randomUUID();
+        UUID to = UUID.randomUUID();
+        List<ShortestRouteResponse> responses = List.of(response(from, to));
+        doAnswer(invocation -> hubGraphService.rebuild())
+                .when(hubRouteCacheService).saveShortestRouteCaches(7L, responses);
+
+        hubGraphService.saveShortestRouteCaches(7L, graph, responses);
+
+        verify(hubRouteCacheService).evictShortestRoutes(7L, List.of(new RoutePair(from, to)));
+    }
+
+    @Test
+    @DisplayName("전체 재구성은 스냅샷을 바꾼 뒤에 중계, 기준별 경로 세대를 올린다")
+    void rebuild_swaps_snapshot_before_bumping_generations() {
+        HubGraph before = hubGraphService.current();
+
+        hubGraphService.rebuildAfterCommit();
+
+        InOrder order = inOrder(hubRouteRepository, hubRouteCacheService);
+        order.verify(hubRouteRepository).findByDeletedFalseAndRouteType(RouteType.DIRECT);
+        order.verify(hubRouteCacheService).invalidateRelayCacheOnly();
+        order.verify(hubRouteCacheService).invalidateCriteriaRoutes();
+        verify(hubCacheEventPublisher).publishGraphChanged(hubGraphService.current().version());
+        assertThat(hubGraphService.current()).isNotSameAs(before);
+    }
+
+    private static ShortestRouteResponse response(UUID from, UUID to) {
+        return new ShortestRouteResponse(null, new HubSimpleResponse(from, "출발 센터", null),
+                new HubSimpleResponse(to, "도착 센터", null), new BigDecimal("10.00"), 10, RouteType.RELAY,
+                List.of(), List.of());
+    }
+}
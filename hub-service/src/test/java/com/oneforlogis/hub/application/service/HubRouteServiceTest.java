@@ -0,0 +1,89 @@
+package com.oneforlogis.hub.application.service;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import com.oneforlogis.common.exception.CustomException;
+import com.oneforlogis.common.exception.ErrorCode;
+import com.oneforlogis.hub.application.dto.RoutePair;
+import com.oneforlogis.hub.domain.repository.HubRouteRepository;
+import com.oneforlogis.hub.infrastructure.cache.HubRouteCacheService;
+import com.oneforlogis.hub.presentation.request.HubRouteRequest;
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("HubRouteService 단위 테스트")
+class HubRouteServiceTest {
+
+    @Mock
+    private HubRouteRepository hubRouteRepository;
+
+    @Mock
+    private HubService hubService;
+
+    @Mock
+    private RelayRouteService relayRouteService;
+
+    @Mock
+    private HubRouteCacheService hubRouteCacheService;
+
+    @Mock
+    private HubGraphService hubGraphService;
+
+    @Mock
+    private HubRouteTableService hubRouteTableService;
+
+    @InjectMocks
+    private HubRouteService hubRouteService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(hubRouteService, "maxBatchPairs", 1000);
+    }
+
+    @Test
+    @DisplayName("일괄 조회에 빈 쌍이나 출발/도착 허브가 빠진 쌍이 있으면 탐색 없이 잘못된 요청으로 거절한다")
+    void rejects_null_pairs_before_lookup() {
+        UUID a = UUID.randomUUID();
+        UUID b = UUID.randomUUID();
+
+        for (List<RoutePair> pairs : List.of(
+                Arrays.asList(new RoutePair(a, b), null),
+                List.of(new RoutePair(a, b), new RoutePair(null, b)),
+                List.of(new RoutePair(a, null)))) {
+            assertThatThrownBy(() -> hubRouteService.getShortestRoutes(pairs))
+                    .isInstanceOf(CustomException.class)
+                    .extracting("errorCode").isEqualTo(ErrorCode.HUB_INVALID_REQUEST);
+        }
+        verifyNoInteractions(hubRouteCacheService, hubGraphService, hubRouteTableService);
+    }
+
+    @Test
+    @DisplayName("직통이 아닌(중계) 경로 id 는 조회, 수정, 삭제 모두 찾을 수 없는 경로로 처리한다")
+    void relay_route_ids_are_not_found() {
+        Long relayRouteId = 42L;
+        given(hubRouteRepository.findDirectRouteById(relayRouteId)).willReturn(Optional.empty());
+        HubRouteRequest request = new HubRouteRequest(UUID.randomUUID(), UUID.randomUUID(), new BigDecimal("10.00"), 10);
+
+        assertThatThrownBy(() -> hubRouteService.getHubRouteById(relayRouteId))
+                .extracting("errorCode").isEqualTo(ErrorCode.HUB_ROUTE_NOT_FOUND);
+        assertThatThrownBy(() -> hubRouteService.updateHubRoute(relayRouteId, request))
+                .extracting("errorCode").isEqualTo(ErrorCode.HUB_ROUTE_NOT_FOUND);
+        assertThatThrownBy(() -> hubRouteService.deleteHubRoute("master", relayRouteId))
+                .extracting("errorCode").isEqualTo(ErrorCode.HUB_ROUTE_NOT_FOUND);
+        verifyNoInteractions(hubService, relayRouteService, hubRouteCacheService, hubGraphService);
+    }
+}
@@ -0,0 +1,164 @@
+package com.oneforlogis.hub.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.oneforlogis.common.exception.CustomException;
+import com.oneforlogis.hub.application.dto.DijkstraResult;
+import com.oneforlogis.hub.application.dto.RoutePair;
+import com.oneforlogis.hub.application.graph.HubGraph;
+import com.oneforlogis.hub.application.graph.RoutingAlgorithm;
+import com.oneforlogis.hub.domain.model.HubRoute;
+import com.oneforlogis.hub.domain.model.RouteType;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@DisplayName("HubRouteTableService 단위 테스트")
+class HubRouteTableServiceTest {
+
+    private final DijkstraService dijkstraService = new DijkstraService();
+    private HubRouteTableService hubRouteTableService;
+
+    @BeforeEach
+    void setUp() {
+        RouteHeuristicService routeHeuristicService = new RouteHeuristicService(dijkstraService);
+        ReflectionTestUtils.setField(routeHeuristicService, "algorithm", RoutingAlgorithm.DIJKSTRA);
+        hubRouteTableService = new HubRouteTableService(dijkstraService, routeHeuristicService);
+        ReflectionTestUtils.setField(hubRouteTableService, "maxNodes", 1024);
+    }
+
+    @Test
+    @DisplayName("경로표 조회 결과가 Dijkstra 결과와 같다")
+    void table_lookup_matches_dijkstra() {
+        Random random = new Random(7);
+        UUID[] hubs = hubs(40);
+        HubGraph graph = HubGraph.build(1L, randomRoutes(random, hubs, 160), null);
+        hubRouteTableService.rebuild(graph);
+
+        assertMatchesDijkstra(graph, hubs);
+    }
+
+    @Test
+    @DisplayName("경로 추가/수정/삭제 후 부분 갱신 결과가 전체 재계산과 같고, 바뀐 쌍을 모두 보고한다")
+    void repair_matches_full_recomputation() {
+        Random random = new Random(11);
+        UUID[] hubs = hubs(40);
+        List<HubRoute> routes = randomRoutes(random, hubs, 160);
+        HubGraph graph = HubGraph.build(1L, routes, null);
+        hubRouteTableService.rebuild(graph);
+
+        for (int round = 0; round < 30; round++) {
+            List<HubRoute> changed = new ArrayList<>(routes);
+            int removeIndex = random.nextInt(changed.size());
+            changed.remove(removeIndex);
+            changed.add(randomRoute(random, hubs));
+            if (round % 3 == 0) {
+                changed.add(route(UUID.randomUUID(), hubs[random.nextInt(hubs.length)], "1.00", 1));
+            }
+
+            Map<RoutePair, Long> before = distances(graph, hubs);
+            HubGraph next = HubGraph.build(graph.version() + 1, changed, graph);
+            List<RoutePair> changedPairs = hubRouteTableService.repair(graph, next);
+
+            assertThat(changedPairs).isNotNull();
+            assertMatchesDijkstra(next, hubs);
+            Map<RoutePair, Long> after = distances(next, hubs);
+            after.forEach((pair, distance) -> {
+                if (!distance.equals(before.get(pair))) assertThat(changedPairs).contains(pair);
+            });
+
+            routes = changed;
+            graph = next;
+        }
+    }
+
+    @Test
+    @DisplayName("경로가 없으면 예외가 발생한다")
+    void missing_route_throws() {
+        UUID a = UUID.randomUUID();
+        UUID b = UUID.randomUUID();
+        HubGraph graph = HubGraph.build(1L, List.of(route(a, b, "3.00", 4)), null);
+        hubRouteTableService.rebuild(graph);
+
+        assertThatThrownBy(() -> hubRouteTableService.findShortestPath(graph, b, a))
+                .isInstanceOf(CustomException.class);
+        assertThatThrownBy(() -> hubRouteTableService.findShortestPath(graph, a, a))
+                .isInstanceOf(CustomException.class);
+    }
+
+    private void assertMatchesDijkstra(HubGraph graph, UUID[] hubs) {
+        for (UUID from : hubs) {
+            for (UUID to : hubs) {
+                if (from.equals(to) || graph.indexOf(from) < 0 || graph.indexOf(to) < 0) continue;
+                DijkstraResult expected = findOrNull(() -> dijkstraService.findShortestPath(graph, from, to));
+                DijkstraResult actual = findOrNull(() -> hubRouteTableService.findShortestPath(graph, from, to));
+                if (expected == null) {
+                    assertThat(actual).isNull();
+                    continue;
+                }
+                assertThat(actual).isNotNull();
+                assertThat(actual.distance()).isEqualByComparingTo(expected.distance());
+                assertThat(actual.pathNodes().get(actual.pathNodes().size() - 1)).isEqualTo(to);
+                assertThat(actual.edges().get(0).fromHubId()).isEqualTo(from);
+            }
+        }
+    }
+
+    private Map<RoutePair, Long> distances(HubGraph graph, UUID[] hubs) {
+        Map<RoutePair, Long> distances = new HashMap<>();
+        for (UUID from : hubs) {
+            for (UUID to : hubs) {
+                if (from.equals(to) || graph.indexOf(from) < 0 || graph.indexOf(to) < 0) continue;
+                DijkstraResult result = findOrNull(() -> dijkstraService.findShortestPath(graph, from, to));
+                distances.put(new RoutePair(from, to), result == null ? -1L : HubGraph.toFixedDistance(result.distance()));
+            }
+        }
+        return distances;
+    }
+
+    private static DijkstraResult findOrNull(java.util.function.Supplier<DijkstraResult> finder) {
+        try {
+            return finder.get();
+        } catch (CustomException e) {
+            return null;
+        }
+    }
+
+    private static UUID[] hubs(int count) {
+        UUID[] hubs = new UUID[count];
+        for (int i = 0; i < count; i++) hubs[i] = UUID.randomUUID();
+        return hubs;
+    }
+
+    private static List<HubRoute> randomRoutes(Random random, UUID[] hubs, int count) {
+        List<HubRoute> routes = new ArrayList<>();
+        while (routes.size() < count) routes.add(randomRoute(random, hubs));
+        return routes;
+    }
+
+    private static HubRoute randomRoute(Random random, UUID[] hubs) {
+        int from = random.nextInt(hubs.length);
+        int to = (from + 1 + random.nextInt(hubs.length - 1)) % hubs.length;
+        return route(hubs[from], hubs[to], BigDecimal.valueOf(100 + random.nextInt(20_000), 2).toPlainString(),
+                1 + random.nextInt(200));
+    }
+
+    private static HubRoute route(UUID from, UUID to, String distance, int minutes) {
+        return HubRoute.builder()
+                .fromHubId(from)
+                .toHubId(to)
+                .routeDistance(new BigDecimal(distance))
+                .routeTime(minutes)
+                .routeType(RouteType.DIRECT)
+                .build();
+    }
+}
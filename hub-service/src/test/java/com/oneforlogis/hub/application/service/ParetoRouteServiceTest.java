@@ -0,0 +1,126 @@
+package com.oneforlogis.hub.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.oneforlogis.common.exception.CustomException;
+import com.oneforlogis.common.exception.ErrorCode;
+import com.oneforlogis.hub.application.dto.DijkstraResult;
+import com.oneforlogis.hub.application.graph.HubGraph;
+import com.oneforlogis.hub.application.graph.RouteObjective;
+import com.oneforlogis.hub.domain.model.HubRoute;
+import com.oneforlogis.hub.domain.model.RouteType;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@DisplayName("ParetoRouteService 단위 테스트")
+class ParetoRouteServiceTest {
+
+    private final DijkstraService dijkstraService = new DijkstraService();
+    private final ParetoRouteService paretoRouteService = new ParetoRouteService();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(paretoRouteService, "maxLabels", 200_000);
+    }
+
+    @Test
+    @DisplayName("지배되는 경로는 빼고 거리 오름차순으로 파레토 경로를 반환한다")
+    void returns_non_dominated_paths_in_distance_order() {
+        UUID a = UUID.randomUUID();
+        UUID b = UUID.randomUUID();
+        UUID c = UUID.randomUUID();
+        UUID d = UUID.randomUUID();
+        HubGraph graph = HubGraph.build(1L, List.of(
+                route(a, b, "10.00", 100),
+                route(a, c, "20.00", 30),
+                route(c, b, "5.00", 30),
+                route(a, d, "15.00", 60),
+                route(d, b, "15.00", 60)
+        ), null);
+
+        List<DijkstraResult> results = paretoRouteService.findParetoPaths(graph, a, b);
+
+        assertThat(results).extracting(DijkstraResult::time).containsExactly(100, 60);
+        assertThat(results.get(0).distance()).isEqualByComparingTo("10.00");
+        assertThat(results.get(1).distance()).isEqualByComparingTo("25.00");
+        assertThat(results.get(1).pathNodes()).containsExactly(c, b);
+    }
+
+    @Test
+    @DisplayName("파레토 경로의 양 끝은 거리 최단 경로, 시간 최단 경로와 같다")
+    void frontier_ends_match_single_objective_searches() {
+        Random random = new Random(3);
+        for (int round = 0; round < 10; round++) {
+            int nodeCount = 60;
+            UUID[] hubs = new UUID[nodeCount];
+            for (int i = 0; i < nodeCount; i++) hubs[i] = UUID.randomUUID();
+
+            List<HubRoute> routes = new ArrayList<>();
+            for (int i = 0; i < nodeCount * 4; i++) {
+                int from = random.nextInt(nodeCount);
+                int to = random.nextInt(nodeCount);
+                if (from == to) continue;
+                routes.add(route(hubs[from], hubs[to], BigDecimal.valueOf(1 + random.nextInt(50_000), 2).toPlainString(),
+                        1 + random.nextInt(300)));
+            }
+            HubGraph graph = HubGraph.build(1L, routes, null);
+
+            UUID from = graph.hubId(0);
+            for (int target = 1; target < graph.nodeCount(); target++) {
+                UUID to = graph.hubId(target);
+                DijkstraResult byDistance;
+                try {
+                    byDistance = dijkstraService.findShortestPath(graph, from, to);
+                } catch (CustomException e) {
+                    continue;
+                }
+                DijkstraResult byTime = dijkstraService.findShortestPath(graph, from, to, RouteObjective.TIME);
+                List<DijkstraResult> frontier = paretoRouteService.findParetoPaths(graph, from, to);
+
+                assertThat(frontier.get(0).distance()).isEqualByComparingTo(byDistance.distance());
+                assertThat(frontier.get(frontier.size() - 1).time()).isEqualTo(byTime.time());
+                for (int i = 1; i < frontier.size(); i++) {
+                    assertThat(frontier.get(i).distance()).isGreaterThan(frontier.get(i - 1).distance());
+                    assertThat(frontier.get(i).time()).isLessThan(frontier.get(i - 1).time());
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("라벨 한도에 걸리면 일부만 찾은 경로를 돌려주지 않고 예외가 발생한다")
+    void label_limit_does_not_return_partial_frontier() {
+        UUID a = UUID.randomUUID();
+        UUID b = UUID.randomUUID();
+        UUID c = UUID.randomUUID();
+        HubGraph graph = HubGraph.build(1L, List.of(
+                route(a, b, "10.00", 100),
+                route(a, c, "20.00", 30),
+                route(c, b, "5.00", 30)
+        ), null);
+        ReflectionTestUtils.setField(paretoRouteService, "maxLabels", 2);
+
+        assertThatThrownBy(() -> paretoRouteService.findParetoPaths(graph, a, b))
+                .isInstanceOf(CustomException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.HUB_ROUTE_SEARCH_LIMIT_EXCEEDED);
+    }
+
+    private static HubRoute route(UUID from, UUID to, String distance, int minutes) {
+        return HubRoute.builder()
+                .fromHubId(from)
+                .toHubId(to)
+                .routeDistance(new BigDecimal(distance))
+                .routeTime(minutes)
+                .routeType(RouteType.DIRECT)
+                .build();
+    }
+}
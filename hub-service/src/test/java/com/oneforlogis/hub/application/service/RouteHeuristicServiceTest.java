@@ -0,0 +1,144 @@
+package com.oneforlogis.hub.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.oneforlogis.common.exception.CustomException;
+import com.oneforlogis.hub.application.dto.DijkstraResult;
+import com.oneforlogis.hub.application.graph.GeoHeuristic;
+import com.oneforlogis.hub.application.graph.HubGraph;
+import com.oneforlogis.hub.application.graph.RouteHeuristic;
+import com.oneforlogis.hub.application.graph.RoutingAlgorithm;
+import com.oneforlogis.hub.domain.model.Hub;
+import com.oneforlogis.hub.domain.model.HubRoute;
+import com.oneforlogis.hub.domain.model.RouteType;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@DisplayName("RouteHeuristicService 단위 테스트")
+class RouteHeuristicServiceTest {
+
+    private final DijkstraService dijkstraService = new DijkstraService();
+
+    @ParameterizedTest
+    @EnumSource(value = RoutingAlgorithm.class, names = {"ASTAR", "ALT"})
+    @DisplayName("A*/ALT 탐색 결과의 거리가 Dijkstra 와 같다")
+    void goal_directed_search_matches_dijkstra(RoutingAlgorithm algorithm) {
+        Random random = new Random(11);
+        for (int round = 0; round < 5; round++) {
+            HubGraph graph = randomGeoGraph(random, 200);
+            RouteHeuristic heuristic = service(algorithm).prepare(graph);
+            assertThat(heuristic).isNotSameAs(RouteHeuristic.NONE);
+
+            for (int query = 0; query < 200; query++) {
+                UUID from = graph.hubId(random.nextInt(graph.nodeCount()));
+                UUID to = graph.hubId(random.nextInt(graph.nodeCount()));
+                if (from.equals(to)) continue;
+
+                DijkstraResult expected = findOrNull(graph, from, to, RouteHeuristic.NONE);
+                DijkstraResult actual = findOrNull(graph, from, to, heuristic);
+                if (expected == null) {
+                    assertThat(actual).isNull();
+                    continue;
+                }
+                assertThat(actual).isNotNull();
+                assertThat(actual.distance()).isEqualByComparingTo(expected.distance());
+                assertThat(actual.pathNodes().get(actual.pathNodes().size() - 1)).isEqualTo(to);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("직선 거리보다 짧게 등록된 간선이 있으면 그 비율만큼 휴리스틱을 줄인다")
+    void geo_heuristic_scales_down_below_shortest_edge_ratio() {
+        Hub seoul = hub(37.5665, 126.9780);
+        Hub daejeon = hub(36.3504, 127.3845);
+        // 실제 직선 거리(약 140km)보다 짧은 70km 로 등록
+        HubGraph graph = HubGraph.build(1L, List.of(route(seoul.getId(), daejeon.getId(), new BigDecimal("70.00"), 60)),
+                List.of(seoul, daejeon), null);
+
+        GeoHeuristic heuristic = GeoHeuristic.of(graph);
+
+        assertThat(heuristic.scale()).isLessThan(0.55);
+        assertThat(heuristic.estimate(graph.indexOf(seoul.getId()), graph.indexOf(daejeon.getId())))
+                .isLessThanOrEqualTo(7000L);
+    }
+
+    @Test
+    @DisplayName("좌표가 없는 허브가 있으면 A* 대신 Dijkstra 로 동작한다")
+    void missing_coordinates_fall_back_to_dijkstra() {
+        Hub seoul = hub(37.5665, 126.9780);
+        UUID unknown = UUID.randomUUID();
+        HubGraph graph = HubGraph.build(1L, List.of(route(seoul.getId(), unknown, new BigDecimal("10.00"), 10)),
+                List.of(seoul), null);
+
+        assertThat(service(RoutingAlgorithm.ASTAR).prepare(graph)).isSameAs(RouteHeuristic.NONE);
+    }
+
+    private RouteHeuristicService service(RoutingAlgorithm algorithm) {
+        RouteHeuristicService service = new RouteHeuristicService(dijkstraService);
+        ReflectionTestUtils.setField(service, "algorithm", algorithm);
+        ReflectionTestUtils.setField(service, "landmarkCount", 8);
+        return service;
+    }
+
+    private DijkstraResult findOrNull(HubGraph graph, UUID from, UUID to, RouteHeuristic heuristic) {
+        try {
+            return dijkstraService.findShortestPath(graph, from, to, heuristic);
+        } catch (CustomException e) {
+            return null;
+        }
+    }
+
+    // 국내 범위 좌표에 허브를 흩뿌리고, 가까운 허브끼리 직선 거리의 0.9~1.5배 거리로 연결한다.
+    private static HubGraph randomGeoGraph(Random random, int nodeCount) {
+        List<Hub> hubs = new ArrayList<>();
+        for (int i = 0; i < nodeCount; i++) {
+            hubs.add(hub(34.5 + random.nextDouble() * 3.5, 126.0 + random.nextDouble() * 3.5));
+        }
+
+        List<HubRoute> routes = new ArrayList<>();
+        for (Hub from : hubs) {
+            for (int k = 0; k < 4; k++) {
+                Hub to = hubs.get(random.nextInt(nodeCount));
+                if (from == to) continue;
+                double km = haversineKm(from, to) * (0.9 + random.nextDouble() * 0.6);
+                routes.add(route(from.getId(), to.getId(), BigDecimal.valueOf(km).setScale(2, RoundingMode.HALF_UP),
+                        (int) Math.round(km)));
+            }
+        }
+        return HubGraph.build(1L, routes, hubs, null);
+    }
+
+    private static double haversineKm(Hub from, Hub to) {
+        double lat1 = Math.toRadians(from.getLat().doubleValue());
+        double lat2 = Math.toRadians(to.getLat().doubleValue());
+        double dLat = lat2 - lat1;
+        double dLon = Math.toRadians(to.getLon().doubleValue() - from.getLon().doubleValue());
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(lat1) * Math.cos(lat2) * Math.sin(dLon / 2) * Math.sin(dLon / 2);
+        return 2 * 6371.0088 * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
+    }
+
+    private static Hub hub(double lat, double lon) {
+        return new Hub(UUID.randomUUID(), "hub", "address", BigDecimal.valueOf(lat), BigDecimal.valueOf(lon));
+    }
+
+    private static HubRoute route(UUID from, UUID to, BigDecimal distance, int minutes) {
+        return HubRoute.builder()
+                .fromHubId(from)
+                .toHubId(to)
+                .routeDistance(distance)
+                .routeTime(minutes)
+                .routeType(RouteType.DIRECT)
+                .build();
+    }
+}
@@ -0,0 +1,35 @@
+package com.oneforlogis.hub.domain.model;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("PathNodesCodec 단위 테스트")
+class PathNodesCodecTest {
+
+    @Test
+    @DisplayName("인코딩한 경로를 그대로 복원하고 JSON 보다 짧다")
+    void round_trip_is_lossless_and_shorter_than_json() {
+        List<UUID> path = List.of(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID());
+
+        String encoded = PathNodesCodec.encode(path);
+
+        assertThat(PathNodesCodec.decode(encoded)).containsExactlyElementsOf(path);
+        assertThat(encoded.length()).isLessThan(path.size() * 36);
+    }
+
+    @Test
+    @DisplayName("이전 JSON 배열 형식과 빈 값도 읽는다")
+    void decodes_legacy_json_and_empty_values() {
+        UUID a = UUID.randomUUID();
+        UUID b = UUID.randomUUID();
+
+        assertThat(PathNodesCodec.decode("[\"" + a + "\", \"" + b + "\"]")).containsExactly(a, b);
+        assertThat(PathNodesCodec.decode("[]")).isEmpty();
+        assertThat(PathNodesCodec.decode(null)).isEmpty();
+        assertThat(PathNodesCodec.encode(List.of())).isEqualTo("[]");
+    }
+}
@@ -0,0 +1,163 @@
+package com.oneforlogis.hub.infrastructure.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+import com.oneforlogis.common.exception.CustomException;
+import com.oneforlogis.common.exception.ErrorCode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@DisplayName("RouteSingleFlight 단위 테스트")
+class RouteSingleFlightTest {
+
+    private static final int CALLERS = 16;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final RouteSingleFlight singleFlight = new RouteSingleFlight(null, meterRegistry);
+    private final ExecutorService executor = Executors.newFixedThreadPool(CALLERS);
+    private RedisTemplate<String, String> redisTemplate;
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("같은 키로 동시에 들어온 요청은 한 번만 계산하고 결과를 나눠 쓴다")
+    void concurrent_callers_share_one_computation() throws Exception {
+        AtomicInteger computations = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+
+        List<Future<String>> results = new ArrayList<>();
+        for (int i = 0; i < CALLERS; i++) {
+            results.add(executor.submit(() -> singleFlight.execute("distance:a:b", () -> null, () -> {
+                computations.incrementAndGet();
+                await(release);
+                return "route";
+            })));
+        }
+        awaitCount("coalesced", CALLERS - 1);
+        release.countDown();
+
+        for (Future<String> result : results) assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("route");
+        assertThat(computations).hasValue(1);
+        assertThat(count("computed")).isEqualTo(1);
+        assertThat(count("coalesced")).isEqualTo(CALLERS - 1);
+    }
+
+    @Test
+    @DisplayName("계산 중 발생한 예외는 기다리던 요청에도 전달되고, 이후 요청은 다시 계산한다")
+    void failure_is_shared_and_not_cached() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+
+        List<Future<String>> results = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            results.add(executor.submit(() -> singleFlight.<String>execute("distance:a:c", () -> null, () -> {
+                await(release);
+                throw new CustomException(ErrorCode.HUB_ROUTE_NOT_FOUND);
+            })));
+        }
+        awaitCount("coalesced", 3);
+        release.countDown();
+
+        for (Future<String> result : results) {
+            assertThatThrownBy(() -> result.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(CustomException.class);
+        }
+        assertThat(singleFlight.execute("distance:a:c", () -> null, () -> "route")).isEqualTo("route");
+    }
+
+    @Test
+    @DisplayName("앞선 계산이 캐시를 채웠으면 다시 계산하지 않는다")
+    void uses_cache_filled_by_previous_leader() {
+        String result = singleFlight.execute("time:a:b", () -> "cached", () -> {
+            throw new IllegalStateException("계산하면 안 된다");
+        });
+
+        assertThat(result).isEqualTo("cached");
+        assertThat(count("cached")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("락을 잡은 인스턴스가 결과 없이 락을 풀면 TTL 을 기다리지 않고 바로 직접 계산한다")
+    void falls_back_as_soon_as_lock_is_released_without_result() {
+        RouteSingleFlight distributed = distributedSingleFlight(Duration.ofSeconds(30));
+        given(redisTemplate.hasKey("hub:lock:distance:a:d")).willReturn(true, false);
+
+        long start = System.nanoTime();
+        String result = distributed.execute("distance:a:d", () -> null, () -> "route");
+
+        assertThat(result).isEqualTo("route");
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(5));
+        assertThat(count("lock-released")).isEqualTo(1);
+        assertThat(count("lock-timeout")).isZero();
+    }
+
+    @Test
+    @DisplayName("락을 잡은 인스턴스가 캐시를 채우고 락을 풀었으면 그 결과를 쓴다")
+    void uses_result_published_before_lock_release() {
+        RouteSingleFlight distributed = distributedSingleFlight(Duration.ofSeconds(30));
+        given(redisTemplate.hasKey("hub:lock:distance:a:e")).willReturn(false);
+        AtomicInteger lookups = new AtomicInteger();
+
+        String result = distributed.execute("distance:a:e",
+                () -> lookups.getAndIncrement() == 0 ? null : "remote",
+                () -> {
+                    throw new IllegalStateException("계산하면 안 된다");
+                });
+
+        assertThat(result).isEqualTo("remote");
+        assertThat(count("remote")).isEqualTo(1);
+        assertThat(count("lock-released")).isZero();
+    }
+
+    @SuppressWarnings("unchecked")
+    private RouteSingleFlight distributedSingleFlight(Duration lockTtl) {
+        redisTemplate = mock(RedisTemplate.class);
+        ValueOperations<String, String> valueOperations = mock(ValueOperations.class);
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        given(valueOperations.setIfAbsent(anyString(), anyString(), eq(lockTtl))).willReturn(false);
+
+        RouteSingleFlight distributed = new RouteSingleFlight(redisTemplate, meterRegistry);
+        ReflectionTestUtils.setField(distributed, "distributedLock", true);
+        ReflectionTestUtils.setField(distributed, "lockTtl", lockTtl);
+        ReflectionTestUtils.setField(distributed, "pollInterval", Duration.ofMillis(10));
+        return distributed;
+    }
+
+    private void awaitCount(String result, int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (count(result) < expected && System.nanoTime() < deadline) Thread.sleep(5);
+    }
+
+    private double count(String result) {
+        var counter = meterRegistry.find("hub.route.single-flight").tag("result", result).counter();
+        return counter != null ? counter.count() : 0;
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
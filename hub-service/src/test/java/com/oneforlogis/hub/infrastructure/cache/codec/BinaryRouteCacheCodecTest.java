@@ -0,0 +1,112 @@
+package com.oneforlogis.hub.infrastructure.cache.codec;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.oneforlogis.hub.domain.model.HubRoute;
+import com.oneforlogis.hub.domain.model.RouteType;
+import com.oneforlogis.hub.presentation.response.HubSimpleResponse;
+import com.oneforlogis.hub.presentation.response.RouteEdgeResponse;
+import com.oneforlogis.hub.presentation.response.ShortestRouteResponse;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+@DisplayName("BinaryRouteCacheCodec 단위 테스트")
+class BinaryRouteCacheCodecTest {
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    private final BinaryRouteCacheCodec codec = new BinaryRouteCacheCodec(objectMapper);
+
+    @Test
+    @DisplayName("직통 경로를 감사 필드까지 그대로 복원한다")
+    void direct_route_round_trip_keeps_audit_fields() {
+        HubRoute route = HubRoute.restore(10L, UUID.randomUUID(), UUID.randomUUID(), new BigDecimal("130.25"), 92,
+                RouteType.DIRECT, "[]", "master", LocalDateTime.of(2025, 11, 5, 15, 0, 0, 123_000_000),
+                null, null);
+
+        HubRoute decoded = codec.decodeRoute(codec.encodeRoute(route));
+
+        assertThat(decoded).usingRecursiveComparison().isEqualTo(route);
+    }
+
+    @Test
+    @DisplayName("중계 경로 응답을 복원하고 JSON 보다 작게 저장한다")
+    void shortest_route_round_trip_is_smaller_than_json() throws Exception {
+        ShortestRouteResponse response = relayRoute(6);
+
+        byte[] binary = codec.encodeShortestRoute(response);
+
+        assertThat(codec.decodeShortestRoute(binary)).isEqualTo(response);
+        assertThat(binary.length).isLessThan(objectMapper.writeValueAsBytes(response).length / 2);
+        assertThat(codec.decodeShortestRoutes(codec.encodeShortestRoutes(List.of(response, response))))
+                .containsExactly(response, response);
+    }
+
+    @Test
+    @DisplayName("null 목록과 빈 목록을 구분해서 복원한다")
+    void keeps_null_and_empty_lists_apart() {
+        HubSimpleResponse hub = new HubSimpleResponse(UUID.randomUUID(), "서울 센터", null);
+        ShortestRouteResponse direct = new ShortestRouteResponse(1L, hub, hub, new BigDecimal("1.50"), 3,
+                RouteType.DIRECT, null, List.of());
+
+        ShortestRouteResponse decoded = codec.decodeShortestRoute(codec.encodeShortestRoute(direct));
+
+        assertThat(decoded.pathNodes()).isNull();
+        assertThat(decoded.routeEdges()).isEmpty();
+        assertThat(decoded.fromHub().address()).isNull();
+    }
+
+    @Test
+    @DisplayName("전환 전에 저장된 JSON 값도 읽는다")
+    void reads_legacy_json_values() throws Exception {
+        ShortestRouteResponse response = relayRoute(2);
+        byte[] json = objectMapper.writeValueAsBytes(response);
+        byte[] edgeJson = "{\"routeDistance\":12.50,\"routeTime\":30}".getBytes(StandardCharsets.UTF_8);
+
+        assertThat(codec.decodeShortestRoute(json)).isEqualTo(response);
+        assertThat(codec.decodeEdge(edgeJson)).isEqualTo(new GraphEdgeValue(new BigDecimal("12.50"), 30));
+    }
+
+    @Test
+    @DisplayName("뒤에 덧붙은 필드는 무시하고, 잘린 값이나 알 수 없는 버전, 다른 종류의 값은 캐시 미스로 처리한다")
+    void ignores_trailing_fields_and_treats_broken_values_as_miss() {
+        byte[] encoded = codec.encodeEdge(new GraphEdgeValue(new BigDecimal("3.20"), 7));
+        byte[] extended = Arrays.copyOf(encoded, encoded.length + 3);
+        byte[] future = encoded.clone();
+        future[0] = (byte) (BinaryRouteCacheCodec.FORMAT_VERSION + 1);
+        byte[] shortest = codec.encodeShortestRoute(relayRoute(3));
+
+        assertThat(codec.decodeEdge(extended)).isEqualTo(new GraphEdgeValue(new BigDecimal("3.20"), 7));
+        assertThat(codec.decodeEdge(future)).isNull();
+        assertThat(codec.decodeShortestRoute(Arrays.copyOf(shortest, shortest.length - 5))).isNull();
+        assertThat(codec.decodeShortestRoutes(shortest)).isNull();
+        assertThat(codec.decodeEdge(new byte[]{(byte) BinaryRouteCacheCodec.FORMAT_VERSION})).isNull();
+        assertThat(codec.decodeEdge("{\"routeDistance\":".getBytes(StandardCharsets.UTF_8))).isNull();
+    }
+
+    private static ShortestRouteResponse relayRoute(int pathLength) {
+        UUID from = UUID.randomUUID();
+        UUID previous = from;
+        List<HubSimpleResponse> pathNodes = new ArrayList<>();
+        List<RouteEdgeResponse> routeEdges = new ArrayList<>();
+        for (int i = 0; i < pathLength; i++) {
+            UUID next = UUID.randomUUID();
+            pathNodes.add(new HubSimpleResponse(next, "허브 " + i, "서울특별시 송파구 송파대로 " + i));
+            routeEdges.add(new RouteEdgeResponse(previous.toString(), next.toString(), new BigDecimal("43.70"), 31));
+            previous = next;
+        }
+        return new ShortestRouteResponse(null,
+                new HubSimpleResponse(from, "서울 센터", "서울특별시 송파구 송파대로 55"),
+                pathNodes.get(pathLength - 1),
+                new BigDecimal("43.70").multiply(BigDecimal.valueOf(pathLength)), 31 * pathLength,
+                RouteType.RELAY, pathNodes, routeEdges);
+    }
+}
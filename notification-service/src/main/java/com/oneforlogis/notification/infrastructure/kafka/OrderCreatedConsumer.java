@@ -10,6 +10,7 @@ import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
+import java.util.UUID;
 
 @Slf4j
 @Component
@@ -36,6 +37,14 @@ public class OrderCreatedConsumer {
                 return;
             }
 
+            // 알림을 받을 허브 관리자가 없으면 다시 받아도 보낼 수 없으므로 재시도하지 않고 넘긴다
+            var hubManager = event.order().hubManager();
+            if (hubManager == null || hubManager.slackId() == null || hubManager.slackId().isBlank()) {
+                log.warn("⏭️ No hub manager to notify, skipping - eventId: {}, orderId: {}",
+                        event.eventId(), event.order().orderId());
+                return;
+            }
+
             // OrderCreatedEvent → OrderNotificationRequest 변환
             OrderNotificationRequest request = convertToRequest(event);
 
@@ -52,6 +61,10 @@ public class OrderCreatedConsumer {
         }
     }
 
+    /**
+     * order-service 는 허브명, 경유 허브, 수령인 슬랙 ID, 주문자 정보를 싣지 않으므로 없는 값은 있는 정보로 대신한다.
+     * (허브명 → 허브 ID, 주문자 → 공급업체명)
+     */
     private OrderNotificationRequest convertToRequest(OrderCreatedEvent event) {
         var order = event.order();
         var route = order.route();
@@ -59,24 +72,40 @@ public class OrderCreatedConsumer {
         var hubManager = order.hubManager();
 
         // waypoint hub names를 그대로 전달 (List<String>)
-        List<String> waypoints = route.waypointHubNames() != null
+        List<String> waypoints = route != null && route.waypointHubNames() != null
                 ? route.waypointHubNames()
                 : List.of();
 
         return new OrderNotificationRequest(
                 order.orderId(),
-                order.ordererInfo(),
+                order.ordererInfo() != null ? order.ordererInfo() : order.requestingCompanyName(),
                 order.requestingCompanyName(),
                 order.receivingCompanyName(),
                 order.productInfo(),
                 order.requestDetails(),
-                route.startHubName(),
+                route != null ? hubName(route.startHubName(), route.startHubId()) : null,
                 waypoints,
-                route.destinationHubName(),
-                receiver.address(),
-                String.format("%s / %s", receiver.name(), receiver.slackId()),
+                route != null ? hubName(route.destinationHubName(), route.destinationHubId()) : null,
+                receiver != null ? receiver.address() : null,
+                receiverInfo(receiver),
                 hubManager.slackId(),
                 hubManager.name()
         );
     }
+
+    private static String hubName(String name, UUID hubId) {
+        if (name != null) {
+            return name;
+        }
+        return hubId != null ? hubId.toString() : null;
+    }
+
+    private static String receiverInfo(OrderCreatedEvent.ReceiverData receiver) {
+        if (receiver == null) {
+            return null;
+        }
+        return receiver.slackId() != null
+                ? String.format("%s / %s", receiver.name(), receiver.slackId())
+                : receiver.name();
+    }
 }
@@ -0,0 +1,94 @@
+package com.oneforlogis.notification.infrastructure.kafka;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.oneforlogis.notification.application.event.OrderCreatedEvent;
+import com.oneforlogis.notification.application.service.NotificationService;
+import com.oneforlogis.notification.domain.repository.NotificationRepository;
+import com.oneforlogis.notification.presentation.request.OrderNotificationRequest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.support.JacksonUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * order-service 가 outbox 로 발행하는 order.created 를 이 서비스의 OrderCreatedEvent 로 읽을 수 있는지 확인한다.
+ * 메시지 예시는 발행하는 쪽(order-service)이 관리하며, order-service 테스트도 같은 파일과 실제 payload 를 비교한다.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("order.created 계약 테스트")
+class OrderCreatedContractTest {
+
+    private static final Path ORDER_CREATED_CONTRACT =
+            Path.of("../order-service/src/test/resources/contract/order-created.json");
+
+    // 리스너의 JsonDeserializer 와 같은 설정
+    private final ObjectMapper objectMapper = JacksonUtils.enhancedObjectMapper();
+
+    @Mock
+    private NotificationService notificationService;
+
+    @Mock
+    private NotificationRepository notificationRepository;
+
+    @InjectMocks
+    private OrderCreatedConsumer consumer;
+
+    @Test
+    @DisplayName("order-service 의 payload 를 읽을 수 있고, 허브 관리자가 없으면 재시도 없이 건너뛴다")
+    void reads_order_service_payload_and_skips_without_hub_manager() throws IOException {
+        OrderCreatedEvent event = readContract();
+
+        assertThat(event.order().orderId()).isNotNull();
+        assertThat(event.order().requestingCompanyName()).isEqualTo("건조 식품 가공 업체");
+        assertThat(event.order().receivingCompanyName()).isEqualTo("수산물 도매 업체");
+        assertThat(event.order().route().startHubId()).isNotNull();
+        assertThat(event.order().route().destinationHubId()).isNotNull();
+        assertThat(event.order().receiver().address()).isNotBlank();
+        assertThat(event.order().hubManager()).isNull();
+
+        assertThatCode(() -> consumer.onMessage(event)).doesNotThrowAnyException();
+        verify(notificationService, never()).sendOrderNotificationFromEvent(any(), anyString());
+    }
+
+    @Test
+    @DisplayName("허브명, 수령인 슬랙 ID, 주문자 정보가 없으면 허브 ID, 수령인 이름, 공급업체명으로 대신해 발송한다")
+    void fills_missing_fields_when_hub_manager_is_known() throws IOException {
+        OrderCreatedEvent.OrderData order = readContract().order();
+        OrderCreatedEvent event = new OrderCreatedEvent("evt-contract", null, new OrderCreatedEvent.OrderData(
+                order.orderId(), order.ordererInfo(), order.requestingCompanyName(), order.receivingCompanyName(),
+                order.productInfo(), order.requestDetails(), order.route(), order.receiver(),
+                new OrderCreatedEvent.HubManagerData("U98765432", "박관리")));
+
+        consumer.onMessage(event);
+
+        ArgumentCaptor<OrderNotificationRequest> captor = ArgumentCaptor.forClass(OrderNotificationRequest.class);
+        verify(notificationService).sendOrderNotificationFromEvent(captor.capture(), eq("evt-contract"));
+        OrderNotificationRequest request = captor.getValue();
+        assertThat(request.ordererInfo()).isEqualTo("건조 식품 가공 업체");
+        assertThat(request.departureHub()).isEqualTo(order.route().startHubId().toString());
+        assertThat(request.destinationHub()).isEqualTo(order.route().destinationHubId().toString());
+        assertThat(request.waypoints()).isEmpty();
+        assertThat(request.deliveryPersonInfo()).isEqualTo("수산물 도매 업체");
+        assertThat(request.recipientSlackId()).isEqualTo("U98765432");
+    }
+
+    private OrderCreatedEvent readContract() throws IOException {
+        return objectMapper.readValue(Files.readString(ORDER_CREATED_CONTRACT), OrderCreatedEvent.class);
+    }
+}
@@ -0,0 +1,45 @@
+package com.oneforlogis.order.application.event;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * order.created 메시지. delivery-service, notification-service 의 OrderCreated 메시지와 같은 필드 이름을 쓴다.
+ * notification-service 가 받는 허브명, 경유 허브, 허브 관리자는 주문 서비스가 알 수 없어 싣지 않는다.
+ * 구조는 src/test/resources/contract/order-created.json 에 두고 양쪽 테스트에서 확인한다.
+ */
+public record OrderCreatedEvent(
+        String eventId,
+        OffsetDateTime occurredAt,
+        OrderData order
+) {
+
+    public record OrderData(
+            UUID orderId,
+            String orderNo,
+            UUID supplierCompanyId,
+            UUID receiverCompanyId,
+            // notification-service 가 알림에 쓰는 업체명. order.updated 에서는 null
+            String requestingCompanyName,
+            String receivingCompanyName,
+            String productInfo,
+            String requestDetails,
+            BigDecimal totalAmount,
+            List<ItemData> items,
+            // 경로: 공급업체 허브 -> 수령업체 허브, 수령인: 수령업체. order.updated 에서는 null
+            RouteData route,
+            ReceiverData receiver
+    ) {
+    }
+
+    public record ItemData(UUID productId, String productName, Integer quantity) {
+    }
+
+    public record RouteData(UUID startHubId, UUID destinationHubId) {
+    }
+
+    public record ReceiverData(String name, String address, String slackId) {
+    }
+}
@@ -0,0 +1,11 @@
+package com.oneforlogis.order.application.event;
+
+public final class OrderEventTopics {
+
+    public static final String ORDER_CREATED = "order.created";
+    public static final String ORDER_UPDATED = "order.updated";
+    public static final String ORDER_STATUS_CHANGED = "order.status-changed";
+
+    private OrderEventTopics() {
+    }
+}
@@ -0,0 +1,15 @@
+package com.oneforlogis.order.application.event;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+public record OrderStatusChangedEvent(
+        String eventId,
+        OffsetDateTime occurredAt,
+        UUID orderId,
+        String orderNo,
+        String fromStatus,
+        String toStatus,
+        String reason
+) {
+}
@@ -0,0 +1,13 @@
+package com.oneforlogis.order.application.event;
+
+import java.time.OffsetDateTime;
+
+/**
+ * order.updated 메시지. 수정 후의 주문 내용을 order.created 와 같은 구조로 담는다.
+ */
+public record OrderUpdatedEvent(
+        String eventId,
+        OffsetDateTime occurredAt,
+        OrderCreatedEvent.OrderData order
+) {
+}
@@ -0,0 +1,89 @@
+package com.oneforlogis.order.application.service;
+
+import com.oneforlogis.order.domain.repository.OrderNoBlockRepository;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 주문번호 생성기 (예: ORD-20250115-00001).
+ *
+ * <p>날짜별 일련번호를 DB 에서 block-size 개씩 예약해 두고, 예약한 구간 안에서는 AtomicLong 으로 DB 왕복 없이 나눠 준다.
+ * 구간을 다 쓰거나 날짜가 바뀔 때만 잠금을 잡고 새 블록을 받는다. 인스턴스마다 다른 블록을 쓰므로 번호는 겹치지 않고,
+ * 한 인스턴스 안에서는 증가 순서가 유지된다. 하루 99999 건을 넘으면 자릿수가 늘어난다.
+ */
+@Slf4j
+@Component
+public class OrderNoGenerator {
+
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd");
+
+    private final OrderNoBlockRepository blockRepository;
+    private final int blockSize;
+    private final Clock clock;
+
+    private volatile Block block = Block.EMPTY;
+
+    @Autowired
+    public OrderNoGenerator(OrderNoBlockRepository blockRepository,
+                            @Value("${order.order-no.block-size:100}") int blockSize) {
+        this(blockRepository, blockSize, Clock.systemDefaultZone());
+    }
+
+    OrderNoGenerator(OrderNoBlockRepository blockRepository, int blockSize, Clock clock) {
+        if (blockSize < 1) {
+            throw new IllegalArgumentException("주문번호 블록 크기는 1 이상이어야 합니다.");
+        }
+        this.blockRepository = blockRepository;
+        this.blockSize = blockSize;
+        this.clock = clock;
+    }
+
+    public String next() {
+        LocalDate today = LocalDate.now(clock);
+        while (true) {
+            Block current = block;
+            if (current.date.equals(today)) {
+                long number = current.next.getAndIncrement();
+                if (number <= current.max) {
+                    return format(today, number);
+                }
+            }
+            refill(current, today);
+        }
+    }
+
+    private synchronized void refill(Block exhausted, LocalDate today) {
+        // 기다리는 동안 다른 스레드가 이미 새 블록을 받았으면 그대로 쓴다.
+        if (block != exhausted) {
+            return;
+        }
+        long max = blockRepository.allocate(today, blockSize);
+        block = new Block(today, max - blockSize + 1, max);
+        log.debug("주문번호 블록 할당 date={}, range=[{}, {}]", today, max - blockSize + 1, max);
+    }
+
+    private static String format(LocalDate date, long number) {
+        return String.format("ORD-%s-%05d", date.format(DATE_FORMAT), number);
+    }
+
+    private static final class Block {
+
+        static final Block EMPTY = new Block(LocalDate.MIN, 1, 0);
+
+        final LocalDate date;
+        final AtomicLong next;
+        final long max;
+
+        Block(LocalDate date, long first, long max) {
+            this.date = date;
+            this.next = new AtomicLong(first);
+            this.max = max;
+        }
+    }
+}
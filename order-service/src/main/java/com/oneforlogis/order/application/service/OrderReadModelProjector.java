@@ -0,0 +1,142 @@
+package com.oneforlogis.order.application.service;
+
+import com.oneforlogis.order.application.event.OrderCreatedEvent;
+import com.oneforlogis.order.application.event.OrderStatusChangedEvent;
+import com.oneforlogis.order.application.event.OrderUpdatedEvent;
+import com.oneforlogis.order.domain.model.OrderStatus;
+import com.oneforlogis.order.infrastructure.external.CompanyNameCache;
+import com.oneforlogis.order.infrastructure.persistence.JpaOrderViewRepository;
+import com.oneforlogis.order.infrastructure.persistence.OrderCompanyRole;
+import com.oneforlogis.order.infrastructure.persistence.OrderStatusCountJdbcRepository;
+import com.oneforlogis.order.infrastructure.persistence.OrderView;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.util.Objects;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 주문 이벤트를 조회 모델(p_order_view)과 상태별 집계(p_order_status_count)에 반영한다.
+ *
+ * <p>이벤트는 at-least-once 로 오고 토픽 간 순서도 보장되지 않으므로, 행에 남긴 발생 시각보다 이른 이벤트는 버린다.
+ * 집계는 반영 전후의 (공급업체, 수령업체, 상태) 를 비교해 달라졌을 때만 옮기므로 중복 이벤트로 두 번 세지 않는다.
+ * 업체명은 트랜잭션을 열기 전에 {@link CompanyNameCache} 로 구해 두어 원격 호출 동안 조회 모델 행을 잡고 있지 않는다.
+ */
+@Service
+@RequiredArgsConstructor
+public class OrderReadModelProjector {
+
+    // 생성 이벤트 전에 수정 이벤트가 먼저 만든 행의 상태 기준 시각. 이후의 어떤 상태 변경도 덮어쓸 수 있다.
+    private static final LocalDateTime UNKNOWN = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private final JpaOrderViewRepository orderViewRepository;
+    private final OrderStatusCountJdbcRepository statusCountRepository;
+    private final CompanyNameCache companyNameCache;
+    private final TransactionTemplate transactionTemplate;
+
+    public void onCreated(OrderCreatedEvent event) {
+        LocalDateTime occurredAt = toLocal(event.occurredAt());
+        CompanyNames names = companyNames(event.order());
+        transactionTemplate.executeWithoutResult(status ->
+                describe(event.order(), names, occurredAt, occurredAt, occurredAt));
+    }
+
+    public void onUpdated(OrderUpdatedEvent event) {
+        CompanyNames names = companyNames(event.order());
+        transactionTemplate.executeWithoutResult(status ->
+                describe(event.order(), names, null, toLocal(event.occurredAt()), UNKNOWN));
+    }
+
+    public void onStatusChanged(OrderStatusChangedEvent event) {
+        transactionTemplate.executeWithoutResult(status -> changeStatus(event));
+    }
+
+    private void changeStatus(OrderStatusChangedEvent event) {
+        LocalDateTime occurredAt = toLocal(event.occurredAt());
+        OrderStatus toStatus = OrderStatus.valueOf(event.toStatus());
+        OrderView view = orderViewRepository.findById(event.orderId()).orElse(null);
+        if (view == null) {
+            orderViewRepository.save(new OrderView(event.orderId(), toStatus, occurredAt));
+            return;
+        }
+
+        CountKey before = CountKey.of(view);
+        if (view.changeStatus(toStatus, occurredAt)) {
+            moveCount(before, CountKey.of(view));
+        }
+    }
+
+    private void describe(OrderCreatedEvent.OrderData order, CompanyNames names, LocalDateTime orderedAt,
+                          LocalDateTime describedAt, LocalDateTime newRowStatusAt) {
+        OrderView view = orderViewRepository.findById(order.orderId())
+                .orElseGet(() -> orderViewRepository.save(
+                        new OrderView(order.orderId(), OrderStatus.PENDING, newRowStatusAt)));
+
+        CountKey before = CountKey.of(view);
+        view.describe(
+                order.orderNo(),
+                order.supplierCompanyId(),
+                names.supplier(),
+                order.receiverCompanyId(),
+                names.receiver(),
+                abbreviate(order.productInfo()),
+                order.items() != null ? order.items().size() : 0,
+                order.totalAmount(),
+                orderedAt,
+                describedAt
+        );
+        moveCount(before, CountKey.of(view));
+    }
+
+    private void moveCount(CountKey before, CountKey after) {
+        if (Objects.equals(before, after)) {
+            return;
+        }
+        if (before != null) {
+            statusCountRepository.add(before.supplierId(), OrderCompanyRole.SUPPLIER, before.status(), -1);
+            statusCountRepository.add(before.receiverId(), OrderCompanyRole.RECEIVER, before.status(), -1);
+        }
+        if (after != null) {
+            statusCountRepository.add(after.supplierId(), OrderCompanyRole.SUPPLIER, after.status(), 1);
+            statusCountRepository.add(after.receiverId(), OrderCompanyRole.RECEIVER, after.status(), 1);
+        }
+    }
+
+    /**
+     * company-service 장애로 주문 반영이 밀리지 않도록 조회에 실패한 업체는 이름 없이 둔다.
+     */
+    private CompanyNames companyNames(OrderCreatedEvent.OrderData order) {
+        return new CompanyNames(companyNameCache.find(order.supplierCompanyId()),
+                companyNameCache.find(order.receiverCompanyId()));
+    }
+
+    private static String abbreviate(String itemSummary) {
+        if (itemSummary == null || itemSummary.length() <= 500) {
+            return itemSummary;
+        }
+        return itemSummary.substring(0, 497) + "...";
+    }
+
+    private static LocalDateTime toLocal(OffsetDateTime occurredAt) {
+        return occurredAt.atZoneSameInstant(ZoneId.systemDefault()).toLocalDateTime();
+    }
+
+    private record CompanyNames(String supplier, String receiver) {
+    }
+
+    /**
+     * 집계에 들어간 행의 위치. 생성 이벤트가 반영되기 전(업체를 모름)이면 null.
+     */
+    private record CountKey(UUID supplierId, UUID receiverId, OrderStatus status) {
+
+        static CountKey of(OrderView view) {
+            if (!view.isComplete()) {
+                return null;
+            }
+            return new CountKey(view.getSupplierCompanyId(), view.getReceiverCompanyId(), view.getStatus());
+        }
+    }
+}
@@ -1,32 +1,58 @@
 package com.oneforlogis.order.application.service;
 
+import com.oneforlogis.common.api.CursorPageResponse;
 import com.oneforlogis.common.api.PageResponse;
 import com.oneforlogis.common.exception.CustomException;
 import com.oneforlogis.common.exception.ErrorCode;
+import com.oneforlogis.common.statemachine.StateMachine;
 import com.oneforlogis.order.domain.model.Order;
 import com.oneforlogis.order.domain.model.OrderItem;
 import com.oneforlogis.order.domain.model.OrderStatus;
+import com.oneforlogis.order.domain.model.OrderStatusHistory;
+import com.oneforlogis.order.domain.repository.OrderCursor;
 import com.oneforlogis.order.domain.repository.OrderRepository;
+import com.oneforlogis.order.domain.repository.OrderSortField;
+import com.oneforlogis.order.domain.repository.OrderStatusChange;
+import com.oneforlogis.order.domain.repository.OrderStatusSnapshot;
+import com.oneforlogis.order.infrastructure.external.CompanyClient;
+import com.oneforlogis.order.infrastructure.external.ProductClient;
 import com.oneforlogis.order.infrastructure.external.UserClient;
+import com.oneforlogis.order.infrastructure.external.dto.CompanyBulkRequest;
+import com.oneforlogis.order.infrastructure.external.dto.CompanyResponse;
+import com.oneforlogis.order.infrastructure.external.dto.ProductResponse;
+import com.oneforlogis.order.infrastructure.external.dto.StockReservationRequest;
+import com.oneforlogis.order.infrastructure.persistence.JpaOrderViewRepository;
+import com.oneforlogis.order.infrastructure.persistence.OrderCompanyRole;
+import com.oneforlogis.order.infrastructure.persistence.OrderStatusCountJdbcRepository;
+import com.oneforlogis.order.infrastructure.messaging.OrderOutboxWriter;
+import com.oneforlogis.order.presentation.request.OrderBulkCreateRequest;
 import com.oneforlogis.order.presentation.request.OrderCancelRequest;
 import com.oneforlogis.order.presentation.request.OrderCreateRequest;
 import com.oneforlogis.order.presentation.request.OrderStatusChangeRequest;
 import com.oneforlogis.order.presentation.request.OrderUpdateRequest;
+import com.oneforlogis.order.presentation.response.OrderBulkCreateResponse;
 import com.oneforlogis.order.presentation.response.OrderCancelResponse;
 import com.oneforlogis.order.presentation.response.OrderCreateResponse;
 import com.oneforlogis.order.presentation.response.OrderDetailResponse;
 import com.oneforlogis.order.presentation.response.OrderStatusChangeResponse;
+import com.oneforlogis.order.presentation.response.OrderStatusCountResponse;
 import com.oneforlogis.order.presentation.response.OrderStatusHistoryResponse;
 import com.oneforlogis.order.presentation.response.OrderSummaryResponse;
 import com.oneforlogis.order.presentation.response.OrderUpdateResponse;
+import com.oneforlogis.order.presentation.response.OrderViewResponse;
+import feign.FeignException;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeParseException;
-import java.util.Comparator;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
@@ -40,7 +66,20 @@ import org.springframework.transaction.annotation.Transactional;
 @Transactional(readOnly = true)
 public class OrderService {
 
+    // 커서 조회 한 번에 읽는 최대 건수. 다음 페이지 확인용으로 한 건 더 읽는다.
+    private static final int MAX_SCROLL_SIZE = 100;
+
+    // company-service 일괄 조회 한 번에 보내는 최대 업체 수 (company-service 의 요청 제한과 같다)
+    private static final int COMPANY_BULK_SIZE = 1000;
+
     private final OrderRepository orderRepository;
+    private final OrderNoGenerator orderNoGenerator;
+    private final OrderOutboxWriter orderOutboxWriter;
+    private final JpaOrderViewRepository orderViewRepository;
+    private final OrderStatusCountJdbcRepository statusCountRepository;
+    private final ProductClient productClient;
+    private final CompanyClient companyClient;
+    private final StateMachine<OrderStatus, OrderStatusChange> orderStateMachine;
 //    private final UserClient userClient;
     @Transactional
     public OrderCreateResponse createOrder(OrderCreateRequest request) {
@@ -50,36 +89,136 @@ public class OrderService {
 
         //UserResponse user = userClient.getUserById(userId); // 사용자 존재 여부 확인
 
+        // 재고 예약과 가격 조회를 product-service 한 번 호출로 처리 (예약 키는 미리 발급한 주문번호)
+        String orderNo = orderNoGenerator.next();
+        Map<UUID, CompanyResponse> companies = findCompanies(List.of(request));
+        Map<UUID, ProductResponse> products = reserveStocks(List.of(orderNo), List.of(request));
+        Order order = toOrder(orderNo, userId, request, products);
+
+        // 저장
+        Order savedOrder = orderRepository.save(order);
+
+        // 같은 트랜잭션에서 order.created 이벤트를 outbox 에 기록 (배송 경로, 수령인 포함)
+        orderOutboxWriter.orderCreated(savedOrder, companies);
+
+        return new OrderCreateResponse(savedOrder.getId());
+    }
+
+    /**
+     * 주문 일괄 생성. 모든 주문을 먼저 검증/생성한 뒤 하나라도 잘못되면 전체를 거절하고,
+     * 통과하면 한 트랜잭션에서 JDBC 배치로 저장한다.
+     */
+    @Transactional
+    public OrderBulkCreateResponse createOrders(OrderBulkCreateRequest request) {
+        // TODO: 추후 JWT에서 userId 추출하도록 변경
+        Long userId = 1L;
+
+        // 모든 주문의 재고 예약/가격 조회를 한 번에
+        List<String> orderNos = request.orders().stream().map(orderRequest -> orderNoGenerator.next()).toList();
+        Map<UUID, CompanyResponse> companies = findCompanies(request.orders());
+        Map<UUID, ProductResponse> products = reserveStocks(orderNos, request.orders());
+
+        List<Order> orders = new ArrayList<>(request.orders().size());
+        for (int i = 0; i < request.orders().size(); i++) {
+            try {
+                orders.add(toOrder(orderNos.get(i), userId, request.orders().get(i), products));
+            } catch (IllegalArgumentException e) {
+                throw new CustomException(ErrorCode.BAD_REQUEST);
+            }
+        }
+
+        List<Order> savedOrders = orderRepository.saveAll(orders);
+        orderOutboxWriter.ordersCreated(savedOrders, companies);
 
-        // OrderItem 생성
-        // TODO: 추후 product-service에서 실제 unitPrice 조회하도록 변경
-        // 현재는 1차 구현 테스트를 위해 임시로 0으로 설정
+        List<OrderBulkCreateResponse.OrderResult> results = new ArrayList<>(savedOrders.size());
+        for (int i = 0; i < savedOrders.size(); i++) {
+            Order saved = savedOrders.get(i);
+            results.add(new OrderBulkCreateResponse.OrderResult(i, saved.getId(), saved.getOrderNo()));
+        }
+        return new OrderBulkCreateResponse(results.size(), results);
+    }
+
+    /**
+     * 주문들의 공급/수령업체를 company-service 일괄 조회로 가져온다. 배송 경로(업체 소속 허브)와 수령인을 order.created 에 싣기 위해 쓴다.
+     * 원격 호출은 업체 {@value #COMPANY_BULK_SIZE}개마다 한 번이며, 재고 예약보다 먼저 호출해 없는 업체가 있으면 예약 없이 거절한다.
+     */
+    private Map<UUID, CompanyResponse> findCompanies(List<OrderCreateRequest> requests) {
+        List<UUID> companyIds = requests.stream()
+                .flatMap(request -> Stream.of(request.supplierCompanyId(), request.receiverCompanyId()))
+                .distinct()
+                .toList();
+
+        Map<UUID, CompanyResponse> companies = new HashMap<>(companyIds.size());
+        for (int from = 0; from < companyIds.size(); from += COMPANY_BULK_SIZE) {
+            List<UUID> chunk = companyIds.subList(from, Math.min(from + COMPANY_BULK_SIZE, companyIds.size()));
+            companyClient.getCompanies(new CompanyBulkRequest(chunk))
+                    .forEach(company -> companies.put(company.id(), company));
+        }
+        if (companies.size() < companyIds.size()) {
+            throw new CustomException(ErrorCode.COMPANY_NOT_FOUND);
+        }
+        return companies;
+    }
+
+    /**
+     * 주문번호별 재고를 product-service 에 한 번에 예약하고, 응답의 상품 정보를 ID 로 묶어 돌려준다.
+     * 항목 수와 관계없이 원격 호출은 한 번이며, 하나라도 실패하면 product-service 쪽에서 전체가 취소된다.
+     * 이후 이 트랜잭션이 롤백되면 order.created 가 나가지 않아 예약이 확정되지 않고, 유효 시간이 지나 재고가 복구된다.
+     */
+    private Map<UUID, ProductResponse> reserveStocks(List<String> orderNos, List<OrderCreateRequest> requests) {
+        List<StockReservationRequest.OrderReservation> reservations = new ArrayList<>(requests.size());
+        for (int i = 0; i < requests.size(); i++) {
+            List<StockReservationRequest.Item> items = new ArrayList<>();
+            for (OrderCreateRequest.OrderItemRequest item : requests.get(i).items()) {
+                if (item.quantity() == null || item.quantity() <= 0) {
+                    throw new CustomException(ErrorCode.BAD_REQUEST);
+                }
+                items.add(new StockReservationRequest.Item(item.productId(), item.quantity()));
+            }
+            reservations.add(new StockReservationRequest.OrderReservation(orderNos.get(i), items));
+        }
+
+        try {
+            return productClient.reserveStocks(new StockReservationRequest(reservations)).stream()
+                    .collect(Collectors.toMap(ProductResponse::id, Function.identity()));
+        } catch (FeignException.NotFound e) {
+            throw new CustomException(ErrorCode.PRODUCT_NOT_FOUND);
+        } catch (FeignException.BadRequest e) {
+            throw new CustomException(ErrorCode.STOCK_NOT_ENOUGH);
+        }
+    }
+
+    private Order toOrder(String orderNo, Long userId, OrderCreateRequest request,
+                          Map<UUID, ProductResponse> products) {
+        // OrderItem 생성 (상품명/단가는 product-service 기준)
         List<OrderItem> orderItems = request.items().stream()
-                .map(item -> OrderItem.from(
-                        item.productId(),
-                        item.productName(),
-                        BigDecimal.ZERO, // TODO: product-service 연동 시 실제 가격 조회
-                        item.quantity()
-                ))
+                .map(item -> {
+                    ProductResponse product = products.get(item.productId());
+                    if (product == null) {
+                        throw new CustomException(ErrorCode.PRODUCT_NOT_FOUND);
+                    }
+                    return OrderItem.from(
+                            item.productId(),
+                            product.name(),
+                            product.price(),
+                            item.quantity()
+                    );
+                })
                 .collect(Collectors.toList());
 
         // Order 생성
-        Order order = Order.create(
+        return Order.create(
+                orderNo,
                 userId,
                 request.supplierCompanyId(),
                 request.receiverCompanyId(),
                 request.requestNote(),
                 orderItems
         );
-
-        // 저장
-        Order savedOrder = orderRepository.save(order);
-
-        return new OrderCreateResponse(savedOrder.getId());
     }
 
     public OrderDetailResponse getOrderById(UUID orderId) {
-        Order order = orderRepository.findById(orderId)
+        Order order = orderRepository.findDetailById(orderId)
                 .orElseThrow(() -> new CustomException(ErrorCode.ORDER_NOT_FOUND));
         return OrderDetailResponse.from(order);
     }
@@ -118,6 +257,105 @@ public class OrderService {
         return PageResponse.fromPage(orderPage.map(OrderSummaryResponse::from));
     }
 
+    /**
+     * 커서 방식 주문 목록 조회. (createdAt DESC, id DESC) 고정 정렬로 마지막 위치 다음부터 읽으므로
+     * 페이지가 깊어져도 조회 비용이 일정하다. 전체 건수는 withTotal 일 때만 계산한다.
+     * size 는 1 이상 {@value #MAX_SCROLL_SIZE} 이하만 허용한다.
+     */
+    public CursorPageResponse<OrderSummaryResponse> scrollOrders(
+            String status,
+            String supplierId,
+            String receiverId,
+            String startDate,
+            String endDate,
+            String cursor,
+            int size,
+            boolean withTotal
+    ) {
+        if (size < 1 || size > MAX_SCROLL_SIZE) {
+            throw new CustomException(ErrorCode.BAD_REQUEST);
+        }
+
+        // 필터 파라미터 변환
+        OrderStatus orderStatus = parseOrderStatus(status);
+        UUID supplierUuid = parseUuid(supplierId);
+        UUID receiverUuid = parseUuid(receiverId);
+        LocalDateTime startDateTime = parseStartDate(startDate);
+        LocalDateTime endDateTime = parseEndDate(endDate);
+
+        // 다음 페이지 존재 여부를 알기 위해 한 건 더 조회
+        List<Order> orders = orderRepository.findByFiltersAfter(
+                orderStatus,
+                supplierUuid,
+                receiverUuid,
+                startDateTime,
+                endDateTime,
+                OrderCursor.decode(cursor),
+                size + 1
+        );
+
+        boolean hasNext = orders.size() > size;
+        List<Order> content = hasNext ? orders.subList(0, size) : orders;
+        String nextCursor = hasNext ? OrderCursor.of(content.get(size - 1)).encode() : null;
+        Long total = withTotal
+                ? orderRepository.countByFilters(orderStatus, supplierUuid, receiverUuid, startDateTime, endDateTime)
+                : null;
+
+        return CursorPageResponse.of(
+                content.stream().map(OrderSummaryResponse::from).toList(),
+                size,
+                nextCursor,
+                total
+        );
+    }
+
+    /**
+     * 조회 모델(p_order_view) 기반 주문 목록. 업체명과 상품 요약이 함께 내려가며 주문 테이블을 읽지 않는다.
+     * 이벤트로 비동기 갱신되므로 방금 바뀐 주문은 잠시 이전 상태로 보일 수 있다. 정렬은 주문 시각 최신순 고정.
+     */
+    public PageResponse<OrderViewResponse> getOrderViews(
+            String status,
+            String supplierId,
+            String receiverId,
+            String startDate,
+            String endDate,
+            int page,
+            int size
+    ) {
+        Pageable pageable = PageRequest.of(page, size,
+                Sort.by(Sort.Direction.DESC, "orderedAt").and(Sort.by(Sort.Direction.DESC, "orderId")));
+
+        return PageResponse.fromPage(orderViewRepository.findByFilters(
+                parseOrderStatus(status),
+                parseUuid(supplierId),
+                parseUuid(receiverId),
+                parseStartDate(startDate),
+                parseEndDate(endDate),
+                pageable
+        ).map(OrderViewResponse::from));
+    }
+
+    /**
+     * 상태별 주문 수. companyId 가 있으면 해당 업체가 role(기본 SUPPLIER)로 참여한 주문만 센다.
+     */
+    public OrderStatusCountResponse getStatusCounts(String companyId, String role) {
+        UUID companyUuid = parseUuid(companyId);
+        if (companyUuid == null) {
+            return OrderStatusCountResponse.of(null, null, statusCountRepository.countAll());
+        }
+
+        OrderCompanyRole companyRole;
+        try {
+            companyRole = role == null || role.isBlank()
+                    ? OrderCompanyRole.SUPPLIER
+                    : OrderCompanyRole.valueOf(role.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new CustomException(ErrorCode.BAD_REQUEST);
+        }
+        return OrderStatusCountResponse.of(companyUuid, companyRole.name(),
+                statusCountRepository.countByCompany(companyUuid, companyRole));
+    }
+
     private Sort parseSort(String sort) {
         if (sort == null || sort.isBlank()) {
             return Sort.by(Sort.Direction.DESC, "createdAt");
@@ -136,7 +374,13 @@ public class OrderService {
                     ? Sort.Direction.ASC 
                     : Sort.Direction.DESC;
 
-            return Sort.by(sortDirection, field);
+            // 인덱스가 있는 필드만 정렬 허용
+            OrderSortField sortField = OrderSortField.fromProperty(field)
+                    .orElseThrow(() -> new CustomException(ErrorCode.BAD_REQUEST));
+
+            return Sort.by(sortDirection, sortField.property());
+        } catch (CustomException e) {
+            throw e;
         } catch (Exception e) {
             return Sort.by(Sort.Direction.DESC, "createdAt");
         }
@@ -190,12 +434,13 @@ public class OrderService {
 
     @Transactional
     public OrderStatusChangeResponse changeStatus(UUID orderId, OrderStatusChangeRequest request) {
-        // 주문 조회
-        Order order = orderRepository.findById(orderId)
+        // 주문 전체(항목, 이력) 대신 상태와 버전만 조회
+        OrderStatusSnapshot snapshot = orderRepository.findStatusSnapshot(orderId)
                 .orElseThrow(() -> new CustomException(ErrorCode.ORDER_NOT_FOUND));
 
         // 최종 상태 체크 (DELIVERED, CANCELED는 변경 불가)
-        if (order.getStatus() == OrderStatus.DELIVERED || order.getStatus() == OrderStatus.CANCELED) {
+        OrderStatus fromStatus = snapshot.status();
+        if (OrderStatus.TRANSITIONS.isFinal(fromStatus)) {
             throw new CustomException(ErrorCode.ORDER_ALREADY_FINAL);
         }
 
@@ -207,61 +452,27 @@ public class OrderService {
             throw new CustomException(ErrorCode.BAD_REQUEST);
         }
 
-        // 현재 상태와 동일하면 변경 불필요
-        if (order.getStatus() == toStatus) {
-            throw new CustomException(ErrorCode.ORDER_STATUS_CHANGE_INVALID);
-        }
-
-        // 상태 전이 검증
-        if (!isValidStatusTransition(order.getStatus(), toStatus)) {
-            throw new CustomException(ErrorCode.ORDER_STATUS_CHANGE_INVALID);
-        }
-
-        // 상태 변경 전 상태 저장
-        OrderStatus fromStatus = order.getStatus();
-
-        // 상태 변경 (이력 자동 생성)
-        String reason = request.reason() != null && !request.reason().isBlank() 
-                ? request.reason() 
+        String reason = request.reason() != null && !request.reason().isBlank()
+                ? request.reason()
                 : "상태 변경";
-        order.changeStatus(toStatus, reason);
+        OrderStatusChange change = OrderStatusChange.of(snapshot, reason);
 
-        // 저장
-        Order savedOrder = orderRepository.save(order);
+        // 전이 검증 → (status, version) 조건 UPDATE + 이력 → outbox 이벤트
+        switch (orderStateMachine.transition(change, fromStatus, toStatus, snapshot.version())) {
+            case NOT_ALLOWED -> throw new CustomException(ErrorCode.ORDER_STATUS_CHANGE_INVALID);
+            case CONFLICT -> throw new CustomException(ErrorCode.ORDER_CONCURRENT_MODIFICATION);
+            case APPLIED -> {
+            }
+        }
 
-        // 응답 생성
         return new OrderStatusChangeResponse(
-                savedOrder.getId(),
+                orderId,
                 fromStatus.name(),
                 toStatus.name(),
-                savedOrder.getUpdatedAt() != null ? savedOrder.getUpdatedAt().toString() : null
+                change.changedAt().toString()
         );
     }
 
-    /**
-     * 상태 전이 유효성 검증
-     * - PENDING -> PAID
-     * - PAID -> PACKING
-     * - PACKING -> SHIPPED
-     * - SHIPPED -> DELIVERED
-     * - ANY -> CANCELED
-     */
-    private boolean isValidStatusTransition(OrderStatus from, OrderStatus to) {
-        // 취소는 어느 상태에서든 가능
-        if (to == OrderStatus.CANCELED) {
-            return true;
-        }
-
-        // 정상 전이 규칙
-        return switch (from) {
-            case PENDING -> to == OrderStatus.PAID;
-            case PAID -> to == OrderStatus.PACKING;
-            case PACKING -> to == OrderStatus.SHIPPED;
-            case SHIPPED -> to == OrderStatus.DELIVERED;
-            default -> false; // DELIVERED, CANCELED는 이미 위에서 체크됨
-        };
-    }
-
     @Transactional
     public OrderUpdateResponse updateOrder(UUID orderId, OrderUpdateRequest request) {
         // 주문 조회
@@ -336,25 +547,22 @@ public class OrderService {
 
         // 저장
         Order savedOrder = orderRepository.save(order);
+        orderOutboxWriter.orderUpdated(savedOrder);
 
         // 응답 생성
         return new OrderUpdateResponse(savedOrder.getId());
     }
 
     public List<OrderStatusHistoryResponse> getStatusHistory(UUID orderId) {
-        // 주문 조회 (존재하지 않으면 404)
-        Order order = orderRepository.findById(orderId)
-                .orElseThrow(() -> new CustomException(ErrorCode.ORDER_NOT_FOUND));
+        // changedAt(createdAt) DESC 정렬은 쿼리에서 처리
+        List<OrderStatusHistory> histories = orderRepository.findStatusHistories(orderId);
 
-        // 상태 변경 이력 리스트 가져오기
-        List<com.oneforlogis.order.domain.model.OrderStatusHistory> histories = order.getStatusHistories();
+        // 주문 생성 시 초기 이력이 항상 남으므로, 이력이 없을 때만 주문 존재 여부를 확인 (존재하지 않으면 404)
+        if (histories.isEmpty() && !orderRepository.existsById(orderId)) {
+            throw new CustomException(ErrorCode.ORDER_NOT_FOUND);
+        }
 
-        // changedAt(createdAt) 기준 DESC 정렬
         return histories.stream()
-                .sorted(Comparator.comparing(
-                        com.oneforlogis.order.domain.model.OrderStatusHistory::getCreatedAt,
-                        Comparator.reverseOrder()
-                ))
                 .map(OrderStatusHistoryResponse::from)
                 .collect(Collectors.toList());
     }
@@ -381,13 +589,9 @@ public class OrderService {
 
         // 주문 취소 처리 (상태 이력 자동 생성)
         order.cancel(request.reason());
+        orderOutboxWriter.statusChanged(order, beforeStatus, OrderStatus.CANCELED, request.reason());
 
-        // TODO: 재고 복구 처리
-        // 주문 취소 시 주문 항목의 수량만큼 재고를 복구해야 함
-        // - product-service 또는 inventory-service와 통신하여 재고 복구
-        // - order.getOrderItems()를 순회하며 각 상품의 수량을 재고에 반영
-        // - 예: inventoryService.restoreStock(order.getOrderItems())
-        // - 실패 시 트랜잭션 롤백을 위해 @Transactional 유지 필요
+        // 재고 복구는 product-service 가 order.status-changed(CANCELED) 를 받아 주문번호의 예약을 해제하며 처리
 
         // 저장
         Order savedOrder = orderRepository.save(order);
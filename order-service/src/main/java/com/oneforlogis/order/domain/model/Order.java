@@ -3,11 +3,10 @@ package com.oneforlogis.order.domain.model;
 import com.oneforlogis.common.model.BaseEntity;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.BatchSize;
 import org.hibernate.annotations.SQLRestriction;
 
 import java.math.BigDecimal;
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
@@ -17,9 +16,12 @@ import java.util.UUID;
 @AllArgsConstructor
 @Entity
 @Table(name = "p_order")
+@NamedEntityGraph(name = Order.WITH_ITEMS, attributeNodes = @NamedAttributeNode("orderItems"))
 @SQLRestriction("deleted_at IS NULL")
 public class Order extends BaseEntity {
 
+    public static final String WITH_ITEMS = "Order.withItems";
+
     @Id
     @GeneratedValue(strategy = GenerationType.UUID)
     @Column(name = "id", nullable = false)
@@ -53,14 +55,24 @@ public class Order extends BaseEntity {
     @Column(name = "request_note", columnDefinition = "TEXT")
     private String requestNote;
 
+    // 동시 수정 시 나중 요청이 덮어쓰지 않도록 낙관적 잠금
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
     // 단방향: Order -> OrderItem
+    // order_id 는 INSERT 에 함께 넣고 별도 UPDATE 를 하지 않는다 (배치 INSERT 유지)
+    // 여러 주문의 항목을 읽을 때는 주문 건마다가 아니라 IN 절로 묶어서 조회
     @OneToMany(cascade = CascadeType.ALL, orphanRemoval = true)
-    @JoinColumn(name = "order_id") // p_order_item.order_id
+    @JoinColumn(name = "order_id", nullable = false, updatable = false) // p_order_item.order_id
+    @BatchSize(size = 100)
     private List<OrderItem> orderItems = new ArrayList<>();
 
     // 단방향: Order -> OrderStatusHistory
     @OneToMany(cascade = CascadeType.ALL)
-    @JoinColumn(name = "order_id") // p_order_status_history.order_id
+    @JoinColumn(name = "order_id", nullable = false, updatable = false) // p_order_status_history.order_id
+    @OrderBy("createdAt DESC")
+    @BatchSize(size = 100)
     private List<OrderStatusHistory> statusHistories = new ArrayList<>();
 
     @Builder
@@ -81,19 +93,13 @@ public class Order extends BaseEntity {
     }
 
     /**
-     * 주문번호 생성 (예: ORD-20250115-00001)
+     * 주문 생성 정적 팩토리 메서드 (주문번호는 OrderNoGenerator 에서 발급)
      */
-    private static String generateOrderNo() {
-        String datePrefix = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd"));
-        String randomSuffix = String.format("%05d", (int) (Math.random() * 100000));
-        return "ORD-" + datePrefix + "-" + randomSuffix;
-    }
-
-    /**
-     * 주문 생성 정적 팩토리 메서드
-     */
-    public static Order create(Long userId, UUID supplierCompanyId, UUID receiverCompanyId,
+    public static Order create(String orderNo, Long userId, UUID supplierCompanyId, UUID receiverCompanyId,
                                String requestNote, List<OrderItem> orderItems) {
+        if (orderNo == null || orderNo.isBlank()) {
+            throw new IllegalArgumentException("주문번호는 필수입니다.");
+        }
         if (userId == null) {
             throw new IllegalArgumentException("사용자 ID는 필수입니다.");
         }
@@ -107,7 +113,6 @@ public class Order extends BaseEntity {
             throw new IllegalArgumentException("주문 항목은 최소 1개 이상 필요합니다.");
         }
 
-        String orderNo = generateOrderNo();
         Order order = Order.builder()
                 .orderNo(orderNo)
                 .userId(userId)
@@ -181,6 +186,10 @@ public class Order extends BaseEntity {
         // 상태 변경 전 현재 상태를 명시적으로 저장
         OrderStatus currentStatus = this.status;
 
+        if (!OrderStatus.TRANSITIONS.canTransition(currentStatus, newStatus)) {
+            throw new IllegalStateException("허용되지 않는 주문 상태 전이입니다: " + currentStatus + " -> " + newStatus);
+        }
+
         // OrderStatusHistory 생성 (Builder 패턴 사용)
         OrderStatusHistory history = OrderStatusHistory.builder()
                 .fromStatus(currentStatus)
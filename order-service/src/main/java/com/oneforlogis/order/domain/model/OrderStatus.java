@@ -1,11 +1,22 @@
 package com.oneforlogis.order.domain.model;
 
+import com.oneforlogis.common.statemachine.StateTransitionTable;
+
 public enum OrderStatus {
     PENDING,    // 주문접수
     PAID,       // 결제완료
     PACKING,    // 출고준비
     SHIPPED,    // 배송중
     DELIVERED,  // 배송완료
-    CANCELED    // 주문취소
-}
+    CANCELED;   // 주문취소
 
+    /**
+     * 주문 상태 전이 규칙. 정상 흐름은 한 단계씩 진행하고, 최종 상태(DELIVERED, CANCELED)가 아니면 언제든 취소할 수 있다.
+     */
+    public static final StateTransitionTable<OrderStatus> TRANSITIONS = StateTransitionTable.builder(OrderStatus.class)
+            .allow(PENDING, PAID, CANCELED)
+            .allow(PAID, PACKING, CANCELED)
+            .allow(PACKING, SHIPPED, CANCELED)
+            .allow(SHIPPED, DELIVERED, CANCELED)
+            .build();
+}
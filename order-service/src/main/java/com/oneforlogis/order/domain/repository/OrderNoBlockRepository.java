@@ -0,0 +1,15 @@
+package com.oneforlogis.order.domain.repository;
+
+import java.time.LocalDate;
+
+/**
+ * 주문번호 일련번호 블록 할당 저장소.
+ */
+public interface OrderNoBlockRepository {
+
+    /**
+     * orderDate 의 일련번호를 size 개 예약하고, 예약한 구간의 마지막 번호를 반환한다.
+     * 반환값이 n 이면 (n - size, n] 구간을 호출한 쪽이 독점해서 쓴다.
+     */
+    long allocate(LocalDate orderDate, int size);
+}
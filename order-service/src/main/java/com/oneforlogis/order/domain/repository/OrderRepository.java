@@ -2,7 +2,9 @@ package com.oneforlogis.order.domain.repository;
 
 import com.oneforlogis.order.domain.model.Order;
 import com.oneforlogis.order.domain.model.OrderStatus;
+import com.oneforlogis.order.domain.model.OrderStatusHistory;
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import org.springframework.data.domain.Page;
@@ -10,8 +12,46 @@ import org.springframework.data.domain.Pageable;
 
 public interface OrderRepository {
     Order save(Order order);
+
+    /**
+     * 주문을 한 번에 저장한다. 주문, 주문 항목, 상태 이력 INSERT 를 JDBC 배치로 묶는다.
+     */
+    List<Order> saveAll(List<Order> orders);
+
     Optional<Order> findById(UUID id);
+
+    /**
+     * 주문 상세 조회용. 주문 항목을 함께 한 번에 조회한다.
+     */
+    Optional<Order> findDetailById(UUID id);
+
+    /**
+     * 주문의 상태 변경 이력을 createdAt DESC 순으로 조회한다. 주문이 없으면 빈 목록을 반환한다.
+     */
+    List<OrderStatusHistory> findStatusHistories(UUID orderId);
+
+    /**
+     * 상태 변경용으로 주문의 상태와 버전만 조회한다.
+     */
+    Optional<OrderStatusSnapshot> findStatusSnapshot(UUID id);
+
+    /**
+     * 주문이 아직 from 상태이고 버전이 version 일 때만 to 로 바꾸고 상태 이력을 남긴다.
+     * 그 사이 다른 요청이 주문을 바꿨다면 아무것도 하지 않고 false 를 반환한다.
+     */
+    boolean compareAndSetStatus(OrderStatusChange change, OrderStatus from, OrderStatus to, long version);
+
+    boolean existsById(UUID id);
+
     Page<Order> findByFilters(OrderStatus status, UUID supplierId, UUID receiverId,
                              LocalDateTime startDate, LocalDateTime endDate, Pageable pageable);
-}
 
+    /**
+     * (createdAt DESC, id DESC) 순서로 cursor 다음 주문을 최대 limit 건 조회한다. cursor 가 null 이면 처음부터 조회한다.
+     */
+    List<Order> findByFiltersAfter(OrderStatus status, UUID supplierId, UUID receiverId,
+                                   LocalDateTime startDate, LocalDateTime endDate, OrderCursor cursor, int limit);
+
+    long countByFilters(OrderStatus status, UUID supplierId, UUID receiverId,
+                        LocalDateTime startDate, LocalDateTime endDate);
+}
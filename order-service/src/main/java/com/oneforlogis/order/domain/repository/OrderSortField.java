@@ -0,0 +1,37 @@
+package com.oneforlogis.order.domain.repository;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+/**
+ * 주문 목록에서 허용하는 정렬 필드. 모두 인덱스로 정렬할 수 있는 컬럼이며,
+ * 새 필드를 추가하면 마이그레이션에 인덱스도 함께 추가해야 한다.
+ */
+public enum OrderSortField {
+
+    CREATED_AT("createdAt", "created_at"),
+    ORDER_NO("orderNo", "order_no"),
+    STATUS("status", "status");
+
+    private final String property;
+    private final String column;
+
+    OrderSortField(String property, String column) {
+        this.property = property;
+        this.column = column;
+    }
+
+    public String property() {
+        return property;
+    }
+
+    public String column() {
+        return column;
+    }
+
+    public static Optional<OrderSortField> fromProperty(String property) {
+        return Arrays.stream(values())
+                .filter(field -> field.property.equals(property))
+                .findFirst();
+    }
+}
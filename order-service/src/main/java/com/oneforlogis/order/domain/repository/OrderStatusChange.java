@@ -0,0 +1,14 @@
+package com.oneforlogis.order.domain.repository;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 주문 상태 전이 요청. 상태 UPDATE, 이력 INSERT, 이벤트 기록에 같은 값을 쓴다.
+ */
+public record OrderStatusChange(UUID orderId, String orderNo, String reason, LocalDateTime changedAt) {
+
+    public static OrderStatusChange of(OrderStatusSnapshot snapshot, String reason) {
+        return new OrderStatusChange(snapshot.id(), snapshot.orderNo(), reason, LocalDateTime.now());
+    }
+}
@@ -0,0 +1,10 @@
+package com.oneforlogis.order.domain.repository;
+
+import com.oneforlogis.order.domain.model.OrderStatus;
+import java.util.UUID;
+
+/**
+ * 상태 변경에 필요한 주문 정보만 담은 조회 결과. 주문 항목, 이력은 읽지 않는다.
+ */
+public record OrderStatusSnapshot(UUID id, String orderNo, OrderStatus status, long version) {
+}
@@ -0,0 +1,27 @@
+package com.oneforlogis.order.global.config;
+
+import com.oneforlogis.common.statemachine.StateMachine;
+import com.oneforlogis.common.statemachine.StateTransitionHook;
+import com.oneforlogis.order.domain.model.OrderStatus;
+import com.oneforlogis.order.domain.repository.OrderRepository;
+import com.oneforlogis.order.domain.repository.OrderStatusChange;
+import com.oneforlogis.order.infrastructure.messaging.OrderOutboxWriter;
+import java.util.List;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class OrderStateMachineConfig {
+
+    /**
+     * 주문 상태 변경: 전이표 검사 후 (status, version) 조건 UPDATE, 성공하면 같은 트랜잭션에서 order.status-changed 를 outbox 에 기록
+     */
+    @Bean
+    public StateMachine<OrderStatus, OrderStatusChange> orderStateMachine(OrderRepository orderRepository,
+                                                                         OrderOutboxWriter outboxWriter) {
+        StateTransitionHook<OrderStatus, OrderStatusChange> publishStatusChanged = (change, from, to) ->
+                outboxWriter.statusChanged(change.orderId(), change.orderNo(), from, to, change.reason());
+        return new StateMachine<>(OrderStatus.TRANSITIONS, orderRepository::compareAndSetStatus,
+                List.of(publishStatusChanged));
+    }
+}
@@ -0,0 +1,22 @@
+package com.oneforlogis.order.infrastructure.external;
+
+import com.oneforlogis.order.infrastructure.external.dto.CompanyBulkRequest;
+import com.oneforlogis.order.infrastructure.external.dto.CompanyResponse;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.cloud.openfeign.FeignClient;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+
+@FeignClient(name = "company-service", path = "/api/v1/internal/companies")
+public interface CompanyClient {
+
+    @GetMapping("/{companyId}")
+    CompanyResponse getCompany(@PathVariable UUID companyId);
+
+    // 없거나 삭제된 업체는 결과에서 빠진다
+    @PostMapping("/bulk")
+    List<CompanyResponse> getCompanies(@RequestBody CompanyBulkRequest request);
+}
@@ -0,0 +1,53 @@
+package com.oneforlogis.order.infrastructure.external;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.oneforlogis.order.infrastructure.external.dto.CompanyResponse;
+import java.time.Duration;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 조회 모델용 업체명 캐시. 이벤트마다 company-service 를 두 번씩 부르지 않도록 TTL 동안 이름을 재사용한다.
+ * 조회에 실패하면 null 을 돌려주고 캐시하지 않아 다음 이벤트에서 다시 시도한다.
+ */
+@Slf4j
+@Component
+public class CompanyNameCache {
+
+    private final CompanyClient companyClient;
+    private final Cache<UUID, String> names;
+
+    public CompanyNameCache(CompanyClient companyClient,
+                            @Value("${order.read-model.company-name-ttl:PT10M}") Duration ttl,
+                            @Value("${order.read-model.company-name-maximum-size:10000}") long maximumSize) {
+        this.companyClient = companyClient;
+        this.names = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    public String find(UUID companyId) {
+        if (companyId == null) {
+            return null;
+        }
+        String cached = names.getIfPresent(companyId);
+        if (cached != null) {
+            return cached;
+        }
+        try {
+            CompanyResponse company = companyClient.getCompany(companyId);
+            if (company == null || company.name() == null) {
+                return null;
+            }
+            names.put(companyId, company.name());
+            return company.name();
+        } catch (RuntimeException e) {
+            log.warn("업체명 조회 실패 companyId={}: {}", companyId, e.getMessage());
+            return null;
+        }
+    }
+}
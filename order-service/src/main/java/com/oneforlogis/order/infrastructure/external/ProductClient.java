@@ -0,0 +1,16 @@
+package com.oneforlogis.order.infrastructure.external;
+
+import com.oneforlogis.order.infrastructure.external.dto.ProductResponse;
+import com.oneforlogis.order.infrastructure.external.dto.StockReservationRequest;
+import java.util.List;
+import org.springframework.cloud.openfeign.FeignClient;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+
+@FeignClient(name = "product-service", path = "/api/v1/internal/products")
+public interface ProductClient {
+
+    // 주문번호별 재고를 한 번에 예약하고 예약한 상품 정보(가격 포함)를 받는다. 하나라도 실패하면 전체 취소.
+    @PostMapping("/reservations")
+    List<ProductResponse> reserveStocks(@RequestBody StockReservationRequest request);
+}
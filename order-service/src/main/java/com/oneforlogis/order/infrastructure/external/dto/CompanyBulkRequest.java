@@ -0,0 +1,8 @@
+package com.oneforlogis.order.infrastructure.external.dto;
+
+import java.util.List;
+import java.util.UUID;
+
+public record CompanyBulkRequest(
+        List<UUID> companyIds
+) {}
@@ -0,0 +1,11 @@
+package com.oneforlogis.order.infrastructure.external.dto;
+
+import java.util.UUID;
+
+public record CompanyResponse(
+        UUID id,
+        String type,
+        String name,
+        UUID hubId,
+        String address
+) {}
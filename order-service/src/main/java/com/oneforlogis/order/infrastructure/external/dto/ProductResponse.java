@@ -0,0 +1,13 @@
+package com.oneforlogis.order.infrastructure.external.dto;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+public record ProductResponse(
+        UUID id,
+        String name,
+        Integer quantity,
+        BigDecimal price,
+        UUID hubId,
+        UUID companyId
+) {}
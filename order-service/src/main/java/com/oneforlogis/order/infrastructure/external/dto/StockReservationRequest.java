@@ -0,0 +1,15 @@
+package com.oneforlogis.order.infrastructure.external.dto;
+
+import java.util.List;
+import java.util.UUID;
+
+public record StockReservationRequest(
+        List<OrderReservation> orders
+) {
+
+    public record OrderReservation(String orderNo, List<Item> items) {
+    }
+
+    public record Item(UUID productId, int amount) {
+    }
+}
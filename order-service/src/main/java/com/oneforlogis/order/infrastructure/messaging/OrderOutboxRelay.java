@@ -0,0 +1,143 @@
+package com.oneforlogis.order.infrastructure.messaging;
+
+import com.oneforlogis.order.infrastructure.persistence.JpaOrderOutboxRepository;
+import com.oneforlogis.order.infrastructure.persistence.OrderOutbox;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * outbox 의 미발행 이벤트를 배치로 읽어 Kafka 에 보내고 sent_at 을 채운다.
+ *
+ * <p>배치를 키(주문)마다 한 건씩 묶어 차례로 보낸다. 한 묶음을 모두 send 한 뒤 한꺼번에 결과를 기다리므로 프로듀서가
+ * 묶음/압축 전송을 할 수 있고, 같은 키의 다음 이벤트는 앞 이벤트의 발행이 확인된 뒤에야 보낸다. 앞 이벤트가 실패하면
+ * 그 키의 뒤 이벤트는 보내지 않고 남겨 다음 주기에 함께 다시 보내므로, 한 배치 안에서는 앞 이벤트를 앞지르지 않는다.
+ * 보낸 뒤 커밋 전에 죽으면 같은 이벤트가 다시 나갈 수 있어(at-least-once) 소비 쪽은 eventId 로 중복을 거른다.
+ *
+ * <p>같은 주문의 이벤트 순서는 보장하지 않는다. id 는 인스턴스마다 미리 받아 둔 시퀀스 구간(50개)에서 나와 커밋 순서와 다르고,
+ * 여러 인스턴스의 릴레이가 SKIP LOCKED 로 서로 다른 구간을 동시에 발행한다. 소비 쪽은 순서가 뒤바뀐 이벤트를 견뎌야 한다
+ * (조회 모델은 발생 시각 비교, 재고 예약은 조건부 상태 전이로 처리).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "order.outbox.relay.enabled", havingValue = "true", matchIfMissing = true)
+public class OrderOutboxRelay {
+
+    private final JpaOrderOutboxRepository outboxRepository;
+    private final KafkaTemplate<String, String> kafkaTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${order.outbox.relay.batch-size:500}")
+    private int batchSize;
+
+    @Value("${order.outbox.relay.send-timeout:PT10S}")
+    private Duration sendTimeout;
+
+    @Value("${order.outbox.retention:P7D}")
+    private Duration retention;
+
+    @Scheduled(fixedDelayString = "${order.outbox.relay.interval:PT0.5S}")
+    public void relay() {
+        try {
+            Integer sent;
+            do {
+                sent = transactionTemplate.execute(status -> relayBatch());
+            } while (sent != null && sent == batchSize);
+        } catch (RuntimeException e) {
+            log.warn("주문 이벤트 릴레이 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 미발행 이벤트를 최대 batch-size 건 발행하고, 발행이 확인된 건수를 반환한다.
+     */
+    int relayBatch() {
+        List<OrderOutbox> pending = outboxRepository.findPendingForUpdate(batchSize);
+        if (pending.isEmpty()) {
+            return 0;
+        }
+
+        List<Iterator<OrderOutbox>> keys = pending.stream()
+                .collect(Collectors.groupingBy(OrderOutbox::getAggregateId, LinkedHashMap::new, Collectors.toList()))
+                .values().stream()
+                .map(List::iterator)
+                .collect(Collectors.toCollection(ArrayList::new));
+
+        List<Long> sentIds = new ArrayList<>(pending.size());
+        while (!keys.isEmpty() && !Thread.currentThread().isInterrupted()) {
+            List<OrderOutbox> wave = keys.stream().map(Iterator::next).toList();
+            boolean[] sent = send(wave);
+
+            List<Iterator<OrderOutbox>> remaining = new ArrayList<>(keys.size());
+            for (int i = 0; i < wave.size(); i++) {
+                if (sent[i]) {
+                    sentIds.add(wave.get(i).getId());
+                    if (keys.get(i).hasNext()) {
+                        remaining.add(keys.get(i));
+                    }
+                }
+            }
+            keys = remaining;
+        }
+
+        if (!sentIds.isEmpty()) {
+            outboxRepository.markSent(sentIds, LocalDateTime.now());
+        }
+        return sentIds.size();
+    }
+
+    /**
+     * 이벤트들을 모두 보낸 뒤 결과를 기다려, 발행이 확인된 위치를 true 로 돌려준다.
+     */
+    private boolean[] send(List<OrderOutbox> events) {
+        List<CompletableFuture<SendResult<String, String>>> futures = new ArrayList<>(events.size());
+        for (OrderOutbox event : events) {
+            futures.add(kafkaTemplate.send(event.getTopic(), event.getAggregateId().toString(), event.getPayload()));
+        }
+        kafkaTemplate.flush();
+
+        boolean[] sent = new boolean[events.size()];
+        for (int i = 0; i < events.size(); i++) {
+            OrderOutbox event = events.get(i);
+            try {
+                futures.get(i).get(sendTimeout.toMillis(), TimeUnit.MILLISECONDS);
+                sent[i] = true;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (Exception e) {
+                log.warn("주문 이벤트 발행 실패 id={}, topic={}, key={}: {}",
+                        event.getId(), event.getTopic(), event.getAggregateId(), e.getMessage());
+            }
+        }
+        return sent;
+    }
+
+    @Scheduled(cron = "${order.outbox.cleanup-cron:0 30 4 * * *}")
+    public void deleteSentEvents() {
+        try {
+            Integer deleted = transactionTemplate.execute(status ->
+                    outboxRepository.deleteSentBefore(LocalDateTime.now().minus(retention)));
+            if (deleted != null && deleted > 0) {
+                log.info("발행 완료된 주문 이벤트 {}건 정리", deleted);
+            }
+        } catch (RuntimeException e) {
+            log.warn("주문 이벤트 정리 실패: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.oneforlogis.order.infrastructure.messaging;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.oneforlogis.order.application.event.OrderCreatedEvent;
+import com.oneforlogis.order.application.event.OrderEventTopics;
+import com.oneforlogis.order.application.event.OrderStatusChangedEvent;
+import com.oneforlogis.order.application.event.OrderUpdatedEvent;
+import com.oneforlogis.order.domain.model.Order;
+import com.oneforlogis.order.domain.model.OrderStatus;
+import com.oneforlogis.order.infrastructure.external.dto.CompanyResponse;
+import com.oneforlogis.order.infrastructure.persistence.JpaOrderOutboxRepository;
+import com.oneforlogis.order.infrastructure.persistence.OrderOutbox;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 주문 이벤트를 outbox 테이블에 쓴다. 호출한 쪽 트랜잭션에 참여해야 하므로 트랜잭션 밖에서 부르면 예외가 발생한다.
+ * 실제 발행은 {@link OrderOutboxRelay} 가 한다.
+ */
+@Component
+@RequiredArgsConstructor
+@Transactional(propagation = Propagation.MANDATORY)
+public class OrderOutboxWriter {
+
+    private final JpaOrderOutboxRepository outboxRepository;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * companies 에는 주문의 공급업체, 수령업체가 있어야 한다. 업체명, 배송 경로(업체 소속 허브)와 수령인을 여기서 채운다.
+     * 허브명, 경유 허브, 허브 관리자, 수령인 슬랙 ID 는 주문 서비스가 알 수 없어 싣지 않는다 (소비 쪽에서 없는 값으로 다룬다).
+     */
+    public void orderCreated(Order order, Map<UUID, CompanyResponse> companies) {
+        outboxRepository.save(toOutbox(order, companies));
+    }
+
+    public void ordersCreated(List<Order> orders, Map<UUID, CompanyResponse> companies) {
+        outboxRepository.saveAll(orders.stream().map(order -> toOutbox(order, companies)).toList());
+    }
+
+    // 수정 이벤트는 조회 모델 갱신용이라 경로/수령인은 싣지 않는다.
+    public void orderUpdated(Order order) {
+        OrderUpdatedEvent event = new OrderUpdatedEvent(UUID.randomUUID().toString(), OffsetDateTime.now(),
+                toOrderData(order, null, null, null, null));
+        outboxRepository.save(new OrderOutbox(order.getId(), "ORDER_UPDATED", OrderEventTopics.ORDER_UPDATED, toJson(event)));
+    }
+
+    public void statusChanged(Order order, OrderStatus fromStatus, OrderStatus toStatus, String reason) {
+        statusChanged(order.getId(), order.getOrderNo(), fromStatus, toStatus, reason);
+    }
+
+    public void statusChanged(UUID orderId, String orderNo, OrderStatus fromStatus, OrderStatus toStatus, String reason) {
+        OrderStatusChangedEvent event = new OrderStatusChangedEvent(
+                UUID.randomUUID().toString(),
+                OffsetDateTime.now(),
+                orderId,
+                orderNo,
+                fromStatus.name(),
+                toStatus.name(),
+                reason
+        );
+        outboxRepository.save(new OrderOutbox(orderId, "ORDER_STATUS_CHANGED",
+                OrderEventTopics.ORDER_STATUS_CHANGED, toJson(event)));
+    }
+
+    private OrderOutbox toOutbox(Order order, Map<UUID, CompanyResponse> companies) {
+        CompanyResponse supplier = requireCompany(companies, order.getSupplierCompanyId());
+        CompanyResponse receiver = requireCompany(companies, order.getReceiverCompanyId());
+        OrderCreatedEvent event = new OrderCreatedEvent(UUID.randomUUID().toString(), OffsetDateTime.now(),
+                toOrderData(order, supplier.name(), receiver.name(),
+                        new OrderCreatedEvent.RouteData(supplier.hubId(), receiver.hubId()),
+                        new OrderCreatedEvent.ReceiverData(receiver.name(), receiver.address(), null)));
+        return new OrderOutbox(order.getId(), "ORDER_CREATED", OrderEventTopics.ORDER_CREATED, toJson(event));
+    }
+
+    private static CompanyResponse requireCompany(Map<UUID, CompanyResponse> companies, UUID companyId) {
+        CompanyResponse company = companies.get(companyId);
+        if (company == null) {
+            throw new IllegalStateException("주문 이벤트에 넣을 업체 정보가 없음 companyId=" + companyId);
+        }
+        return company;
+    }
+
+    private OrderCreatedEvent.OrderData toOrderData(Order order, String supplierName, String receiverName,
+                                                    OrderCreatedEvent.RouteData route,
+                                                    OrderCreatedEvent.ReceiverData receiver) {
+        return new OrderCreatedEvent.OrderData(
+                order.getId(),
+                order.getOrderNo(),
+                order.getSupplierCompanyId(),
+                order.getReceiverCompanyId(),
+                supplierName,
+                receiverName,
+                order.getOrderItems().stream()
+                        .map(item -> item.getProductName() + " " + item.getQuantity() + "개")
+                        .collect(Collectors.joining(", ")),
+                order.getRequestNote(),
+                order.getTotalAmount(),
+                order.getOrderItems().stream()
+                        .map(item -> new OrderCreatedEvent.ItemData(
+                                item.getProductId(), item.getProductName(), item.getQuantity()))
+                        .toList(),
+                route,
+                receiver
+        );
+    }
+
+    private String toJson(Object event) {
+        try {
+            return objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("주문 이벤트 직렬화 실패", e);
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.oneforlogis.order.infrastructure.messaging;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.oneforlogis.order.application.event.OrderCreatedEvent;
+import com.oneforlogis.order.application.event.OrderEventTopics;
+import com.oneforlogis.order.application.event.OrderStatusChangedEvent;
+import com.oneforlogis.order.application.event.OrderUpdatedEvent;
+import com.oneforlogis.order.application.service.OrderReadModelProjector;
+import lombok.RequiredArgsConstructor;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 자기 서비스가 발행한 주문 이벤트를 별도 컨슈머 그룹으로 다시 읽어 조회 모델을 갱신한다.
+ * 처리 중 예외(낙관적 락 충돌, 집계 행 동시 생성 등)는 그대로 던져 컨테이너의 재시도에 맡긴다.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "order.read-model.enabled", havingValue = "true", matchIfMissing = true)
+public class OrderReadModelListener {
+
+    private final OrderReadModelProjector projector;
+    private final ObjectMapper objectMapper;
+
+    @KafkaListener(
+            topics = {OrderEventTopics.ORDER_CREATED, OrderEventTopics.ORDER_UPDATED, OrderEventTopics.ORDER_STATUS_CHANGED},
+            groupId = "${order.read-model.group-id:order-service-read-model}"
+    )
+    public void onMessage(ConsumerRecord<String, String> record) {
+        switch (record.topic()) {
+            case OrderEventTopics.ORDER_CREATED -> projector.onCreated(read(record, OrderCreatedEvent.class));
+            case OrderEventTopics.ORDER_UPDATED -> projector.onUpdated(read(record, OrderUpdatedEvent.class));
+            case OrderEventTopics.ORDER_STATUS_CHANGED ->
+                    projector.onStatusChanged(read(record, OrderStatusChangedEvent.class));
+            default -> throw new IllegalArgumentException("처리하지 않는 토픽: " + record.topic());
+        }
+    }
+
+    private <T> T read(ConsumerRecord<String, String> record, Class<T> type) {
+        try {
+            return objectMapper.readValue(record.value(), type);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("주문 이벤트 역직렬화 실패 topic=" + record.topic(), e);
+        }
+    }
+}
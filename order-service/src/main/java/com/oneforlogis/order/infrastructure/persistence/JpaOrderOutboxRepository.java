@@ -0,0 +1,28 @@
+package com.oneforlogis.order.infrastructure.persistence;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface JpaOrderOutboxRepository extends JpaRepository<OrderOutbox, Long> {
+
+    /**
+     * 미발행 이벤트를 id 순으로 잠그며 가져온다. 다른 인스턴스가 잠근 행은 건너뛰므로 릴레이를 여러 대 띄워도 겹치지 않는다.
+     */
+    @Query(value = "SELECT * FROM p_order_outbox WHERE sent_at IS NULL ORDER BY id LIMIT :limit FOR UPDATE SKIP LOCKED",
+            nativeQuery = true)
+    List<OrderOutbox> findPendingForUpdate(@Param("limit") int limit);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update OrderOutbox o set o.sentAt = :sentAt where o.id in :ids")
+    int markSent(@Param("ids") List<Long> ids, @Param("sentAt") LocalDateTime sentAt);
+
+    @Modifying
+    @Query("delete from OrderOutbox o where o.sentAt < :before")
+    int deleteSentBefore(@Param("before") LocalDateTime before);
+}
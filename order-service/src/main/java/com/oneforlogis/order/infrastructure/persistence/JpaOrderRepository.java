@@ -1,11 +1,48 @@
 package com.oneforlogis.order.infrastructure.persistence;
 
 import com.oneforlogis.order.domain.model.Order;
+import com.oneforlogis.order.domain.model.OrderStatus;
+import com.oneforlogis.order.domain.model.OrderStatusHistory;
+import com.oneforlogis.order.domain.repository.OrderStatusSnapshot;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface JpaOrderRepository extends JpaRepository<Order, UUID> {
-}
 
+    @EntityGraph(Order.WITH_ITEMS)
+    @Query("select o from Order o where o.id = :id")
+    Optional<Order> findWithItemsById(@Param("id") UUID id);
+
+    @Query("select h from Order o join o.statusHistories h where o.id = :orderId order by h.createdAt desc")
+    List<OrderStatusHistory> findStatusHistories(@Param("orderId") UUID orderId);
+
+    @Query("select new com.oneforlogis.order.domain.repository.OrderStatusSnapshot(o.id, o.orderNo, o.status, o.version) "
+            + "from Order o where o.id = :id")
+    Optional<OrderStatusSnapshot> findStatusSnapshotById(@Param("id") UUID id);
+
+    @Modifying
+    @Query("update Order o set o.status = :to, o.version = o.version + 1, o.updatedAt = :changedAt, o.updatedBy = :actor "
+            + "where o.id = :id and o.status = :from and o.version = :version")
+    int compareAndSetStatus(@Param("id") UUID id, @Param("from") OrderStatus from, @Param("to") OrderStatus to,
+                            @Param("version") long version, @Param("changedAt") LocalDateTime changedAt,
+                            @Param("actor") String actor);
+
+    // OrderStatusHistory 는 order_id 를 Order 쪽 @JoinColumn 으로만 관리하므로 단독 저장은 네이티브 INSERT 로 한다.
+    @Modifying
+    @Query(value = "insert into p_order_status_history "
+            + "(id, order_id, from_status, to_status, reason, created_at, updated_at, created_by, updated_by, deleted) "
+            + "values (:id, :orderId, :from, :to, :reason, :changedAt, :changedAt, :actor, :actor, false)",
+            nativeQuery = true)
+    void insertStatusHistory(@Param("id") UUID id, @Param("orderId") UUID orderId, @Param("from") String from,
+                             @Param("to") String to, @Param("reason") String reason,
+                             @Param("changedAt") LocalDateTime changedAt, @Param("actor") String actor);
+}
@@ -0,0 +1,44 @@
+package com.oneforlogis.order.infrastructure.persistence;
+
+import com.oneforlogis.order.domain.model.OrderStatus;
+import jakarta.persistence.criteria.Predicate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+
+public interface JpaOrderViewRepository extends JpaRepository<OrderView, UUID>, JpaSpecificationExecutor<OrderView> {
+
+    /**
+     * 생성 이벤트까지 반영된 행만 필터 조건으로 조회한다. (V6 의 ordered_at 부분 인덱스와 같은 조건)
+     */
+    default Page<OrderView> findByFilters(OrderStatus status, UUID supplierId, UUID receiverId,
+                                          LocalDateTime startDate, LocalDateTime endDate, Pageable pageable) {
+        Specification<OrderView> spec = (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>();
+            predicates.add(cb.isNotNull(root.get("orderedAt")));
+            if (status != null) {
+                predicates.add(cb.equal(root.get("status"), status));
+            }
+            if (supplierId != null) {
+                predicates.add(cb.equal(root.get("supplierCompanyId"), supplierId));
+            }
+            if (receiverId != null) {
+                predicates.add(cb.equal(root.get("receiverCompanyId"), receiverId));
+            }
+            if (startDate != null) {
+                predicates.add(cb.greaterThanOrEqualTo(root.get("orderedAt"), startDate));
+            }
+            if (endDate != null) {
+                predicates.add(cb.lessThanOrEqualTo(root.get("orderedAt"), endDate));
+            }
+            return cb.and(predicates.toArray(new Predicate[0]));
+        };
+        return findAll(spec, pageable);
+    }
+}
@@ -0,0 +1,9 @@
+package com.oneforlogis.order.infrastructure.persistence;
+
+/**
+ * 주문에서 업체가 맡는 역할. 업체별 상태 집계(p_order_status_count)의 구분 값.
+ */
+public enum OrderCompanyRole {
+    SUPPLIER,
+    RECEIVER
+}
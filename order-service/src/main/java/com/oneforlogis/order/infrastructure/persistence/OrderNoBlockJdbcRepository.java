@@ -0,0 +1,33 @@
+package com.oneforlogis.order.infrastructure.persistence;
+
+import com.oneforlogis.order.domain.repository.OrderNoBlockRepository;
+import java.time.LocalDate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * p_order_no_block 에 날짜별 최대 예약 번호(max_no)를 두고 블록 단위로 올린다.
+ *
+ * <p>블록 예약은 주문 저장 트랜잭션과 분리해서 바로 커밋한다. 주문 트랜잭션이 롤백되며 예약까지 되돌려지면
+ * 다른 인스턴스가 같은 블록을 다시 받아 번호가 겹칠 수 있다. 롤백된 주문의 번호는 비어 있는 채로 남는다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class OrderNoBlockJdbcRepository implements OrderNoBlockRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public long allocate(LocalDate orderDate, int size) {
+        jdbcTemplate.update("INSERT INTO p_order_no_block (order_date, max_no) VALUES (?, 0) ON CONFLICT DO NOTHING",
+                orderDate);
+        // UPDATE 가 행 잠금을 잡으므로 같은 트랜잭션의 SELECT 는 방금 올린 값을 읽는다.
+        jdbcTemplate.update("UPDATE p_order_no_block SET max_no = max_no + ? WHERE order_date = ?", size, orderDate);
+        return jdbcTemplate.queryForObject(
+                "SELECT max_no FROM p_order_no_block WHERE order_date = ?", Long.class, orderDate);
+    }
+}
@@ -0,0 +1,87 @@
+package com.oneforlogis.order.infrastructure.persistence;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 등록된 주문 조회 형태({@link OrderQueryShape})의 실행 계획을 기동 시 확인하고, p_order 를 순차 스캔하는 형태를 경고로 남긴다.
+ *
+ * <p>데이터가 적은 환경에서는 인덱스가 있어도 플래너가 순차 스캔을 고르므로, 트랜잭션 안에서 enable_seqscan 을 끄고 확인한다.
+ * 그래도 순차 스캔이 남으면 해당 형태를 받칠 인덱스가 없다는 뜻이다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "order.query-plan-check.enabled", havingValue = "true")
+public class OrderQueryPlanChecker {
+
+    private static final String TABLE = "p_order";
+    private static final int SAMPLE_LIMIT = 21;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void checkOnStartup() {
+        try {
+            List<String> seqScans = check();
+            if (seqScans.isEmpty()) {
+                log.info("주문 조회 실행 계획 확인 완료 - {}개 형태 모두 인덱스 사용", OrderQueryShape.registered().size());
+            }
+        } catch (RuntimeException e) {
+            log.warn("주문 조회 실행 계획 확인 실패", e);
+        }
+    }
+
+    /**
+     * 순차 스캔으로 실행되는 조회 형태 이름 목록을 반환한다.
+     */
+    public List<String> check() {
+        List<String> seqScans = new ArrayList<>();
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.execute("SET LOCAL enable_seqscan = off");
+            for (OrderQueryShape shape : OrderQueryShape.registered()) {
+                String plan = jdbcTemplate.queryForObject(shape.explainSql(SAMPLE_LIMIT), String.class,
+                        shape.sampleArgs().toArray());
+                if (hasSeqScan(plan)) {
+                    log.warn("주문 조회 형태가 순차 스캔으로 실행됩니다. shape={}, where={}, orderBy={}",
+                            shape.name(), shape.where(), shape.orderBy());
+                    seqScans.add(shape.name());
+                }
+            }
+            status.setRollbackOnly();
+        });
+        return seqScans;
+    }
+
+    private boolean hasSeqScan(String plan) {
+        try {
+            return hasSeqScan(objectMapper.readTree(plan).path(0).path("Plan"));
+        } catch (Exception e) {
+            throw new IllegalStateException("실행 계획을 읽을 수 없습니다.", e);
+        }
+    }
+
+    private static boolean hasSeqScan(JsonNode node) {
+        if ("Seq Scan".equals(node.path("Node Type").asText()) && TABLE.equals(node.path("Relation Name").asText())) {
+            return true;
+        }
+        for (JsonNode child : node.path("Plans")) {
+            if (hasSeqScan(child)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
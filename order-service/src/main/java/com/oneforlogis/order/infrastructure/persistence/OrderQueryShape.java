@@ -0,0 +1,52 @@
+package com.oneforlogis.order.infrastructure.persistence;
+
+import com.oneforlogis.order.domain.model.OrderStatus;
+import com.oneforlogis.order.domain.repository.OrderSortField;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * OrderRepositoryImpl 이 실행하는 주문 목록 조회 형태. 필터 조합과 정렬마다 SQL 모양과 예시 파라미터를 등록해 두고
+ * {@link OrderQueryPlanChecker} 가 기동 시 실행 계획을 확인한다. 조회 조건을 추가하면 여기에도 등록한다.
+ */
+public record OrderQueryShape(String name, String where, String orderBy, List<Object> sampleArgs) {
+
+    private static final String BASE_WHERE = "deleted_at IS NULL";
+    private static final String DEFAULT_ORDER = "created_at DESC";
+
+    public String explainSql(int limit) {
+        return "EXPLAIN (FORMAT JSON) SELECT id FROM p_order WHERE " + where
+                + " ORDER BY " + orderBy + " LIMIT " + limit;
+    }
+
+    public static List<OrderQueryShape> registered() {
+        UUID companyId = UUID.randomUUID();
+        LocalDateTime now = LocalDateTime.now();
+        String status = OrderStatus.PENDING.name();
+
+        List<OrderQueryShape> shapes = new ArrayList<>(List.of(
+                shape("default", "", DEFAULT_ORDER),
+                shape("status", " AND status = ?", DEFAULT_ORDER, status),
+                shape("supplier", " AND supplier_company_id = ?", DEFAULT_ORDER, companyId),
+                shape("receiver", " AND receiver_company_id = ?", DEFAULT_ORDER, companyId),
+                shape("supplier+status", " AND supplier_company_id = ? AND status = ?", DEFAULT_ORDER,
+                        companyId, status),
+                shape("receiver+status", " AND receiver_company_id = ? AND status = ?", DEFAULT_ORDER,
+                        companyId, status),
+                shape("createdAt-range", " AND created_at >= ? AND created_at <= ?", DEFAULT_ORDER,
+                        now.minusDays(7), now),
+                shape("keyset", " AND (created_at < ? OR (created_at = ? AND id < ?))", "created_at DESC, id DESC",
+                        now, now, UUID.randomUUID())
+        ));
+        for (OrderSortField field : OrderSortField.values()) {
+            shapes.add(shape("sort:" + field.property(), "", field.column() + " DESC"));
+        }
+        return shapes;
+    }
+
+    private static OrderQueryShape shape(String name, String filter, String orderBy, Object... args) {
+        return new OrderQueryShape(name, BASE_WHERE + filter, orderBy, List.of(args));
+    }
+}
@@ -2,12 +2,17 @@ package com.oneforlogis.order.infrastructure.persistence;
 
 import com.oneforlogis.order.domain.model.Order;
 import com.oneforlogis.order.domain.model.OrderStatus;
+import com.oneforlogis.order.domain.model.OrderStatusHistory;
+import com.oneforlogis.order.domain.repository.OrderCursor;
 import com.oneforlogis.order.domain.repository.OrderRepository;
+import com.oneforlogis.order.domain.repository.OrderStatusChange;
+import com.oneforlogis.order.domain.repository.OrderStatusSnapshot;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
 import jakarta.persistence.TypedQuery;
 import jakarta.persistence.criteria.CriteriaBuilder;
 import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Path;
 import jakarta.persistence.criteria.Predicate;
 import jakarta.persistence.criteria.Root;
 import java.time.LocalDateTime;
@@ -16,9 +21,12 @@ import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.AuditorAware;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -30,16 +38,73 @@ public class OrderRepositoryImpl implements OrderRepository {
     @PersistenceContext
     private final EntityManager entityManager;
 
+    // 벌크 UPDATE / 네이티브 INSERT 는 auditing 이 적용되지 않아 수정자를 직접 채운다.
+    private final ObjectProvider<AuditorAware<String>> auditorAware;
+
+    @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}")
+    private int batchSize;
+
     @Override
     public Order save(Order order) {
         return jpaRepository.save(order);
     }
 
+    @Override
+    public List<Order> saveAll(List<Order> orders) {
+        for (int i = 0; i < orders.size(); i++) {
+            entityManager.persist(orders.get(i));
+            // 배치 크기만큼 모이면 내보내고 영속성 컨텍스트를 비워 메모리와 dirty checking 비용을 일정하게 유지
+            if ((i + 1) % batchSize == 0) {
+                entityManager.flush();
+                entityManager.clear();
+            }
+        }
+        entityManager.flush();
+        return orders;
+    }
+
     @Override
     public Optional<Order> findById(UUID id) {
         return jpaRepository.findById(id);
     }
 
+    @Override
+    public Optional<Order> findDetailById(UUID id) {
+        return jpaRepository.findWithItemsById(id);
+    }
+
+    @Override
+    public List<OrderStatusHistory> findStatusHistories(UUID orderId) {
+        return jpaRepository.findStatusHistories(orderId);
+    }
+
+    @Override
+    public Optional<OrderStatusSnapshot> findStatusSnapshot(UUID id) {
+        return jpaRepository.findStatusSnapshotById(id);
+    }
+
+    @Override
+    public boolean compareAndSetStatus(OrderStatusChange change, OrderStatus from, OrderStatus to, long version) {
+        String actor = currentAuditor();
+        int updated = jpaRepository.compareAndSetStatus(change.orderId(), from, to, version, change.changedAt(), actor);
+        if (updated == 0) {
+            return false;
+        }
+        jpaRepository.insertStatusHistory(UUID.randomUUID(), change.orderId(), from.name(), to.name(),
+                change.reason(), change.changedAt(), actor);
+        return true;
+    }
+
+    private String currentAuditor() {
+        AuditorAware<String> auditor = auditorAware.getIfAvailable();
+        return auditor != null ? auditor.getCurrentAuditor().orElse(null) : null;
+    }
+
+    @Override
+    public boolean existsById(UUID id) {
+        return jpaRepository.existsById(id);
+    }
+
     @Override
     public Page<Order> findByFilters(OrderStatus status, UUID supplierId, UUID receiverId,
                                      LocalDateTime startDate, LocalDateTime endDate, Pageable pageable) {
@@ -47,28 +112,7 @@ public class OrderRepositoryImpl implements OrderRepository {
         CriteriaQuery<Order> query = cb.createQuery(Order.class);
         Root<Order> root = query.from(Order.class);
 
-        List<Predicate> predicates = new ArrayList<>();
-
-        // deleted_at IS NULL 조건 (BaseEntity의 @SQLRestriction과 동일)
-        predicates.add(cb.isNull(root.get("deletedAt")));
-
-        // 필터 조건 추가
-        if (status != null) {
-            predicates.add(cb.equal(root.get("status"), status));
-        }
-        if (supplierId != null) {
-            predicates.add(cb.equal(root.get("supplierCompanyId"), supplierId));
-        }
-        if (receiverId != null) {
-            predicates.add(cb.equal(root.get("receiverCompanyId"), receiverId));
-        }
-        if (startDate != null) {
-            predicates.add(cb.greaterThanOrEqualTo(root.get("createdAt"), startDate));
-        }
-        if (endDate != null) {
-            predicates.add(cb.lessThanOrEqualTo(root.get("createdAt"), endDate));
-        }
-
+        List<Predicate> predicates = filterPredicates(cb, root, status, supplierId, receiverId, startDate, endDate);
         query.where(predicates.toArray(new Predicate[0]));
 
         // 정렬 적용
@@ -88,41 +132,81 @@ public class OrderRepositoryImpl implements OrderRepository {
         }
         query.orderBy(orders);
 
-        // 페이징을 위한 카운트 쿼리
+        // 페이징 적용하여 조회
+        TypedQuery<Order> typedQuery = entityManager.createQuery(query);
+        typedQuery.setFirstResult((int) pageable.getOffset());
+        typedQuery.setMaxResults(pageable.getPageSize());
+
+        List<Order> results = typedQuery.getResultList();
+
+        // 조회 결과만으로 전체 건수를 알 수 있으면(첫 페이지가 덜 찼거나 마지막 페이지) 카운트 쿼리를 생략한다.
+        return PageableExecutionUtils.getPage(results, pageable,
+                () -> countByFilters(status, supplierId, receiverId, startDate, endDate));
+    }
+
+    @Override
+    public List<Order> findByFiltersAfter(OrderStatus status, UUID supplierId, UUID receiverId,
+                                          LocalDateTime startDate, LocalDateTime endDate,
+                                          OrderCursor cursor, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Order> query = cb.createQuery(Order.class);
+        Root<Order> root = query.from(Order.class);
+
+        List<Predicate> predicates = filterPredicates(cb, root, status, supplierId, receiverId, startDate, endDate);
+        if (cursor != null) {
+            // (createdAt, id) < (cursor.createdAt, cursor.id)
+            Path<LocalDateTime> createdAt = root.get("createdAt");
+            Path<UUID> id = root.get("id");
+            predicates.add(cb.or(
+                    cb.lessThan(createdAt, cursor.createdAt()),
+                    cb.and(cb.equal(createdAt, cursor.createdAt()), cb.lessThan(id, cursor.id()))
+            ));
+        }
+        query.where(predicates.toArray(new Predicate[0]));
+        query.orderBy(cb.desc(root.get("createdAt")), cb.desc(root.get("id")));
+
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    @Override
+    public long countByFilters(OrderStatus status, UUID supplierId, UUID receiverId,
+                               LocalDateTime startDate, LocalDateTime endDate) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
         CriteriaQuery<Long> countQuery = cb.createQuery(Long.class);
         Root<Order> countRoot = countQuery.from(Order.class);
         countQuery.select(cb.count(countRoot));
-        
-        List<Predicate> countPredicates = new ArrayList<>();
-        countPredicates.add(cb.isNull(countRoot.get("deletedAt")));
+        countQuery.where(filterPredicates(cb, countRoot, status, supplierId, receiverId, startDate, endDate)
+                .toArray(new Predicate[0]));
+
+        return entityManager.createQuery(countQuery).getSingleResult();
+    }
+
+    private List<Predicate> filterPredicates(CriteriaBuilder cb, Root<Order> root, OrderStatus status,
+                                             UUID supplierId, UUID receiverId,
+                                             LocalDateTime startDate, LocalDateTime endDate) {
+        List<Predicate> predicates = new ArrayList<>();
+
+        // deleted_at IS NULL 조건 (BaseEntity의 @SQLRestriction과 동일)
+        predicates.add(cb.isNull(root.get("deletedAt")));
+
+        // 필터 조건 추가
         if (status != null) {
-            countPredicates.add(cb.equal(countRoot.get("status"), status));
+            predicates.add(cb.equal(root.get("status"), status));
         }
         if (supplierId != null) {
-            countPredicates.add(cb.equal(countRoot.get("supplierCompanyId"), supplierId));
+            predicates.add(cb.equal(root.get("supplierCompanyId"), supplierId));
         }
         if (receiverId != null) {
-            countPredicates.add(cb.equal(countRoot.get("receiverCompanyId"), receiverId));
+            predicates.add(cb.equal(root.get("receiverCompanyId"), receiverId));
         }
         if (startDate != null) {
-            countPredicates.add(cb.greaterThanOrEqualTo(countRoot.get("createdAt"), startDate));
+            predicates.add(cb.greaterThanOrEqualTo(root.get("createdAt"), startDate));
         }
         if (endDate != null) {
-            countPredicates.add(cb.lessThanOrEqualTo(countRoot.get("createdAt"), endDate));
+            predicates.add(cb.lessThanOrEqualTo(root.get("createdAt"), endDate));
         }
-        countQuery.where(countPredicates.toArray(new Predicate[0]));
-
-        // 카운트 조회
-        Long total = entityManager.createQuery(countQuery).getSingleResult();
-
-        // 페이징 적용하여 조회
-        TypedQuery<Order> typedQuery = entityManager.createQuery(query);
-        typedQuery.setFirstResult((int) pageable.getOffset());
-        typedQuery.setMaxResults(pageable.getPageSize());
-
-        List<Order> results = typedQuery.getResultList();
-
-        return new PageImpl<>(results, pageable, total);
+        return predicates;
     }
 }
-
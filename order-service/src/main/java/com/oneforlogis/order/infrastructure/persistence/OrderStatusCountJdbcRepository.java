@@ -0,0 +1,64 @@
+package com.oneforlogis.order.infrastructure.persistence;
+
+import com.oneforlogis.order.domain.model.OrderStatus;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 업체별 상태별 주문 수(p_order_status_count). 조회 모델 갱신과 같은 트랜잭션에서 증감하므로
+ * 대시보드 집계는 주문 테이블을 세지 않고 이 테이블의 몇 행만 읽는다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class OrderStatusCountJdbcRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 해당 집계 행에 delta 를 더한다. 행이 없으면 새로 만든다.
+     * 동시에 같은 행을 처음 만들면 한쪽이 PK 위반으로 롤백되고, 재처리 때는 UPDATE 로 반영된다.
+     */
+    public void add(UUID companyId, OrderCompanyRole role, OrderStatus status, long delta) {
+        int updated = jdbcTemplate.update(
+                "UPDATE p_order_status_count SET order_count = order_count + ? "
+                        + "WHERE company_id = ? AND company_role = ? AND status = ?",
+                delta, companyId, role.name(), status.name());
+        if (updated == 0) {
+            jdbcTemplate.update(
+                    "INSERT INTO p_order_status_count (company_id, company_role, status, order_count) VALUES (?, ?, ?, ?)",
+                    companyId, role.name(), status.name(), delta);
+        }
+    }
+
+    public Map<OrderStatus, Long> countByCompany(UUID companyId, OrderCompanyRole role) {
+        return collect(jdbcTemplate.queryForList(
+                "SELECT status, order_count FROM p_order_status_count WHERE company_id = ? AND company_role = ?",
+                companyId, role.name()));
+    }
+
+    /**
+     * 전체 상태별 주문 수. 주문마다 공급업체는 하나이므로 공급업체 기준 행을 합산한다.
+     */
+    public Map<OrderStatus, Long> countAll() {
+        return collect(jdbcTemplate.queryForList(
+                "SELECT status, SUM(order_count) AS order_count FROM p_order_status_count "
+                        + "WHERE company_role = ? GROUP BY status",
+                OrderCompanyRole.SUPPLIER.name()));
+    }
+
+    private static Map<OrderStatus, Long> collect(List<Map<String, Object>> rows) {
+        Map<OrderStatus, Long> counts = new EnumMap<>(OrderStatus.class);
+        for (OrderStatus status : OrderStatus.values()) {
+            counts.put(status, 0L);
+        }
+        for (Map<String, Object> row : rows) {
+            counts.put(OrderStatus.valueOf((String) row.get("status")), ((Number) row.get("order_count")).longValue());
+        }
+        return counts;
+    }
+}
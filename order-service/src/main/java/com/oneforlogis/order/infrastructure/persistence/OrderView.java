@@ -0,0 +1,125 @@
+package com.oneforlogis.order.infrastructure.persistence;
+
+import com.oneforlogis.order.domain.model.OrderStatus;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.Version;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 주문 조회 모델. 주문 한 건당 한 행이며 업체명, 상품 요약까지 펼쳐 두어 목록 조회 시 조인이 없다.
+ *
+ * <p>토픽이 달라 상태 변경 이벤트가 order.created 보다 먼저 올 수 있다. 그때는 상태만 있는 행을 먼저 만들고
+ * (orderedAt == null) 생성 이벤트가 오면 나머지를 채운다. 상태와 주문 내용은 각각 더 늦게 발생한 이벤트의 것만 반영한다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(name = "p_order_view")
+public class OrderView {
+
+    @Id
+    @Column(name = "order_id", nullable = false)
+    private UUID orderId;
+
+    @Column(name = "order_no", length = 30)
+    private String orderNo;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", length = 20, nullable = false)
+    private OrderStatus status;
+
+    @Column(name = "supplier_company_id")
+    private UUID supplierCompanyId;
+
+    @Column(name = "supplier_company_name", length = 100)
+    private String supplierCompanyName;
+
+    @Column(name = "receiver_company_id")
+    private UUID receiverCompanyId;
+
+    @Column(name = "receiver_company_name", length = 100)
+    private String receiverCompanyName;
+
+    @Column(name = "item_summary", length = 500)
+    private String itemSummary;
+
+    @Column(name = "items_count")
+    private Integer itemsCount;
+
+    @Column(name = "total_amount", precision = 18, scale = 2)
+    private BigDecimal totalAmount;
+
+    @Column(name = "ordered_at")
+    private LocalDateTime orderedAt;
+
+    @Column(name = "status_changed_at", nullable = false)
+    private LocalDateTime statusChangedAt;
+
+    @Column(name = "described_at")
+    private LocalDateTime describedAt;
+
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
+    public OrderView(UUID orderId, OrderStatus status, LocalDateTime statusChangedAt) {
+        this.orderId = orderId;
+        this.status = status;
+        this.statusChangedAt = statusChangedAt;
+    }
+
+    /**
+     * 생성 이벤트로 채워진 행인지. 채워지기 전에는 조회/집계 대상이 아니다.
+     */
+    public boolean isComplete() {
+        return orderedAt != null;
+    }
+
+    /**
+     * 주문 내용(업체, 항목, 금액)을 채운다. 이미 더 늦은 내용이 반영돼 있으면 건너뛰고 false.
+     * 생성 시각은 생성 이벤트에만 있으므로 null 이면 기존 값을 유지한다.
+     */
+    public boolean describe(String orderNo, UUID supplierCompanyId, String supplierCompanyName,
+                            UUID receiverCompanyId, String receiverCompanyName,
+                            String itemSummary, Integer itemsCount, BigDecimal totalAmount,
+                            LocalDateTime orderedAt, LocalDateTime describedAt) {
+        if (orderedAt != null && this.orderedAt == null) {
+            this.orderedAt = orderedAt;
+        }
+        if (this.describedAt != null && !describedAt.isAfter(this.describedAt)) {
+            return false;
+        }
+        this.orderNo = orderNo;
+        this.supplierCompanyId = supplierCompanyId;
+        this.supplierCompanyName = supplierCompanyName;
+        this.receiverCompanyId = receiverCompanyId;
+        this.receiverCompanyName = receiverCompanyName;
+        this.itemSummary = itemSummary;
+        this.itemsCount = itemsCount;
+        this.totalAmount = totalAmount;
+        this.describedAt = describedAt;
+        return true;
+    }
+
+    /**
+     * 이미 반영한 상태보다 늦게 발생한 변경만 적용한다. 적용했으면 true.
+     */
+    public boolean changeStatus(OrderStatus status, LocalDateTime changedAt) {
+        if (!changedAt.isAfter(statusChangedAt)) {
+            return false;
+        }
+        this.status = status;
+        this.statusChangedAt = changedAt;
+        return true;
+    }
+}
@@ -0,0 +1,29 @@
+package com.oneforlogis.order.presentation.advice;
+
+import com.oneforlogis.common.api.ApiResponse;
+import com.oneforlogis.common.exception.ErrorCode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+@Slf4j
+@RestControllerAdvice
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class OrderExceptionHandler {
+
+    // 주문 수정/취소가 다른 요청과 겹쳐 @Version 검사에 걸린 경우
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<ApiResponse<Void>> handleOptimisticLockingFailure(OptimisticLockingFailureException e) {
+        ErrorCode errorCode = ErrorCode.ORDER_CONCURRENT_MODIFICATION;
+        HttpStatus status = errorCode.getHttpStatus();
+        log.warn("[{}] {}", errorCode.name(), e.getMessage());
+
+        ApiResponse<Void> response = new ApiResponse<>(false, status.value(), errorCode.getMessage(), null);
+        return new ResponseEntity<>(response, status);
+    }
+}
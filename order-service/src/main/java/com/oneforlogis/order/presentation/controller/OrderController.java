@@ -1,19 +1,24 @@
 package com.oneforlogis.order.presentation.controller;
 
 import com.oneforlogis.common.api.ApiResponse;
+import com.oneforlogis.common.api.CursorPageResponse;
 import com.oneforlogis.common.api.PageResponse;
 import com.oneforlogis.order.application.service.OrderService;
+import com.oneforlogis.order.presentation.request.OrderBulkCreateRequest;
 import com.oneforlogis.order.presentation.request.OrderCancelRequest;
 import com.oneforlogis.order.presentation.request.OrderCreateRequest;
 import com.oneforlogis.order.presentation.request.OrderStatusChangeRequest;
 import com.oneforlogis.order.presentation.request.OrderUpdateRequest;
+import com.oneforlogis.order.presentation.response.OrderBulkCreateResponse;
 import com.oneforlogis.order.presentation.response.OrderCancelResponse;
 import com.oneforlogis.order.presentation.response.OrderCreateResponse;
 import com.oneforlogis.order.presentation.response.OrderDetailResponse;
 import com.oneforlogis.order.presentation.response.OrderStatusChangeResponse;
+import com.oneforlogis.order.presentation.response.OrderStatusCountResponse;
 import com.oneforlogis.order.presentation.response.OrderStatusHistoryResponse;
 import com.oneforlogis.order.presentation.response.OrderSummaryResponse;
 import com.oneforlogis.order.presentation.response.OrderUpdateResponse;
+import com.oneforlogis.order.presentation.response.OrderViewResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
@@ -46,6 +51,17 @@ public class OrderController {
         return ApiResponse.created(response);
     }
 
+    @Operation(summary = "주문 일괄 생성",
+            description = "여러 주문을 한 번에 생성합니다. 최대 1000건까지 요청할 수 있으며, "
+                    + "한 건이라도 유효하지 않으면 전체 요청이 거절됩니다. 결과는 요청 순서대로 반환됩니다.")
+    // TODO: 추후 Security/JWT 스펙 확정되면 활성화
+    // @PreAuthorize("hasAnyRole('MASTER','SUPPLIER_MANAGER','HUB_MANAGER')")
+    @PostMapping("/bulk")
+    public ApiResponse<OrderBulkCreateResponse> createOrders(@Valid @RequestBody OrderBulkCreateRequest request) {
+        OrderBulkCreateResponse response = orderService.createOrders(request);
+        return ApiResponse.created(response);
+    }
+
     @Operation(summary = "주문 상세 조회", description = "주문 ID로 주문 상세 정보를 조회합니다.")
     // TODO: 추후 Security/JWT 스펙 확정되면 활성화
     // @PreAuthorize("hasAnyRole('MASTER','SUPPLIER_MANAGER','HUB_MANAGER')")
@@ -55,7 +71,8 @@ public class OrderController {
         return ApiResponse.success(response);
     }
 
-    @Operation(summary = "주문 목록 조회", description = "필터링 및 페이지네이션을 지원하는 주문 목록을 조회합니다. 기본 정렬은 createdAt DESC입니다.")
+    @Operation(summary = "주문 목록 조회", description = "필터링 및 페이지네이션을 지원하는 주문 목록을 조회합니다. 기본 정렬은 createdAt DESC입니다. "
+            + "정렬 가능한 필드는 createdAt, orderNo, status 입니다.")
     // TODO: 추후 Security/JWT 스펙 확정되면 활성화
     // @PreAuthorize("hasAnyRole('MASTER','SUPPLIER_MANAGER','HUB_MANAGER')")
     @GetMapping
@@ -75,6 +92,63 @@ public class OrderController {
         return ApiResponse.success(response);
     }
 
+    @Operation(summary = "주문 목록 커서 조회",
+            description = "무한 스크롤용 주문 목록을 조회합니다. 정렬은 createdAt DESC 고정이며, "
+                    + "다음 페이지는 응답의 nextCursor 를 cursor 로 넘겨 조회합니다. "
+                    + "size 는 1~100 이며, 전체 건수는 withTotal=true 일 때만 포함됩니다.")
+    // TODO: 추후 Security/JWT 스펙 확정되면 활성화
+    // @PreAuthorize("hasAnyRole('MASTER','SUPPLIER_MANAGER','HUB_MANAGER')")
+    @GetMapping("/scroll")
+    public ApiResponse<CursorPageResponse<OrderSummaryResponse>> scrollOrders(
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) String supplierId,
+            @RequestParam(required = false) String receiverId,
+            @RequestParam(required = false) String startDate,
+            @RequestParam(required = false) String endDate,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "false") boolean withTotal
+    ) {
+        CursorPageResponse<OrderSummaryResponse> response = orderService.scrollOrders(
+                status, supplierId, receiverId, startDate, endDate, cursor, size, withTotal
+        );
+        return ApiResponse.success(response);
+    }
+
+    @Operation(summary = "주문 조회 모델 목록",
+            description = "업체명과 상품 요약을 포함한 주문 목록을 조회 모델에서 조회합니다. 주문 시각 최신순이며, "
+                    + "주문 이벤트로 비동기 갱신되므로 최근 변경은 잠시 늦게 반영될 수 있습니다.")
+    // TODO: 추후 Security/JWT 스펙 확정되면 활성화
+    // @PreAuthorize("hasAnyRole('MASTER','SUPPLIER_MANAGER','HUB_MANAGER')")
+    @GetMapping("/views")
+    public ApiResponse<PageResponse<OrderViewResponse>> getOrderViews(
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) String supplierId,
+            @RequestParam(required = false) String receiverId,
+            @RequestParam(required = false) String startDate,
+            @RequestParam(required = false) String endDate,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        PageResponse<OrderViewResponse> response = orderService.getOrderViews(
+                status, supplierId, receiverId, startDate, endDate, page, size
+        );
+        return ApiResponse.success(response);
+    }
+
+    @Operation(summary = "상태별 주문 수",
+            description = "상태별 주문 수를 미리 집계된 값으로 조회합니다. companyId 를 주면 해당 업체가 "
+                    + "role(SUPPLIER, RECEIVER, 기본 SUPPLIER)로 참여한 주문만 셉니다.")
+    // TODO: 추후 Security/JWT 스펙 확정되면 활성화
+    // @PreAuthorize("hasAnyRole('MASTER','SUPPLIER_MANAGER','HUB_MANAGER')")
+    @GetMapping("/status-counts")
+    public ApiResponse<OrderStatusCountResponse> getStatusCounts(
+            @RequestParam(required = false) String companyId,
+            @RequestParam(required = false) String role
+    ) {
+        return ApiResponse.success(orderService.getStatusCounts(companyId, role));
+    }
+
     @Operation(summary = "주문 상태 변경", description = "주문의 상태를 변경합니다. 상태 전이 규칙에 따라 유효한 상태 변경만 허용됩니다.")
     // TODO: 추후 Security/JWT 스펙 확정되면 활성화
     // @PreAuthorize("hasAnyRole('MASTER','SUPPLIER_MANAGER','HUB_MANAGER')")
@@ -0,0 +1,15 @@
+package com.oneforlogis.order.presentation.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+
+public record OrderBulkCreateRequest(
+        @Schema(description = "생성할 주문 목록 (최대 1000건)")
+        @NotEmpty(message = "주문은 최소 1건 이상 필요합니다.")
+        @Size(max = 1000, message = "한 번에 생성할 수 있는 주문은 최대 1000건입니다.")
+        @Valid
+        List<OrderCreateRequest> orders
+) {}
@@ -0,0 +1,24 @@
+package com.oneforlogis.order.presentation.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+import java.util.UUID;
+
+public record OrderBulkCreateResponse(
+        @Schema(description = "생성된 주문 수", example = "2")
+        int createdCount,
+
+        @Schema(description = "요청 순서대로의 주문별 생성 결과")
+        List<OrderResult> results
+) {
+    public record OrderResult(
+            @Schema(description = "요청 목록에서의 순번 (0부터)", example = "0")
+            int index,
+
+            @Schema(description = "주문 ID", example = "123e4567-e89b-12d3-a456-426614174000")
+            UUID orderId,
+
+            @Schema(description = "주문번호", example = "ORD-20251103-00001")
+            String orderNo
+    ) {}
+}
@@ -0,0 +1,28 @@
+package com.oneforlogis.order.presentation.response;
+
+import com.oneforlogis.order.domain.model.OrderStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+public record OrderStatusCountResponse(
+        @Schema(description = "업체 ID (전체 집계면 null)", example = "f29bde56-9a3b-4e5a-841c-7d0df6cbef01")
+        UUID companyId,
+
+        @Schema(description = "업체 역할 (SUPPLIER, RECEIVER, 전체 집계면 null)", example = "SUPPLIER")
+        String role,
+
+        @Schema(description = "상태별 주문 수", example = "{\"PENDING\": 3, \"PAID\": 1}")
+        Map<String, Long> counts,
+
+        @Schema(description = "전체 주문 수", example = "4")
+        long total
+) {
+    public static OrderStatusCountResponse of(UUID companyId, String role, Map<OrderStatus, Long> counts) {
+        Map<String, Long> byName = new LinkedHashMap<>();
+        counts.forEach((status, count) -> byName.put(status.name(), count));
+        long total = counts.values().stream().mapToLong(Long::longValue).sum();
+        return new OrderStatusCountResponse(companyId, role, byName, total);
+    }
+}
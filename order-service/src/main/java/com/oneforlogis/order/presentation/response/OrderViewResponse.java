@@ -0,0 +1,61 @@
+package com.oneforlogis.order.presentation.response;
+
+import com.oneforlogis.order.infrastructure.persistence.OrderView;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.math.BigDecimal;
+import java.util.UUID;
+
+public record OrderViewResponse(
+        @Schema(description = "주문 ID", example = "b8e3b4b9-1a3c-4a2f-9d8b-3d2a1e7f0c2b")
+        UUID orderId,
+
+        @Schema(description = "주문번호(가시용)", example = "ORD-20251103-00001")
+        String orderNo,
+
+        @Schema(description = "주문 상태", example = "PENDING")
+        String status,
+
+        @Schema(description = "공급업체 ID", example = "f29bde56-9a3b-4e5a-841c-7d0df6cbef01")
+        UUID supplierCompanyId,
+
+        @Schema(description = "공급업체명", example = "원포 식품")
+        String supplierCompanyName,
+
+        @Schema(description = "수령업체 ID", example = "12e35d99-2d9c-4fd3-9b43-2d7d9b5b7f63")
+        UUID receiverCompanyId,
+
+        @Schema(description = "수령업체명", example = "로지스 마트")
+        String receiverCompanyName,
+
+        @Schema(description = "주문 상품 요약", example = "포장박스 2개, 테이프 1개")
+        String itemSummary,
+
+        @Schema(description = "주문 항목 수", example = "2")
+        Integer itemsCount,
+
+        @Schema(description = "총 주문 금액", example = "30000.00")
+        BigDecimal totalAmount,
+
+        @Schema(description = "주문 시각", example = "2025-11-03T13:00:00")
+        String orderedAt,
+
+        @Schema(description = "상태 변경 시각", example = "2025-11-03T14:00:00")
+        String statusChangedAt
+) {
+    public static OrderViewResponse from(OrderView view) {
+        return new OrderViewResponse(
+                view.getOrderId(),
+                view.getOrderNo(),
+                view.getStatus().name(),
+                view.getSupplierCompanyId(),
+                view.getSupplierCompanyName(),
+                view.getReceiverCompanyId(),
+                view.getReceiverCompanyName(),
+                view.getItemSummary(),
+                view.getItemsCount(),
+                view.getTotalAmount(),
+                view.getOrderedAt() != null ? view.getOrderedAt().toString() : null,
+                view.getStatusChangedAt().toString()
+        );
+    }
+}
@@ -0,0 +1,53 @@
+-- 초기 주문 스키마. ddl-auto: update 로 이미 테이블이 만들어진 DB 에서도 그대로 돌 수 있게 IF NOT EXISTS 를 쓴다.
+
+CREATE TABLE IF NOT EXISTS p_order (
+    id                  UUID           NOT NULL PRIMARY KEY,
+    order_no            VARCHAR(30)    NOT NULL UNIQUE,
+    user_id             BIGINT         NOT NULL,
+    supplier_company_id UUID           NOT NULL,
+    receiver_company_id UUID           NOT NULL,
+    status              VARCHAR(20)    NOT NULL,
+    delivery_id         UUID,
+    items_count         INTEGER        NOT NULL,
+    total_amount        NUMERIC(18, 2) NOT NULL,
+    request_note        TEXT,
+    created_at          TIMESTAMP(6),
+    updated_at          TIMESTAMP(6),
+    deleted_at          TIMESTAMP(6),
+    created_by          VARCHAR(100),
+    updated_by          VARCHAR(100),
+    deleted_by          VARCHAR(100),
+    deleted             BOOLEAN        NOT NULL DEFAULT FALSE
+);
+
+CREATE TABLE IF NOT EXISTS p_order_item (
+    id           UUID           NOT NULL PRIMARY KEY,
+    order_id     UUID REFERENCES p_order (id),
+    product_id   UUID           NOT NULL,
+    product_name VARCHAR(255)   NOT NULL,
+    unit_price   NUMERIC(18, 2) NOT NULL,
+    quantity     INTEGER        NOT NULL,
+    line_total   NUMERIC(18, 2) NOT NULL,
+    created_at   TIMESTAMP(6),
+    updated_at   TIMESTAMP(6),
+    deleted_at   TIMESTAMP(6),
+    created_by   VARCHAR(100),
+    updated_by   VARCHAR(100),
+    deleted_by   VARCHAR(100),
+    deleted      BOOLEAN        NOT NULL DEFAULT FALSE
+);
+
+CREATE TABLE IF NOT EXISTS p_order_status_history (
+    id          UUID        NOT NULL PRIMARY KEY,
+    order_id    UUID REFERENCES p_order (id),
+    from_status VARCHAR(20) NOT NULL,
+    to_status   VARCHAR(20) NOT NULL,
+    reason      TEXT,
+    created_at  TIMESTAMP(6),
+    updated_at  TIMESTAMP(6),
+    deleted_at  TIMESTAMP(6),
+    created_by  VARCHAR(100),
+    updated_by  VARCHAR(100),
+    deleted_by  VARCHAR(100),
+    deleted     BOOLEAN     NOT NULL DEFAULT FALSE
+);
@@ -0,0 +1,26 @@
+-- 주문 목록 조회(findByFilters, findByFiltersAfter) 형태별 인덱스.
+-- 모든 조회가 deleted_at IS NULL 조건을 가지므로 부분 인덱스로 만든다.
+-- 각 인덱스가 담당하는 조회 형태는 OrderQueryShape 에 등록되어 있고, 기동 시 실행 계획을 확인한다.
+
+-- 필터 없음 / createdAt 기간 / 커서 조회, 기본 정렬 createdAt DESC
+CREATE INDEX IF NOT EXISTS idx_order_created_at
+    ON p_order (created_at DESC, id DESC) WHERE deleted_at IS NULL;
+
+-- status 필터, status 정렬
+CREATE INDEX IF NOT EXISTS idx_order_status_created_at
+    ON p_order (status, created_at DESC, id DESC) WHERE deleted_at IS NULL;
+
+-- 공급업체 필터 (+ status)
+CREATE INDEX IF NOT EXISTS idx_order_supplier_created_at
+    ON p_order (supplier_company_id, created_at DESC, id DESC) WHERE deleted_at IS NULL;
+
+-- 수령업체 필터 (+ status)
+CREATE INDEX IF NOT EXISTS idx_order_receiver_created_at
+    ON p_order (receiver_company_id, created_at DESC, id DESC) WHERE deleted_at IS NULL;
+
+-- 주문 상세/이력 조회 시 자식 테이블 조인
+CREATE INDEX IF NOT EXISTS idx_order_item_order_id
+    ON p_order_item (order_id);
+
+CREATE INDEX IF NOT EXISTS idx_order_status_history_order_id
+    ON p_order_status_history (order_id, created_at DESC);
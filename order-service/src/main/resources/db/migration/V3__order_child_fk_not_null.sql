@@ -0,0 +1,4 @@
+-- 주문 항목/이력은 INSERT 시점에 order_id 를 함께 넣는다 (@JoinColumn nullable = false, updatable = false).
+-- 이전에는 INSERT 후 UPDATE 로 order_id 를 채웠으므로 NULL 로 남은 행은 없다.
+ALTER TABLE p_order_item ALTER COLUMN order_id SET NOT NULL;
+ALTER TABLE p_order_status_history ALTER COLUMN order_id SET NOT NULL;
@@ -0,0 +1,5 @@
+-- 날짜별 주문번호 일련번호 예약 현황. 인스턴스는 max_no 를 블록 크기만큼 올려 받은 구간을 메모리에서 나눠 쓴다.
+CREATE TABLE IF NOT EXISTS p_order_no_block (
+    order_date DATE NOT NULL PRIMARY KEY,
+    max_no     BIGINT NOT NULL
+);
@@ -0,0 +1,16 @@
+-- 주문 이벤트 outbox. 주문 저장과 같은 트랜잭션에서 쓰고, OrderOutboxRelay 가 배치로 Kafka 에 발행한 뒤 sent_at 을 채운다.
+CREATE SEQUENCE IF NOT EXISTS p_order_outbox_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS p_order_outbox (
+    id           BIGINT       NOT NULL PRIMARY KEY,
+    aggregate_id UUID         NOT NULL,
+    event_type   VARCHAR(50)  NOT NULL,
+    topic        VARCHAR(100) NOT NULL,
+    payload      TEXT         NOT NULL,
+    created_at   TIMESTAMP(6) NOT NULL,
+    sent_at      TIMESTAMP(6)
+);
+
+-- 릴레이는 미발행 행만 id 순으로 읽는다.
+CREATE INDEX IF NOT EXISTS idx_order_outbox_pending
+    ON p_order_outbox (id) WHERE sent_at IS NULL;
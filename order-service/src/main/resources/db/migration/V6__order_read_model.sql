@@ -0,0 +1,37 @@
+-- 주문 조회 모델. 주문 이벤트(order.created / order.updated / order.status-changed)를 소비해 비동기로 채운다.
+-- 목록/대시보드 조회는 p_order 대신 이 테이블을 읽는다.
+CREATE TABLE IF NOT EXISTS p_order_view (
+    order_id              UUID           NOT NULL PRIMARY KEY,
+    order_no              VARCHAR(30),
+    status                VARCHAR(20)    NOT NULL,
+    supplier_company_id   UUID,
+    supplier_company_name VARCHAR(100),
+    receiver_company_id   UUID,
+    receiver_company_name VARCHAR(100),
+    item_summary          VARCHAR(500),
+    items_count           INTEGER,
+    total_amount          NUMERIC(18, 2),
+    ordered_at            TIMESTAMP(6),
+    status_changed_at     TIMESTAMP(6)   NOT NULL,
+    described_at          TIMESTAMP(6),
+    version               BIGINT         NOT NULL
+);
+
+-- order.created 보다 상태 변경 이벤트가 먼저 도착하면 ordered_at 이 빈 행이 먼저 생긴다. 조회는 채워진 행만 읽는다.
+CREATE INDEX IF NOT EXISTS idx_order_view_ordered
+    ON p_order_view (ordered_at DESC, order_id DESC) WHERE ordered_at IS NOT NULL;
+CREATE INDEX IF NOT EXISTS idx_order_view_status_ordered
+    ON p_order_view (status, ordered_at DESC) WHERE ordered_at IS NOT NULL;
+CREATE INDEX IF NOT EXISTS idx_order_view_supplier_ordered
+    ON p_order_view (supplier_company_id, ordered_at DESC) WHERE ordered_at IS NOT NULL;
+CREATE INDEX IF NOT EXISTS idx_order_view_receiver_ordered
+    ON p_order_view (receiver_company_id, ordered_at DESC) WHERE ordered_at IS NOT NULL;
+
+-- 업체별(공급/수령) 상태별 주문 수. 조회 모델과 같은 트랜잭션에서 증감한다.
+CREATE TABLE IF NOT EXISTS p_order_status_count (
+    company_id   UUID        NOT NULL,
+    company_role VARCHAR(10) NOT NULL,
+    status       VARCHAR(20) NOT NULL,
+    order_count  BIGINT      NOT NULL,
+    PRIMARY KEY (company_id, company_role, status)
+);
@@ -0,0 +1,2 @@
+-- 주문 동시 수정 감지용 버전. 상태 변경은 (status, version) 을 조건으로 한 UPDATE 로 처리한다.
+ALTER TABLE p_order ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,61 @@
+-- V6 이전에 만들어진 주문은 order.created 가 없어 조회 모델에 들어오지 않으므로 현재 주문 테이블에서 한 번 채운다.
+-- 내용 기준 시각을 updated_at 으로 두어 이보다 이른 이벤트가 늦게 와도 덮어쓰지 않는다.
+-- 업체명은 company-service 에 있어 비워 둔다 (업체명 조회에 실패한 행과 같다).
+-- 다른 인스턴스의 조회 모델 컨슈머가 도는 중이어도 집계가 어긋나지 않도록 끝날 때까지 두 테이블 쓰기를 막는다.
+LOCK TABLE p_order_view, p_order_status_count IN SHARE ROW EXCLUSIVE MODE;
+
+CREATE TEMPORARY TABLE tmp_order_view_backfill ON COMMIT DROP AS
+SELECT o.id                                  AS order_id,
+       o.order_no,
+       o.status,
+       o.supplier_company_id,
+       o.receiver_company_id,
+       CASE WHEN LENGTH(s.summary) > 500 THEN LEFT(s.summary, 497) || '...' ELSE s.summary END AS item_summary,
+       o.items_count,
+       o.total_amount,
+       o.created_at                          AS ordered_at,
+       COALESCE(o.updated_at, o.created_at)  AS described_at
+FROM p_order o
+         LEFT JOIN (SELECT i.order_id,
+                           STRING_AGG(i.product_name || ' ' || i.quantity || '개', ', ' ORDER BY i.created_at, i.id) AS summary
+                    FROM p_order_item i
+                    GROUP BY i.order_id) s ON s.order_id = o.id
+WHERE o.deleted_at IS NULL
+  AND o.created_at IS NOT NULL;
+
+-- 상태 변경 이벤트가 먼저 만든 빈 행은 상태는 두고 내용만 채운다.
+UPDATE p_order_view v
+SET order_no            = b.order_no,
+    supplier_company_id = b.supplier_company_id,
+    receiver_company_id = b.receiver_company_id,
+    item_summary        = b.item_summary,
+    items_count         = b.items_count,
+    total_amount        = b.total_amount,
+    ordered_at          = b.ordered_at,
+    described_at        = b.described_at,
+    version             = v.version + 1
+FROM tmp_order_view_backfill b
+WHERE v.order_id = b.order_id
+  AND v.ordered_at IS NULL;
+
+INSERT INTO p_order_view (order_id, order_no, status, supplier_company_id, receiver_company_id, item_summary,
+                          items_count, total_amount, ordered_at, status_changed_at, described_at, version)
+SELECT b.order_id, b.order_no, b.status, b.supplier_company_id, b.receiver_company_id, b.item_summary,
+       b.items_count, b.total_amount, b.ordered_at, b.described_at, b.described_at, 0
+FROM tmp_order_view_backfill b
+WHERE NOT EXISTS (SELECT 1 FROM p_order_view v WHERE v.order_id = b.order_id);
+
+-- 집계는 조회 모델의 채워진 행(ordered_at 이 있는 행)으로 다시 센다.
+DELETE FROM p_order_status_count;
+
+INSERT INTO p_order_status_count (company_id, company_role, status, order_count)
+SELECT supplier_company_id, 'SUPPLIER', status, COUNT(*)
+FROM p_order_view
+WHERE ordered_at IS NOT NULL
+GROUP BY supplier_company_id, status;
+
+INSERT INTO p_order_status_count (company_id, company_role, status, order_count)
+SELECT receiver_company_id, 'RECEIVER', status, COUNT(*)
+FROM p_order_view
+WHERE ordered_at IS NOT NULL
+GROUP BY receiver_company_id, status;
@@ -0,0 +1,114 @@
+package com.oneforlogis.order.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.oneforlogis.order.domain.repository.OrderNoBlockRepository;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("OrderNoGenerator 단위 테스트")
+class OrderNoGeneratorTest {
+
+    private final InMemoryBlockRepository blockRepository = new InMemoryBlockRepository();
+
+    @Test
+    @DisplayName("여러 인스턴스가 동시에 발급해도 번호가 겹치지 않고, 블록 단위로만 저장소를 호출한다")
+    void concurrent_instances_never_collide() throws Exception {
+        Clock clock = fixedClock(LocalDate.of(2025, 11, 5));
+        List<OrderNoGenerator> instances = List.of(
+                new OrderNoGenerator(blockRepository, 50, clock),
+                new OrderNoGenerator(blockRepository, 50, clock));
+        Set<String> issued = ConcurrentHashMap.newKeySet();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                OrderNoGenerator generator = instances.get(t % 2);
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 1000; i++) {
+                        assertThat(issued.add(generator.next())).isTrue();
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get(10, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(issued).hasSize(8000).allMatch(no -> no.startsWith("ORD-20251105-"));
+        assertThat(blockRepository.calls.get()).isBetween(160, 162);
+    }
+
+    @Test
+    @DisplayName("한 인스턴스 안에서는 번호가 증가하고, 날짜가 바뀌면 새 날짜의 1번부터 발급한다")
+    void numbers_increase_and_restart_each_day() {
+        MutableClock clock = new MutableClock(LocalDate.of(2025, 11, 5));
+        OrderNoGenerator generator = new OrderNoGenerator(blockRepository, 2, clock);
+
+        List<String> first = List.of(generator.next(), generator.next(), generator.next());
+        clock.date = LocalDate.of(2025, 11, 6);
+        String nextDay = generator.next();
+
+        assertThat(first).containsExactly("ORD-20251105-00001", "ORD-20251105-00002", "ORD-20251105-00003");
+        assertThat(nextDay).isEqualTo("ORD-20251106-00001");
+    }
+
+    private static Clock fixedClock(LocalDate date) {
+        return Clock.fixed(date.atStartOfDay(ZoneOffset.UTC).toInstant(), ZoneOffset.UTC);
+    }
+
+    private static class InMemoryBlockRepository implements OrderNoBlockRepository {
+
+        private final Map<LocalDate, Long> maxNumbers = new HashMap<>();
+        private final AtomicInteger calls = new AtomicInteger();
+
+        @Override
+        public synchronized long allocate(LocalDate orderDate, int size) {
+            calls.incrementAndGet();
+            return maxNumbers.merge(orderDate, (long) size, Long::sum);
+        }
+    }
+
+    private static class MutableClock extends Clock {
+
+        private LocalDate date;
+
+        MutableClock(LocalDate date) {
+            this.date = date;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return date.atStartOfDay(ZoneOffset.UTC).toInstant();
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package com.oneforlogis.order.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.oneforlogis.order.application.event.OrderCreatedEvent;
+import com.oneforlogis.order.application.event.OrderStatusChangedEvent;
+import com.oneforlogis.order.application.event.OrderUpdatedEvent;
+import com.oneforlogis.order.domain.model.OrderStatus;
+import com.oneforlogis.order.infrastructure.external.CompanyClient;
+import com.oneforlogis.order.infrastructure.external.CompanyNameCache;
+import com.oneforlogis.order.infrastructure.external.dto.CompanyResponse;
+import com.oneforlogis.order.infrastructure.persistence.JpaOrderViewRepository;
+import com.oneforlogis.order.infrastructure.persistence.OrderCompanyRole;
+import com.oneforlogis.order.infrastructure.persistence.OrderStatusCountJdbcRepository;
+import com.oneforlogis.order.infrastructure.persistence.OrderView;
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+
+@DataJpaTest
+@Import({OrderReadModelProjector.class, OrderStatusCountJdbcRepository.class, CompanyNameCache.class})
+@ActiveProfiles("test")
+// 집계 테이블은 엔티티가 없어 ddl-auto 로 만들어지지 않는다 (운영은 V6 마이그레이션)
+@Sql(statements = "CREATE TABLE IF NOT EXISTS p_order_status_count (company_id UUID NOT NULL, "
+        + "company_role VARCHAR(10) NOT NULL, status VARCHAR(20) NOT NULL, order_count BIGINT NOT NULL, "
+        + "PRIMARY KEY (company_id, company_role, status))")
+class OrderReadModelProjectorTest {
+
+    @Autowired
+    private OrderReadModelProjector projector;
+
+    @Autowired
+    private JpaOrderViewRepository orderViewRepository;
+
+    @Autowired
+    private OrderStatusCountJdbcRepository statusCountRepository;
+
+    @MockBean
+    private CompanyClient companyClient;
+
+    private final UUID supplierId = UUID.randomUUID();
+    private final UUID receiverId = UUID.randomUUID();
+    private final OffsetDateTime now = OffsetDateTime.now();
+
+    @BeforeEach
+    void setUp() {
+        given(companyClient.getCompany(any())).willAnswer(invocation -> {
+            UUID id = invocation.getArgument(0);
+            return new CompanyResponse(id, "SUPPLIER", id.equals(supplierId) ? "공급사" : "수령사", UUID.randomUUID(), "서울");
+        });
+    }
+
+    @Test
+    @DisplayName("생성/상태 변경 이벤트로 조회 모델과 상태별 집계가 갱신되고, 중복 이벤트는 다시 세지 않는다")
+    void projects_created_and_status_changed() {
+        UUID orderId = UUID.randomUUID();
+        OrderCreatedEvent created = created(orderId, now);
+        OrderStatusChangedEvent paid = statusChanged(orderId, "PENDING", "PAID", now.plusSeconds(1));
+
+        projector.onCreated(created);
+        projector.onStatusChanged(paid);
+        projector.onCreated(created);
+        projector.onStatusChanged(paid);
+
+        OrderView view = orderViewRepository.findById(orderId).orElseThrow();
+        assertThat(view.getStatus()).isEqualTo(OrderStatus.PAID);
+        assertThat(view.getSupplierCompanyName()).isEqualTo("공급사");
+        assertThat(view.getReceiverCompanyName()).isEqualTo("수령사");
+        assertThat(view.getItemSummary()).isEqualTo("포장박스 2개");
+
+        assertThat(statusCountRepository.countByCompany(supplierId, OrderCompanyRole.SUPPLIER))
+                .containsEntry(OrderStatus.PENDING, 0L)
+                .containsEntry(OrderStatus.PAID, 1L);
+        assertThat(statusCountRepository.countByCompany(receiverId, OrderCompanyRole.RECEIVER))
+                .containsEntry(OrderStatus.PAID, 1L);
+        assertThat(statusCountRepository.countAll()).containsEntry(OrderStatus.PAID, 1L);
+    }
+
+    @Test
+    @DisplayName("상태 변경이 생성보다 먼저 도착해도 늦게 발생한 상태를 유지하고, 생성이 반영될 때 한 번만 센다")
+    void handles_status_changed_before_created() {
+        UUID orderId = UUID.randomUUID();
+        projector.onStatusChanged(statusChanged(orderId, "PENDING", "PAID", now.plusSeconds(1)));
+
+        assertThat(statusCountRepository.countAll()).containsEntry(OrderStatus.PAID, 0L);
+
+        projector.onCreated(created(orderId, now));
+
+        UUID newReceiverId = UUID.randomUUID();
+        projector.onUpdated(new OrderUpdatedEvent(UUID.randomUUID().toString(), now.plusSeconds(2),
+                orderData(orderId, newReceiverId)));
+
+        OrderView view = orderViewRepository.findById(orderId).orElseThrow();
+        assertThat(view.getStatus()).isEqualTo(OrderStatus.PAID);
+        assertThat(view.getReceiverCompanyId()).isEqualTo(newReceiverId);
+        assertThat(statusCountRepository.countAll())
+                .containsEntry(OrderStatus.PENDING, 0L)
+                .containsEntry(OrderStatus.PAID, 1L);
+        assertThat(statusCountRepository.countByCompany(receiverId, OrderCompanyRole.RECEIVER))
+                .containsEntry(OrderStatus.PAID, 0L);
+        assertThat(statusCountRepository.countByCompany(newReceiverId, OrderCompanyRole.RECEIVER))
+                .containsEntry(OrderStatus.PAID, 1L);
+    }
+
+    @Test
+    @DisplayName("업체명은 캐시에서 읽어 같은 업체에 대해 company-service 를 한 번만 호출하고, 실패한 조회는 캐시하지 않는다")
+    void caches_company_names_across_events() {
+        UUID failingReceiverId = UUID.randomUUID();
+        given(companyClient.getCompany(failingReceiverId)).willThrow(new IllegalStateException("company-service 장애"));
+        UUID orderId = UUID.randomUUID();
+
+        projector.onCreated(created(orderId, now));
+        projector.onUpdated(new OrderUpdatedEvent(UUID.randomUUID().toString(), now.plusSeconds(1),
+                orderData(orderId, failingReceiverId)));
+        projector.onUpdated(new OrderUpdatedEvent(UUID.randomUUID().toString(), now.plusSeconds(2),
+                orderData(orderId, failingReceiverId)));
+
+        OrderView view = orderViewRepository.findById(orderId).orElseThrow();
+        assertThat(view.getSupplierCompanyName()).isEqualTo("공급사");
+        assertThat(view.getReceiverCompanyName()).isNull();
+        verify(companyClient, times(1)).getCompany(supplierId);
+        verify(companyClient, times(1)).getCompany(receiverId);
+        verify(companyClient, times(2)).getCompany(failingReceiverId);
+    }
+
+    private OrderCreatedEvent created(UUID orderId, OffsetDateTime occurredAt) {
+        return new OrderCreatedEvent(UUID.randomUUID().toString(), occurredAt, orderData(orderId, receiverId));
+    }
+
+    private OrderCreatedEvent.OrderData orderData(UUID orderId, UUID receiverCompanyId) {
+        return new OrderCreatedEvent.OrderData(orderId, "ORD-VIEW-1", supplierId, receiverCompanyId, "공급사", "수령사",
+                "포장박스 2개", "요청 사항", new BigDecimal("2000.00"),
+                List.of(new OrderCreatedEvent.ItemData(UUID.randomUUID(), "포장박스", 2)), null, null);
+    }
+
+    private static OrderStatusChangedEvent statusChanged(UUID orderId, String from, String to, OffsetDateTime at) {
+        return new OrderStatusChangedEvent(UUID.randomUUID().toString(), at, orderId, "ORD-VIEW-1", from, to, "상태 변경");
+    }
+}
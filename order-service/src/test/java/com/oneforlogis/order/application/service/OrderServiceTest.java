@@ -0,0 +1,100 @@
+package com.oneforlogis.order.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import com.oneforlogis.common.api.CursorPageResponse;
+import com.oneforlogis.common.exception.CustomException;
+import com.oneforlogis.common.exception.ErrorCode;
+import com.oneforlogis.order.domain.repository.OrderRepository;
+import com.oneforlogis.order.infrastructure.external.CompanyClient;
+import com.oneforlogis.order.infrastructure.external.ProductClient;
+import com.oneforlogis.order.infrastructure.external.dto.CompanyBulkRequest;
+import com.oneforlogis.order.infrastructure.external.dto.CompanyResponse;
+import com.oneforlogis.order.presentation.request.OrderBulkCreateRequest;
+import com.oneforlogis.order.presentation.request.OrderCreateRequest;
+import com.oneforlogis.order.presentation.response.OrderSummaryResponse;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OrderService 단위 테스트")
+class OrderServiceTest {
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @Mock
+    private OrderNoGenerator orderNoGenerator;
+
+    @Mock
+    private ProductClient productClient;
+
+    @Mock
+    private CompanyClient companyClient;
+
+    @InjectMocks
+    private OrderService orderService;
+
+    @Test
+    @DisplayName("커서 조회 size 가 상한을 넘거나 1 미만이면 조회 없이 잘못된 요청으로 거절한다")
+    void scroll_rejects_out_of_range_size() {
+        for (int size : new int[]{0, 101, Integer.MAX_VALUE}) {
+            assertThatThrownBy(() -> orderService.scrollOrders(null, null, null, null, null, null, size, false))
+                    .isInstanceOf(CustomException.class)
+                    .extracting("errorCode").isEqualTo(ErrorCode.BAD_REQUEST);
+        }
+        verifyNoInteractions(orderRepository);
+    }
+
+    @Test
+    @DisplayName("상한과 같은 size 는 다음 페이지 확인용으로 한 건 더 조회한다")
+    void scroll_accepts_maximum_size() {
+        given(orderRepository.findByFiltersAfter(isNull(), isNull(), isNull(), isNull(), isNull(), isNull(), eq(101)))
+                .willReturn(List.of());
+
+        CursorPageResponse<OrderSummaryResponse> response =
+                orderService.scrollOrders(null, null, null, null, null, null, 100, false);
+
+        assertThat(response.getContent()).isEmpty();
+        assertThat(response.getSize()).isEqualTo(100);
+        assertThat(response.isHasNext()).isFalse();
+    }
+
+    @Test
+    @DisplayName("일괄 생성은 업체를 한 번에 조회하고, 없는 업체가 있으면 재고 예약 없이 거절한다")
+    void bulk_create_looks_up_companies_once_and_rejects_missing_company() {
+        UUID supplierId = UUID.randomUUID();
+        UUID receiverId = UUID.randomUUID();
+        OrderCreateRequest.OrderItemRequest item =
+                new OrderCreateRequest.OrderItemRequest(UUID.randomUUID(), "포장박스", 1);
+        List<OrderCreateRequest> orders = IntStream.range(0, 50)
+                .mapToObj(i -> new OrderCreateRequest(supplierId, receiverId, null, List.of(item)))
+                .toList();
+        given(companyClient.getCompanies(any(CompanyBulkRequest.class))).willReturn(List.of(
+                new CompanyResponse(supplierId, "SUPPLIER", "공급사", UUID.randomUUID(), "서울")));
+
+        assertThatThrownBy(() -> orderService.createOrders(new OrderBulkCreateRequest(orders)))
+                .isInstanceOf(CustomException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.COMPANY_NOT_FOUND);
+
+        ArgumentCaptor<CompanyBulkRequest> captor = ArgumentCaptor.forClass(CompanyBulkRequest.class);
+        verify(companyClient).getCompanies(captor.capture());
+        assertThat(captor.getValue().companyIds()).containsExactly(supplierId, receiverId);
+        verifyNoInteractions(productClient, orderRepository);
+    }
+}
@@ -0,0 +1,187 @@
+package com.oneforlogis.order.infrastructure.messaging;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.oneforlogis.order.application.event.OrderEventTopics;
+import com.oneforlogis.order.domain.model.Order;
+import com.oneforlogis.order.domain.model.OrderItem;
+import com.oneforlogis.order.domain.model.OrderStatus;
+import com.oneforlogis.order.infrastructure.external.dto.CompanyResponse;
+import com.oneforlogis.order.infrastructure.persistence.JpaOrderOutboxRepository;
+import com.oneforlogis.order.infrastructure.persistence.OrderOutbox;
+import com.oneforlogis.order.infrastructure.persistence.OrderRepositoryImpl;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@DataJpaTest
+@Import({OrderOutboxWriter.class, OrderRepositoryImpl.class})
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+@ActiveProfiles("test")
+class OrderOutboxRelayTest {
+
+    @Autowired
+    private OrderRepositoryImpl orderRepository;
+
+    @Autowired
+    private OrderOutboxWriter outboxWriter;
+
+    @Autowired
+    private JpaOrderOutboxRepository outboxRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @SuppressWarnings("unchecked")
+    private final KafkaTemplate<String, String> kafkaTemplate = mock(KafkaTemplate.class);
+
+    @Test
+    @DisplayName("주문 저장과 같은 트랜잭션에서 order.created 이벤트가 outbox 에 기록된다")
+    void writes_order_created_event_with_order() {
+        Order order = orderRepository.save(newOrder("ORD-OUTBOX-1"));
+
+        outboxWriter.orderCreated(order, companiesOf(order));
+
+        List<OrderOutbox> pending = outboxRepository.findPendingForUpdate(10);
+        assertThat(pending).singleElement().satisfies(event -> {
+            assertThat(event.getTopic()).isEqualTo(OrderEventTopics.ORDER_CREATED);
+            assertThat(event.getAggregateId()).isEqualTo(order.getId());
+            assertThat(event.getPayload()).contains(order.getId().toString(), "ORD-OUTBOX-1", "\"eventId\"",
+                    "\"startHubId\"", "\"destinationHubId\"", "수령사");
+        });
+    }
+
+    @Test
+    @DisplayName("order.created payload 는 notification-service 계약 테스트가 읽는 예시와 같은 필드 구조다")
+    void order_created_payload_matches_contract() throws IOException {
+        Order order = orderRepository.save(newOrder("ORD-OUTBOX-4"));
+        outboxWriter.orderCreated(order, companiesOf(order));
+
+        JsonNode payload = objectMapper.readTree(outboxRepository.findPendingForUpdate(10).get(0).getPayload());
+        JsonNode contract;
+        try (InputStream in = getClass().getResourceAsStream("/contract/order-created.json")) {
+            contract = objectMapper.readTree(in);
+        }
+
+        assertThat(fieldPaths(payload, "")).isEqualTo(fieldPaths(contract, ""));
+        assertThat(payload.at("/order/requestingCompanyName").asText()).isEqualTo("공급사");
+        assertThat(payload.at("/order/receivingCompanyName").asText()).isEqualTo("수령사");
+    }
+
+    @Test
+    @DisplayName("발행된 이벤트만 sent 처리하고, 실패한 주문의 뒤 이벤트는 순서를 지키기 위해 남겨 둔다")
+    void marks_sent_and_keeps_failed_key_pending() {
+        Order ok = orderRepository.save(newOrder("ORD-OUTBOX-2"));
+        Order failing = orderRepository.save(newOrder("ORD-OUTBOX-3"));
+        outboxWriter.orderCreated(ok, companiesOf(ok));
+        outboxWriter.orderCreated(failing, companiesOf(failing));
+        outboxWriter.statusChanged(failing, OrderStatus.PENDING, OrderStatus.PAID, "결제 완료");
+        outboxWriter.statusChanged(ok, OrderStatus.PENDING, OrderStatus.PAID, "결제 완료");
+
+        String failingKey = failing.getId().toString();
+        when(kafkaTemplate.send(anyString(), anyString(), anyString()))
+                .thenReturn(CompletableFuture.completedFuture(null));
+        when(kafkaTemplate.send(eq(OrderEventTopics.ORDER_CREATED), eq(failingKey), any()))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("broker down")));
+
+        int sent = relay().relayBatch();
+
+        assertThat(sent).isEqualTo(2);
+        assertThat(outboxRepository.findPendingForUpdate(10))
+                .extracting(OrderOutbox::getAggregateId)
+                .containsExactly(failing.getId(), failing.getId());
+    }
+
+    @Test
+    @DisplayName("같은 주문의 앞 이벤트 발행이 실패하면 그 주문의 뒤 이벤트는 보내지 않고 남겨 둔다")
+    void does_not_send_later_events_of_failed_key() {
+        Order ok = orderRepository.save(newOrder("ORD-OUTBOX-5"));
+        Order failing = orderRepository.save(newOrder("ORD-OUTBOX-6"));
+        outboxWriter.orderCreated(failing, companiesOf(failing));
+        outboxWriter.orderCreated(ok, companiesOf(ok));
+        outboxWriter.statusChanged(failing, OrderStatus.PENDING, OrderStatus.PAID, "결제 완료");
+        outboxWriter.statusChanged(ok, OrderStatus.PENDING, OrderStatus.PAID, "결제 완료");
+        outboxWriter.statusChanged(failing, OrderStatus.PAID, OrderStatus.CANCELED, "주문 취소");
+
+        String failingKey = failing.getId().toString();
+        when(kafkaTemplate.send(anyString(), anyString(), anyString()))
+                .thenReturn(CompletableFuture.completedFuture(null));
+        when(kafkaTemplate.send(eq(OrderEventTopics.ORDER_CREATED), eq(failingKey), any()))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("broker down")));
+
+        int sent = relay().relayBatch();
+
+        assertThat(sent).isEqualTo(2);
+        verify(kafkaTemplate, never()).send(eq(OrderEventTopics.ORDER_STATUS_CHANGED), eq(failingKey), any());
+        assertThat(outboxRepository.findPendingForUpdate(10))
+                .extracting(OrderOutbox::getAggregateId)
+                .containsExactly(failing.getId(), failing.getId(), failing.getId());
+    }
+
+    private static Set<String> fieldPaths(JsonNode node, String prefix) {
+        Set<String> paths = new TreeSet<>();
+        if (node.isArray()) {
+            node.forEach(element -> paths.addAll(fieldPaths(element, prefix + "[]")));
+        }
+        Iterator<String> names = node.fieldNames();
+        while (names.hasNext()) {
+            String name = names.next();
+            paths.add(prefix + "/" + name);
+            paths.addAll(fieldPaths(node.get(name), prefix + "/" + name));
+        }
+        return paths;
+    }
+
+    private OrderOutboxRelay relay() {
+        OrderOutboxRelay relay = new OrderOutboxRelay(outboxRepository, kafkaTemplate,
+                new TransactionTemplate(transactionManager));
+        ReflectionTestUtils.setField(relay, "batchSize", 100);
+        ReflectionTestUtils.setField(relay, "sendTimeout", Duration.ofSeconds(1));
+        return relay;
+    }
+
+    private static Map<UUID, CompanyResponse> companiesOf(Order order) {
+        return Map.of(
+                order.getSupplierCompanyId(),
+                new CompanyResponse(order.getSupplierCompanyId(), "SUPPLIER", "공급사", UUID.randomUUID(), "서울"),
+                order.getReceiverCompanyId(),
+                new CompanyResponse(order.getReceiverCompanyId(), "RECEIVER", "수령사", UUID.randomUUID(), "부산"));
+    }
+
+    private static Order newOrder(String orderNo) {
+        OrderItem item = OrderItem.from(UUID.randomUUID(), "포장박스", new BigDecimal("1000.00"), 2);
+        return Order.create(orderNo, 1L, UUID.randomUUID(), UUID.randomUUID(), "요청 사항", List.of(item));
+    }
+}
@@ -0,0 +1,130 @@
+package com.oneforlogis.order.infrastructure.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.oneforlogis.order.domain.model.Order;
+import com.oneforlogis.order.domain.model.OrderItem;
+import com.oneforlogis.order.domain.model.OrderStatus;
+import com.oneforlogis.order.domain.model.OrderStatusHistory;
+import com.oneforlogis.order.domain.repository.OrderRepository;
+import com.oneforlogis.order.presentation.response.OrderDetailResponse;
+import com.oneforlogis.order.presentation.response.OrderSummaryResponse;
+import jakarta.persistence.EntityManager;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+
+// 조회 유스케이스별 실행되는 SQL 문 수 검증 (N+1 회귀 방지)
+@DataJpaTest
+@Import(OrderRepositoryImpl.class)
+@ActiveProfiles("test")
+class OrderRepositoryQueryCountTest {
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private static final AtomicLong ORDER_NO_SEQUENCE = new AtomicLong();
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    @DisplayName("주문 상세 조회는 주문 항목까지 한 번의 쿼리로 읽는다")
+    void detail_loads_items_in_one_statement() {
+        Order order = orderRepository.save(newOrder(3));
+        flushAndClear();
+
+        OrderDetailResponse response = orderRepository.findDetailById(order.getId())
+                .map(OrderDetailResponse::from)
+                .orElseThrow();
+
+        assertThat(response.items()).hasSize(3);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("주문 목록 조회는 주문 수와 관계없이 쿼리 수가 일정하다")
+    void summary_list_does_not_load_per_order() {
+        IntStream.range(0, 5).forEach(i -> orderRepository.save(newOrder(2)));
+        flushAndClear();
+
+        List<Order> orders = orderRepository.findByFilters(null, null, null, null, null,
+                PageRequest.of(0, 20, Sort.by(Sort.Direction.DESC, "createdAt"))).getContent();
+        List<OrderSummaryResponse> summaries = orders.stream().map(OrderSummaryResponse::from).toList();
+
+        assertThat(summaries).hasSize(5);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+
+        // 목록에서 주문 항목을 읽어도 주문마다가 아니라 한 번에 배치 조회한다.
+        int itemCount = orders.stream().mapToInt(o -> o.getOrderItems().size()).sum();
+
+        assertThat(itemCount).isEqualTo(10);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("상태 변경 이력은 한 번의 쿼리로 최신순 정렬해서 읽는다")
+    void status_history_is_sorted_in_sql() {
+        Order order = orderRepository.save(newOrder(1));
+        entityManager.flush();
+        order.changeStatus(OrderStatus.PAID, "결제 완료");
+        entityManager.flush();
+        order.changeStatus(OrderStatus.PACKING, "포장 시작");
+        flushAndClear();
+
+        List<OrderStatusHistory> histories = orderRepository.findStatusHistories(order.getId());
+
+        assertThat(histories).extracting(OrderStatusHistory::getToStatus)
+                .containsExactly(OrderStatus.PACKING, OrderStatus.PAID, OrderStatus.PENDING);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(orderRepository.findStatusHistories(UUID.randomUUID())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("주문 일괄 저장은 주문, 항목, 이력 INSERT 를 테이블별 배치로 보내고 FK UPDATE 를 하지 않는다")
+    void bulk_save_batches_inserts_per_table() {
+        statistics.clear();
+        List<Order> orders = IntStream.range(0, 120).mapToObj(i -> newOrder(2)).toList();
+
+        List<Order> saved = orderRepository.saveAll(orders);
+
+        assertThat(saved).allSatisfy(order -> assertThat(order.getId()).isNotNull());
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(120 + 240 + 120);
+        // 배치 크기(50)마다 flush: 3번 x 테이블 3개
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(9);
+    }
+
+    private void flushAndClear() {
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+    }
+
+    private static Order newOrder(int itemCount) {
+        List<OrderItem> items = IntStream.range(0, itemCount)
+                .mapToObj(i -> OrderItem.from(UUID.randomUUID(), "상품 " + i, new BigDecimal("1000.00"), i + 1))
+                .toList();
+        String orderNo = "ORD-TEST-" + ORDER_NO_SEQUENCE.incrementAndGet();
+        return Order.create(orderNo, 1L, UUID.randomUUID(), UUID.randomUUID(), "요청 사항", items);
+    }
+}
@@ -0,0 +1,109 @@
+package com.oneforlogis.order.infrastructure.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.oneforlogis.common.statemachine.StateMachine;
+import com.oneforlogis.common.statemachine.StateMachine.Result;
+import com.oneforlogis.order.application.event.OrderEventTopics;
+import com.oneforlogis.order.domain.model.Order;
+import com.oneforlogis.order.domain.model.OrderItem;
+import com.oneforlogis.order.domain.model.OrderStatus;
+import com.oneforlogis.order.domain.model.OrderStatusHistory;
+import com.oneforlogis.order.domain.repository.OrderRepository;
+import com.oneforlogis.order.domain.repository.OrderStatusChange;
+import com.oneforlogis.order.domain.repository.OrderStatusSnapshot;
+import com.oneforlogis.order.global.config.OrderStateMachineConfig;
+import com.oneforlogis.order.infrastructure.messaging.OrderOutboxWriter;
+import jakarta.persistence.EntityManager;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+@DataJpaTest
+@Import({OrderRepositoryImpl.class, OrderOutboxWriter.class, OrderStateMachineConfig.class})
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+@ActiveProfiles("test")
+class OrderStatusTransitionTest {
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private StateMachine<OrderStatus, OrderStatusChange> orderStateMachine;
+
+    @Autowired
+    private JpaOrderOutboxRepository outboxRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    @DisplayName("상태와 버전이 일치하면 주문을 읽어 오지 않고 상태, 이력, 이벤트를 함께 기록한다")
+    void applies_transition_with_history_and_event() {
+        UUID orderId = saveOrder("ORD-CAS-1");
+        OrderStatusSnapshot snapshot = orderRepository.findStatusSnapshot(orderId).orElseThrow();
+
+        Result result = orderStateMachine.transition(OrderStatusChange.of(snapshot, "결제 완료"),
+                OrderStatus.PENDING, OrderStatus.PAID, snapshot.version());
+
+        assertThat(result).isEqualTo(Result.APPLIED);
+        assertThat(orderRepository.findStatusSnapshot(orderId).orElseThrow())
+                .satisfies(after -> {
+                    assertThat(after.status()).isEqualTo(OrderStatus.PAID);
+                    assertThat(after.version()).isEqualTo(snapshot.version() + 1);
+                });
+        assertThat(orderRepository.findStatusHistories(orderId))
+                .extracting(OrderStatusHistory::getToStatus)
+                .containsExactlyInAnyOrder(OrderStatus.PAID, OrderStatus.PENDING);
+        assertThat(outboxRepository.findPendingForUpdate(10)).singleElement()
+                .satisfies(event -> assertThat(event.getTopic()).isEqualTo(OrderEventTopics.ORDER_STATUS_CHANGED));
+    }
+
+    @Test
+    @DisplayName("먼저 읽은 버전이 낡았으면 아무것도 바꾸지 않고 충돌로 끝난다")
+    void stale_version_is_rejected() {
+        UUID orderId = saveOrder("ORD-CAS-2");
+        OrderStatusSnapshot first = orderRepository.findStatusSnapshot(orderId).orElseThrow();
+        OrderStatusSnapshot second = orderRepository.findStatusSnapshot(orderId).orElseThrow();
+
+        Result paid = orderStateMachine.transition(OrderStatusChange.of(first, "결제 완료"),
+                OrderStatus.PENDING, OrderStatus.PAID, first.version());
+        Result canceled = orderStateMachine.transition(OrderStatusChange.of(second, "고객 취소"),
+                OrderStatus.PENDING, OrderStatus.CANCELED, second.version());
+
+        assertThat(paid).isEqualTo(Result.APPLIED);
+        assertThat(canceled).isEqualTo(Result.CONFLICT);
+        assertThat(orderRepository.findStatusSnapshot(orderId).orElseThrow().status()).isEqualTo(OrderStatus.PAID);
+        assertThat(outboxRepository.findPendingForUpdate(10)).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("전이표에 없는 전이는 UPDATE 없이 거절한다")
+    void disallowed_transition_is_rejected() {
+        UUID orderId = saveOrder("ORD-CAS-3");
+        OrderStatusSnapshot snapshot = orderRepository.findStatusSnapshot(orderId).orElseThrow();
+
+        Result result = orderStateMachine.transition(OrderStatusChange.of(snapshot, "바로 배송"),
+                OrderStatus.PENDING, OrderStatus.SHIPPED, snapshot.version());
+
+        assertThat(result).isEqualTo(Result.NOT_ALLOWED);
+        assertThat(orderRepository.findStatusSnapshot(orderId).orElseThrow().version()).isEqualTo(snapshot.version());
+    }
+
+    private UUID saveOrder(String orderNo) {
+        OrderItem item = OrderItem.from(UUID.randomUUID(), "포장박스", new BigDecimal("1000.00"), 2);
+        Order order = orderRepository.save(
+                Order.create(orderNo, 1L, UUID.randomUUID(), UUID.randomUUID(), "요청 사항", List.of(item)));
+        entityManager.flush();
+        entityManager.clear();
+        return order.getId();
+    }
+}
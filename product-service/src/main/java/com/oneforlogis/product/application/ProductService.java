@@ -2,6 +2,7 @@ package com.oneforlogis.product.application;
 
 import com.oneforlogis.common.exception.CustomException;
 import com.oneforlogis.common.exception.ErrorCode;
+import com.oneforlogis.common.replica.HubReplica;
 import com.oneforlogis.product.application.dto.request.ProductCreateRequest;
 import com.oneforlogis.product.application.dto.request.ProductUpdateRequest;
 import com.oneforlogis.product.application.dto.response.ProductCreateResponse;
@@ -12,6 +13,7 @@ import com.oneforlogis.product.domain.repository.ProductRepository;
 import com.oneforlogis.product.infrastructure.client.CompanyClient;
 import com.oneforlogis.product.infrastructure.client.HubClient;
 import feign.FeignException;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
@@ -31,7 +33,9 @@ public class ProductService {
 
     private final CompanyClient companyClient;
     private final HubClient hubClient;
+    private final HubReplica hubReplica;
     private final ProductRepository productRepository;
+    private final StockCounter stockCounter;
 
     // 상품 생성
     @Transactional
@@ -60,7 +64,7 @@ public class ProductService {
             product.updateName(request.name());
         }
         if (request.quantity() != null) {
-            product.updateQuantity(request.quantity());
+            updateQuantity(product, request.quantity());
         }
         if (request.price() != null) {
             product.updatePrice(request.price());
@@ -68,6 +72,18 @@ public class ProductService {
         return ProductUpdateResponse.from(product);
     }
 
+    // 분할 재고 상품은 칸을 합쳐 수량을 바꾼 뒤 같은 분할 수로 다시 나눈다.
+    private void updateQuantity(Product product, int quantity) {
+        if (!product.isStockSharded()) {
+            product.updateQuantity(quantity);
+            return;
+        }
+        int shardCount = product.getStockShardCount();
+        stockCounter.changeShardCount(product.getId(), 0);
+        product.updateQuantity(quantity);
+        stockCounter.changeShardCount(product.getId(), shardCount);
+    }
+
     // 상품 삭제
     @Transactional
     public void deleteProduct(UUID productId, String userName){
@@ -95,6 +111,7 @@ public class ProductService {
 
     /**
      * 내부용 메서드 <-> internal
+     * 재고는 엔티티를 읽어 고친 뒤 저장하지 않고 조건부 UPDATE 한 문장으로 바꾼다 (동시 요청 시 갱신 유실 방지)
      * @param productId 상품 ID
      * @param amount 수량
      */
@@ -104,10 +121,11 @@ public class ProductService {
         if (amount <= 0) {
             throw new CustomException(ErrorCode.INVALID_STOCK_AMOUNT);
         }
-        Product product = getProductById(productId);
-        product.decreaseStock(amount);
-
-        return product;
+        if (!stockCounter.tryDecrease(productId, amount)) {
+            getProductById(productId);
+            throw new CustomException(ErrorCode.STOCK_NOT_ENOUGH);
+        }
+        return getProductById(productId);
     }
 
     // 증가
@@ -116,14 +134,18 @@ public class ProductService {
         if (amount <= 0) {
             throw new CustomException(ErrorCode.INVALID_RESTOCK_AMOUNT);
         }
-        Product product = getProductById(productId);
-        product.increaseStock(amount);
-
-        return product;
+        getProductById(productId);
+        stockCounter.increase(productId, amount);
+        return getProductById(productId);
     }
 
 
 
+    // 여러 상품 일괄 조회 (삭제됐거나 없는 ID 는 결과에서 빠진다)
+    public List<Product> getProductsByIds(Collection<UUID> productIds) {
+        return productRepository.findAllByIdInAndDeletedFalse(productIds);
+    }
+
     /**
      * 헬퍼
      */
@@ -145,6 +167,10 @@ public class ProductService {
      */
 
     public void fetchHub(UUID hubId) {
+        // 복제본에 있으면 hub-service 를 호출하지 않는다.
+        if (hubReplica.isDeleted(hubId)) throw new CustomException(ErrorCode.HUB_NOT_FOUND);
+        if (hubReplica.findHub(hubId).isPresent()) return;
+
         try {
             hubClient.getHub(hubId);
         } catch (FeignException.NotFound e) {
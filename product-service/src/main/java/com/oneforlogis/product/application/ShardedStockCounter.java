@@ -0,0 +1,70 @@
+package com.oneforlogis.product.application;
+
+import com.oneforlogis.product.domain.repository.ProductStockShardRepository;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 분할 재고 카운터의 차감/증가. 호출하는 쪽 트랜잭션 안에서 실행된다.
+ *
+ * <p>차감은 무작위 칸부터 시작해 재고가 충분한 첫 칸에서 조건부 UPDATE 로 끝낸다. 동시 요청이 칸 수만큼 흩어지므로
+ * 한 행 잠금에 줄을 서지 않는다. 모든 칸이 각각 부족하면(남은 재고가 여러 칸에 흩어진 경우) 칸 번호 순서로 전부 잠그고
+ * 합계에서 나눠 뺀다. 이 경로는 재고가 바닥날 즈음에만 탄다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ShardedStockCounter {
+
+    private final ProductStockShardRepository shardRepository;
+
+    public boolean tryDecrease(UUID productId, int shardCount, int amount) {
+        int start = ThreadLocalRandom.current().nextInt(shardCount);
+        for (int i = 0; i < shardCount; i++) {
+            if (shardRepository.decreaseIfEnough(productId, (start + i) % shardCount, amount)) {
+                return true;
+            }
+        }
+        return decreaseAcrossShards(productId, shardCount, amount);
+    }
+
+    /**
+     * 무작위 칸에 더한다. 읽어 둔 분할 수가 그 사이 바뀌어 칸이 지워졌으면 false.
+     */
+    public boolean increase(UUID productId, int shardCount, int amount) {
+        return shardRepository.increase(productId, ThreadLocalRandom.current().nextInt(shardCount), amount);
+    }
+
+    private boolean decreaseAcrossShards(UUID productId, int shardCount, int amount) {
+        int[] quantities = shardRepository.lockShards(productId, shardCount);
+        long total = 0;
+        for (int quantity : quantities) {
+            total += quantity;
+        }
+        if (total < amount) {
+            return false;
+        }
+
+        int remaining = amount;
+        for (int shardNo = 0; shardNo < shardCount && remaining > 0; shardNo++) {
+            int taken = Math.min(quantities[shardNo], remaining);
+            if (taken > 0) {
+                shardRepository.updateQuantity(productId, shardNo, quantities[shardNo] - taken);
+                remaining -= taken;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 전체 수량을 칸 수로 고르게 나눈다. 나머지는 앞 칸부터 하나씩 더한다.
+     */
+    static int[] split(int quantity, int shardCount) {
+        int[] quantities = new int[shardCount];
+        for (int shardNo = 0; shardNo < shardCount; shardNo++) {
+            quantities[shardNo] = quantity / shardCount + (shardNo < quantity % shardCount ? 1 : 0);
+        }
+        return quantities;
+    }
+}
@@ -0,0 +1,97 @@
+package com.oneforlogis.product.application;
+
+import com.oneforlogis.common.exception.CustomException;
+import com.oneforlogis.common.exception.ErrorCode;
+import com.oneforlogis.product.domain.model.Product;
+import com.oneforlogis.product.domain.repository.ProductRepository;
+import com.oneforlogis.product.domain.repository.ProductStockShardRepository;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 상품 재고 차감/증가의 단일 진입점. 일반 상품은 p_product.quantity 를, 분할 상품은 분할 카운터를 바꾼다.
+ *
+ * <p>p_product 조건부 UPDATE 에 "분할 안 함" 조건이 붙어 있어 일반 상품은 한 문장으로 끝나고,
+ * 분할 상품은 그 UPDATE 가 0 건이면 분할 수를 읽어 분할 카운터로 넘어간다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StockCounter {
+
+    static final int MAX_SHARD_COUNT = 64;
+    private static final int MAX_MODE_RETRIES = 3;
+
+    private final ProductRepository productRepository;
+    private final ProductStockShardRepository shardRepository;
+    private final ShardedStockCounter shardedStockCounter;
+
+    /**
+     * 재고가 충분하면 차감하고 true. 재고 부족이거나 없는 상품이면 false.
+     */
+    public boolean tryDecrease(UUID productId, int amount) {
+        if (productRepository.decreaseStockIfEnough(productId, amount) == 1) {
+            return true;
+        }
+        int shardCount = productRepository.findStockShardCount(productId).orElse(0);
+        return shardCount > 0 && shardedStockCounter.tryDecrease(productId, shardCount, amount);
+    }
+
+    /**
+     * 재고를 되돌린다. 읽어 둔 분할 수로 칸을 갱신하는 사이 changeShardCount 가 칸을 지웠다면
+     * 0 건 갱신이 되므로, 모드를 다시 읽어 p_product 또는 새 칸에 더한다. (더한 수량이 사라지지 않게)
+     */
+    public void increase(UUID productId, int amount) {
+        for (int attempt = 0; attempt < MAX_MODE_RETRIES; attempt++) {
+            if (productRepository.increaseStock(productId, amount) == 1) {
+                return;
+            }
+            int shardCount = productRepository.findStockShardCount(productId).orElse(0);
+            if (shardCount == 0) {
+                log.warn("재고를 되돌릴 상품이 없음 productId={}, amount={}", productId, amount);
+                return;
+            }
+            if (shardedStockCounter.increase(productId, shardCount, amount)) {
+                return;
+            }
+        }
+        throw new IllegalStateException("재고 분할 변경과 계속 겹쳐 재고를 되돌리지 못함 productId=" + productId);
+    }
+
+    /**
+     * 분할 수를 바꾼다. 0 이면 분할을 끄고 칸 합계를 quantity 로 되돌린다.
+     * 상품 행을 잠근 채 진행하므로 그 사이 일반 경로 차감은 기다렸다가 바뀐 모드로 다시 판단한다.
+     */
+    @Transactional
+    public Product changeShardCount(UUID productId, int shardCount) {
+        if (shardCount < 0 || shardCount > MAX_SHARD_COUNT) {
+            throw new CustomException(ErrorCode.INVALID_STOCK_SHARD_COUNT);
+        }
+        Product product = productRepository.findByIdForUpdate(productId)
+                .orElseThrow(() -> new CustomException(ErrorCode.PRODUCT_NOT_FOUND));
+
+        int quantity = product.getQuantity();
+        if (product.isStockSharded()) {
+            quantity = 0;
+            for (int shardQuantity : shardRepository.lockShards(productId, product.getStockShardCount())) {
+                quantity += shardQuantity;
+            }
+            shardRepository.deleteShards(productId);
+            product.disableStockShards(quantity);
+        }
+        if (shardCount > 0) {
+            shardRepository.createShards(productId, ShardedStockCounter.split(quantity, shardCount));
+            product.enableStockShards(shardCount);
+        }
+        log.info("상품 재고 분할 변경 productId={}, shardCount={}, quantity={}", productId, shardCount, quantity);
+        return productRepository.save(product);
+    }
+
+    @Transactional
+    public int reconcile() {
+        return shardRepository.reconcileProductQuantities();
+    }
+}
@@ -0,0 +1,138 @@
+package com.oneforlogis.product.application;
+
+import com.oneforlogis.common.exception.CustomException;
+import com.oneforlogis.common.exception.ErrorCode;
+import com.oneforlogis.product.domain.model.Product;
+import com.oneforlogis.product.domain.model.ReservationStatus;
+import com.oneforlogis.product.domain.model.StockReservation;
+import com.oneforlogis.product.domain.repository.ProductRepository;
+import com.oneforlogis.product.domain.repository.StockReservationRepository;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 주문 재고 예약. 주문 생성 요청 시 재고를 잡아 두고(HELD), 주문 이벤트에 따라 확정/해제한다.
+ *
+ * <p>주문 서비스는 예약 후 자기 트랜잭션이 실패할 수 있다. 그 주문의 order.created 는 발행되지 않으므로
+ * 예약은 확정되지 않고, 유효 시간이 지나면 스위퍼가 만료시키며 재고를 되돌린다 (보상).
+ * 모든 상태 변경은 조건부 UPDATE 의 결과가 1 일 때만 재고를 움직이므로 이벤트 중복/경합에도 두 번 반영되지 않는다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Service
+@Transactional
+public class StockReservationService {
+
+    private final ProductRepository productRepository;
+    private final StockReservationRepository reservationRepository;
+    private final StockCounter stockCounter;
+
+    @Value("${product.reservation.ttl:PT10M}")
+    private Duration ttl;
+
+    /**
+     * 주문번호별 (상품, 수량) 을 한 트랜잭션에서 예약한다. 하나라도 재고가 부족하면 전체가 롤백된다.
+     * 이미 예약된 주문번호(재시도)는 다시 차감하지 않는다. 예약한 상품 정보(가격 포함)를 돌려준다.
+     */
+    public List<Product> reserve(Map<String, Map<UUID, Integer>> itemsByOrderNo) {
+        Set<String> alreadyReserved = new HashSet<>();
+        reservationRepository.findAllByOrderNoIn(itemsByOrderNo.keySet())
+                .forEach(reservation -> alreadyReserved.add(reservation.getOrderNo()));
+
+        Map<UUID, Integer> totalByProduct = new TreeMap<>();
+        List<StockReservation> holds = new ArrayList<>();
+        LocalDateTime expiresAt = LocalDateTime.now().plus(ttl);
+        Set<UUID> productIds = new HashSet<>();
+        itemsByOrderNo.forEach((orderNo, items) -> {
+            productIds.addAll(items.keySet());
+            if (alreadyReserved.contains(orderNo)) {
+                return;
+            }
+            items.forEach((productId, amount) -> {
+                if (amount <= 0) {
+                    throw new CustomException(ErrorCode.INVALID_STOCK_AMOUNT);
+                }
+                totalByProduct.merge(productId, amount, Integer::sum);
+                holds.add(StockReservation.hold(orderNo, productId, amount, expiresAt));
+            });
+        });
+
+        // 상품 ID 순서로 차감해 동시 예약끼리 행 잠금 순서가 엇갈리지 않게 한다.
+        totalByProduct.forEach((productId, amount) -> {
+            if (!stockCounter.tryDecrease(productId, amount)) {
+                productRepository.findByIdAndDeletedFalse(productId)
+                        .orElseThrow(() -> new CustomException(ErrorCode.PRODUCT_NOT_FOUND));
+                throw new CustomException(ErrorCode.STOCK_NOT_ENOUGH);
+            }
+        });
+        reservationRepository.saveAll(holds);
+
+        return productRepository.findAllByIdInAndDeletedFalse(productIds);
+    }
+
+    /**
+     * 주문이 실제로 생성됐으므로 예약을 확정한다. 이미 만료된 예약은 재고를 다시 차감할 수 있을 때만 확정한다.
+     */
+    public void confirm(String orderNo) {
+        for (StockReservation reservation : reservationRepository.findAllByOrderNo(orderNo)) {
+            if (reservationRepository.changeStatus(reservation.getId(), ReservationStatus.HELD, ReservationStatus.CONFIRMED) == 1) {
+                continue;
+            }
+            // 읽은 뒤 스위퍼가 만료시켰을 수 있으므로 읽어 둔 상태가 HELD 여도 만료 경로를 시도한다.
+            // CONFIRMED(중복 이벤트), RELEASED(취소 후 늦게 온 이벤트)는 다시 만료될 수 없으니 건너뛴다.
+            if (reservation.getStatus() == ReservationStatus.HELD || reservation.getStatus() == ReservationStatus.EXPIRED) {
+                confirmExpired(reservation);
+            }
+        }
+    }
+
+    private void confirmExpired(StockReservation reservation) {
+        if (!stockCounter.tryDecrease(reservation.getProductId(), reservation.getQuantity())) {
+            log.error("만료된 재고 예약을 확정하지 못함 (재고 부족) orderNo={}, productId={}, quantity={}",
+                    reservation.getOrderNo(), reservation.getProductId(), reservation.getQuantity());
+            return;
+        }
+        if (reservationRepository.changeStatus(reservation.getId(), ReservationStatus.EXPIRED, ReservationStatus.CONFIRMED) == 0) {
+            // 그 사이 다른 처리가 상태를 바꿨으면 방금 차감한 재고를 되돌린다.
+            stockCounter.increase(reservation.getProductId(), reservation.getQuantity());
+        }
+    }
+
+    /**
+     * 주문 취소. 잡혀 있거나 확정된 예약을 해제하고 재고를 되돌린다.
+     */
+    public void release(String orderNo) {
+        for (StockReservation reservation : reservationRepository.findAllByOrderNo(orderNo)) {
+            if (reservationRepository.changeStatus(reservation.getId(), ReservationStatus.HELD, ReservationStatus.RELEASED) == 1
+                    || reservationRepository.changeStatus(reservation.getId(), ReservationStatus.CONFIRMED, ReservationStatus.RELEASED) == 1) {
+                stockCounter.increase(reservation.getProductId(), reservation.getQuantity());
+            }
+        }
+    }
+
+    /**
+     * 유효 시간이 지난 예약을 최대 limit 건 만료시키고 재고를 되돌린다. 만료시킨 건수를 반환한다.
+     */
+    public int expireHolds(int limit) {
+        int expired = 0;
+        for (StockReservation reservation : reservationRepository.findExpiredHolds(LocalDateTime.now(), limit)) {
+            if (reservationRepository.changeStatus(reservation.getId(), ReservationStatus.HELD, ReservationStatus.EXPIRED) == 1) {
+                stockCounter.increase(reservation.getProductId(), reservation.getQuantity());
+                expired++;
+            }
+        }
+        return expired;
+    }
+}
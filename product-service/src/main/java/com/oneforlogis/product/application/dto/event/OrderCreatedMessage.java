@@ -0,0 +1,13 @@
+package com.oneforlogis.product.application.dto.event;
+
+import java.util.UUID;
+
+// order-service 의 order.created 중 재고 예약 확정에 필요한 값만 받는다.
+public record OrderCreatedMessage(
+        String eventId,
+        OrderData order
+) {
+
+    public record OrderData(UUID orderId, String orderNo) {
+    }
+}
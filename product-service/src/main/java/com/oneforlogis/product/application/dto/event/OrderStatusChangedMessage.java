@@ -0,0 +1,13 @@
+package com.oneforlogis.product.application.dto.event;
+
+import java.util.UUID;
+
+// order-service 의 order.status-changed 중 재고 예약 해제에 필요한 값만 받는다.
+public record OrderStatusChangedMessage(
+        String eventId,
+        UUID orderId,
+        String orderNo,
+        String fromStatus,
+        String toStatus
+) {
+}
@@ -1,7 +1,5 @@
 package com.oneforlogis.product.domain.model;
 
-import com.oneforlogis.common.exception.CustomException;
-import com.oneforlogis.common.exception.ErrorCode;
 import com.oneforlogis.common.model.BaseEntity;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
@@ -43,6 +41,10 @@ public class Product extends BaseEntity {
     @Column(nullable = false)
     private UUID companyId;
 
+    // 0 이면 quantity 가 실제 재고. 1 이상이면 재고가 p_product_stock_shard 에 나뉘어 있고 quantity 는 주기적으로 합산한 값이다.
+    @Column(name = "stock_shard_count", nullable = false, columnDefinition = "integer default 0")
+    private int stockShardCount;
+
     @Builder
     public Product(String name, Integer quantity, BigDecimal price, UUID hubId, UUID companyId) {
         this.name = name;
@@ -73,28 +75,22 @@ public class Product extends BaseEntity {
         this.price = price;
     }
 
-    public void deleteProduct(String userName){
-        this.markAsDeleted(userName);
+    public boolean isStockSharded() {
+        return stockShardCount > 0;
     }
 
+    // 재고를 분할 카운터로 옮긴다. quantity 는 분할 시점 값으로 남는다.
+    public void enableStockShards(int shardCount) {
+        this.stockShardCount = shardCount;
+    }
 
-    /**
-     * order 제공
-     */
-    // 차감
-    public void decreaseStock(int amount) {
-        int restStock = this.quantity - amount;
-        if (restStock < 0) {
-            throw new CustomException(ErrorCode.STOCK_NOT_ENOUGH);
-        }
-        this.quantity = restStock;
+    // 분할 카운터 합계를 다시 quantity 로 모은다.
+    public void disableStockShards(int quantity) {
+        this.stockShardCount = 0;
+        this.quantity = quantity;
     }
 
-    // 증가 및 복원
-    public void increaseStock(int amount) {
-        if (amount <= 0) {
-            throw new CustomException(ErrorCode.INVALID_RESTOCK_AMOUNT);
-        }
-        this.quantity = this.quantity + amount;
+    public void deleteProduct(String userName){
+        this.markAsDeleted(userName);
     }
 }
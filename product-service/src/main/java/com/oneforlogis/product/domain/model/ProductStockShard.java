@@ -0,0 +1,43 @@
+package com.oneforlogis.product.domain.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+import java.io.Serializable;
+import java.util.UUID;
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 분할 재고 카운터 한 칸. 인기 상품의 재고를 여러 행으로 나눠 동시 차감이 한 행 잠금에 몰리지 않게 한다.
+ * 값은 ProductStockShardRepository 의 조건부 UPDATE 로만 바꾸며, 엔티티는 테이블 정의용이다.
+ */
+@Entity
+@Table(name = "p_product_stock_shard")
+@IdClass(ProductStockShard.Key.class)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ProductStockShard {
+
+    @Id
+    @Column(name = "product_id", nullable = false)
+    private UUID productId;
+
+    @Id
+    @Column(name = "shard_no", nullable = false)
+    private Integer shardNo;
+
+    @Column(nullable = false)
+    private Integer quantity;
+
+    @NoArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+        private UUID productId;
+        private Integer shardNo;
+    }
+}
@@ -0,0 +1,14 @@
+package com.oneforlogis.product.domain.model;
+
+/**
+ * 재고 예약 상태.
+ * HELD -> CONFIRMED (주문 생성 확인) / RELEASED (주문 취소) / EXPIRED (유효 시간 초과)
+ * CONFIRMED -> RELEASED (확정 후 주문 취소)
+ * EXPIRED -> CONFIRMED (만료 뒤 늦게 도착한 주문 생성 확인, 재고를 다시 차감할 수 있을 때만)
+ */
+public enum ReservationStatus {
+    HELD,
+    CONFIRMED,
+    RELEASED,
+    EXPIRED
+}
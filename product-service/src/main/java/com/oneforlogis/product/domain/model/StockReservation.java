@@ -0,0 +1,67 @@
+package com.oneforlogis.product.domain.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 주문 한 건의 상품 한 개에 대한 재고 예약. 예약 시점에 상품 재고(quantity)에서 이미 빠져 있고,
+ * 해제/만료될 때 되돌린다. 상태 변경은 엔티티를 고쳐 저장하지 않고 "현재 상태 = 기대 상태" 조건부 UPDATE 로만 한다.
+ */
+@Entity
+@Table(
+        name = "p_stock_reservation",
+        uniqueConstraints = @UniqueConstraint(name = "uk_stock_reservation_order_product",
+                columnNames = {"order_no", "product_id"}),
+        indexes = @Index(name = "idx_stock_reservation_status_expires", columnList = "status, expires_at")
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class StockReservation {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID id;
+
+    @Column(name = "order_no", length = 30, nullable = false)
+    private String orderNo;
+
+    @Column(name = "product_id", nullable = false)
+    private UUID productId;
+
+    @Column(nullable = false)
+    private Integer quantity;
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20, nullable = false)
+    private ReservationStatus status;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    public static StockReservation hold(String orderNo, UUID productId, int quantity, LocalDateTime expiresAt) {
+        StockReservation reservation = new StockReservation();
+        reservation.orderNo = orderNo;
+        reservation.productId = productId;
+        reservation.quantity = quantity;
+        reservation.status = ReservationStatus.HELD;
+        reservation.expiresAt = expiresAt;
+        reservation.createdAt = LocalDateTime.now();
+        return reservation;
+    }
+}
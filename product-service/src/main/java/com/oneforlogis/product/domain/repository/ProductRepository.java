@@ -1,6 +1,8 @@
 package com.oneforlogis.product.domain.repository;
 
 import com.oneforlogis.product.domain.model.Product;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import org.springframework.data.domain.Page;
@@ -12,4 +14,9 @@ public interface ProductRepository {
     Optional<Product> findByIdAndDeletedFalse(UUID id);
     Page<Product> findByDeletedFalse(Pageable pageable);
     Page<Product> findByNameContainingAndDeletedFalse(String keyword, Pageable pageable);
+    List<Product> findAllByIdInAndDeletedFalse(Collection<UUID> ids);
+    int decreaseStockIfEnough(UUID id, int amount);
+    int increaseStock(UUID id, int amount);
+    Optional<Integer> findStockShardCount(UUID id);
+    Optional<Product> findByIdForUpdate(UUID id);
 }
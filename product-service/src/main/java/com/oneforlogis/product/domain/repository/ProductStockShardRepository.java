@@ -0,0 +1,24 @@
+package com.oneforlogis.product.domain.repository;
+
+import java.util.UUID;
+
+public interface ProductStockShardRepository {
+
+    // 해당 칸 재고가 amount 이상일 때만 차감. 차감했으면 true.
+    boolean decreaseIfEnough(UUID productId, int shardNo, int amount);
+
+    // 칸이 없으면(분할 수 변경 중 삭제됨) false.
+    boolean increase(UUID productId, int shardNo, int amount);
+
+    // 상품의 모든 칸을 칸 번호 순서로 잠그고 수량을 돌려준다. (인덱스 = 칸 번호)
+    int[] lockShards(UUID productId, int shardCount);
+
+    void updateQuantity(UUID productId, int shardNo, int quantity);
+
+    void createShards(UUID productId, int[] quantities);
+
+    int deleteShards(UUID productId);
+
+    // 분할 상품의 quantity 를 칸 합계로 맞춘다. 맞춘 상품 수를 반환한다.
+    int reconcileProductQuantities();
+}
@@ -0,0 +1,17 @@
+package com.oneforlogis.product.domain.repository;
+
+import com.oneforlogis.product.domain.model.ReservationStatus;
+import com.oneforlogis.product.domain.model.StockReservation;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+public interface StockReservationRepository {
+
+    List<StockReservation> saveAll(List<StockReservation> reservations);
+    List<StockReservation> findAllByOrderNo(String orderNo);
+    List<StockReservation> findAllByOrderNoIn(Collection<String> orderNos);
+    List<StockReservation> findExpiredHolds(LocalDateTime now, int limit);
+    int changeStatus(UUID id, ReservationStatus from, ReservationStatus to);
+}
@@ -0,0 +1,55 @@
+package com.oneforlogis.product.infrastructure.messaging;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.oneforlogis.product.application.StockReservationService;
+import com.oneforlogis.product.application.dto.event.OrderCreatedMessage;
+import com.oneforlogis.product.application.dto.event.OrderStatusChangedMessage;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 주문 생명주기 이벤트로 재고 예약을 확정/해제한다. 주문이 커밋된 뒤에만 outbox 로 발행되므로
+ * order.created 를 받으면 주문이 실제로 존재한다는 뜻이다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "product.reservation.listener.enabled", havingValue = "true", matchIfMissing = true)
+public class OrderEventListener {
+
+    private static final String CANCELED = "CANCELED";
+
+    private final StockReservationService stockReservationService;
+    private final ObjectMapper objectMapper;
+
+    @KafkaListener(topics = "order.created", groupId = "product-service-reservation")
+    public void onOrderCreated(String payload) {
+        OrderCreatedMessage message = read(payload, OrderCreatedMessage.class);
+        stockReservationService.confirm(message.order().orderNo());
+    }
+
+    @KafkaListener(topics = "order.status-changed", groupId = "product-service-reservation")
+    public void onOrderStatusChanged(String payload) {
+        OrderStatusChangedMessage message = read(payload, OrderStatusChangedMessage.class);
+        if (!CANCELED.equals(message.toStatus())) {
+            return;
+        }
+        if (message.orderNo() == null) {
+            log.warn("주문번호 없는 취소 이벤트는 재고를 복구할 수 없음 orderId={}", message.orderId());
+            return;
+        }
+        stockReservationService.release(message.orderNo());
+    }
+
+    private <T> T read(String payload, Class<T> type) {
+        try {
+            return objectMapper.readValue(payload, type);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("주문 이벤트 역직렬화 실패", e);
+        }
+    }
+}
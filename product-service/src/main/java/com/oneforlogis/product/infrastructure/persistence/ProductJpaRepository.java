@@ -1,15 +1,41 @@
 package com.oneforlogis.product.infrastructure.persistence;
 
 import com.oneforlogis.product.domain.model.Product;
+import jakarta.persistence.LockModeType;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface ProductJpaRepository extends JpaRepository<Product, UUID> {
 
     Optional<Product> findByIdAndDeletedFalse(UUID id);
     Page<Product> findByDeletedFalse(Pageable pageable);
     Page<Product> findByNameContainingAndDeletedFalse(String name, Pageable pageable);
+    List<Product> findAllByIdInAndDeletedFalse(Collection<UUID> ids);
+
+    // 재고가 충분할 때만 차감 (조회 후 저장하지 않고 한 문장으로 검사+차감)
+    // 분할 재고 상품은 0 건이 되어 StockCounter 가 분할 카운터로 넘긴다.
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Product p set p.quantity = p.quantity - :amount "
+            + "where p.id = :id and p.deleted = false and p.stockShardCount = 0 and p.quantity >= :amount")
+    int decreaseStockIfEnough(@Param("id") UUID id, @Param("amount") int amount);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Product p set p.quantity = p.quantity + :amount where p.id = :id and p.stockShardCount = 0")
+    int increaseStock(@Param("id") UUID id, @Param("amount") int amount);
+
+    @Query("select p.stockShardCount from Product p where p.id = :id and p.deleted = false")
+    Optional<Integer> findStockShardCount(@Param("id") UUID id);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select p from Product p where p.id = :id and p.deleted = false")
+    Optional<Product> findByIdForUpdate(@Param("id") UUID id);
 }
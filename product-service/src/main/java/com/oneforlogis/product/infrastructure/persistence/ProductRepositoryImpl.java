@@ -2,6 +2,8 @@ package com.oneforlogis.product.infrastructure.persistence;
 
 import com.oneforlogis.product.domain.model.Product;
 import com.oneforlogis.product.domain.repository.ProductRepository;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
@@ -34,4 +36,29 @@ public class ProductRepositoryImpl implements ProductRepository {
     public Page<Product> findByNameContainingAndDeletedFalse(String keyword, Pageable pageable) {
         return productJpaRepository.findByNameContainingAndDeletedFalse(keyword, pageable);
     }
+
+    @Override
+    public List<Product> findAllByIdInAndDeletedFalse(Collection<UUID> ids) {
+        return productJpaRepository.findAllByIdInAndDeletedFalse(ids);
+    }
+
+    @Override
+    public int decreaseStockIfEnough(UUID id, int amount) {
+        return productJpaRepository.decreaseStockIfEnough(id, amount);
+    }
+
+    @Override
+    public int increaseStock(UUID id, int amount) {
+        return productJpaRepository.increaseStock(id, amount);
+    }
+
+    @Override
+    public Optional<Integer> findStockShardCount(UUID id) {
+        return productJpaRepository.findStockShardCount(id);
+    }
+
+    @Override
+    public Optional<Product> findByIdForUpdate(UUID id) {
+        return productJpaRepository.findByIdForUpdate(id);
+    }
 }
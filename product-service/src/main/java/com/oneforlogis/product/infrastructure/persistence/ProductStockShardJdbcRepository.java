@@ -0,0 +1,79 @@
+package com.oneforlogis.product.infrastructure.persistence;
+
+import com.oneforlogis.product.domain.repository.ProductStockShardRepository;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 분할 재고 카운터(p_product_stock_shard). 칸마다 한 문장의 조건부 UPDATE 로 차감하므로
+ * 서로 다른 칸을 고른 요청끼리는 잠금을 기다리지 않는다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ProductStockShardJdbcRepository implements ProductStockShardRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public boolean decreaseIfEnough(UUID productId, int shardNo, int amount) {
+        return jdbcTemplate.update(
+                "UPDATE p_product_stock_shard SET quantity = quantity - ? "
+                        + "WHERE product_id = ? AND shard_no = ? AND quantity >= ?",
+                amount, productId, shardNo, amount) == 1;
+    }
+
+    @Override
+    public boolean increase(UUID productId, int shardNo, int amount) {
+        return jdbcTemplate.update(
+                "UPDATE p_product_stock_shard SET quantity = quantity + ? WHERE product_id = ? AND shard_no = ?",
+                amount, productId, shardNo) == 1;
+    }
+
+    @Override
+    public int[] lockShards(UUID productId, int shardCount) {
+        int[] quantities = new int[shardCount];
+        jdbcTemplate.query(
+                "SELECT shard_no, quantity FROM p_product_stock_shard WHERE product_id = ? ORDER BY shard_no FOR UPDATE",
+                rs -> {
+                    int shardNo = rs.getInt("shard_no");
+                    if (shardNo < shardCount) {
+                        quantities[shardNo] = rs.getInt("quantity");
+                    }
+                },
+                productId);
+        return quantities;
+    }
+
+    @Override
+    public void updateQuantity(UUID productId, int shardNo, int quantity) {
+        jdbcTemplate.update("UPDATE p_product_stock_shard SET quantity = ? WHERE product_id = ? AND shard_no = ?",
+                quantity, productId, shardNo);
+    }
+
+    @Override
+    public void createShards(UUID productId, int[] quantities) {
+        List<Object[]> rows = new ArrayList<>(quantities.length);
+        for (int shardNo = 0; shardNo < quantities.length; shardNo++) {
+            rows.add(new Object[]{productId, shardNo, quantities[shardNo]});
+        }
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO p_product_stock_shard (product_id, shard_no, quantity) VALUES (?, ?, ?)", rows);
+    }
+
+    @Override
+    public int deleteShards(UUID productId) {
+        return jdbcTemplate.update("DELETE FROM p_product_stock_shard WHERE product_id = ?", productId);
+    }
+
+    @Override
+    public int reconcileProductQuantities() {
+        String shardTotal = "(SELECT COALESCE(SUM(s.quantity), 0) FROM p_product_stock_shard s WHERE s.product_id = p.id)";
+        // 값이 그대로인 상품은 다시 쓰지 않는다.
+        return jdbcTemplate.update("UPDATE p_product p SET quantity = " + shardTotal
+                + " WHERE p.stock_shard_count > 0 AND p.quantity <> " + shardTotal);
+    }
+}
@@ -0,0 +1,25 @@
+package com.oneforlogis.product.infrastructure.persistence;
+
+import com.oneforlogis.product.domain.model.ReservationStatus;
+import com.oneforlogis.product.domain.model.StockReservation;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface StockReservationJpaRepository extends JpaRepository<StockReservation, UUID> {
+
+    List<StockReservation> findAllByOrderNo(String orderNo);
+    List<StockReservation> findAllByOrderNoIn(Collection<String> orderNos);
+    List<StockReservation> findByStatusAndExpiresAtBefore(ReservationStatus status, LocalDateTime now, Pageable pageable);
+
+    // 기대한 상태일 때만 바꾼다. 여러 컨슈머/스위퍼가 같은 예약을 동시에 건드려도 한쪽만 1 을 받는다.
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update StockReservation r set r.status = :to where r.id = :id and r.status = :from")
+    int changeStatus(@Param("id") UUID id, @Param("from") ReservationStatus from, @Param("to") ReservationStatus to);
+}
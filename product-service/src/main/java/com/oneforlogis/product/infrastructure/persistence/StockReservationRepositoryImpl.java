@@ -0,0 +1,46 @@
+package com.oneforlogis.product.infrastructure.persistence;
+
+import com.oneforlogis.product.domain.model.ReservationStatus;
+import com.oneforlogis.product.domain.model.StockReservation;
+import com.oneforlogis.product.domain.repository.StockReservationRepository;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Repository;
+
+@RequiredArgsConstructor
+@Repository
+public class StockReservationRepositoryImpl implements StockReservationRepository {
+
+    private final StockReservationJpaRepository stockReservationJpaRepository;
+
+    @Override
+    public List<StockReservation> saveAll(List<StockReservation> reservations) {
+        return stockReservationJpaRepository.saveAll(reservations);
+    }
+
+    @Override
+    public List<StockReservation> findAllByOrderNo(String orderNo) {
+        return stockReservationJpaRepository.findAllByOrderNo(orderNo);
+    }
+
+    @Override
+    public List<StockReservation> findAllByOrderNoIn(Collection<String> orderNos) {
+        return stockReservationJpaRepository.findAllByOrderNoIn(orderNos);
+    }
+
+    @Override
+    public List<StockReservation> findExpiredHolds(LocalDateTime now, int limit) {
+        return stockReservationJpaRepository.findByStatusAndExpiresAtBefore(ReservationStatus.HELD, now,
+                PageRequest.of(0, limit, Sort.by("expiresAt")));
+    }
+
+    @Override
+    public int changeStatus(UUID id, ReservationStatus from, ReservationStatus to) {
+        return stockReservationJpaRepository.changeStatus(id, from, to);
+    }
+}
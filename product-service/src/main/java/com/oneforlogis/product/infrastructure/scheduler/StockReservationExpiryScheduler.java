@@ -0,0 +1,38 @@
+package com.oneforlogis.product.infrastructure.scheduler;
+
+import com.oneforlogis.product.application.StockReservationService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 확정되지 않고 유효 시간이 지난 재고 예약을 주기적으로 만료시켜 재고를 되돌린다.
+ * 여러 인스턴스가 동시에 돌아도 예약마다 조건부 UPDATE 로 한 번만 복구된다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StockReservationExpiryScheduler {
+
+    private final StockReservationService stockReservationService;
+
+    @Value("${product.reservation.sweep-batch-size:500}")
+    private int batchSize;
+
+    @Scheduled(fixedDelayString = "${product.reservation.sweep-interval:PT30S}")
+    public void expireHolds() {
+        try {
+            int expired;
+            do {
+                expired = stockReservationService.expireHolds(batchSize);
+                if (expired > 0) {
+                    log.info("만료된 재고 예약 {}건 복구", expired);
+                }
+            } while (expired == batchSize);
+        } catch (RuntimeException e) {
+            log.warn("재고 예약 만료 처리 실패: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.oneforlogis.product.infrastructure.scheduler;
+
+import com.oneforlogis.product.application.StockCounter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 분할 재고 상품의 p_product.quantity 를 칸 합계로 주기적으로 맞춘다. 조회 화면의 재고 표시용이며,
+ * 차감 가능 여부는 항상 분할 카운터로 판단한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StockShardReconcileScheduler {
+
+    private final StockCounter stockCounter;
+
+    @Scheduled(fixedDelayString = "${product.stock-shard.reconcile-interval:PT10S}")
+    public void reconcile() {
+        try {
+            int updated = stockCounter.reconcile();
+            if (updated > 0) {
+                log.debug("분할 재고 합산 반영 {}건", updated);
+            }
+        } catch (RuntimeException e) {
+            log.warn("분할 재고 합산 실패: {}", e.getMessage());
+        }
+    }
+}
@@ -1,16 +1,24 @@
 package com.oneforlogis.product.presentation.controller.internal;
 
 import com.oneforlogis.product.application.ProductService;
+import com.oneforlogis.product.application.StockCounter;
+import com.oneforlogis.product.application.StockReservationService;
 import com.oneforlogis.product.domain.model.Product;
+import com.oneforlogis.product.presentation.controller.internal.dto.ProductBulkRequest;
 import com.oneforlogis.product.presentation.controller.internal.dto.ProductDto;
+import com.oneforlogis.product.presentation.controller.internal.dto.StockReservationRequest;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import java.util.List;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
@@ -22,6 +30,8 @@ import org.springframework.web.bind.annotation.RestController;
 public class ProductInternalController {
 
     private final ProductService productService;
+    private final StockReservationService stockReservationService;
+    private final StockCounter stockCounter;
 
     // 상품 조회
     @Operation(summary = "상품 id로 단일 조회", description = "상품 ID로 단일 상품 정보를 조회합니다.")
@@ -31,6 +41,26 @@ public class ProductInternalController {
         return ProductDto.fromEntity(product);
     }
 
+    // 상품 일괄 조회
+    @Operation(summary = "상품 일괄 조회", description = "상품 ID 목록으로 여러 상품을 한 번에 조회합니다. 없거나 삭제된 상품은 결과에서 제외됩니다.")
+    @PostMapping("/bulk")
+    public List<ProductDto> getProductsInternal(@Valid @RequestBody ProductBulkRequest request) {
+        return productService.getProductsByIds(request.productIds()).stream()
+                .map(ProductDto::fromEntity)
+                .toList();
+    }
+
+    // 주문 재고 예약
+    @Operation(summary = "주문 재고 예약",
+            description = "주문번호별로 상품 재고를 예약(차감)하고 예약한 상품 정보를 반환합니다. "
+                    + "하나라도 재고가 부족하면 전체가 취소되며, 주문 생성 이벤트로 확정되지 않은 예약은 유효 시간이 지나면 복구됩니다. "
+                    + "이미 예약된 주문번호로 다시 요청하면 재고를 다시 차감하지 않습니다.")
+    @PostMapping("/reservations")
+    public ResponseEntity<List<ProductDto>> reserveStocks(@Valid @RequestBody StockReservationRequest request) {
+        List<Product> products = stockReservationService.reserve(request.itemsByOrderNo());
+        return ResponseEntity.ok(products.stream().map(ProductDto::fromEntity).toList());
+    }
+
     // 재고 감소
     @Operation(summary = "상품 재고 차감", description = "주어진 상품 ID에 대해 재고를 지정한 수량만큼 차감합니다.")
     @PostMapping("/{productId}/decrease-stock")
@@ -51,4 +81,16 @@ public class ProductInternalController {
         Product updatedProduct = productService.increaseStock(productId, amount);
         return ResponseEntity.ok(ProductDto.fromEntity(updatedProduct));
     }
-}
\ No newline at end of file
+
+    // 인기 상품 재고 분할
+    @Operation(summary = "상품 재고 분할 설정",
+            description = "동시 차감이 몰리는 상품의 재고를 count 개 카운터로 나눠 잠금 경합을 줄입니다. "
+                    + "count=0 이면 분할을 끄고 카운터 합계를 상품 재고로 되돌립니다. (최대 64)")
+    @PatchMapping("/{productId}/stock-shards")
+    public ResponseEntity<ProductDto> changeStockShards(
+            @PathVariable UUID productId,
+            @RequestParam int count) {
+        Product product = stockCounter.changeShardCount(productId, count);
+        return ResponseEntity.ok(ProductDto.fromEntity(product));
+    }
+}
@@ -0,0 +1,43 @@
+package com.oneforlogis.product.presentation.controller.internal.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+public record StockReservationRequest(
+        @NotEmpty
+        @Size(max = 1000)
+        @Valid
+        List<OrderReservation> orders
+) {
+
+    public record OrderReservation(
+            @NotBlank String orderNo,
+            @NotEmpty @Valid List<Item> items
+    ) {
+    }
+
+    public record Item(
+            @NotNull UUID productId,
+            @Positive int amount
+    ) {
+    }
+
+    // 주문번호별로 같은 상품 수량을 합친다.
+    public Map<String, Map<UUID, Integer>> itemsByOrderNo() {
+        Map<String, Map<UUID, Integer>> result = new LinkedHashMap<>();
+        for (OrderReservation order : orders) {
+            Map<UUID, Integer> items = result.computeIfAbsent(order.orderNo(), key -> new LinkedHashMap<>());
+            order.items().forEach(item -> items.merge(item.productId(), item.amount(), Integer::sum));
+        }
+        return result;
+    }
+}
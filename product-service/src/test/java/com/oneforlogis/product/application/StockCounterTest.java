@@ -0,0 +1,84 @@
+package com.oneforlogis.product.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+
+import com.oneforlogis.product.domain.model.Product;
+import com.oneforlogis.product.domain.repository.ProductRepository;
+import com.oneforlogis.product.domain.repository.ProductStockShardRepository;
+import com.oneforlogis.product.infrastructure.persistence.ProductRepositoryImpl;
+import com.oneforlogis.product.infrastructure.persistence.ProductStockShardJdbcRepository;
+import jakarta.persistence.EntityManager;
+import java.math.BigDecimal;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+@DataJpaTest
+@Import({StockCounter.class, ShardedStockCounter.class, ProductRepositoryImpl.class, ProductStockShardJdbcRepository.class})
+@ActiveProfiles("test")
+class StockCounterTest {
+
+    @Autowired
+    private StockCounter stockCounter;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @SpyBean
+    private ProductStockShardRepository shardRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    @DisplayName("분할 재고는 칸에 나눠 차감/증가하고, 분할을 끄면 칸 합계가 수량이 된다")
+    void sharded_stock_round_trip() {
+        UUID productId = saveProduct(10);
+        stockCounter.changeShardCount(productId, 4);
+
+        assertThat(stockCounter.tryDecrease(productId, 3)).isTrue();
+        stockCounter.increase(productId, 1);
+        assertThat(stockCounter.tryDecrease(productId, 9)).isFalse();
+
+        stockCounter.changeShardCount(productId, 0);
+        assertThat(quantityOf(productId)).isEqualTo(8);
+    }
+
+    @Test
+    @DisplayName("증가 중 분할 수 변경으로 칸이 지워져도 바뀐 모드로 다시 더해 수량이 사라지지 않는다")
+    void increase_retries_when_shards_are_removed_concurrently() {
+        UUID productId = saveProduct(10);
+        stockCounter.changeShardCount(productId, 4);
+
+        // 분할 수를 읽은 뒤 칸을 갱신하기 전에 다른 요청이 분할을 끈 상황
+        doAnswer(invocation -> {
+            stockCounter.changeShardCount(productId, 0);
+            return invocation.callRealMethod();
+        }).doCallRealMethod().when(shardRepository).increase(eq(productId), anyInt(), anyInt());
+
+        stockCounter.increase(productId, 5);
+
+        assertThat(quantityOf(productId)).isEqualTo(15);
+    }
+
+    private UUID saveProduct(int quantity) {
+        Product product = productRepository.save(Product.createProduct("포장박스", quantity, new BigDecimal("1000.00"),
+                UUID.randomUUID(), UUID.randomUUID()));
+        entityManager.flush();
+        return product.getId();
+    }
+
+    private int quantityOf(UUID productId) {
+        entityManager.flush();
+        entityManager.clear();
+        return productRepository.findByIdAndDeletedFalse(productId).orElseThrow().getQuantity();
+    }
+}
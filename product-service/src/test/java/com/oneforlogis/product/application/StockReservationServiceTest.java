@@ -0,0 +1,136 @@
+package com.oneforlogis.product.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doAnswer;
+
+import com.oneforlogis.product.domain.model.Product;
+import com.oneforlogis.product.domain.model.ReservationStatus;
+import com.oneforlogis.product.domain.model.StockReservation;
+import com.oneforlogis.product.domain.repository.ProductRepository;
+import com.oneforlogis.product.domain.repository.StockReservationRepository;
+import com.oneforlogis.product.infrastructure.persistence.ProductRepositoryImpl;
+import com.oneforlogis.product.infrastructure.persistence.ProductStockShardJdbcRepository;
+import com.oneforlogis.product.infrastructure.persistence.StockReservationRepositoryImpl;
+import jakarta.persistence.EntityManager;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@DataJpaTest
+@Import({StockReservationService.class, StockCounter.class, ShardedStockCounter.class,
+        ProductRepositoryImpl.class, StockReservationRepositoryImpl.class, ProductStockShardJdbcRepository.class})
+@ActiveProfiles("test")
+class StockReservationServiceTest {
+
+    @Autowired
+    private StockReservationService reservationService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @SpyBean
+    private StockReservationRepository reservationRepository;
+
+    @Autowired
+    private StockCounter stockCounter;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    @DisplayName("확정 이벤트가 중복으로 와도 재고는 예약 때 한 번만 차감된다")
+    void duplicate_confirm_does_not_decrease_twice() {
+        UUID productId = saveProduct(10);
+        reservationService.reserve(Map.of("ORD-R-1", Map.of(productId, 3)));
+
+        reservationService.confirm("ORD-R-1");
+        reservationService.confirm("ORD-R-1");
+
+        assertThat(quantityOf(productId)).isEqualTo(7);
+        assertThat(statusOf("ORD-R-1")).isEqualTo(ReservationStatus.CONFIRMED);
+    }
+
+    @Test
+    @DisplayName("해제는 한 번만 재고를 되돌리고, 해제 뒤 늦게 온 확정은 무시한다")
+    void release_once_and_ignore_late_confirm() {
+        UUID productId = saveProduct(10);
+        reservationService.reserve(Map.of("ORD-R-2", Map.of(productId, 3)));
+
+        reservationService.release("ORD-R-2");
+        reservationService.release("ORD-R-2");
+        reservationService.confirm("ORD-R-2");
+
+        assertThat(quantityOf(productId)).isEqualTo(10);
+        assertThat(statusOf("ORD-R-2")).isEqualTo(ReservationStatus.RELEASED);
+    }
+
+    @Test
+    @DisplayName("만료된 예약은 재고를 되돌리고, 늦게 온 확정은 재고를 다시 차감해 확정한다")
+    void expired_hold_is_reclaimed_by_late_confirm() {
+        ReflectionTestUtils.setField(reservationService, "ttl", Duration.ofSeconds(-1));
+        UUID productId = saveProduct(10);
+        reservationService.reserve(Map.of("ORD-R-3", Map.of(productId, 3)));
+
+        assertThat(reservationService.expireHolds(10)).isEqualTo(1);
+        assertThat(quantityOf(productId)).isEqualTo(10);
+
+        reservationService.confirm("ORD-R-3");
+
+        assertThat(quantityOf(productId)).isEqualTo(7);
+        assertThat(statusOf("ORD-R-3")).isEqualTo(ReservationStatus.CONFIRMED);
+        assertThat(reservationService.expireHolds(10)).isZero();
+    }
+
+    @Test
+    @DisplayName("확정이 예약을 읽은 뒤 스위퍼가 만료시켜도 재고를 다시 차감해 확정한다")
+    void confirm_racing_with_sweeper_still_holds_stock() {
+        UUID productId = saveProduct(10);
+        reservationService.reserve(Map.of("ORD-R-4", Map.of(productId, 3)));
+
+        // 예약을 읽어 온 직후 스위퍼가 끼어들어 만료시키고 재고를 되돌린 상황
+        doAnswer(invocation -> {
+            @SuppressWarnings("unchecked")
+            List<StockReservation> loaded = (List<StockReservation>) invocation.callRealMethod();
+            for (StockReservation reservation : loaded) {
+                reservationRepository.changeStatus(reservation.getId(), ReservationStatus.HELD, ReservationStatus.EXPIRED);
+                stockCounter.increase(reservation.getProductId(), reservation.getQuantity());
+            }
+            return loaded;
+        }).when(reservationRepository).findAllByOrderNo("ORD-R-4");
+
+        reservationService.confirm("ORD-R-4");
+
+        assertThat(quantityOf(productId)).isEqualTo(7);
+        assertThat(statusOf("ORD-R-4")).isEqualTo(ReservationStatus.CONFIRMED);
+    }
+
+    private UUID saveProduct(int quantity) {
+        Product product = productRepository.save(Product.createProduct("포장박스", quantity, new BigDecimal("1000.00"),
+                UUID.randomUUID(), UUID.randomUUID()));
+        entityManager.flush();
+        return product.getId();
+    }
+
+    private int quantityOf(UUID productId) {
+        entityManager.clear();
+        return productRepository.findByIdAndDeletedFalse(productId).orElseThrow().getQuantity();
+    }
+
+    private ReservationStatus statusOf(String orderNo) {
+        entityManager.clear();
+        return entityManager.createQuery("select r.status from StockReservation r where r.orderNo = :orderNo",
+                        ReservationStatus.class)
+                .setParameter("orderNo", orderNo)
+                .getSingleResult();
+    }
+}